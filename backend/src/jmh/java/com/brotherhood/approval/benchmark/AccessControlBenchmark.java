@@ -0,0 +1,80 @@
+package com.brotherhood.approval.benchmark;
+
+import com.brotherhood.approval.entity.Branch;
+import com.brotherhood.approval.entity.Document;
+import com.brotherhood.approval.entity.Role;
+import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.entity.UserRole;
+import com.brotherhood.approval.repository.RoleRepository;
+import com.brotherhood.approval.repository.UserRepository;
+import com.brotherhood.approval.service.AccessControlService;
+import com.brotherhood.approval.service.AuditLogService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * AccessControlService.hasAccess 마이크로벤치마크
+ * 
+ * 감사 로그 저장(AuditLogService)은 목으로 대체하여 RBAC/ABAC 판정 비용만 측정한다.
+ * 목은 stubOnly로 만들어 호출 기록이 측정 중에 쌓이지 않게 한다.
+ * 
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccessControlBenchmark {
+
+    @Param({"USER", "MANAGER", "ADMIN"})
+    public String roleName;
+
+    @Param({"READ", "APPROVE"})
+    public String action;
+
+    private AccessControlService accessControlService;
+    private User user;
+    private Document document;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        accessControlService = new AccessControlService(
+                mock(UserRepository.class, withSettings().stubOnly()),
+                mock(RoleRepository.class, withSettings().stubOnly()),
+                mock(AuditLogService.class, withSettings().stubOnly()));
+
+        Branch branch = Branch.builder().id(UUID.randomUUID()).name("본원").code("HQ").build();
+        User author = User.builder().id(UUID.randomUUID()).name("작성자").branch(branch).build();
+
+        user = User.builder().id(UUID.randomUUID()).name("사용자").branch(branch).build();
+        for (String name : new String[]{"USER", "DIRECTOR", roleName}) {
+            Role role = Role.builder().id(UUID.randomUUID()).name(name).build();
+            user.getUserRoles().add(UserRole.builder().id(UUID.randomUUID()).user(user).role(role).branch(branch).build());
+        }
+
+        document = Document.builder()
+                .id(UUID.randomUUID())
+                .title("벤치마크 문서")
+                .status("PENDING")
+                .securityLevel("GENERAL")
+                .author(author)
+                .branch(branch)
+                .build();
+    }
+
+    @Benchmark
+    public boolean hasAccess() {
+        return accessControlService.hasAccess(user, document, action);
+    }
+
+    @Benchmark
+    public boolean hasAccessWithClientIp() {
+        return accessControlService.hasAccess(user, document, action, "192.168.1.10");
+    }
+}
@@ -0,0 +1,93 @@
+package com.brotherhood.approval.benchmark;
+
+import com.brotherhood.approval.dto.approval.ApprovalActionRequest;
+import com.brotherhood.approval.dto.approval.ApprovalHistoryDto;
+import com.brotherhood.approval.dto.approval.ApprovalLineCreateRequest;
+import com.brotherhood.approval.dto.approval.ApprovalStepCreateRequest;
+import com.brotherhood.approval.dto.document.DocumentCreateRequest;
+import com.brotherhood.approval.dto.document.DocumentDto;
+import com.brotherhood.approval.entity.ApprovalLine;
+import com.brotherhood.approval.service.ApprovalService;
+import com.brotherhood.approval.service.DocumentService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결재 흐름 매크로 벤치마크 (H2 기반 전체 컨텍스트)
+ * 
+ * 문서 작성(결재선 포함) → 상신 → 승인 한 건을 하나의 연산으로 보고 처리량을 측정한다.
+ * 측정 중 문서가 계속 쌓이므로 반복 간 비교는 같은 설정(반복 수/시간)으로만 한다.
+ * 
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class ApprovalFlowBenchmark {
+
+    private DocumentService documentService;
+    private ApprovalService approvalService;
+    private BenchmarkContext.Fixture fixture;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ConfigurableApplicationContext context = BenchmarkContext.start();
+        fixture = BenchmarkContext.seed(context);
+        documentService = context.getBean(DocumentService.class);
+        approvalService = context.getBean(ApprovalService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.stop();
+    }
+
+    @Benchmark
+    public DocumentDto createDocument() {
+        return documentService.createDocument(createRequest(), fixture.authorId());
+    }
+
+    @Benchmark
+    public ApprovalHistoryDto createSubmitApprove() {
+        DocumentDto document = documentService.createDocument(createRequest(), fixture.authorId());
+        documentService.submitDocument(document.getId(), fixture.authorId());
+
+        String approvalStepId = approvalService.getApprovalLinesByDocument(document.getId()).get(0)
+                .getApprovalSteps().get(0).getId();
+
+        return approvalService.performApprovalAction(ApprovalActionRequest.builder()
+                .approvalStepId(approvalStepId)
+                .action(ApprovalActionRequest.ApprovalAction.APPROVE)
+                .comments("승인합니다")
+                .build(), fixture.approverId());
+    }
+
+    private DocumentCreateRequest createRequest() {
+        ApprovalStepCreateRequest step = ApprovalStepCreateRequest.builder()
+                .stepOrder(1)
+                .stepType("APPROVAL")
+                .approverId(fixture.approverId())
+                .isRequired(true)
+                .build();
+
+        ApprovalLineCreateRequest approvalLine = ApprovalLineCreateRequest.builder()
+                .type(ApprovalLine.ApprovalLineType.SEQUENTIAL)
+                .name("벤치마크 결재선")
+                .approvalSteps(List.of(step))
+                .build();
+
+        return DocumentCreateRequest.builder()
+                .title("벤치마크 문서")
+                .content("벤치마크 본문입니다.")
+                .classification("GENERAL")
+                .approvalLines(List.of(approvalLine))
+                .build();
+    }
+}
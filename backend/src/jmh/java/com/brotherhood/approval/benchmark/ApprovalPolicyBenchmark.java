@@ -0,0 +1,107 @@
+package com.brotherhood.approval.benchmark;
+
+import com.brotherhood.approval.policy.CompiledApprovalPolicy;
+import com.brotherhood.approval.policy.StepPlan;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결재선 정책 평가 벤치마크
+ *
+ * 기안 문서 1,000건의 결재선 미리보기에서 DB를 제외한 부분(정책 선택 + 단계 계획)을 측정한다.
+ * 비교용으로 매번 JSON/조건식을 다시 컴파일하는 경우도 측정한다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApprovalPolicyBenchmark {
+
+    private static final String[] POLICY_DATA = {
+            "{\"priority\": 10, \"match\": \"securityLevel == 'CONFIDENTIAL'\", \"steps\": ["
+                    + "{\"order\": 1, \"role\": \"MANAGER\"}, {\"order\": 2, \"role\": \"DIRECTOR\"},"
+                    + "{\"order\": 3, \"role\": \"ADMIN\", \"branch\": \"HQ\"}, {\"order\": 4, \"role\": \"SUPER_ADMIN\", \"branch\": \"HQ\"}]}",
+            "{\"priority\": 20, \"match\": \"documentType == 'BUDGET' && amount > 1000000\", \"steps\": ["
+                    + "{\"order\": 1, \"role\": \"MANAGER\"}, {\"order\": 2, \"role\": \"DIRECTOR\"},"
+                    + "{\"order\": 3, \"role\": \"ADMIN\", \"branch\": \"HQ\", \"condition\": \"amount > 5000000\"}]}",
+            "{\"priority\": 30, \"match\": \"documentType IN ['HR', 'CONTRACT'] || priority == 'URGENT'\", \"steps\": ["
+                    + "{\"order\": 1, \"role\": \"MANAGER\", \"delegatable\": false}, {\"order\": 2, \"role\": \"DIRECTOR\"}]}"
+    };
+
+    private static final String[] DOCUMENT_TYPES = {"GENERAL", "BUDGET", "HR", "CONTRACT", "REPORT"};
+    private static final String[] SECURITY_LEVELS = {"GENERAL", "GENERAL", "GENERAL", "CONFIDENTIAL"};
+    private static final String[] PRIORITIES = {"LOW", "NORMAL", "NORMAL", "HIGH", "URGENT"};
+
+    @Param({"1000"})
+    public int documents;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<CompiledApprovalPolicy> policies;
+    private List<Map<String, Object>> attributesList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        policies = compileAll();
+
+        Random random = new Random(42);
+        attributesList = new ArrayList<>(documents);
+        for (int i = 0; i < documents; i++) {
+            Map<String, Object> attributes = new HashMap<>();
+            attributes.put("documentType", DOCUMENT_TYPES[random.nextInt(DOCUMENT_TYPES.length)]);
+            attributes.put("securityLevel", SECURITY_LEVELS[random.nextInt(SECURITY_LEVELS.length)]);
+            attributes.put("priority", PRIORITIES[random.nextInt(PRIORITIES.length)]);
+            attributes.put("status", "DRAFT");
+            attributes.put("amount", random.nextInt(10_000_000));
+            attributesList.add(attributes);
+        }
+    }
+
+    /**
+     * 컴파일된 정책으로 1,000건 평가
+     */
+    @Benchmark
+    public void evaluateCompiled(Blackhole blackhole) {
+        evaluate(policies, blackhole);
+    }
+
+    /**
+     * 매번 정책을 다시 컴파일하고 1,000건 평가 (캐시 없음)
+     */
+    @Benchmark
+    public void compileAndEvaluate(Blackhole blackhole) {
+        evaluate(compileAll(), blackhole);
+    }
+
+    private void evaluate(List<CompiledApprovalPolicy> candidates, Blackhole blackhole) {
+        for (Map<String, Object> attributes : attributesList) {
+            CompiledApprovalPolicy selected = CompiledApprovalPolicy.fallback();
+            for (CompiledApprovalPolicy policy : candidates) {
+                if (policy.matches(attributes)) {
+                    selected = policy;
+                    break;
+                }
+            }
+            List<StepPlan> plan = selected.plan(attributes);
+            blackhole.consume(plan);
+        }
+    }
+
+    private List<CompiledApprovalPolicy> compileAll() {
+        List<CompiledApprovalPolicy> compiled = new ArrayList<>(POLICY_DATA.length);
+        for (int i = 0; i < POLICY_DATA.length; i++) {
+            compiled.add(CompiledApprovalPolicy.compile("policy-" + i, "POLICY_" + i, "1", POLICY_DATA[i], objectMapper));
+        }
+        return compiled;
+    }
+}
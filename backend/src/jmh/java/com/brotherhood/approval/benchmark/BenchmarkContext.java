@@ -0,0 +1,93 @@
+package com.brotherhood.approval.benchmark;
+
+import com.brotherhood.approval.ApprovalSystemApplication;
+import com.brotherhood.approval.entity.Branch;
+import com.brotherhood.approval.entity.Role;
+import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.entity.UserRole;
+import com.brotherhood.approval.repository.BranchRepository;
+import com.brotherhood.approval.repository.RoleRepository;
+import com.brotherhood.approval.repository.UserRepository;
+import com.brotherhood.approval.repository.UserRoleRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 매크로 벤치마크용 애플리케이션 컨텍스트 (H2 인메모리, benchmark 프로필)
+ * 
+ * JMH는 벤치마크마다 별도 JVM을 띄우므로 JVM당 한 번만 기동한다.
+ * 
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+final class BenchmarkContext {
+
+    private static ConfigurableApplicationContext context;
+
+    private BenchmarkContext() {
+    }
+
+    static synchronized ConfigurableApplicationContext start() {
+        if (context == null) {
+            context = new SpringApplicationBuilder(ApprovalSystemApplication.class)
+                    .logStartupInfo(false)
+                    .run("--spring.profiles.active=benchmark");
+        }
+        return context;
+    }
+
+    static synchronized void stop() {
+        if (context != null) {
+            context.close();
+            context = null;
+        }
+    }
+
+    /**
+     * 지사, 역할, 사용자 기초 데이터 생성
+     */
+    static Fixture seed(ConfigurableApplicationContext context) {
+        BranchRepository branchRepository = context.getBean(BranchRepository.class);
+        RoleRepository roleRepository = context.getBean(RoleRepository.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        UserRoleRepository userRoleRepository = context.getBean(UserRoleRepository.class);
+
+        Branch branch = branchRepository.findByCode("BENCH").orElseGet(() -> branchRepository.save(Branch.builder()
+                .name("벤치마크 지사")
+                .code("BENCH")
+                .build()));
+        Role userRole = roleRepository.findByName("USER")
+                .orElseGet(() -> roleRepository.save(Role.builder().name("USER").description("일반 사용자").build()));
+        Role managerRole = roleRepository.findByName("MANAGER")
+                .orElseGet(() -> roleRepository.save(Role.builder().name("MANAGER").description("매니저").build()));
+
+        User author = userRepository.findByLoginId("bench-author")
+                .orElseGet(() -> createUser(userRepository, userRoleRepository, "bench-author", "작성자", branch, userRole));
+        User approver = userRepository.findByLoginId("bench-approver")
+                .orElseGet(() -> createUser(userRepository, userRoleRepository, "bench-approver", "결재자", branch, managerRole));
+
+        return new Fixture(branch.getId().toString(), author.getId().toString(), approver.getId().toString());
+    }
+
+    private static User createUser(UserRepository userRepository, UserRoleRepository userRoleRepository,
+                                   String loginId, String name, Branch branch, Role role) {
+        User user = userRepository.save(User.builder()
+                .loginId(loginId)
+                .name(name)
+                .baptismalName("요한")
+                .email(loginId + "@brotherhood.com")
+                .passwordHash("hashedpassword")
+                .branch(branch)
+                .build());
+        userRoleRepository.save(UserRole.builder()
+                .user(user)
+                .role(role)
+                .branch(branch)
+                .build());
+        return user;
+    }
+
+    record Fixture(String branchId, String authorId, String approverId) {
+    }
+}
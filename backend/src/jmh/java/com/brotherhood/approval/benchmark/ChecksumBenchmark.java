@@ -0,0 +1,48 @@
+package com.brotherhood.approval.benchmark;
+
+import com.brotherhood.approval.service.AttachmentService;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 첨부파일 체크섬(SHA-256) 계산 마이크로벤치마크
+ * 
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChecksumBenchmark {
+
+    /**
+     * 파일 크기 (KB)
+     */
+    @Param({"16", "1024", "10240"})
+    public int sizeKb;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        byte[] content = new byte[sizeKb * 1024];
+        new Random(42).nextBytes(content);
+        file = Files.createTempFile("checksum-benchmark-", ".bin");
+        Files.write(file, content);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public String calculateChecksum() throws Exception {
+        return AttachmentService.calculateChecksum(file);
+    }
+}
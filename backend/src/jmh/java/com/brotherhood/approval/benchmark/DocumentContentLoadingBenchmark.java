@@ -0,0 +1,133 @@
+package com.brotherhood.approval.benchmark;
+
+import com.brotherhood.approval.entity.ApprovalLine;
+import com.brotherhood.approval.entity.ApprovalStep;
+import com.brotherhood.approval.entity.Branch;
+import com.brotherhood.approval.entity.Document;
+import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.repository.ApprovalLineRepository;
+import com.brotherhood.approval.repository.ApprovalStepRepository;
+import com.brotherhood.approval.repository.BranchRepository;
+import com.brotherhood.approval.repository.DocumentRepository;
+import com.brotherhood.approval.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 문서 본문 지연 로딩 벤치마크 (H2 기반 전체 컨텍스트)
+ *
+ * 본문이 200 KB인 문서에 대해 상태 전이 경로가 적재하는 엔티티(결재단계 → 결재선 → 문서)를
+ * 트랜잭션 하나로 조회하고 상태만 읽는다. 요청당 메모리는 gc 프로파일러의 gc.alloc.rate.norm(B/op)으로 비교한다.
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=DocumentContentLoading -PjmhProfilers=gc -PjmhResultsName=lazy-content
+ * ./gradlew jmh -PjmhIncludes=DocumentContentLoading -PjmhProfilers=gc -PjmhResultsName=eager-content -PdisableHibernateEnhancement
+ * </pre>
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class DocumentContentLoadingBenchmark {
+
+    private static final int DOCUMENTS = 50;
+
+    @Param({"204800"})
+    public int contentBytes;
+
+    private TransactionTemplate transactionTemplate;
+    private DocumentRepository documentRepository;
+    private ApprovalStepRepository approvalStepRepository;
+    private final List<UUID> documentIds = new ArrayList<>();
+    private final List<UUID> stepIds = new ArrayList<>();
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ConfigurableApplicationContext context = BenchmarkContext.start();
+        BenchmarkContext.Fixture fixture = BenchmarkContext.seed(context);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        documentRepository = context.getBean(DocumentRepository.class);
+        approvalStepRepository = context.getBean(ApprovalStepRepository.class);
+
+        ApprovalLineRepository approvalLineRepository = context.getBean(ApprovalLineRepository.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        BranchRepository branchRepository = context.getBean(BranchRepository.class);
+        String content = "<p>" + "a".repeat(contentBytes) + "</p>";
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User author = userRepository.findById(UUID.fromString(fixture.authorId())).orElseThrow();
+            User approver = userRepository.findById(UUID.fromString(fixture.approverId())).orElseThrow();
+            Branch branch = branchRepository.findById(UUID.fromString(fixture.branchId())).orElseThrow();
+
+            for (int i = 0; i < DOCUMENTS; i++) {
+                Document document = documentRepository.save(Document.builder()
+                        .title("본문 지연 로딩 벤치마크 " + i)
+                        .content(content)
+                        .documentType(Document.Type.GENERAL)
+                        .status(Document.Status.PENDING)
+                        .author(author)
+                        .branch(branch)
+                        .build());
+                ApprovalLine approvalLine = approvalLineRepository.save(ApprovalLine.builder()
+                        .name("벤치마크 결재선")
+                        .createdBy(author)
+                        .document(document)
+                        .build());
+                ApprovalStep step = approvalStepRepository.save(ApprovalStep.builder()
+                        .approvalLine(approvalLine)
+                        .stepOrder(1)
+                        .approver(approver)
+                        .build());
+                documentIds.add(document.getId());
+                stepIds.add(step.getId());
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.stop();
+    }
+
+    /**
+     * 결재 액션 경로: 결재단계 조회 시 결재선/문서가 EAGER로 함께 적재된다
+     */
+    @Benchmark
+    public String loadStepForApproval() {
+        UUID stepId = stepIds.get(nextIndex());
+        return transactionTemplate.execute(status -> approvalStepRepository.findById(stepId)
+                .orElseThrow()
+                .getApprovalLine()
+                .getDocument()
+                .getStatus());
+    }
+
+    /**
+     * 문서 상태 전이/삭제 경로: 문서 엔티티를 조회하고 상태만 확인한다
+     */
+    @Benchmark
+    public String loadDocumentForTransition() {
+        UUID documentId = documentIds.get(nextIndex());
+        return transactionTemplate.execute(status -> documentRepository.findById(documentId)
+                .orElseThrow()
+                .getStatus());
+    }
+
+    private int nextIndex() {
+        next = (next + 1) % DOCUMENTS;
+        return next;
+    }
+}
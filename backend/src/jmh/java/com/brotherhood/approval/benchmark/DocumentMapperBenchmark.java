@@ -0,0 +1,71 @@
+package com.brotherhood.approval.benchmark;
+
+import com.brotherhood.approval.dto.document.DocumentDto;
+import com.brotherhood.approval.entity.Branch;
+import com.brotherhood.approval.entity.Document;
+import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.mapper.DocumentMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DocumentMapper 변환 마이크로벤치마크
+ * 
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DocumentMapperBenchmark {
+
+    @Param({"20", "200"})
+    public int size;
+
+    private DocumentMapper documentMapper;
+    private Document document;
+    private List<Document> documents;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        documentMapper = Mappers.getMapper(DocumentMapper.class);
+
+        Branch branch = Branch.builder().id(UUID.randomUUID()).name("본원").code("HQ").build();
+        User author = User.builder().id(UUID.randomUUID()).name("작성자").baptismalName("요한").branch(branch).build();
+
+        documents = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            documents.add(Document.builder()
+                    .id(UUID.randomUUID())
+                    .title("벤치마크 문서 " + i)
+                    .content("본문 ".repeat(200))
+                    .documentType("GENERAL")
+                    .documentNumber("GEN-20241020-" + String.format("%04d", i))
+                    .status(i % 2 == 0 ? "PENDING" : "APPROVED")
+                    .author(author)
+                    .branch(branch)
+                    .submittedAt(LocalDateTime.now())
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
+        document = documents.get(0);
+    }
+
+    @Benchmark
+    public DocumentDto toDto() {
+        return documentMapper.toDto(document);
+    }
+
+    @Benchmark
+    public List<DocumentDto> toDtoList() {
+        return documentMapper.toDtoList(documents);
+    }
+}
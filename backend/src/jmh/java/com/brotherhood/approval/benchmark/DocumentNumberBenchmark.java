@@ -0,0 +1,76 @@
+package com.brotherhood.approval.benchmark;
+
+import com.brotherhood.approval.entity.Branch;
+import com.brotherhood.approval.entity.Document;
+import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.repository.BranchRepository;
+import com.brotherhood.approval.repository.DocumentRepository;
+import com.brotherhood.approval.repository.UserRepository;
+import com.brotherhood.approval.service.DocumentNumberService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 문서번호 생성 벤치마크 (H2)
+ * 
+ * 문서번호 생성은 전체 문서 수 조회와 중복 확인 쿼리를 실행하므로 기존 문서 수별로 측정한다.
+ * 
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DocumentNumberBenchmark {
+
+    private static final int SEED_BATCH_SIZE = 500;
+
+    @Param({"100", "5000"})
+    public int existingDocuments;
+
+    private DocumentNumberService documentNumberService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ConfigurableApplicationContext context = BenchmarkContext.start();
+        BenchmarkContext.Fixture fixture = BenchmarkContext.seed(context);
+        documentNumberService = context.getBean(DocumentNumberService.class);
+
+        DocumentRepository documentRepository = context.getBean(DocumentRepository.class);
+        User author = context.getBean(UserRepository.class).findById(UUID.fromString(fixture.authorId())).orElseThrow();
+        Branch branch = context.getBean(BranchRepository.class).findById(UUID.fromString(fixture.branchId())).orElseThrow();
+
+        List<Document> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (long i = documentRepository.count(); i < existingDocuments; i++) {
+            batch.add(Document.builder()
+                    .title("기존 문서 " + i)
+                    .content("내용")
+                    .documentType("GENERAL")
+                    .documentNumber("SEED-" + String.format("%06d", i))
+                    .author(author)
+                    .branch(branch)
+                    .build());
+            if (batch.size() == SEED_BATCH_SIZE) {
+                documentRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        documentRepository.saveAll(batch);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.stop();
+    }
+
+    @Benchmark
+    public String generateDocumentNumber() {
+        return documentNumberService.generateDocumentNumber("GENERAL");
+    }
+}
@@ -0,0 +1,66 @@
+package com.brotherhood.approval.benchmark;
+
+import com.brotherhood.approval.metrics.ApprovalMetrics;
+import com.brotherhood.approval.security.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 생성/파싱 마이크로벤치마크
+ * 
+ * 모든 인증 요청이 JwtAuthenticationFilter에서 validateToken + getUserIdFromToken + getRolesFromToken을
+ * 호출하므로 요청당 파싱 비용을 함께 측정한다.
+ * 
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+    private String userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(
+                "benchmark-jwt-secret-key-that-is-long-enough-for-hs256-signing",
+                3_600_000L, 86_400_000L, new ApprovalMetrics(new SimpleMeterRegistry()));
+        userId = UUID.randomUUID().toString();
+        accessToken = jwtTokenProvider.createAccessToken(userId, "benchmark", List.of("ROLE_USER", "ROLE_MANAGER"));
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(userId, "benchmark", List.of("ROLE_USER", "ROLE_MANAGER"));
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public String getUserIdFromToken() {
+        return jwtTokenProvider.getUserIdFromToken(accessToken);
+    }
+
+    /**
+     * 인증 필터 한 번 분량 (검증 + 사용자 ID + 역할)
+     */
+    @Benchmark
+    public List<String> authenticateRequest() {
+        if (!jwtTokenProvider.validateToken(accessToken)) {
+            throw new IllegalStateException("유효하지 않은 토큰입니다");
+        }
+        jwtTokenProvider.getUserIdFromToken(accessToken);
+        return jwtTokenProvider.getRolesFromToken(accessToken);
+    }
+}
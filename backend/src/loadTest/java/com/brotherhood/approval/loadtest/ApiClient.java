@@ -0,0 +1,167 @@
+package com.brotherhood.approval.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 부하 테스트용 REST 클라이언트
+ * 
+ * 모든 호출의 응답 시간을 엔드포인트 이름별로 {@link LatencyReport}에 기록하고,
+ * BaseResponse의 data 노드를 반환한다.
+ * 
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+final class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private volatile LatencyReport report;
+
+    ApiClient(String baseUrl, LatencyReport report) {
+        this.baseUrl = baseUrl;
+        this.report = report;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    /**
+     * 이후 호출을 기록할 집계 교체 (시드 단계와 측정 단계 분리)
+     */
+    void setReport(LatencyReport report) {
+        this.report = report;
+    }
+
+    Session login(String loginId, String password) {
+        JsonNode data = send("login", request("/api/auth/login", null)
+                .header("Content-Type", "application/json")
+                .POST(json(Map.of("username", loginId, "password", password))));
+        JsonNode userInfo = data.path("userInfo");
+        return new Session(
+                userInfo.path("id").asText(),
+                loginId,
+                password,
+                userInfo.path("branchId").asText(null),
+                data.path("accessToken").asText());
+    }
+
+    JsonNode get(String endpoint, String path, Session session) {
+        return send(endpoint, request(path, session).GET());
+    }
+
+    JsonNode post(String endpoint, String path, Object body, Session session) {
+        return send(endpoint, request(path, session)
+                .header("Content-Type", "application/json")
+                .POST(json(body)));
+    }
+
+    JsonNode upload(String endpoint, String path, String filename, byte[] content, Session session) {
+        String boundary = "----loadtest" + UUID.randomUUID();
+        ByteArrayOutputStream body = new ByteArrayOutputStream(content.length + 256);
+        body.writeBytes(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + filename + "\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(content);
+        body.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        return send(endpoint, request(path, session)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray())));
+    }
+
+    /**
+     * 파일 다운로드 (본문 크기 반환)
+     */
+    long download(String endpoint, String path, Session session) {
+        HttpResponse<byte[]> response = execute(endpoint, request(path, session).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        return response.body().length;
+    }
+
+    private JsonNode send(String endpoint, HttpRequest.Builder builder) {
+        HttpResponse<String> response = execute(endpoint, builder.build(),
+                HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        try {
+            return objectMapper.readTree(response.body()).path("data");
+        } catch (IOException e) {
+            throw new ApiException(endpoint, response.statusCode(), "응답 JSON을 해석할 수 없습니다");
+        }
+    }
+
+    private <T> HttpResponse<T> execute(String endpoint, HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+        long startTime = System.nanoTime();
+        HttpResponse<T> response;
+        try {
+            response = httpClient.send(request, handler);
+        } catch (IOException e) {
+            report.record(endpoint, System.nanoTime() - startTime, false);
+            throw new ApiException(endpoint, -1, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(endpoint, -1, "요청이 중단되었습니다");
+        }
+
+        boolean success = response.statusCode() / 100 == 2;
+        report.record(endpoint, System.nanoTime() - startTime, success);
+        if (!success) {
+            throw new ApiException(endpoint, response.statusCode(), String.valueOf(response.body()));
+        }
+        return response;
+    }
+
+    private HttpRequest.Builder request(String path, Session session) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (session != null) {
+            builder.header("Authorization", "Bearer " + session.accessToken())
+                    .header("X-User-Id", session.userId());
+        }
+        return builder;
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("요청 본문을 직렬화할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 로그인 세션 (사용자 ID, 지사, 토큰)
+     */
+    record Session(String userId, String loginId, String password, String branchId, String accessToken) {
+    }
+
+    static final class ApiException extends RuntimeException {
+
+        private final int status;
+
+        ApiException(String endpoint, int status, String message) {
+            super(endpoint + " 실패 (" + status + "): " + message);
+            this.status = status;
+        }
+
+        int getStatus() {
+            return status;
+        }
+    }
+}
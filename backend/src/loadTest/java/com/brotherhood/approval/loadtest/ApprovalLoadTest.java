@@ -0,0 +1,283 @@
+package com.brotherhood.approval.loadtest;
+
+import com.brotherhood.approval.loadtest.ApiClient.ApiException;
+import com.brotherhood.approval.loadtest.ApiClient.Session;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지사 결재 트래픽 부하 테스트
+ * 
+ * 1. 시드: 관리자로 로그인하여 지사마다 작성자/결재자를 REST로 생성하고, 결재선이 포함된 문서를 작성·상신한다
+ * 2. 측정: 가상 사용자들이 로그인, 대시보드, 결재함, 문서 상세, 승인/반려, 작성·상신, 첨부 업로드/다운로드를 섞어 호출한다
+ * 3. 보고: 엔드포인트별 처리량과 p50/p95/p99 응답 시간을 출력하고 HdrHistogram 분포(.hgrm)를 저장한다
+ * 
+ * 가상 사용자는 가상 스레드(Java 21+)에서 실행하며, 사용할 수 없으면 고정 크기 스레드 풀을 사용한다.
+ * 
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+public final class ApprovalLoadTest {
+
+    private static final String USER_PASSWORD = "LoadTest!2345";
+    private static final byte[] ATTACHMENT_CONTENT = randomBytes(64 * 1024);
+
+    private final LoadTestOptions options;
+    private final ApiClient client;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    private final List<Session> authors = new CopyOnWriteArrayList<>();
+    private final List<Session> approvers = new CopyOnWriteArrayList<>();
+    private final List<String> documentIds = new CopyOnWriteArrayList<>();
+    private final List<String> attachmentIds = new CopyOnWriteArrayList<>();
+    private final ConcurrentLinkedQueue<PendingApproval> pendingApprovals = new ConcurrentLinkedQueue<>();
+    private final AtomicLong documentSequence = new AtomicLong();
+
+    private ApprovalLoadTest(LoadTestOptions options, LatencyReport report) {
+        this.options = options;
+        this.client = new ApiClient(options.baseUrl(), report);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        LatencyReport seedReport = new LatencyReport();
+        ApprovalLoadTest loadTest = new ApprovalLoadTest(options, seedReport);
+
+        long seedStart = System.nanoTime();
+        loadTest.seed();
+        double seedSeconds = (System.nanoTime() - seedStart) / 1e9;
+        System.out.printf("%n== 시드 완료 (%.1fs): 작성자 %d명, 결재자 %d명, 문서 %d건 ==%n",
+                seedSeconds, loadTest.authors.size(), loadTest.approvers.size(), loadTest.documentIds.size());
+        seedReport.print(System.out, seedSeconds);
+        seedReport.write(options.outputDir().resolve("seed"), seedSeconds);
+
+        LatencyReport runReport = new LatencyReport();
+        loadTest.client.setReport(runReport);
+        double runSeconds = loadTest.run(runReport);
+
+        System.out.printf("%n== 부하 테스트 결과 (동시 사용자 %d, %.1fs) ==%n", options.concurrency(), runSeconds);
+        runReport.print(System.out, runSeconds);
+        runReport.write(options.outputDir().resolve("run"), runSeconds);
+        System.out.println("HdrHistogram 분포: " + options.outputDir().toAbsolutePath());
+    }
+
+    /**
+     * 기초 데이터 생성 (REST API 사용)
+     */
+    private void seed() {
+        Session admin = client.login(options.adminLoginId(), options.adminPassword());
+
+        // 지사 생성 API가 없으므로 기존 지사에 사용자를 분산한다 (미지정 시 관리자 소속 지사)
+        List<String> branchIds = options.branchIds().isEmpty() ? List.of(admin.branchId()) : options.branchIds();
+
+        for (int b = 0; b < branchIds.size(); b++) {
+            for (int i = 0; i < options.usersPerRole(); i++) {
+                authors.add(createUser(admin, branchIds.get(b), "author", b, i));
+                approvers.add(createUser(admin, branchIds.get(b), "approver", b, i));
+            }
+        }
+
+        for (int i = 0; i < options.documents(); i++) {
+            Session author = authors.get(i % authors.size());
+            String documentId = createAndSubmit(author);
+            if (i % 5 == 0) {
+                upload(author, documentId);
+            }
+        }
+    }
+
+    private Session createUser(Session admin, String branchId, String role, int branchIndex, int userIndex) {
+        String loginId = "lt_" + runId + "_" + role + "_" + branchIndex + "_" + userIndex;
+        client.post("create-user", "/api/users", Map.of(
+                "name", "부하테스트 " + loginId,
+                "loginId", loginId,
+                "email", loginId + "@loadtest.local",
+                "password", USER_PASSWORD,
+                "baptismalName", loginId,
+                "branchId", branchId), admin);
+        return client.login(loginId, USER_PASSWORD);
+    }
+
+    /**
+     * 측정 단계: 워밍업 후 집계를 초기화하고 지정 시간 동안 혼합 트래픽 실행
+     */
+    private double run(LatencyReport report) throws InterruptedException {
+        long warmupEnd = System.nanoTime() + options.warmup().toNanos();
+        long deadline = warmupEnd + options.duration().toNanos();
+
+        ExecutorService executor = newVirtualUserExecutor(options.concurrency());
+        for (int i = 0; i < options.concurrency(); i++) {
+            executor.execute(() -> {
+                while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    try {
+                        nextOperation().run();
+                    } catch (ApiException e) {
+                        // 실패는 LatencyReport에 오류로 집계되었으므로 계속 진행
+                    }
+                }
+            });
+        }
+
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, warmupEnd - System.nanoTime()));
+        report.reset();
+        long measureStart = System.nanoTime();
+
+        executor.shutdown();
+        executor.awaitTermination(options.duration().toSeconds() + 60, TimeUnit.SECONDS);
+        report.stop();
+        executor.shutdownNow();
+        return (Math.min(System.nanoTime(), deadline) - measureStart) / 1e9;
+    }
+
+    /**
+     * 지사 사무실 트래픽 비율 (가중치 합 100)
+     */
+    private Runnable nextOperation() {
+        int roll = ThreadLocalRandom.current().nextInt(100);
+        if (roll < 5) {
+            return this::login;
+        } else if (roll < 20) {
+            return this::dashboard;
+        } else if (roll < 40) {
+            return this::inbox;
+        } else if (roll < 65) {
+            return this::detail;
+        } else if (roll < 75) {
+            return () -> decide("APPROVE");
+        } else if (roll < 78) {
+            return () -> decide("REJECT");
+        } else if (roll < 88) {
+            return () -> createAndSubmit(random(authors));
+        } else if (roll < 93) {
+            return () -> upload(random(authors), random(documentIds));
+        } else {
+            return this::download;
+        }
+    }
+
+    private void login() {
+        Session session = ThreadLocalRandom.current().nextBoolean() ? random(authors) : random(approvers);
+        client.login(session.loginId(), session.password());
+    }
+
+    private void dashboard() {
+        Session session = random(authors);
+        client.get("dashboard-stats", "/api/dashboard/stats", session);
+        client.get("dashboard-recent", "/api/dashboard/recent-documents/user/" + session.userId() + "?limit=10", session);
+    }
+
+    private void inbox() {
+        Session approver = random(approvers);
+        client.get("inbox", "/api/dashboard/pending-approval/" + approver.userId() + "?limit=10", approver);
+    }
+
+    private void detail() {
+        client.get("document-detail", "/api/documents/" + random(documentIds), random(authors));
+    }
+
+    private void decide(String action) {
+        PendingApproval pending = pendingApprovals.poll();
+        if (pending == null) {
+            createAndSubmit(random(authors));
+            return;
+        }
+
+        JsonNode lines = client.get("approval-lines", "/api/approvals/lines/document/" + pending.documentId(),
+                pending.approver());
+        String stepId = lines.path(0).path("approvalSteps").path(0).path("id").asText();
+        client.post("APPROVE".equals(action) ? "approve" : "reject", "/api/approvals/actions",
+                Map.of("approvalStepId", stepId, "action", action, "comments", "부하 테스트 " + action),
+                pending.approver());
+    }
+
+    private String createAndSubmit(Session author) {
+        Session approver = approverFor(author);
+        Map<String, Object> step = Map.of(
+                "stepOrder", 1,
+                "stepType", "APPROVAL",
+                "approverId", approver.userId(),
+                "isRequired", true);
+        Map<String, Object> approvalLine = Map.of(
+                "type", "SEQUENTIAL",
+                "name", "부하 테스트 결재선",
+                "approvalSteps", List.of(step));
+
+        JsonNode document = client.post("create-document", "/api/documents", Map.of(
+                "title", "부하 테스트 문서 " + runId + "-" + documentSequence.incrementAndGet(),
+                "content", "지사 결재 트래픽 시뮬레이션 문서입니다. ".repeat(20),
+                "classification", "GENERAL",
+                "approvalLines", List.of(approvalLine)), author);
+        String documentId = document.path("id").asText();
+
+        client.post("submit-document", "/api/documents/" + documentId + "/submit", Map.of(), author);
+        documentIds.add(documentId);
+        pendingApprovals.add(new PendingApproval(documentId, approver));
+        return documentId;
+    }
+
+    private void upload(Session author, String documentId) {
+        JsonNode attachment = client.upload("upload", "/api/documents/" + documentId + "/attachments/upload",
+                "loadtest-" + runId + ".bin", ATTACHMENT_CONTENT, author);
+        attachmentIds.add(attachment.path("id").asText());
+    }
+
+    private void download() {
+        if (attachmentIds.isEmpty()) {
+            upload(random(authors), random(documentIds));
+            return;
+        }
+        client.download("download", "/api/documents/attachments/" + random(attachmentIds) + "/download", random(authors));
+    }
+
+    /**
+     * 작성자와 같은 지사의 결재자 (없으면 임의의 결재자)
+     */
+    private Session approverFor(Session author) {
+        List<Session> sameBranch = new ArrayList<>();
+        for (Session approver : approvers) {
+            if (approver.branchId() != null && approver.branchId().equals(author.branchId())) {
+                sameBranch.add(approver);
+            }
+        }
+        return sameBranch.isEmpty() ? random(approvers) : random(sameBranch);
+    }
+
+    /**
+     * 압축되지 않는 임의 데이터 (업로드/다운로드 크기 고정)
+     */
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return bytes;
+    }
+
+    private static <T> T random(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    /**
+     * 가상 스레드 실행기 (Java 21+), 없으면 동시 사용자 수만큼의 고정 스레드 풀
+     */
+    private static ExecutorService newVirtualUserExecutor(int concurrency) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            System.out.println("가상 스레드를 사용할 수 없어 고정 스레드 풀을 사용합니다 (Java " + Runtime.version().feature() + ")");
+            return Executors.newFixedThreadPool(concurrency);
+        }
+    }
+
+    private record PendingApproval(String documentId, Session approver) {
+    }
+}
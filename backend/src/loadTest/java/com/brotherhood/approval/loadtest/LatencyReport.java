@@ -0,0 +1,91 @@
+package com.brotherhood.approval.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 응답 시간 집계 (HdrHistogram, 마이크로초 단위 기록)
+ * 
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+final class LatencyReport {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean recording = true;
+
+    void record(String endpoint, long elapsedNanos, boolean success) {
+        if (!recording) {
+            return;
+        }
+        EndpointStats stats = endpoints.computeIfAbsent(endpoint, key -> new EndpointStats());
+        stats.histogram.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(elapsedNanos)));
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    /**
+     * 워밍업 구간 제외용 (집계 초기화)
+     */
+    void reset() {
+        endpoints.clear();
+    }
+
+    void stop() {
+        recording = false;
+    }
+
+    void print(PrintStream out, double elapsedSeconds) {
+        out.printf("%-24s %9s %9s %8s %9s %9s %9s %9s%n",
+                "endpoint", "count", "req/s", "errors", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        new TreeMap<>(endpoints).forEach((endpoint, stats) -> {
+            Histogram histogram = stats.histogram.copy();
+            long count = histogram.getTotalCount();
+            out.printf("%-24s %9d %9.1f %8d %9.1f %9.1f %9.1f %9.1f%n",
+                    endpoint,
+                    count,
+                    elapsedSeconds > 0 ? count / elapsedSeconds : 0.0,
+                    stats.errors.sum(),
+                    histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                    histogram.getValueAtPercentile(95) / MICROS_PER_MILLI,
+                    histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                    histogram.getMaxValue() / MICROS_PER_MILLI);
+        });
+    }
+
+    /**
+     * 엔드포인트별 백분위 분포 파일(.hgrm, 밀리초) 저장
+     */
+    void write(Path directory, double elapsedSeconds) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<String, EndpointStats> entry : endpoints.entrySet()) {
+            Path file = directory.resolve(entry.getKey() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file), true, "UTF-8")) {
+                entry.getValue().histogram.copy().outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve("summary.txt")), true, "UTF-8")) {
+            print(out, elapsedSeconds);
+        }
+    }
+
+    private static final class EndpointStats {
+        private final ConcurrentHistogram histogram = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        private final LongAdder errors = new LongAdder();
+    }
+}
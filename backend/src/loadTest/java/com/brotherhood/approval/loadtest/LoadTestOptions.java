@@ -0,0 +1,66 @@
+package com.brotherhood.approval.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행 옵션
+ * 
+ * 인자는 --key=value 형식이며, 관리자 계정은 환경 변수로도 지정할 수 있다.
+ * <pre>
+ * ./gradlew loadTest -PloadTestArgs="--base-url=http://localhost:8080 --branches=&lt;지사ID&gt;,&lt;지사ID&gt; --users-per-role=5 --documents=200 --duration=120 --concurrency=50"
+ * </pre>
+ * 
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+record LoadTestOptions(
+        String baseUrl,
+        String adminLoginId,
+        String adminPassword,
+        List<String> branchIds,
+        int usersPerRole,
+        int documents,
+        int concurrency,
+        Duration duration,
+        Duration warmup,
+        Path outputDir) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("잘못된 인자입니다 (--key=value 형식): " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        String adminPassword = values.getOrDefault("admin-password", System.getenv("LOADTEST_ADMIN_PASSWORD"));
+        if (adminPassword == null || adminPassword.isBlank()) {
+            throw new IllegalArgumentException("관리자 비밀번호가 필요합니다 (--admin-password 또는 LOADTEST_ADMIN_PASSWORD)");
+        }
+
+        String branches = values.getOrDefault("branches", "");
+        return new LoadTestOptions(
+                stripTrailingSlash(values.getOrDefault("base-url", "http://localhost:8080")),
+                values.getOrDefault("admin-user", System.getenv().getOrDefault("LOADTEST_ADMIN_USER", "admin")),
+                adminPassword,
+                branches.isBlank() ? List.of() : Arrays.stream(branches.split(",")).map(String::trim).toList(),
+                Integer.parseInt(values.getOrDefault("users-per-role", "5")),
+                Integer.parseInt(values.getOrDefault("documents", "200")),
+                Integer.parseInt(values.getOrDefault("concurrency", "50")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "10"))),
+                Path.of(values.getOrDefault("output", "build/reports/loadtest")));
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
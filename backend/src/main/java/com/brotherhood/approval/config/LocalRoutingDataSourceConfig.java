@@ -0,0 +1,57 @@
+package com.brotherhood.approval.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+
+/**
+ * 로컬/테스트용 읽기/쓰기 라우팅 데이터소스
+ * 
+ * datasource.replica.enabled=true이면 spring.datasource.*를 원본으로, datasource.replica.url을 복제본으로 사용한다.
+ * 복제본 URL을 지정하지 않으면 같은 DB를 두 개의 풀로 연결하여 (별칭) 라우팅만 검증할 수 있다.
+ * 
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Configuration
+@Profile("!prod")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class LocalRoutingDataSourceConfig {
+
+    private final DataSourcePoolFactory dataSourcePoolFactory;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username:}")
+    private String username;
+
+    @Value("${spring.datasource.password:}")
+    private String password;
+
+    @Value("${datasource.replica.url:}")
+    private String replicaUrl;
+
+    @Value("${datasource.replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${datasource.replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Bean
+    public DataSource dataSource() {
+        HikariDataSource primary = dataSourcePoolFactory.createPrimary(url, username, password);
+        HikariDataSource replica = replicaUrl.isBlank()
+                ? dataSourcePoolFactory.createReplica(url, username, password)
+                : dataSourcePoolFactory.createReplica(replicaUrl, replicaUsername, replicaPassword);
+        return dataSourcePoolFactory.routing(primary, replica);
+    }
+}
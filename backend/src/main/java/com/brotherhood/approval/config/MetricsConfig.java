@@ -0,0 +1,104 @@
+package com.brotherhood.approval.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ClassLoaderMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmGcMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmMemoryMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmThreadMetrics;
+import io.micrometer.core.instrument.binder.system.FileDescriptorMetrics;
+import io.micrometer.core.instrument.binder.system.ProcessorMetrics;
+import io.micrometer.core.instrument.binder.system.UptimeMetrics;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 메트릭 설정 (Actuator 없이 Micrometer + Prometheus)
+ * 
+ * Actuator는 Railway 환경의 Cgroup 오류로 제외되어 있으므로 레지스트리와 바인더를 직접 등록한다.
+ * Cgroup 정보를 읽는 프로세서/파일 디스크립터 바인더는 기본 비활성화이며
+ * metrics.binders.* 속성으로 바인더별로 켜고 끌 수 있다.
+ * 
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Slf4j
+@Configuration
+public class MetricsConfig {
+    
+    @Bean
+    public PrometheusMeterRegistry prometheusMeterRegistry(
+            @Value("${spring.application.name:approval-system}") String applicationName) {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        registry.config().commonTags("application", applicationName);
+        return registry;
+    }
+    
+    /**
+     * 등록된 모든 바인더를 레지스트리에 연결
+     */
+    @Bean
+    public SmartInitializingSingleton meterBinderRegistration(MeterRegistry registry, ObjectProvider<MeterBinder> binders) {
+        return () -> binders.orderedStream().forEach(binder -> {
+            binder.bindTo(registry);
+            log.debug("메트릭 바인더 등록: {}", binder.getClass().getSimpleName());
+        });
+    }
+    
+    // ===== JVM 바인더 =====
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "metrics.binders", name = "jvm-memory", havingValue = "true", matchIfMissing = true)
+    public JvmMemoryMetrics jvmMemoryMetrics() {
+        return new JvmMemoryMetrics();
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "metrics.binders", name = "jvm-gc", havingValue = "true", matchIfMissing = true)
+    public JvmGcMetrics jvmGcMetrics() {
+        return new JvmGcMetrics();
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "metrics.binders", name = "jvm-threads", havingValue = "true", matchIfMissing = true)
+    public JvmThreadMetrics jvmThreadMetrics() {
+        return new JvmThreadMetrics();
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "metrics.binders", name = "class-loader", havingValue = "true", matchIfMissing = true)
+    public ClassLoaderMetrics classLoaderMetrics() {
+        return new ClassLoaderMetrics();
+    }
+    
+    // ===== 시스템 바인더 =====
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "metrics.binders", name = "uptime", havingValue = "true", matchIfMissing = true)
+    public UptimeMetrics uptimeMetrics() {
+        return new UptimeMetrics();
+    }
+    
+    /**
+     * CPU 사용률 (컨테이너 Cgroup 정보를 읽으므로 Railway에서는 비활성화)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "metrics.binders", name = "processor", havingValue = "true")
+    public ProcessorMetrics processorMetrics() {
+        return new ProcessorMetrics();
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "metrics.binders", name = "file-descriptor", havingValue = "true")
+    public FileDescriptorMetrics fileDescriptorMetrics() {
+        return new FileDescriptorMetrics();
+    }
+}
@@ -0,0 +1,31 @@
+package com.brotherhood.approval.config;
+
+import com.brotherhood.approval.metrics.QueryCountInspector;
+import com.brotherhood.approval.metrics.QueryTimingSessionListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청 단위 SQL 집계 설정
+ * 
+ * Hibernate StatementInspector로 SQL 수/형태를, 세션 이벤트 리스너로 JDBC 실행 시간을 수집한다.
+ * 
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "query-count", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountConfig {
+    
+    @Bean
+    public HibernatePropertiesCustomizer queryCountHibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryTimingSessionListener.class.getName());
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.brotherhood.approval.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 라우팅 데이터소스
+ * 
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제본으로, 그 외는 원본으로 보낸다.
+ * 트랜잭션의 readOnly 여부는 커넥션을 얻은 뒤에 설정되므로 반드시
+ * LazyConnectionDataSourceProxy로 감싸서 첫 SQL 실행 시점에 커넥션을 얻도록 해야 한다.
+ * 
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /**
+     * 현재 트랜잭션이 사용할 데이터소스
+     */
+    public Route currentRoute() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? Route.REPLICA : Route.PRIMARY;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRoute();
+    }
+}
@@ -0,0 +1,18 @@
+package com.brotherhood.approval.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * 
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    
+    // 주기 작업: 일별 문서 통계 증분 집계 (DocumentStatsRollupService)
+}
@@ -0,0 +1,102 @@
+package com.brotherhood.approval.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache + Caffeine, 프로세스 내)
+ * 
+ * 자주 읽고 드물게 바뀌는 기준 정보(지사, 역할, 사용자-역할)와 역할명 조회 쿼리를 캐시한다.
+ * 애플리케이션을 거치지 않은 변경(SQL 스크립트 등) 후에는 /api/cache/second-level/evict로 비운다.
+ * 
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "cache.second-level", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    public static final String BRANCH_REGION = "reference.branch";
+    public static final String ROLE_REGION = "reference.role";
+    public static final String USER_ROLE_REGION = "reference.user-role";
+    public static final String ROLE_BY_NAME_QUERY_REGION = "reference.role-by-name";
+    public static final String BRANCH_BY_CODE_QUERY_REGION = "reference.branch-by-code";
+
+    /**
+     * 엔티티/쿼리 캐시 영역
+     */
+    public static final List<String> REGIONS = List.of(
+            BRANCH_REGION, ROLE_REGION, USER_ROLE_REGION, ROLE_BY_NAME_QUERY_REGION, BRANCH_BY_CODE_QUERY_REGION);
+
+    /**
+     * 쿼리 캐시 무효화용 테이블 갱신 시각 영역 (만료되면 안 됨)
+     */
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+
+    @Value("${cache.second-level.max-entries:1000}")
+    private long maxEntries;
+
+    @Value("${cache.second-level.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager() {
+        // 컨텍스트마다 별도 관리자 (테스트처럼 한 JVM에 컨텍스트가 여럿이어도 영역이 겹치지 않도록)
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("urn:brotherhood:second-level-cache:" + UUID.randomUUID()), provider.getDefaultClassLoader());
+
+        for (String region : REGIONS) {
+            cacheManager.createCache(region, configuration(OptionalLong.of(TimeUnit.MINUTES.toNanos(ttlMinutes))));
+        }
+        cacheManager.createCache(QUERY_RESULTS_REGION, configuration(OptionalLong.of(TimeUnit.MINUTES.toNanos(ttlMinutes))));
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, configuration(OptionalLong.empty()));
+
+        log.info("2차 캐시 영역 생성: {} (최대 {}건, TTL {}분)", REGIONS, maxEntries, ttlMinutes);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheHibernatePropertiesCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            // 영역별 적중률 확인용 (세션마다 통계 로그는 남기지 않음)
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    private CaffeineConfiguration<Object, Object> configuration(OptionalLong expireAfterWriteNanos) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        configuration.setExpireAfterWrite(expireAfterWriteNanos);
+        // Hibernate가 캐시 항목을 직접 분해(disassemble)해서 넣으므로 복사 불필요
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -49,6 +49,8 @@ public class SecurityConfig {
                 // 공개 엔드포인트 (인증 불필요)
                 .requestMatchers("/api/auth/login", "/api/auth/logout").permitAll()
                 .requestMatchers("/api/health", "/health", "/hello").permitAll()
+                // 수집 토큰 또는 ADMIN 인증은 MetricsController에서 확인 (토큰 미설정 시 익명 401)
+                .requestMatchers("/api/metrics/prometheus").permitAll()
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/api-docs/**").permitAll()
                 
                 // 나머지는 인증 필요 (JWT Bearer 토큰)
@@ -77,7 +79,7 @@ public class SecurityConfig {
         
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
-        configuration.setExposedHeaders(Arrays.asList("Authorization", "Content-Type", "X-User-Id", "X-User-Roles"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "Content-Type", "X-User-Id", "X-User-Roles", "ETag", "Last-Modified"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
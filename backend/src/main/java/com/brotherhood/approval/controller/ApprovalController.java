@@ -2,19 +2,33 @@ package com.brotherhood.approval.controller;
 
 import com.brotherhood.approval.dto.BaseResponse;
 import com.brotherhood.approval.dto.approval.*;
+import com.brotherhood.approval.dto.policy.PolicyPreviewRequest;
+import com.brotherhood.approval.dto.policy.PolicyPreviewResponse;
+import com.brotherhood.approval.service.ApprovalPolicyService;
 import com.brotherhood.approval.service.ApprovalService;
+import com.brotherhood.approval.service.DocumentVersionService;
+import com.brotherhood.approval.service.DocumentVersionService.DocumentVersion;
+import com.brotherhood.approval.service.FinalizedDocumentCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * 결재 컨트롤러
@@ -31,6 +45,9 @@ import java.util.List;
 public class ApprovalController {
     
     private final ApprovalService approvalService;
+    private final ApprovalPolicyService approvalPolicyService;
+    private final DocumentVersionService documentVersionService;
+    private final FinalizedDocumentCache finalizedDocumentCache;
     
     @PostConstruct
     public void init() {
@@ -78,11 +95,11 @@ public class ApprovalController {
      * 문서별 결재선 조회
      */
     @GetMapping("/lines/document/{documentId}")
-    @Operation(summary = "문서별 결재선 조회", description = "문서의 모든 결재선을 조회합니다.")
-    public ResponseEntity<BaseResponse<List<ApprovalLineDto>>> getApprovalLinesByDocument(@PathVariable String documentId) {
+    @Operation(summary = "문서별 결재선 조회", description = "문서의 모든 결재선을 조회합니다. If-None-Match가 현재 ETag와 같으면 304를 반환합니다.")
+    public ResponseEntity<?> getApprovalLinesByDocument(@PathVariable String documentId, WebRequest webRequest) {
         log.info("문서별 결재선 조회 요청: {}", documentId);
-        List<ApprovalLineDto> result = approvalService.getApprovalLinesByDocument(documentId);
-        return ResponseEntity.ok(BaseResponse.success(result, "문서별 결재선 조회 성공"));
+        return documentResponse(documentId, FinalizedDocumentCache.VIEW_APPROVAL_LINES, webRequest,
+                () -> BaseResponse.success(approvalService.getApprovalLinesByDocument(documentId), "문서별 결재선 조회 성공"));
     }
     
     /**
@@ -131,11 +148,11 @@ public class ApprovalController {
      * 결재 이력 조회 (문서별)
      */
     @GetMapping("/history/document/{documentId}")
-    @Operation(summary = "문서별 결재 이력 조회", description = "문서의 모든 결재 이력을 조회합니다.")
-    public ResponseEntity<BaseResponse<List<ApprovalHistoryDto>>> getApprovalHistoryByDocument(@PathVariable String documentId) {
+    @Operation(summary = "문서별 결재 이력 조회", description = "문서의 모든 결재 이력을 조회합니다. If-None-Match가 현재 ETag와 같으면 304를 반환합니다.")
+    public ResponseEntity<?> getApprovalHistoryByDocument(@PathVariable String documentId, WebRequest webRequest) {
         log.info("문서별 결재 이력 조회 요청: {}", documentId);
-        List<ApprovalHistoryDto> result = approvalService.getApprovalHistoryByDocument(documentId);
-        return ResponseEntity.ok(BaseResponse.success(result, "문서별 결재 이력 조회 성공"));
+        return documentResponse(documentId, FinalizedDocumentCache.VIEW_APPROVAL_HISTORY, webRequest,
+                () -> BaseResponse.success(approvalService.getApprovalHistoryByDocument(documentId), "문서별 결재 이력 조회 성공"));
     }
     
     /**
@@ -189,6 +206,60 @@ public class ApprovalController {
         return ResponseEntity.ok(BaseResponse.success(null, "결재선이 성공적으로 삭제되었습니다"));
     }
     
+    /**
+     * 결재선 미리보기 (정책 일괄 평가)
+     */
+    @PostMapping("/policies/preview")
+    @Operation(summary = "결재선 미리보기", description = "문서(저장된 문서 ID 또는 속성)별로 적용될 결재선 정책과 결재자를 일괄 계산합니다.")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN')")
+    public ResponseEntity<BaseResponse<PolicyPreviewResponse>> previewApprovalPolicies(
+            @Valid @RequestBody PolicyPreviewRequest request) {
+        try {
+            PolicyPreviewResponse response = approvalPolicyService.preview(request);
+            return ResponseEntity.ok(BaseResponse.success(response, "결재선 미리보기가 완료되었습니다"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(BaseResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("결재선 미리보기 오류", e);
+            return ResponseEntity.internalServerError()
+                    .body(BaseResponse.error("결재선 미리보기 중 오류가 발생했습니다"));
+        }
+    }
+    
+    /**
+     * 결재선 정책 다시 적재
+     */
+    @PostMapping("/policies/refresh")
+    @Operation(summary = "결재선 정책 다시 적재", description = "policies 테이블의 결재선 정책을 다시 읽어 변경된 정책만 컴파일합니다.")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN')")
+    public ResponseEntity<BaseResponse<Integer>> refreshApprovalPolicies() {
+        int count = approvalPolicyService.refreshPolicies();
+        return ResponseEntity.ok(BaseResponse.success(count, "결재선 정책을 다시 적재했습니다"));
+    }
+    
+    /**
+     * 문서 버전 기반 응답 (본문을 만들기 전에 문서 버전만 조회)
+     * - If-None-Match가 일치하면 304
+     * - 승인/반려 문서는 직렬화해 둔 응답 바이트를 그대로 반환
+     * - 문서가 없으면 기존처럼 본문(빈 목록)을 만든다
+     */
+    private ResponseEntity<?> documentResponse(String documentId, String view, WebRequest webRequest,
+                                               Supplier<BaseResponse<?>> body) {
+        Optional<DocumentVersion> version = documentVersionService.findVersion(documentId);
+        if (version.isPresent()) {
+            if (webRequest.checkNotModified(version.get().eTag(), version.get().lastModified())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+            if (version.get().isFinalized() && finalizedDocumentCache.isEnabled()) {
+                byte[] json = finalizedDocumentCache.get(UUID.fromString(documentId), view, version.get().eTag(),
+                        () -> Optional.of(body.get())).orElseThrow();
+                return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(json);
+            }
+        }
+        return ResponseEntity.ok(body.get());
+    }
+    
     /**
      * 클라이언트 IP 주소 추출
      */
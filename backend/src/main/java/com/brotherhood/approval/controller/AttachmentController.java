@@ -3,6 +3,7 @@ package com.brotherhood.approval.controller;
 import com.brotherhood.approval.dto.BaseResponse;
 import com.brotherhood.approval.dto.attachment.AttachmentDto;
 import com.brotherhood.approval.service.AttachmentService;
+import com.brotherhood.approval.service.StatsCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +18,7 @@ import java.util.List;
 public class AttachmentController {
 
     private final AttachmentService attachmentService;
+    private final StatsCacheService statsCacheService;
 
     /**
      * 첨부파일 목록 조회
@@ -57,14 +59,16 @@ public class AttachmentController {
     public ResponseEntity<BaseResponse<Object>> getAttachmentStats() {
         try {
             log.info("첨부파일 통계 조회 요청");
-            long totalCount = attachmentService.getAttachmentCount();
-            long totalSize = attachmentService.getTotalSize();
-            
-            var stats = new Object() {
-                public final long count = totalCount;
-                public final long size = totalSize;
-                public final String formattedSize = formatFileSize(totalSize);
-            };
+            Object stats = statsCacheService.get(StatsCacheService.ATTACHMENT_STATS, () -> {
+                long totalCount = attachmentService.getAttachmentCount();
+                long totalSize = attachmentService.getTotalSize();
+                
+                return new Object() {
+                    public final long count = totalCount;
+                    public final long size = totalSize;
+                    public final String formattedSize = formatFileSize(totalSize);
+                };
+            });
             
             return ResponseEntity.ok(BaseResponse.success(stats, "첨부파일 통계를 조회했습니다."));
         } catch (Exception e) {
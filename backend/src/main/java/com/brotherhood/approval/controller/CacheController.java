@@ -0,0 +1,60 @@
+package com.brotherhood.approval.controller;
+
+import com.brotherhood.approval.dto.BaseResponse;
+import com.brotherhood.approval.dto.stats.SecondLevelCacheStatistics;
+import com.brotherhood.approval.service.SecondLevelCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 캐시 관리 컨트롤러 (Hibernate 2차 캐시)
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final SecondLevelCacheService secondLevelCacheService;
+
+    /**
+     * 2차 캐시 영역별 지표 조회 (적중/미스/적중률)
+     */
+    @GetMapping("/second-level")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN')")
+    public ResponseEntity<BaseResponse<List<SecondLevelCacheStatistics>>> getSecondLevelCacheStatistics() {
+        return ResponseEntity.ok(BaseResponse.success(secondLevelCacheService.getStatistics(), "2차 캐시 지표를 조회했습니다"));
+    }
+
+    /**
+     * 2차 캐시 비우기 (지사/역할을 DB에서 직접 변경한 경우)
+     */
+    @PostMapping("/second-level/evict")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN')")
+    public ResponseEntity<BaseResponse<String>> evictSecondLevelCache(@RequestParam(required = false) String region) {
+        try {
+            secondLevelCacheService.evict(region);
+            return ResponseEntity.ok(BaseResponse.success(region != null ? region : "all", "2차 캐시를 비웠습니다"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(BaseResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("2차 캐시 비우기 실패", e);
+            return ResponseEntity.internalServerError()
+                    .body(BaseResponse.error("2차 캐시를 비우는 중 오류가 발생했습니다"));
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.brotherhood.approval.dto.dashboard.DashboardStatsDto;
 import com.brotherhood.approval.dto.document.DocumentDto;
 import com.brotherhood.approval.dto.user.UserDto;
 import com.brotherhood.approval.service.DashboardService;
+import com.brotherhood.approval.service.StatsCacheService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -31,6 +32,7 @@ import java.util.UUID;
 public class DashboardController {
     
     private final DashboardService dashboardService;
+    private final StatsCacheService statsCacheService;
     
     /**
      * 대시보드 통계 조회 (관리자용)
@@ -39,7 +41,8 @@ public class DashboardController {
     @Operation(summary = "대시보드 통계 조회", description = "전체 시스템의 통계 정보를 조회합니다.")
     public ResponseEntity<BaseResponse<DashboardStatsDto>> getDashboardStats() {
         try {
-            DashboardStatsDto stats = dashboardService.getDashboardStats();
+            DashboardStatsDto stats = statsCacheService.get(StatsCacheService.DASHBOARD_STATS,
+                    dashboardService::getDashboardStats);
             return ResponseEntity.ok(BaseResponse.success(stats, "대시보드 통계를 조회했습니다"));
         } catch (Exception e) {
             log.error("대시보드 통계 조회 오류", e);
@@ -2,6 +2,9 @@ package com.brotherhood.approval.controller;
 
 import com.brotherhood.approval.dto.BaseResponse;
 import com.brotherhood.approval.dto.PageResponse;
+import com.brotherhood.approval.dto.document.ContentCompressionResult;
+import com.brotherhood.approval.dto.document.DocumentBundleDto;
+import com.brotherhood.approval.dto.document.DocumentCleanupResult;
 import com.brotherhood.approval.dto.document.DocumentCreateRequest;
 import com.brotherhood.approval.dto.document.DocumentDto;
 import com.brotherhood.approval.dto.document.DocumentSearchRequest;
@@ -9,8 +12,15 @@ import com.brotherhood.approval.dto.document.DocumentUpdateRequest;
 import com.brotherhood.approval.dto.attachment.AttachmentDto;
 import com.brotherhood.approval.dto.attachment.FileUploadResponse;
 import com.brotherhood.approval.entity.Attachment;
+import com.brotherhood.approval.service.DocumentBundleService;
+import com.brotherhood.approval.service.DocumentCleanupService;
+import com.brotherhood.approval.service.DocumentCompressionService;
 import com.brotherhood.approval.service.DocumentService;
+import com.brotherhood.approval.service.DocumentVersionService;
+import com.brotherhood.approval.service.DocumentVersionService.DocumentVersion;
+import com.brotherhood.approval.service.FinalizedDocumentCache;
 import com.brotherhood.approval.service.AttachmentService;
+import com.brotherhood.approval.service.StatsCacheService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -18,12 +28,15 @@ import jakarta.annotation.PostConstruct;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
@@ -52,6 +65,12 @@ public class DocumentController {
     
     private final DocumentService documentService;
     private final AttachmentService attachmentService;
+    private final StatsCacheService statsCacheService;
+    private final DocumentCompressionService documentCompressionService;
+    private final DocumentBundleService documentBundleService;
+    private final DocumentVersionService documentVersionService;
+    private final FinalizedDocumentCache finalizedDocumentCache;
+    private final DocumentCleanupService documentCleanupService;
     
     @PostConstruct
     public void init() {
@@ -93,9 +112,27 @@ public class DocumentController {
      * 문서 조회 (ID)
      */
     @GetMapping("/{id}")
-    @Operation(summary = "문서 조회", description = "ID로 문서 정보를 조회합니다.")
-    public ResponseEntity<BaseResponse<DocumentDto>> getDocumentById(@PathVariable String id) {
+    @Operation(summary = "문서 조회", description = "ID로 문서 정보를 조회합니다. If-None-Match가 현재 ETag와 같으면 304를 반환합니다.")
+    public ResponseEntity<?> getDocumentById(@PathVariable String id, WebRequest webRequest) {
         try {
+            // 문서/결재선을 조회하기 전에 버전만 확인
+            Optional<DocumentVersion> version = documentVersionService.findVersion(id);
+            if (version.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            if (webRequest.checkNotModified(version.get().eTag(), version.get().lastModified())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+            // 승인/반려 문서는 직렬화해 둔 응답 바이트를 그대로 반환
+            if (version.get().isFinalized() && finalizedDocumentCache.isEnabled()) {
+                return finalizedDocumentCache.get(UUID.fromString(id), FinalizedDocumentCache.VIEW_DETAIL,
+                                version.get().eTag(),
+                                () -> documentService.getDocumentById(id)
+                                        .map(dto -> BaseResponse.success(dto, "문서 정보를 조회했습니다")))
+                        .<ResponseEntity<?>>map(json -> ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(json))
+                        .orElseGet(() -> ResponseEntity.notFound().build());
+            }
+            
             Optional<DocumentDto> document = documentService.getDocumentById(id);
             if (document.isPresent()) {
                 return ResponseEntity.ok(BaseResponse.success(document.get(), "문서 정보를 조회했습니다"));
@@ -109,6 +146,32 @@ public class DocumentController {
         }
     }
     
+    /**
+     * 문서 상세 묶음 조회 (문서 + 결재선 + 결재 이력 + 첨부파일 + 댓글)
+     */
+    @GetMapping("/{id}/bundle")
+    @Operation(summary = "문서 상세 묶음 조회", description = "문서 상세 화면에 필요한 결재선, 결재 이력, 첨부파일, 댓글을 한 번에 조회합니다.")
+    public ResponseEntity<BaseResponse<DocumentBundleDto>> getDocumentBundle(
+            @PathVariable String id,
+            @Parameter(description = "포함할 항목 (approvalLines, approvalHistory, attachments, comments), 생략 시 전체")
+            @RequestParam(required = false) List<String> fields) {
+        try {
+            Optional<DocumentBundleDto> bundle = documentBundleService.getBundle(id, fields);
+            if (bundle.isPresent()) {
+                return ResponseEntity.ok(BaseResponse.success(bundle.get(), "문서 상세 정보를 조회했습니다"));
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(BaseResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("문서 상세 묶음 조회 오류", e);
+            return ResponseEntity.internalServerError()
+                    .body(BaseResponse.error("문서 상세 조회 중 오류가 발생했습니다"));
+        }
+    }
+    
     /**
      * 문서 조회 (문서번호)
      */
@@ -330,6 +393,8 @@ public class DocumentController {
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                     .body(BaseResponse.error(e.getMessage()));
+        } catch (ConcurrencyFailureException e) {
+            throw e;  // 409 응답은 GlobalExceptionHandler에서 처리
         } catch (Exception e) {
             log.error("문서 상신 오류", e);
             return ResponseEntity.internalServerError()
@@ -353,6 +418,8 @@ public class DocumentController {
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                     .body(BaseResponse.error(e.getMessage()));
+        } catch (ConcurrencyFailureException e) {
+            throw e;  // 409 응답은 GlobalExceptionHandler에서 처리
         } catch (Exception e) {
             log.error("문서 승인 오류", e);
             return ResponseEntity.internalServerError()
@@ -378,6 +445,8 @@ public class DocumentController {
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                     .body(BaseResponse.error(e.getMessage()));
+        } catch (ConcurrencyFailureException e) {
+            throw e;  // 409 응답은 GlobalExceptionHandler에서 처리
         } catch (Exception e) {
             log.error("문서 반려 오류", e);
             return ResponseEntity.internalServerError()
@@ -401,6 +470,8 @@ public class DocumentController {
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                     .body(BaseResponse.error(e.getMessage()));
+        } catch (ConcurrencyFailureException e) {
+            throw e;  // 409 응답은 GlobalExceptionHandler에서 처리
         } catch (Exception e) {
             log.error("문서 회수 오류", e);
             return ResponseEntity.internalServerError()
@@ -439,20 +510,23 @@ public class DocumentController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<BaseResponse<Object>> getDocumentStats() {
         try {
-            long totalDocCount = documentService.getDocumentCount();
-            long draftDocCount = documentService.getDocumentCountByStatus("DRAFT");
-            long pendingDocCount = documentService.getDocumentCountByStatus("PENDING");
-            long approvedDocCount = documentService.getDocumentCountByStatus("APPROVED");
-            long rejectedDocCount = documentService.getDocumentCountByStatus("REJECTED");
+            Object stats = statsCacheService.get(StatsCacheService.DOCUMENT_STATS, () -> {
+                long totalDocCount = documentService.getDocumentCount();
+                long draftDocCount = documentService.getDocumentCountByStatus("DRAFT");
+                long pendingDocCount = documentService.getDocumentCountByStatus("PENDING");
+                long approvedDocCount = documentService.getDocumentCountByStatus("APPROVED");
+                long rejectedDocCount = documentService.getDocumentCountByStatus("REJECTED");
+                
+                return new Object() {
+                    public final long totalDocuments = totalDocCount;
+                    public final long draftDocuments = draftDocCount;
+                    public final long pendingDocuments = pendingDocCount;
+                    public final long approvedDocuments = approvedDocCount;
+                    public final long rejectedDocuments = rejectedDocCount;
+                };
+            });
             
-            return ResponseEntity.ok(BaseResponse.success(
-                    new Object() {
-                        public final long totalDocuments = totalDocCount;
-                        public final long draftDocuments = draftDocCount;
-                        public final long pendingDocuments = pendingDocCount;
-                        public final long approvedDocuments = approvedDocCount;
-                        public final long rejectedDocuments = rejectedDocCount;
-                    }, "문서 통계를 조회했습니다"));
+            return ResponseEntity.ok(BaseResponse.success(stats, "문서 통계를 조회했습니다"));
         } catch (Exception e) {
             log.error("문서 통계 조회 오류", e);
             return ResponseEntity.internalServerError()
@@ -553,22 +627,73 @@ public class DocumentController {
     }
     
     /**
-     * 데이터 정제: 결재선이 없는 PENDING 상태 문서를 DRAFT로 변경
+     * 데이터 정제: 결재선이 없는 PENDING 상태 문서를 DRAFT로 변경 (주기 작업을 즉시 실행)
      */
     @PostMapping("/cleanup")
-    @Operation(summary = "데이터 정제", description = "결재선이 없는 PENDING 상태 문서를 DRAFT로 변경합니다.")
+    @Operation(summary = "데이터 정제", description = "결재선이 없는 PENDING 상태 문서를 DRAFT로 변경합니다. (비동기, 주기 작업과 동일)")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<BaseResponse<String>> cleanupDocuments() {
         try {
-            documentService.cleanUpDocumentsWithoutApprovalLines();
-            return ResponseEntity.ok(BaseResponse.success("데이터 정제가 완료되었습니다", "결재선이 없는 PENDING 상태 문서가 DRAFT로 변경되었습니다"));
-        } catch (Exception e) {
-            log.error("데이터 정제 오류", e);
-            return ResponseEntity.internalServerError()
-                    .body(BaseResponse.error("데이터 정제 중 오류가 발생했습니다: " + e.getMessage()));
+            documentCleanupService.cleanUpAsync();
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(BaseResponse.success("데이터 정제가 시작되었습니다", "데이터 정제를 시작했습니다"));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(BaseResponse.error(e.getMessage()));
+        }
+    }
+    
+    /**
+     * 데이터 정제 상태 조회 (마지막 실행 결과)
+     */
+    @GetMapping("/cleanup/status")
+    @Operation(summary = "데이터 정제 상태", description = "진행 여부와 마지막 실행의 변경 문서 수, 소요 시간을 조회합니다.")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BaseResponse<Object>> getCleanupStatus() {
+        boolean inProgress = documentCleanupService.isRunning();
+        DocumentCleanupResult result = documentCleanupService.getLastResult();
+        
+        return ResponseEntity.ok(BaseResponse.success(
+                new Object() {
+                    public final boolean running = inProgress;
+                    public final DocumentCleanupResult lastResult = result;
+                }, "데이터 정제 상태를 조회했습니다"));
+    }
+    
+    /**
+     * 문서 본문 재압축 (압축 저장 도입 이전 문서)
+     */
+    @PostMapping("/recompress")
+    @Operation(summary = "본문 재압축", description = "압축되지 않은 긴 문서 본문을 ID 순서 배치로 압축해 다시 저장합니다. (비동기)")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN')")
+    public ResponseEntity<BaseResponse<String>> recompressDocuments() {
+        try {
+            documentCompressionService.recompressAsync();
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(BaseResponse.success("본문 재압축이 시작되었습니다", "본문 재압축을 시작했습니다"));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(BaseResponse.error(e.getMessage()));
         }
     }
     
+    /**
+     * 문서 본문 재압축 상태 조회 (마지막 실행 결과)
+     */
+    @GetMapping("/recompress/status")
+    @Operation(summary = "본문 재압축 상태", description = "진행 여부와 마지막 실행의 절감 바이트 수를 조회합니다.")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN')")
+    public ResponseEntity<BaseResponse<Object>> getRecompressStatus() {
+        boolean inProgress = documentCompressionService.isRunning();
+        ContentCompressionResult result = documentCompressionService.getLastResult();
+        
+        return ResponseEntity.ok(BaseResponse.success(
+                new Object() {
+                    public final boolean running = inProgress;
+                    public final ContentCompressionResult lastResult = result;
+                }, "본문 재압축 상태를 조회했습니다"));
+    }
+    
     /**
      * SecurityContext에서 현재 사용자 ID 추출
      */
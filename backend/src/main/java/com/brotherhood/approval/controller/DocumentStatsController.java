@@ -2,15 +2,25 @@ package com.brotherhood.approval.controller;
 
 import com.brotherhood.approval.dto.BaseResponse;
 import com.brotherhood.approval.dto.stats.DocumentStatsResponse;
+import com.brotherhood.approval.dto.stats.StatsCacheStatistics;
+import com.brotherhood.approval.dto.stats.StatsConsistencyReport;
+import com.brotherhood.approval.dto.stats.StatsRollupResult;
+import com.brotherhood.approval.service.DocumentStatsRollupService;
 import com.brotherhood.approval.service.DocumentStatsService;
+import com.brotherhood.approval.service.StatsCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * 문서 통계 컨트롤러
  * 
@@ -25,6 +35,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class DocumentStatsController {
     
     private final DocumentStatsService documentStatsService;
+    private final DocumentStatsRollupService documentStatsRollupService;
+    private final StatsCacheService statsCacheService;
     
     /**
      * 문서 통계 조회
@@ -52,4 +64,71 @@ public class DocumentStatsController {
                             .build());
         }
     }
+    
+    /**
+     * 일별 통계 집계 백필 (전체 재집계)
+     */
+    @PostMapping("/documents/rollup/backfill")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN')")
+    public ResponseEntity<BaseResponse<StatsRollupResult>> backfillRollup() {
+        try {
+            StatsRollupResult result = documentStatsRollupService.backfill();
+            return ResponseEntity.ok(BaseResponse.success(result, "일별 통계 백필이 완료되었습니다"));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(BaseResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("일별 통계 백필 실패", e);
+            return ResponseEntity.internalServerError()
+                    .body(BaseResponse.error("일별 통계 백필 중 오류가 발생했습니다"));
+        }
+    }
+    
+    /**
+     * 일별 통계 증분 집계 즉시 실행
+     */
+    @PostMapping("/documents/rollup/refresh")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN')")
+    public ResponseEntity<BaseResponse<StatsRollupResult>> refreshRollup() {
+        try {
+            StatsRollupResult result = documentStatsRollupService.refreshIncremental();
+            return ResponseEntity.ok(BaseResponse.success(result, "일별 통계 증분 집계가 완료되었습니다"));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(BaseResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("일별 통계 증분 집계 실패", e);
+            return ResponseEntity.internalServerError()
+                    .body(BaseResponse.error("일별 통계 증분 집계 중 오류가 발생했습니다"));
+        }
+    }
+    
+    /**
+     * 일별 통계 정합성 검사 (원본 문서 수와 비교)
+     */
+    @GetMapping("/documents/rollup/consistency")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN')")
+    public ResponseEntity<BaseResponse<StatsConsistencyReport>> checkRollupConsistency(
+            @RequestParam(defaultValue = "false") boolean repair) {
+        try {
+            StatsConsistencyReport report = documentStatsRollupService.checkConsistency(repair);
+            return ResponseEntity.ok(BaseResponse.success(report, "일별 통계 정합성 검사가 완료되었습니다"));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(BaseResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("일별 통계 정합성 검사 실패", e);
+            return ResponseEntity.internalServerError()
+                    .body(BaseResponse.error("일별 통계 정합성 검사 중 오류가 발생했습니다"));
+        }
+    }
+    
+    /**
+     * 통계 캐시 지표 조회 (적중/미스/계산 시간)
+     */
+    @GetMapping("/cache")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN')")
+    public ResponseEntity<BaseResponse<List<StatsCacheStatistics>>> getStatsCacheStatistics() {
+        return ResponseEntity.ok(BaseResponse.success(statsCacheService.getStatistics(), "통계 캐시 지표를 조회했습니다"));
+    }
 }
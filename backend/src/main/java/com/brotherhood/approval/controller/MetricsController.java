@@ -0,0 +1,84 @@
+package com.brotherhood.approval.controller;
+
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Set;
+
+/**
+ * 메트릭 컨트롤러 (Prometheus 수집용)
+ * 
+ * 캐시/결재/커넥션 풀 내부 지표가 노출되므로 기본적으로 닫혀 있다.
+ * - 수집 토큰이 설정되어 있으면 Authorization: Bearer {token}으로 접근
+ * - 그 외에는 ADMIN/SUPER_ADMIN 사용자만 접근 (토큰 미설정 시 익명 요청은 401)
+ * 
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@RestController
+@RequestMapping("/api/metrics")
+@RequiredArgsConstructor
+@Tag(name = "메트릭", description = "Prometheus 메트릭 노출 API")
+public class MetricsController {
+    
+    private static final Set<String> ADMIN_AUTHORITIES = Set.of("ROLE_ADMIN", "ROLE_SUPER_ADMIN");
+    
+    private static final MediaType PROMETHEUS_TEXT = MediaType.parseMediaType("text/plain; version=0.0.4; charset=utf-8");
+    
+    private final PrometheusMeterRegistry prometheusMeterRegistry;
+    
+    /**
+     * 수집 토큰 (비어 있으면 관리자 인증으로만 접근 가능)
+     */
+    @Value("${metrics.prometheus.token:}")
+    private String scrapeToken;
+    
+    /**
+     * Prometheus 텍스트 형식 메트릭
+     */
+    @GetMapping("/prometheus")
+    @Operation(summary = "Prometheus 메트릭", description = "Prometheus 텍스트 형식으로 메트릭을 반환합니다.")
+    public ResponseEntity<String> scrape(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        if (!isValidToken(authorization) && !isAdmin()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        
+        return ResponseEntity.ok()
+                .contentType(PROMETHEUS_TEXT)
+                .body(prometheusMeterRegistry.scrape());
+    }
+    
+    private boolean isValidToken(String authorization) {
+        if (scrapeToken.isEmpty() || authorization == null || !authorization.startsWith("Bearer ")) {
+            return false;
+        }
+        byte[] expected = scrapeToken.getBytes(StandardCharsets.UTF_8);
+        byte[] actual = authorization.substring(7).getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(expected, actual);
+    }
+    
+    private boolean isAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated()
+                && authentication.getAuthorities().stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .anyMatch(authority -> ADMIN_AUTHORITIES.contains(authority));
+    }
+}
@@ -0,0 +1,86 @@
+package com.brotherhood.approval.controller;
+
+import com.brotherhood.approval.dto.BaseResponse;
+import com.brotherhood.approval.dto.search.DocumentSearchResponse;
+import com.brotherhood.approval.dto.search.SearchRequest;
+import com.brotherhood.approval.service.DocumentSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 검색 컨트롤러
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "search.lucene", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Tag(name = "검색", description = "문서 전문 검색 관련 API")
+public class SearchController {
+
+    private final DocumentSearchService documentSearchService;
+
+    /**
+     * 문서 전문 검색
+     */
+    @PostMapping("/documents")
+    @Operation(summary = "문서 전문 검색", description = "제목, 내용, 댓글, 첨부파일을 대상으로 검색하고 패싯 집계를 함께 반환합니다.")
+    public ResponseEntity<BaseResponse<DocumentSearchResponse>> searchDocuments(@RequestBody SearchRequest request) {
+        try {
+            DocumentSearchResponse response = documentSearchService.search(request);
+            return ResponseEntity.ok(BaseResponse.success(response, "문서 검색이 완료되었습니다"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(BaseResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("문서 검색 오류", e);
+            return ResponseEntity.internalServerError()
+                    .body(BaseResponse.error("문서 검색 중 오류가 발생했습니다"));
+        }
+    }
+
+    /**
+     * 검색 색인 재구성
+     */
+    @PostMapping("/reindex")
+    @Operation(summary = "검색 색인 재구성", description = "전체 문서를 배치 단위로 다시 색인합니다. (비동기)")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BaseResponse<String>> rebuildIndex() {
+        try {
+            documentSearchService.rebuildIndexAsync();
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(BaseResponse.success("색인 재구성이 시작되었습니다", "검색 색인 재구성을 시작했습니다"));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(BaseResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * 검색 색인 상태 조회
+     */
+    @GetMapping("/status")
+    @Operation(summary = "검색 색인 상태", description = "색인된 문서 수와 재구성 진행 여부를 조회합니다.")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BaseResponse<Object>> getIndexStatus() {
+        long indexedCount = documentSearchService.getIndexedDocumentCount();
+        boolean rebuilding = documentSearchService.isRebuilding();
+
+        return ResponseEntity.ok(BaseResponse.success(
+                new Object() {
+                    public final long indexedDocuments = indexedCount;
+                    public final boolean rebuildInProgress = rebuilding;
+                }, "검색 색인 상태를 조회했습니다"));
+    }
+}
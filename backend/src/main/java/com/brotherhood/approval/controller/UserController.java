@@ -5,8 +5,11 @@ import com.brotherhood.approval.dto.PageResponse;
 import com.brotherhood.approval.dto.user.UserCreateRequest;
 import com.brotherhood.approval.dto.user.UserDto;
 import com.brotherhood.approval.dto.user.UserSearchRequest;
+import com.brotherhood.approval.dto.user.UserSuggestionDto;
 import com.brotherhood.approval.dto.user.UserUpdateRequest;
 import com.brotherhood.approval.service.UserService;
+import com.brotherhood.approval.service.StatsCacheService;
+import com.brotherhood.approval.service.UserSuggestService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -40,6 +43,8 @@ import java.util.Optional;
 public class UserController {
     
     private final UserService userService;
+    private final UserSuggestService userSuggestService;
+    private final StatsCacheService statsCacheService;
     
     @PostConstruct
     public void init() {
@@ -144,6 +149,29 @@ public class UserController {
         }
     }
     
+    /**
+     * 사용자 자동완성 (결재자 선택)
+     */
+    @GetMapping("/suggest")
+    @Operation(summary = "사용자 자동완성", description = "이름/세례명/로그인 ID/이메일/지사명 접두어 또는 이름 초성으로 사용자를 찾습니다.")
+    public ResponseEntity<BaseResponse<List<UserSuggestionDto>>> suggestUsers(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String branchId,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            List<UserSuggestionDto> suggestions = userSuggestService.suggest(q, role, branchId, limit);
+            return ResponseEntity.ok(BaseResponse.success(suggestions, "사용자 자동완성 결과를 조회했습니다"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(BaseResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("사용자 자동완성 오류", e);
+            return ResponseEntity.internalServerError()
+                    .body(BaseResponse.error("사용자 자동완성 중 오류가 발생했습니다"));
+        }
+    }
+    
     /**
      * 지사별 사용자 목록 조회
      */
@@ -267,14 +295,17 @@ public class UserController {
     @Operation(summary = "사용자 통계", description = "사용자 관련 통계를 조회합니다.")
     public ResponseEntity<BaseResponse<Object>> getUserStats() {
         try {
-            long totalUserCount = userService.getUserCount();
-            long activeUserCount = userService.getActiveUserCount();
+            Object stats = statsCacheService.get(StatsCacheService.USER_STATS, () -> {
+                long totalUserCount = userService.getUserCount();
+                long activeUserCount = userService.getActiveUserCount();
+                
+                return new Object() {
+                    public final long totalUsers = totalUserCount;
+                    public final long activeUsers = activeUserCount;
+                };
+            });
             
-            return ResponseEntity.ok(BaseResponse.success(
-                    new Object() {
-                        public final long totalUsers = totalUserCount;
-                        public final long activeUsers = activeUserCount;
-                    }, "사용자 통계를 조회했습니다"));
+            return ResponseEntity.ok(BaseResponse.success(stats, "사용자 통계를 조회했습니다"));
         } catch (Exception e) {
             log.error("사용자 통계 조회 오류", e);
             return ResponseEntity.internalServerError()
@@ -0,0 +1,42 @@
+package com.brotherhood.approval.dto.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 문서 본문 재압축 실행 결과 DTO
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentCompressionResult {
+
+    // 검사한 (압축되지 않은 긴 본문) 문서 수
+    private Long scannedDocuments;
+
+    // 압축해서 저장한 문서 수
+    private Long compressedDocuments;
+
+    // 압축 이득이 없거나 도중에 수정되어 건너뛴 문서 수
+    private Long skippedDocuments;
+
+    // 압축 전후 저장 크기 (UTF-8 바이트)
+    private Long bytesBefore;
+
+    private Long bytesAfter;
+
+    private Long bytesSaved;
+
+    private LocalDateTime finishedAt;
+
+    private Long durationMillis;
+}
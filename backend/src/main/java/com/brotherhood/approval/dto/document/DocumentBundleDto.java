@@ -0,0 +1,43 @@
+package com.brotherhood.approval.dto.document;
+
+import com.brotherhood.approval.dto.approval.ApprovalHistoryDto;
+import com.brotherhood.approval.dto.approval.ApprovalLineDto;
+import com.brotherhood.approval.dto.attachment.AttachmentDto;
+import com.brotherhood.approval.dto.comment.CommentDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 문서 상세 화면 묶음 DTO
+ *
+ * 요청에서 제외한 항목은 null로 두고 응답에서 생략한다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DocumentBundleDto {
+
+    private DocumentDto document;
+
+    // 결재선 (결재단계 포함)
+    private List<ApprovalLineDto> approvalLines;
+
+    // 결재 이력 (최신순)
+    private List<ApprovalHistoryDto> approvalHistory;
+
+    private List<AttachmentDto> attachments;
+
+    // 최상위 댓글 (답글은 replies에 포함, 최신순)
+    private List<CommentDto> comments;
+}
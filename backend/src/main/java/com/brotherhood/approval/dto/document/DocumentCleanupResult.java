@@ -0,0 +1,32 @@
+package com.brotherhood.approval.dto.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결재선 없는 PENDING 문서 정제 실행 결과 DTO
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentCleanupResult {
+
+    // DRAFT로 변경한 문서 수
+    private Long draftedDocuments;
+
+    // 처리한 배치 수
+    private Integer batches;
+
+    private LocalDateTime finishedAt;
+
+    private Long durationMillis;
+}
@@ -0,0 +1,55 @@
+package com.brotherhood.approval.dto.document;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 문서 목록 프로젝션
+ *
+ * 목록 화면용으로 본문(content)과 반려사유 같은 TEXT 컬럼을 제외하고,
+ * 작성자/지사 정보를 JPQL 생성자 표현식 조인으로 한 번에 조회한다.
+ * (엔티티를 적재하지 않으므로 행마다 작성자/지사 지연 로딩이 일어나지 않는다)
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+public record DocumentSummary(
+        UUID id,
+        String title,
+        String status,
+        String documentType,
+        String securityLevel,
+        String priority,
+        String documentNumber,
+        Integer version,
+        Boolean isFinal,
+        LocalDateTime submittedAt,
+        LocalDateTime approvedAt,
+        LocalDateTime rejectedAt,
+        LocalDateTime dueDate,
+        UUID authorId,
+        String authorName,
+        String authorBaptismalName,
+        UUID branchId,
+        String branchName,
+        String branchCode,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    /**
+     * JPQL 생성자 표현식 (리포지토리 쿼리에서 공통으로 사용)
+     */
+    public static final String SELECT = "SELECT new com.brotherhood.approval.dto.document.DocumentSummary(" +
+            "d.id, d.title, d.status, d.documentType, d.securityLevel, d.priority, d.documentNumber, " +
+            "d.version, d.isFinal, d.submittedAt, d.approvedAt, d.rejectedAt, d.dueDate, " +
+            "a.id, a.name, a.baptismalName, b.id, b.name, b.code, d.createdAt, d.updatedAt) " +
+            "FROM Document d JOIN d.author a JOIN d.branch b ";
+
+    /**
+     * 작성자 표시 이름 (User.getDisplayName()과 동일한 형식)
+     */
+    public String authorDisplayName() {
+        return authorName + " (" + authorBaptismalName + ")";
+    }
+}
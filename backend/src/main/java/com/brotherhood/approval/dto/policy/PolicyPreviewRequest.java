@@ -0,0 +1,62 @@
+package com.brotherhood.approval.dto.policy;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 결재선 미리보기 요청 DTO
+ *
+ * 저장된 문서(documentIds)와 저장하지 않은 문서 속성(documents)을 함께 보낼 수 있다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyPreviewRequest {
+
+    @Size(max = 5000, message = "한 번에 5000건까지 미리볼 수 있습니다")
+    @Builder.Default
+    private List<String> documentIds = new ArrayList<>();
+
+    @Valid
+    @Size(max = 5000, message = "한 번에 5000건까지 미리볼 수 있습니다")
+    @Builder.Default
+    private List<DocumentAttributes> documents = new ArrayList<>();
+
+    /**
+     * 문서 속성 (정책 조건식에서 이름으로 참조)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DocumentAttributes {
+
+        /**
+         * 식별용 (선택)
+         */
+        private String documentId;
+
+        private String documentType;
+        private String securityLevel;
+        private String priority;
+        private String branchId;
+
+        /**
+         * 추가 속성 (예: amount)
+         */
+        private Map<String, Object> attributes;
+    }
+}
@@ -0,0 +1,64 @@
+package com.brotherhood.approval.dto.policy;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 결재선 미리보기 응답 DTO
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyPreviewResponse {
+
+    private List<Result> results;
+
+    // 찾을 수 없는 문서 ID
+    private List<String> missingDocumentIds;
+
+    private Long elapsedMillis;
+
+    /**
+     * 문서별 결재선
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+        private String documentId;
+        private String policyId;
+        private String policyName;
+        private String policyVersion;
+        // 일치하는 정책이 없어 기본 정책을 사용했는지
+        private Boolean fallback;
+        private List<Step> steps;
+    }
+
+    /**
+     * 결재단계 (결재자를 찾지 못하면 approverId는 null)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Step {
+        private Integer stepOrder;
+        private String roleName;
+        private String branchId;
+        private String approverId;
+        private Boolean isRequired;
+        private Boolean isDelegatable;
+        private Integer maxDelegationLevel;
+        private String conditionExpression;
+    }
+}
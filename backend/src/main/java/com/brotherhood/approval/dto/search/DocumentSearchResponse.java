@@ -0,0 +1,32 @@
+package com.brotherhood.approval.dto.search;
+
+import com.brotherhood.approval.dto.PageResponse;
+import com.brotherhood.approval.dto.document.DocumentDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 문서 검색 응답 DTO
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentSearchResponse {
+
+    private PageResponse<DocumentDto> documents;
+
+    /**
+     * 패싯 집계 (차원 → 값 → 건수)
+     * - status, branchId, documentType, securityLevel
+     */
+    private Map<String, Map<String, Long>> facets;
+}
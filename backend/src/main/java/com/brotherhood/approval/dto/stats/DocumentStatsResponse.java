@@ -88,8 +88,45 @@ public class DocumentStatsResponse {
     public static class ProcessingTimeStats {
         private Double averageDays;
         private Double medianDays;
+        private Double p90Days;
+        private Double p99Days;
         private Long longestProcessing;
         private Long quickestProcessing;
+        private Long sampleCount;
+        
+        // 산출 방식 (SQL: percentile_cont, SKETCH: HdrHistogram 근사치)
+        private String method;
+        
+        private List<ProcessingTimeBreakdown> byDocumentType;
+        private List<ProcessingTimeBreakdown> byBranch;
+        private List<StepDwellTime> stepDwellTimes;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProcessingTimeBreakdown {
+        private String key;
+        private String label;
+        private Long count;
+        private Double averageDays;
+        private Double medianDays;
+        private Double p90Days;
+        private Double p99Days;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StepDwellTime {
+        private Integer stepOrder;
+        private Long count;
+        private Double averageHours;
+        private Double medianHours;
+        private Double p90Hours;
+        private Double p99Hours;
     }
     
     @Data
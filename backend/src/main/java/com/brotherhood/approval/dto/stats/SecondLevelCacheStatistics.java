@@ -0,0 +1,31 @@
+package com.brotherhood.approval.dto.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Hibernate 2차 캐시 영역 지표 DTO
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SecondLevelCacheStatistics {
+
+    private String region;
+
+    private Long hits;
+    private Long misses;
+    private Long puts;
+
+    // 메모리에 있는 항목 수 (캐시 구현이 지원하지 않으면 null)
+    private Long elementCount;
+
+    private Double hitRatio;
+}
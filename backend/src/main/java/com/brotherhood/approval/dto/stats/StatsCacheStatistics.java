@@ -0,0 +1,41 @@
+package com.brotherhood.approval.dto.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 통계 캐시 지표 DTO (캐시 키 단위)
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatsCacheStatistics {
+
+    private String key;
+
+    // 유효 기간 내 적중
+    private Long hits;
+
+    // 만료 후 이전 값 반환 (백그라운드 갱신)
+    private Long staleHits;
+
+    // 값이 없어 직접 계산을 기다린 요청
+    private Long misses;
+
+    private Long loads;
+    private Long loadFailures;
+    private Double averageLoadMillis;
+    private Long lastLoadMillis;
+
+    // 현재 값의 경과 시간 (값이 없으면 null)
+    private Long ageSeconds;
+
+    private Double hitRatio;
+}
@@ -0,0 +1,44 @@
+package com.brotherhood.approval.dto.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 통계 집계 정합성 검사 결과 DTO
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatsConsistencyReport {
+
+    private Boolean consistent;
+    private Integer checkedDays;
+    private Integer mismatchCount;
+
+    // 불일치 항목 (최대 100건)
+    private List<Mismatch> mismatches;
+
+    // 불일치 일자를 다시 집계했는지 여부
+    private Boolean repaired;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Mismatch {
+        private LocalDate date;
+        private String status;
+        private Long expected;
+        private Long actual;
+    }
+}
@@ -0,0 +1,36 @@
+package com.brotherhood.approval.dto.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통계 집계 실행 결과 DTO
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatsRollupResult {
+
+    // 실행 유형 (INCREMENTAL, BACKFILL, REPAIR)
+    private String mode;
+
+    // 다시 집계한 일수
+    private Integer recomputedDays;
+
+    // 생성된 집계 행 수
+    private Integer insertedRows;
+
+    // 새 워터마크
+    private LocalDateTime watermark;
+
+    private Long durationMillis;
+}
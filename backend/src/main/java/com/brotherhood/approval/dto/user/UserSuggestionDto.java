@@ -0,0 +1,33 @@
+package com.brotherhood.approval.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 자동완성 DTO (결재자 선택용)
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSuggestionDto {
+
+    private String id;
+    private String name;
+    private String baptismalName;
+    private String loginId;
+    private String email;
+    private String displayName;
+    private String branchId;
+    private String branchName;
+    private String branchCode;
+    private List<String> roles;
+}
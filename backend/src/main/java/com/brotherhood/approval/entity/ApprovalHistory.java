@@ -1,10 +1,13 @@
 package com.brotherhood.approval.entity;
 
+import com.brotherhood.approval.entity.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -20,7 +23,9 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "approval_histories")
-@Data
+@Getter
+@Setter
+@ToString
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -28,7 +33,7 @@ import java.util.UUID;
 public class ApprovalHistory {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
     
     @Column(name = "action", nullable = false, length = 20)
@@ -76,6 +81,23 @@ public class ApprovalHistory {
     private String delegatedToDisplayName;
     
     
+    // 식별자 기반 동등성
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ApprovalHistory other)) {
+            return false;
+        }
+        return id != null && id.equals(other.getId());
+    }
+    
+    @Override
+    public int hashCode() {
+        return ApprovalHistory.class.hashCode();
+    }
+    
     // Approval Action Constants
     public static class Action {
         public static final String APPROVE = "APPROVE";
@@ -1,10 +1,14 @@
 package com.brotherhood.approval.entity;
 
+import com.brotherhood.approval.entity.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -23,7 +27,9 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "approval_lines")
-@Data
+@Getter
+@Setter
+@ToString
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -31,7 +37,7 @@ import java.util.UUID;
 public class ApprovalLine {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
     
     @Column(name = "name", nullable = false)
@@ -53,16 +59,33 @@ public class ApprovalLine {
     
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "created_by", nullable = false)
+    @ToString.Exclude
     private User createdBy;
     
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "document_id", nullable = false)
+    @ToString.Exclude
     private Document document;
     
     @OneToMany(mappedBy = "approvalLine", cascade = {}, fetch = FetchType.LAZY)
     @Builder.Default
+    @ToString.Exclude
     private Set<ApprovalStep> approvalSteps = new HashSet<>();
     
+    /**
+     * 남은 필수 결재단계 수 (null이면 아직 집계 전)
+     */
+    @Column(name = "remaining_required_steps")
+    private Integer remainingRequiredSteps;
+    
+    /**
+     * 낙관적 잠금 버전 (병렬 결재단계 동시 승인 시 카운터 갱신 충돌 감지)
+     */
+    @Version
+    @Column(name = "lock_version", nullable = false)
+    @ColumnDefault("0")
+    private Long lockVersion;  // 저장 전에는 null이어야 save()가 새 엔티티로 보고 persist한다
+    
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -71,6 +94,23 @@ public class ApprovalLine {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    // 식별자 기반 동등성
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ApprovalLine other)) {
+            return false;
+        }
+        return id != null && id.equals(other.getId());
+    }
+    
+    @Override
+    public int hashCode() {
+        return ApprovalLine.class.hashCode();
+    }
+    
     // Approval Line Type Enum
     public enum ApprovalLineType {
         SEQUENTIAL("순차"),
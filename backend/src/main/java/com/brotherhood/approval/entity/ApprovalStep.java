@@ -1,10 +1,14 @@
 package com.brotherhood.approval.entity;
 
+import com.brotherhood.approval.entity.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -21,7 +25,9 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "approval_steps")
-@Data
+@Getter
+@Setter
+@ToString
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -29,11 +35,12 @@ import java.util.UUID;
 public class ApprovalStep {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
     
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "approval_line_id", nullable = false)
+    @ToString.Exclude
     private ApprovalLine approvalLine;
     
     @Column(name = "step_order", nullable = false)
@@ -41,6 +48,7 @@ public class ApprovalStep {
     
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "approver_id", nullable = false)
+    @ToString.Exclude
     private User approver;
     
     @Column(name = "approver_type", nullable = false, length = 20)
@@ -75,6 +83,7 @@ public class ApprovalStep {
     
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "alternate_approver_id")
+    @ToString.Exclude
     private User alternateApprover;
     
     @Column(name = "comments", columnDefinition = "TEXT")
@@ -89,6 +98,14 @@ public class ApprovalStep {
     @Column(name = "delegated_at")
     private LocalDateTime delegatedAt;
     
+    /**
+     * 낙관적 잠금 버전 (상태 전이는 조건부 UPDATE에서 직접 증가)
+     */
+    @Version
+    @Column(name = "lock_version", nullable = false)
+    @ColumnDefault("0")
+    private Long lockVersion;  // 저장 전에는 null이어야 save()가 새 엔티티로 보고 persist한다
+    
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -106,6 +123,23 @@ public class ApprovalStep {
         return alternateApprover != null ? alternateApprover.getId() : null;
     }
     
+    // 식별자 기반 동등성
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ApprovalStep other)) {
+            return false;
+        }
+        return id != null && id.equals(other.getId());
+    }
+    
+    @Override
+    public int hashCode() {
+        return ApprovalStep.class.hashCode();
+    }
+    
     // Status Constants
     public static class Status {
         public static final String PENDING = "PENDING";
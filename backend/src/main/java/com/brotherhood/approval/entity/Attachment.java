@@ -1,10 +1,13 @@
 package com.brotherhood.approval.entity;
 
+import com.brotherhood.approval.entity.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -20,7 +23,9 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "attachments")
-@Data
+@Getter
+@Setter
+@ToString
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -28,7 +33,7 @@ import java.util.UUID;
 public class Attachment {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
     
     @Column(name = "filename", nullable = false, length = 255)
@@ -61,10 +66,12 @@ public class Attachment {
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "document_id", nullable = false)
+    @ToString.Exclude
     private Document document;
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "uploaded_by", nullable = false)
+    @ToString.Exclude
     private User uploadedBy;
     
     @Column(name = "uploaded_at", nullable = false, updatable = false)
@@ -85,4 +92,21 @@ public class Attachment {
     public UUID getUploadedById() {
         return uploadedBy != null ? uploadedBy.getId() : null;
     }
+    
+    // 식별자 기반 동등성
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Attachment other)) {
+            return false;
+        }
+        return id != null && id.equals(other.getId());
+    }
+    
+    @Override
+    public int hashCode() {
+        return Attachment.class.hashCode();
+    }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package com.brotherhood.approval.entity;
 
+import com.brotherhood.approval.entity.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -20,7 +23,9 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "audit_logs")
-@Data
+@Getter
+@Setter
+@ToString
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -28,7 +33,7 @@ import java.util.UUID;
 public class AuditLog {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
     
     @Column(name = "action", nullable = false, length = 50)
@@ -66,6 +71,7 @@ public class AuditLog {
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
+    @ToString.Exclude
     private User user;
     
     @CreatedDate
@@ -76,4 +82,21 @@ public class AuditLog {
     public UUID getUserId() {
         return user != null ? user.getId() : null;
     }
+    
+    // 식별자 기반 동등성
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AuditLog other)) {
+            return false;
+        }
+        return id != null && id.equals(other.getId());
+    }
+    
+    @Override
+    public int hashCode() {
+        return AuditLog.class.hashCode();
+    }
 }
\ No newline at end of file
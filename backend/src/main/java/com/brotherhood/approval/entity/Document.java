@@ -1,10 +1,16 @@
 package com.brotherhood.approval.entity;
 
+import com.brotherhood.approval.entity.converter.CompressedTextConverter;
+import com.brotherhood.approval.entity.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.LazyGroup;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -23,7 +29,9 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "documents")
-@Data
+@Getter
+@Setter
+@ToString
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -31,13 +39,22 @@ import java.util.UUID;
 public class Document {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
     
     @Column(name = "title", nullable = false, length = 200)
     private String title;
     
+    /**
+     * 본문 (지연 로딩, 빌드 시 Hibernate 바이트코드 향상이 적용되어야 동작)
+     * - 상태 전이/삭제처럼 본문을 읽지 않는 경로에서 TEXT 컬럼을 적재하지 않는다
+     * - 임계 길이 이상이면 압축해서 저장한다 ({@link CompressedTextConverter})
+     */
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("content")
+    @Convert(converter = CompressedTextConverter.class)
     @Column(name = "content", columnDefinition = "TEXT")
+    @ToString.Exclude
     private String content;
     
     @Column(name = "document_type", nullable = false, length = 50)
@@ -62,12 +79,36 @@ public class Document {
     @Builder.Default
     private Integer version = 1;
     
+    /**
+     * 낙관적 잠금 버전 (업무상 문서 버전인 version과 별개)
+     */
+    @Version
+    @Column(name = "lock_version", nullable = false)
+    @ColumnDefault("0")
+    private Long lockVersion;  // 저장 전에는 null이어야 save()가 새 엔티티로 보고 persist한다
+    
+    /**
+     * 변경 카운터 (결재선/결재단계/결재 이력이 바뀔 때마다 증가, 조건부 GET의 ETag에 사용)
+     * - 문서 행 자체는 바뀌지 않는 결재 액션(위임, 결재단계 추가 등)도 캐시를 무효화하기 위한 값
+     */
+    @Column(name = "change_counter", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long changeCounter = 0L;
+    
+    /**
+     * 모든 결재선의 남은 필수 결재단계 수 (null이면 아직 집계 전)
+     */
+    @Column(name = "remaining_required_steps")
+    private Integer remainingRequiredSteps;
+    
     @Column(name = "is_final", nullable = false)
     @Builder.Default
     private Boolean isFinal = false;
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_document_id")
+    @ToString.Exclude
     private Document parentDocument;
     
     @Column(name = "submitted_at")
@@ -79,7 +120,19 @@ public class Document {
     @Column(name = "rejected_at")
     private LocalDateTime rejectedAt;
     
+    /**
+     * 회수 시각 (회수로 DRAFT가 된 경우에만 값이 있고, 다시 상신하면 초기화)
+     */
+    @Column(name = "recalled_at")
+    private LocalDateTime recalledAt;
+    
+    /**
+     * 반려사유 (지연 로딩, 본문과 다른 그룹이라 함께 적재되지 않음)
+     */
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("rejection")
     @Column(name = "rejection_reason", columnDefinition = "TEXT")
+    @ToString.Exclude
     private String rejectionReason;
     
     @Column(name = "due_date")
@@ -87,22 +140,27 @@ public class Document {
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
+    @ToString.Exclude
     private User author;
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "branch_id", nullable = false)
+    @ToString.Exclude
     private Branch branch;
     
     @OneToMany(mappedBy = "document", cascade = {}, fetch = FetchType.LAZY)
     @Builder.Default
+    @ToString.Exclude
     private Set<ApprovalLine> approvalLines = new HashSet<>();
     
     @OneToMany(mappedBy = "document", cascade = {}, fetch = FetchType.LAZY)
     @Builder.Default
+    @ToString.Exclude
     private Set<Comment> comments = new HashSet<>();
     
     @OneToMany(mappedBy = "document", cascade = {}, fetch = FetchType.LAZY)
     @Builder.Default
+    @ToString.Exclude
     private Set<Attachment> attachments = new HashSet<>();
     
     @CreatedDate
@@ -126,6 +184,27 @@ public class Document {
         return parentDocument != null ? parentDocument.getId() : null;
     }
     
+    /**
+     * ID가 같으면 같은 문서 (저장 전에는 자기 자신과만 같음)
+     * - 해시는 저장 전후나 프록시 여부와 관계없이 같도록 클래스 기준으로 고정한다
+     * - 연관관계와 지연 로딩 필드를 건드리지 않으므로 해시/로그 출력이 SQL을 유발하지 않는다
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Document other)) {
+            return false;
+        }
+        return id != null && id.equals(other.getId());
+    }
+    
+    @Override
+    public int hashCode() {
+        return Document.class.hashCode();
+    }
+    
     // Document Status Constants
     public static class Status {
         public static final String DRAFT = "DRAFT";
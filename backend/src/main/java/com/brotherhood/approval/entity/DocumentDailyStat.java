@@ -0,0 +1,59 @@
+package com.brotherhood.approval.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일별 문서 통계 집계 엔티티
+ *
+ * 문서 생성일 기준으로 지사/유형/상태/보안등급별 문서 수를 미리 집계해 둔 롤업 테이블.
+ * 행은 {@link com.brotherhood.approval.service.DocumentStatsRollupService}가 일 단위로 다시 계산한다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Entity
+@Table(name = "document_daily_stats",
+       indexes = @Index(name = "idx_document_daily_stats_branch", columnList = "branch_id, stat_date"))
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentDailyStat {
+
+    @EmbeddedId
+    private DocumentDailyStatId id;
+
+    @Column(name = "document_count", nullable = false)
+    private Long documentCount;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+
+    // 식별자 기반 동등성
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DocumentDailyStat other)) {
+            return false;
+        }
+        return id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return DocumentDailyStat.class.hashCode();
+    }
+}
@@ -1,10 +1,13 @@
 package com.brotherhood.approval.entity;
 
+import com.brotherhood.approval.entity.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -20,7 +23,9 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "policies")
-@Data
+@Getter
+@Setter
+@ToString
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -28,7 +33,7 @@ import java.time.LocalDateTime;
 public class Policy {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private String id;
     
     @Column(name = "name", nullable = false)
@@ -49,6 +54,7 @@ public class Policy {
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by", nullable = false)
+    @ToString.Exclude
     private User createdBy;
     
     @CreatedDate
@@ -59,6 +65,23 @@ public class Policy {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    // 식별자 기반 동등성
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Policy other)) {
+            return false;
+        }
+        return id != null && id.equals(other.getId());
+    }
+    
+    @Override
+    public int hashCode() {
+        return Policy.class.hashCode();
+    }
+    
     // Policy Type Enum
     public enum PolicyType {
         APPROVAL_LINE("결재선"),
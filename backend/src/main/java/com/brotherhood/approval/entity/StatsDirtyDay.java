@@ -0,0 +1,64 @@
+package com.brotherhood.approval.entity;
+
+import com.brotherhood.approval.entity.id.UuidV7;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 통계 재집계 대상 일자 엔티티
+ *
+ * 문서가 삭제되면 원본 행이 남지 않아 워터마크로는 변경을 찾을 수 없으므로,
+ * 삭제 트랜잭션에서 문서 생성일을 기록해 두고 다음 증분 집계가 가져가 다시 계산한다.
+ * 같은 일자가 여러 번 기록될 수 있다 (집계 시 중복 제거).
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Entity
+@Table(name = "stats_dirty_days",
+       indexes = @Index(name = "idx_stats_dirty_days_marked_at", columnList = "marked_at"))
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatsDirtyDay {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "marked_at", nullable = false)
+    private LocalDateTime markedAt;
+
+    // 식별자 기반 동등성
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof StatsDirtyDay other)) {
+            return false;
+        }
+        return id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return StatsDirtyDay.class.hashCode();
+    }
+}
@@ -0,0 +1,61 @@
+package com.brotherhood.approval.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통계 집계 워터마크 엔티티
+ *
+ * 증분 집계 작업이 마지막으로 반영한 시각을 작업 이름별로 보관한다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Entity
+@Table(name = "stats_watermarks")
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatsWatermark {
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "watermark", nullable = false)
+    private LocalDateTime watermark;
+
+    @Column(name = "last_run_at")
+    private LocalDateTime lastRunAt;
+
+    @Column(name = "last_run_millis")
+    private Long lastRunMillis;
+
+    // 식별자 기반 동등성
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof StatsWatermark other)) {
+            return false;
+        }
+        return name != null && name.equals(other.getName());
+    }
+
+    @Override
+    public int hashCode() {
+        return StatsWatermark.class.hashCode();
+    }
+}
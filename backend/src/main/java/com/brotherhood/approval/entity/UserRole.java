@@ -1,10 +1,16 @@
 package com.brotherhood.approval.entity;
 
+import com.brotherhood.approval.config.SecondLevelCacheConfig;
+import com.brotherhood.approval.entity.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -21,31 +27,39 @@ import java.util.UUID;
 @Entity
 @Table(name = "user_roles", 
        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "role_id", "branch_id"}))
-@Data
+@Getter
+@Setter
+@ToString
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.USER_ROLE_REGION)
 public class UserRole {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
+    @ToString.Exclude
     private User user;
     
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "role_id", nullable = false)
+    @ToString.Exclude
     private Role role;
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "branch_id", nullable = false)
+    @ToString.Exclude
     private Branch branch;
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "granted_by")
+    @ToString.Exclude
     private User grantedBy;
     
     @Column(name = "is_active", nullable = false)
@@ -57,5 +71,22 @@ public class UserRole {
     
     @Column(name = "expires_at")
     private LocalDateTime expiresAt;
+    
+    // 식별자 기반 동등성
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof UserRole other)) {
+            return false;
+        }
+        return id != null && id.equals(other.getId());
+    }
+    
+    @Override
+    public int hashCode() {
+        return UserRole.class.hashCode();
+    }
 }
 
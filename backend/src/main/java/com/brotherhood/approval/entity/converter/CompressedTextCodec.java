@@ -0,0 +1,165 @@
+package com.brotherhood.approval.entity.converter;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 대용량 텍스트 압축 코덱 (Deflate + Base64, TEXT 컬럼에 그대로 저장)
+ *
+ * 저장 형식: {@code ~dfl1:<원본 UTF-8 바이트 수>:<Base64(Deflate)>}
+ * - 접두어가 없는 값은 압축 이전 데이터로 보고 그대로 반환한다
+ * - 임계 길이 미만이거나 압축해도 줄지 않으면 원문으로 저장한다
+ * - Deflater/Inflater는 네이티브 메모리를 잡으므로 풀에서 재사용하고, 풀이 넘치면 즉시 end()로 해제한다
+ * - 압축된 본문은 LIKE로 찾을 수 없으므로 검색 색인(search.lucene.enabled)이 꺼져 있으면 새로 압축하지 않는다
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Component
+public class CompressedTextCodec {
+
+    public static final String MAGIC = "~dfl1:";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final boolean enabled;
+    private final int minLength;
+    private final int level;
+    private final BlockingQueue<Deflater> deflaters;
+    private final BlockingQueue<Inflater> inflaters;
+
+    public CompressedTextCodec(@Value("${approval.document.compression.enabled:true}") boolean enabled,
+                               @Value("${approval.document.compression.min-length:4096}") int minLength,
+                               @Value("${approval.document.compression.level:6}") int level,
+                               @Value("${approval.document.compression.pool-size:16}") int poolSize,
+                               @Value("${search.lucene.enabled:true}") boolean searchIndexEnabled) {
+        this.enabled = enabled && searchIndexEnabled;
+        this.minLength = minLength;
+        this.level = level;
+        this.deflaters = new ArrayBlockingQueue<>(poolSize);
+        this.inflaters = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    /**
+     * 압축 저장 형식 여부
+     */
+    public static boolean isCompressed(String value) {
+        return value != null && value.startsWith(MAGIC);
+    }
+
+    /**
+     * 압축 대상 여부 (설정, 임계 길이, 이미 압축됨)
+     */
+    public boolean shouldCompress(String value) {
+        return enabled && value != null && value.length() >= minLength && !isCompressed(value);
+    }
+
+    /**
+     * 저장용 변환 (압축 이득이 없으면 원문)
+     */
+    public String encode(String value) {
+        if (!shouldCompress(value)) {
+            return value;
+        }
+        byte[] raw = value.getBytes(StandardCharsets.UTF_8);
+        String encoded = MAGIC + raw.length + ":" + Base64.getEncoder().encodeToString(deflate(raw));
+        return encoded.length() < raw.length ? encoded : value;  // 압축 형식은 ASCII라 길이 = 바이트 수
+    }
+
+    /**
+     * 조회용 변환 (압축 형식이 아니면 그대로)
+     */
+    public String decode(String value) {
+        if (!isCompressed(value)) {
+            return value;
+        }
+        int separator = value.indexOf(':', MAGIC.length());
+        if (separator < 0) {
+            throw new IllegalStateException("압축된 본문 형식이 올바르지 않습니다");
+        }
+        int length = Integer.parseInt(value.substring(MAGIC.length(), separator));
+        byte[] compressed = Base64.getDecoder().decode(value.substring(separator + 1));
+        return new String(inflate(compressed, length), StandardCharsets.UTF_8);
+    }
+
+    private byte[] deflate(byte[] raw) {
+        Deflater deflater = deflaters.poll();
+        if (deflater == null) {
+            deflater = new Deflater(level);
+        }
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                int count = deflater.deflate(buffer);
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } finally {
+            release(deflater);
+        }
+    }
+
+    private byte[] inflate(byte[] compressed, int length) {
+        Inflater inflater = inflaters.poll();
+        if (inflater == null) {
+            inflater = new Inflater();
+        }
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[length];
+            int offset = 0;
+            while (offset < length) {
+                int count = inflater.inflate(raw, offset, length - offset);
+                if (count == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("압축된 본문이 손상되었습니다 (" + offset + "/" + length + " bytes)");
+                }
+                offset += count;
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축된 본문을 해제할 수 없습니다", e);
+        } finally {
+            release(inflater);
+        }
+    }
+
+    private void release(Deflater deflater) {
+        deflater.reset();
+        if (!deflaters.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    private void release(Inflater inflater) {
+        inflater.reset();
+        if (!inflaters.offer(inflater)) {
+            inflater.end();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        Deflater deflater;
+        while ((deflater = deflaters.poll()) != null) {
+            deflater.end();
+        }
+        Inflater inflater;
+        while ((inflater = inflaters.poll()) != null) {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.brotherhood.approval.entity.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 압축 저장 텍스트 컨버터 ({@link CompressedTextCodec} 위임)
+ *
+ * Hibernate가 Spring 빈 컨테이너로 생성하므로 코덱 설정(application.yml)이 그대로 적용된다.
+ * 압축된 행은 DB에서 LIKE 검색이 되지 않으므로 본문 검색은 Lucene 색인을 사용한다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, String> {
+
+    private final CompressedTextCodec codec;
+
+    public CompressedTextConverter(CompressedTextCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        return codec.encode(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        return codec.decode(dbData);
+    }
+}
@@ -0,0 +1,78 @@
+package com.brotherhood.approval.entity.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * UUIDv7 식별자 생성기 (RFC 9562)
+ *
+ * 상위 48비트가 밀리초 시각이라 새 행이 B-tree 인덱스의 오른쪽 끝에 모이므로
+ * 무작위 v4보다 페이지 분할과 캐시 미스가 적다.
+ * - 비트 배치: unix_ts_ms(48) | ver=7(4) | 시퀀스(12) | var=10(2) | 난수(62)
+ * - 스레드마다 마지막 시각/시퀀스를 따로 두어 잠금 없이 같은 밀리초 안에서도 단조 증가한다
+ * - 같은 밀리초에 시퀀스를 다 쓰거나 시계가 뒤로 가면 마지막 시각을 1ms 앞당겨 이어간다
+ * - 스레드 간 충돌은 하위 62비트 난수로 피한다
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+public class UuidV7Generator implements IdentifierGenerator {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final int MAX_SEQUENCE = (1 << SEQUENCE_BITS) - 1;
+    /** 새 밀리초의 시작 시퀀스 상한 (같은 밀리초에 이어 쓸 여유를 남긴다) */
+    private static final int SEQUENCE_START_BOUND = 1 << (SEQUENCE_BITS - 2);
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    public UuidV7Generator(UuidV7 config, Member member, CustomIdGeneratorCreationContext context) {
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return nextUuid();
+    }
+
+    /**
+     * 다음 UUIDv7 (현재 스레드 기준 단조 증가)
+     */
+    public static UUID nextUuid() {
+        return STATE.get().next(System.currentTimeMillis());
+    }
+
+    /**
+     * UUIDv7의 생성 시각 (밀리초)
+     */
+    public static long timestampOf(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static final class State {
+
+        private long lastMillis = -1L;
+        private int sequence;
+
+        UUID next(long now) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (now > lastMillis) {
+                lastMillis = now;
+                sequence = random.nextInt(SEQUENCE_START_BOUND);
+            } else if (sequence < MAX_SEQUENCE) {
+                sequence++;
+            } else {
+                lastMillis++;
+                sequence = random.nextInt(SEQUENCE_START_BOUND);
+            }
+
+            long msb = (lastMillis << 16) | (0x7L << 12) | sequence;
+            long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+            return new UUID(msb, lsb);
+        }
+    }
+}
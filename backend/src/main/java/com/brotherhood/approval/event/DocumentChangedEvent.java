@@ -0,0 +1,52 @@
+package com.brotherhood.approval.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 문서 변경 이벤트
+ *
+ * 문서, 댓글, 첨부파일이 변경되었을 때 발행되며
+ * 트랜잭션 커밋 이후 검색 색인 등 부가 처리를 수행하는 데 사용된다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class DocumentChangedEvent {
+
+    private final UUID documentId;
+    private final ChangeType changeType;
+
+    /**
+     * 문서 생성일 (삭제 이벤트에서만 설정, 삭제 후에는 조회할 수 없으므로 통계 보정에 사용)
+     */
+    private final LocalDate createdDate;
+
+    public static DocumentChangedEvent of(UUID documentId, ChangeType changeType) {
+        return new DocumentChangedEvent(documentId, changeType, null);
+    }
+
+    public static DocumentChangedEvent deleted(UUID documentId, LocalDate createdDate) {
+        return new DocumentChangedEvent(documentId, ChangeType.DELETED, createdDate);
+    }
+
+    /**
+     * 변경 유형
+     */
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        ATTACHMENT_CHANGED,
+        COMMENT_CHANGED,
+        DELETED
+    }
+}
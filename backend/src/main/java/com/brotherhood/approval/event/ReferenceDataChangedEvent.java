@@ -0,0 +1,36 @@
+package com.brotherhood.approval.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 참조 데이터(지사/역할) 변경 이벤트
+ *
+ * 지사 구조나 역할 정의가 바뀌었을 때 발행되며
+ * 결재자 해석 테이블 등 지사/역할 기준 캐시를 다시 구성하는 데 사용된다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ReferenceDataChangedEvent {
+
+    private final DataType dataType;
+
+    public static ReferenceDataChangedEvent of(DataType dataType) {
+        return new ReferenceDataChangedEvent(dataType);
+    }
+
+    /**
+     * 변경 대상
+     */
+    public enum DataType {
+        BRANCH,
+        ROLE,
+        ALL
+    }
+}
@@ -0,0 +1,40 @@
+package com.brotherhood.approval.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/**
+ * 사용자 변경 이벤트
+ *
+ * 사용자 생성/수정/상태 변경, 역할 부여/회수, 지사 이동(ROLES_CHANGED) 시 발행되며
+ * 트랜잭션 커밋 이후 결재자 검색 색인 등 캐시성 데이터를 갱신하는 데 사용된다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class UserChangedEvent {
+
+    private final UUID userId;
+    private final ChangeType changeType;
+
+    public static UserChangedEvent of(UUID userId, ChangeType changeType) {
+        return new UserChangedEvent(userId, changeType);
+    }
+
+    /**
+     * 변경 유형
+     */
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        ROLES_CHANGED
+    }
+}
@@ -2,6 +2,7 @@ package com.brotherhood.approval.exception;
 
 import com.brotherhood.approval.dto.BaseResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -174,6 +175,16 @@ public class GlobalExceptionHandler {
                 .body(BaseResponse.error("DATA_INTEGRITY_VIOLATION", "데이터 무결성 제약 조건을 위반했습니다."));
     }
 
+    /**
+     * 동시 갱신 충돌 예외 처리 (낙관적 잠금 충돌, 조건부 UPDATE 실패가 재시도 후에도 계속될 때)
+     */
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<BaseResponse<Void>> handleConcurrencyFailureException(ConcurrencyFailureException ex, WebRequest request) {
+        log.warn("동시 갱신 충돌: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(BaseResponse.error("CONCURRENT_MODIFICATION", "다른 사용자가 먼저 변경했습니다. 새로고침 후 다시 시도해 주세요."));
+    }
+
     /**
      * HTTP 메시지 읽기 실패 예외 처리
      */
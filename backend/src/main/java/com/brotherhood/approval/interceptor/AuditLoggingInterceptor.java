@@ -1,6 +1,7 @@
 package com.brotherhood.approval.interceptor;
 
 import com.brotherhood.approval.entity.AuditLog;
+import com.brotherhood.approval.metrics.ApprovalMetrics;
 import com.brotherhood.approval.service.AuditLogService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -26,6 +27,7 @@ import java.util.UUID;
 public class AuditLoggingInterceptor implements HandlerInterceptor {
     
     private final AuditLogService auditLogService;
+    private final ApprovalMetrics approvalMetrics;
     
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
@@ -222,7 +224,7 @@ public class AuditLoggingInterceptor implements HandlerInterceptor {
                     .actionAt(LocalDateTime.now()) // 액션 발생 시간 설정
                     .build();
             
-            auditLogService.saveAuditLog(auditLog);
+            approvalMetrics.recordAuditWrite(() -> auditLogService.saveAuditLog(auditLog));
             
         } catch (Exception e) {
             log.error("감사 로그 저장 중 오류 발생", e);
@@ -60,6 +60,7 @@ public interface ApprovalStepMapper {
     @Mapping(target = "approvalLine", ignore = true)
     @Mapping(target = "approver", ignore = true)
     @Mapping(target = "alternateApprover", ignore = true)
+    @Mapping(target = "lockVersion", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     ApprovalStep toEntity(ApprovalStepCreateRequest request);
     
@@ -80,6 +81,7 @@ public interface ApprovalStepMapper {
     @Mapping(target = "approvalLine", ignore = true)
     @Mapping(target = "approver", ignore = true)
     @Mapping(target = "alternateApprover", ignore = true)
+    @Mapping(target = "lockVersion", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     void updateEntity(ApprovalStepCreateRequest request, @MappingTarget ApprovalStep approvalStep);
 }
@@ -6,6 +6,7 @@ import com.brotherhood.approval.entity.Comment;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 
 import java.util.List;
@@ -30,6 +31,18 @@ public interface CommentMapper {
     @Mapping(target = "parentCommentId", source = "parentComment.id")
     CommentDto toDto(Comment comment);
     
+    /**
+     * 엔티티를 DTO로 변환 (답글 제외, 답글 트리는 호출 측에서 한 번에 조회한 목록으로 구성)
+     */
+    @Named("withoutReplies")
+    @Mapping(target = "documentId", source = "document.id")
+    @Mapping(target = "authorId", source = "author.id")
+    @Mapping(target = "authorName", source = "author.fullName")
+    @Mapping(target = "authorDisplayName", source = "author.displayName")
+    @Mapping(target = "parentCommentId", source = "parentComment.id")
+    @Mapping(target = "replies", ignore = true)
+    CommentDto toDtoWithoutReplies(Comment comment);
+    
     /**
      * 엔티티 리스트를 DTO 리스트로 변환
      */
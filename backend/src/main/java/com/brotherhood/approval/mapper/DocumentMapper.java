@@ -1,6 +1,7 @@
 package com.brotherhood.approval.mapper;
 
 import com.brotherhood.approval.dto.document.DocumentDto;
+import com.brotherhood.approval.dto.document.DocumentSummary;
 import com.brotherhood.approval.dto.document.DocumentCreateRequest;
 import com.brotherhood.approval.dto.document.DocumentUpdateRequest;
 import com.brotherhood.approval.entity.Document;
@@ -36,6 +37,18 @@ public interface DocumentMapper {
     @Mapping(target = "attachments", ignore = true)
     DocumentDto toDto(Document document);
     
+    /**
+     * 목록 프로젝션을 DTO로 변환 (본문/결재선/댓글/첨부 없음)
+     */
+    @Mapping(target = "authorDisplayName", expression = "java(summary.authorDisplayName())")
+    @Mapping(target = "content", ignore = true)
+    @Mapping(target = "parentDocumentId", ignore = true)
+    @Mapping(target = "rejectionReason", ignore = true)
+    @Mapping(target = "approvalLines", ignore = true)
+    @Mapping(target = "comments", ignore = true)
+    @Mapping(target = "attachments", ignore = true)
+    DocumentDto toDto(DocumentSummary summary);
+    
     /**
      * 엔티티 리스트를 DTO 리스트로 변환
      */
@@ -50,8 +63,12 @@ public interface DocumentMapper {
     @Mapping(target = "priority", ignore = true)
     @Mapping(target = "documentNumber", ignore = true)
     @Mapping(target = "version", constant = "1")
+    @Mapping(target = "lockVersion", ignore = true)
+    @Mapping(target = "remainingRequiredSteps", ignore = true)
+    @Mapping(target = "changeCounter", ignore = true)
     @Mapping(target = "isFinal", constant = "false")
     @Mapping(target = "submittedAt", ignore = true)
+    @Mapping(target = "recalledAt", ignore = true)
     @Mapping(target = "approvedAt", ignore = true)
     @Mapping(target = "rejectedAt", ignore = true)
     @Mapping(target = "rejectionReason", ignore = true)
@@ -74,6 +91,9 @@ public interface DocumentMapper {
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "documentNumber", ignore = true)
     @Mapping(target = "version", ignore = true)
+    @Mapping(target = "lockVersion", ignore = true)
+    @Mapping(target = "remainingRequiredSteps", ignore = true)
+    @Mapping(target = "changeCounter", ignore = true)
     @Mapping(target = "isFinal", ignore = true)
     @Mapping(target = "rejectedAt", ignore = true)
     @Mapping(target = "rejectionReason", ignore = true)
@@ -86,6 +106,7 @@ public interface DocumentMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "submittedAt", ignore = true)
+    @Mapping(target = "recalledAt", ignore = true)
     @Mapping(target = "approvedAt", ignore = true)
     @Mapping(target = "dueDate", source = "dueDate", dateFormat = "yyyy-MM-dd'T'HH:mm:ss'Z'")
     void updateEntity(DocumentUpdateRequest request, @MappingTarget Document document);
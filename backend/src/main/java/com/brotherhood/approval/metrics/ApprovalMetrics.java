@@ -0,0 +1,152 @@
+package com.brotherhood.approval.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 결재 업무 메트릭
+ *
+ * 서비스 코드에서 Micrometer API를 직접 다루지 않도록 메트릭 이름과 태그를 한곳에 모은다.
+ * - approval.document.transitions: 문서 상태 전이 횟수 (from, to)
+ * - approval.action.duration: 결재 액션 처리 시간 (action, outcome)
+ * - approval.inbox.query.duration: 결재 대기함 조회 시간 (query)
+ * - approval.audit.in_flight / approval.audit.write.duration: 감사 로그 저장 대기 건수와 처리 시간
+ * - approval.jwt.parse.duration: JWT 파싱/검증 시간 (outcome)
+ * - approval.http.request.queries: 요청당 실행 SQL 수
+ * - approval.concurrency.retries: 동시 갱신 충돌로 다시 시도한 횟수 (operation)
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Component
+public class ApprovalMetrics {
+
+    private final MeterRegistry registry;
+    private final AtomicInteger auditInFlight = new AtomicInteger();
+    private final Timer auditWriteTimer;
+    private final Timer jwtParseValid;
+    private final Timer jwtParseInvalid;
+    private final DistributionSummary requestQueries;
+
+    public ApprovalMetrics(MeterRegistry registry) {
+        this.registry = registry;
+
+        Gauge.builder("approval.audit.in_flight", auditInFlight, AtomicInteger::get)
+                .description("저장 중인 감사 로그 수")
+                .register(registry);
+        this.auditWriteTimer = Timer.builder("approval.audit.write.duration")
+                .description("감사 로그 저장 시간")
+                .register(registry);
+        this.jwtParseValid = jwtTimer("valid");
+        this.jwtParseInvalid = jwtTimer("invalid");
+        this.requestQueries = DistributionSummary.builder("approval.http.request.queries")
+                .description("요청당 실행된 SQL 수")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /**
+     * 문서 상태 전이 기록
+     */
+    public void recordTransition(String fromStatus, String toStatus) {
+        recordTransitions(fromStatus, toStatus, 1);
+    }
+
+    /**
+     * 문서 상태 전이 일괄 기록 (벌크 UPDATE)
+     */
+    public void recordTransitions(String fromStatus, String toStatus, long count) {
+        Counter.builder("approval.document.transitions")
+                .description("문서 상태 전이 횟수")
+                .tag("from", String.valueOf(fromStatus))
+                .tag("to", String.valueOf(toStatus))
+                .register(registry)
+                .increment(count);
+    }
+
+    /**
+     * 결재 액션 시간 측정 시작
+     */
+    public Timer.Sample startApprovalAction() {
+        return Timer.start(registry);
+    }
+
+    /**
+     * 결재 액션 시간 기록
+     *
+     * @param outcome success, conflict 또는 error
+     */
+    public void recordApprovalAction(Timer.Sample sample, String action, String outcome) {
+        sample.stop(Timer.builder("approval.action.duration")
+                .description("결재 액션 처리 시간")
+                .tag("action", String.valueOf(action))
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    /**
+     * 결재 대기함 조회 시간 측정
+     */
+    public <T> T timeInboxQuery(String query, Supplier<T> supplier) {
+        return Timer.builder("approval.inbox.query.duration")
+                .description("결재 대기함 조회 시간")
+                .tag("query", query)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(supplier);
+    }
+
+    /**
+     * 감사 로그 저장 (저장 중 건수와 처리 시간 기록)
+     */
+    public void recordAuditWrite(Runnable write) {
+        auditInFlight.incrementAndGet();
+        try {
+            auditWriteTimer.record(write);
+        } finally {
+            auditInFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * JWT 파싱 시간 기록
+     */
+    public void recordJwtParse(long elapsedNanos, boolean valid) {
+        (valid ? jwtParseValid : jwtParseInvalid).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 요청당 SQL 수 기록
+     */
+    public void recordRequestQueries(int statementCount) {
+        requestQueries.record(statementCount);
+    }
+
+    /**
+     * 동시 갱신 충돌 재시도 기록
+     */
+    public void recordConcurrencyRetry(String operation) {
+        Counter.builder("approval.concurrency.retries")
+                .description("동시 갱신 충돌로 다시 시도한 횟수")
+                .tag("operation", operation)
+                .register(registry)
+                .increment();
+    }
+
+    private Timer jwtTimer(String outcome) {
+        return Timer.builder("approval.jwt.parse.duration")
+                .description("JWT 파싱 및 서명 검증 시간")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
@@ -0,0 +1,47 @@
+package com.brotherhood.approval.metrics;
+
+import com.brotherhood.approval.service.FinalizedDocumentCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결재 완료 문서 응답 캐시 메트릭 (보관 바이트, 항목 수, 적중/미스, 적중률)
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "metrics.binders", name = "finalized-document-cache", havingValue = "true", matchIfMissing = true)
+public class FinalizedDocumentCacheMetrics implements MeterBinder {
+
+    private final FinalizedDocumentCache cache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("approval.finalized.cache.bytes", cache, FinalizedDocumentCache::getBytes)
+                .description("결재 완료 문서 응답 캐시가 보관 중인 바이트")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("approval.finalized.cache.entries", cache, FinalizedDocumentCache::getEntryCount)
+                .description("결재 완료 문서 응답 캐시 항목 수")
+                .register(registry);
+        Gauge.builder("approval.finalized.cache.hit.ratio", cache, FinalizedDocumentCache::getHitRatio)
+                .description("결재 완료 문서 응답 캐시 적중률")
+                .register(registry);
+        FunctionCounter.builder("approval.finalized.cache.requests", cache, FinalizedDocumentCache::getHitCount)
+                .description("결재 완료 문서 응답 캐시 조회 수")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("approval.finalized.cache.requests", cache, FinalizedDocumentCache::getMissCount)
+                .description("결재 완료 문서 응답 캐시 조회 수")
+                .tag("result", "miss")
+                .register(registry);
+    }
+}
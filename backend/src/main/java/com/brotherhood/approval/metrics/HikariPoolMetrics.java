@@ -0,0 +1,94 @@
+package com.brotherhood.approval.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * HikariCP 커넥션 풀 메트릭
+ *
+ * 풀이 이미 시작된 뒤에는 MetricsTrackerFactory를 설정할 수 없으므로
+ * HikariPoolMXBean 값을 조회 시점에 읽는 게이지로 노출한다.
+ * 읽기/쓰기 라우팅을 사용하면 원본/복제본 풀을 pool 태그로 구분한다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "metrics.binders", name = "hikari", havingValue = "true", matchIfMissing = true)
+public class HikariPoolMetrics implements MeterBinder {
+
+    private final DataSource dataSource;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        List<HikariDataSource> pools = findPools();
+        if (pools.isEmpty()) {
+            log.info("HikariCP 데이터소스가 아니므로 커넥션 풀 메트릭을 등록하지 않습니다");
+            return;
+        }
+        pools.forEach(hikari -> bindPool(registry, hikari));
+    }
+
+    /**
+     * 단일 풀 또는 읽기/쓰기 라우팅 데이터소스의 원본/복제본 풀
+     */
+    private List<HikariDataSource> findPools() {
+        List<HikariDataSource> pools = new ArrayList<>();
+        try {
+            if (dataSource.isWrapperFor(AbstractRoutingDataSource.class)) {
+                for (DataSource target : dataSource.unwrap(AbstractRoutingDataSource.class).getResolvedDataSources().values()) {
+                    if (target.isWrapperFor(HikariDataSource.class)) {
+                        pools.add(target.unwrap(HikariDataSource.class));
+                    }
+                }
+            } else if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                pools.add(dataSource.unwrap(HikariDataSource.class));
+            }
+        } catch (SQLException e) {
+            log.warn("HikariCP 데이터소스 확인 실패: {}", e.getMessage());
+        }
+        return pools;
+    }
+
+    private void bindPool(MeterRegistry registry, HikariDataSource hikari) {
+        String pool = hikari.getPoolName() != null ? hikari.getPoolName() : "default";
+        gauge(registry, hikari, pool, "hikaricp.connections.active", "사용 중인 커넥션 수", HikariPoolMXBean::getActiveConnections);
+        gauge(registry, hikari, pool, "hikaricp.connections.idle", "유휴 커넥션 수", HikariPoolMXBean::getIdleConnections);
+        gauge(registry, hikari, pool, "hikaricp.connections.pending", "커넥션을 기다리는 스레드 수", HikariPoolMXBean::getThreadsAwaitingConnection);
+        gauge(registry, hikari, pool, "hikaricp.connections", "전체 커넥션 수", HikariPoolMXBean::getTotalConnections);
+
+        Gauge.builder("hikaricp.connections.max", hikari, HikariDataSource::getMaximumPoolSize)
+                .description("최대 커넥션 수")
+                .tag("pool", pool)
+                .register(registry);
+    }
+
+    private static void gauge(MeterRegistry registry, HikariDataSource hikari, String pool,
+                              String name, String description, ToIntFunction<HikariPoolMXBean> value) {
+        Gauge.builder(name, hikari, ds -> {
+                    // 풀이 시작되기 전에는 MXBean이 없음
+                    HikariPoolMXBean poolBean = ds.getHikariPoolMXBean();
+                    return poolBean != null ? value.applyAsInt(poolBean) : Double.NaN;
+                })
+                .description(description)
+                .tag("pool", pool)
+                .register(registry);
+    }
+}
@@ -0,0 +1,101 @@
+package com.brotherhood.approval.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 요청 단위 SQL 집계 필터
+ *
+ * 요청마다 실행된 SQL 수, 쿼리 형태 수, JDBC 시간을 집계한다.
+ * - 예산(query-count.budget)을 넘거나 같은 쿼리가 반복(query-count.repeat-threshold)되면 경고 로그
+ * - query-count.response-header가 켜져 있으면 (개발 환경) 응답 헤더로 노출
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "query-count", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_QUERY_COUNT = "X-Query-Count";
+    public static final String HEADER_QUERY_SHAPES = "X-Query-Shapes";
+    public static final String HEADER_QUERY_TIME = "X-Query-Time-Ms";
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 200;
+
+    private final ApprovalMetrics approvalMetrics;
+
+    @Value("${query-count.response-header:false}")
+    private boolean responseHeader;
+
+    @Value("${query-count.budget:30}")
+    private int budget;
+
+    @Value("${query-count.repeat-threshold:10}")
+    private int repeatThreshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        QueryStatistics statistics = QueryCountHolder.start();
+        // 헤더는 본문보다 먼저 나가야 하므로 개발 환경에서만 응답을 버퍼링
+        ContentCachingResponseWrapper cachingResponse = responseHeader ? new ContentCachingResponseWrapper(response) : null;
+
+        try {
+            filterChain.doFilter(request, cachingResponse != null ? cachingResponse : response);
+        } finally {
+            QueryCountHolder.stop();
+            report(request, statistics);
+
+            if (cachingResponse != null) {
+                if (!response.isCommitted()) {
+                    response.setHeader(HEADER_QUERY_COUNT, String.valueOf(statistics.getStatementCount()));
+                    response.setHeader(HEADER_QUERY_SHAPES, String.valueOf(statistics.getDistinctShapeCount()));
+                    response.setHeader(HEADER_QUERY_TIME, String.valueOf(statistics.getJdbcMillis()));
+                }
+                cachingResponse.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryStatistics statistics) {
+        if (statistics.getStatementCount() == 0) {
+            return;
+        }
+        approvalMetrics.recordRequestQueries(statistics.getStatementCount());
+
+        if (statistics.getStatementCount() > budget) {
+            log.warn("SQL 예산 초과: {} {} - {} (예산 {})",
+                    request.getMethod(), request.getRequestURI(), statistics, budget);
+        }
+
+        statistics.getMostRepeatedShape()
+                .filter(shape -> shape.getValue() >= repeatThreshold)
+                .ifPresent(shape -> log.warn("N+1 의심: {} {} - 동일 쿼리 {}회: {}",
+                        request.getMethod(), request.getRequestURI(), shape.getValue(), abbreviate(shape)));
+    }
+
+    private static String abbreviate(Map.Entry<String, Integer> shape) {
+        String sql = shape.getKey();
+        return sql.length() > MAX_LOGGED_SQL_LENGTH ? sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "..." : sql;
+    }
+}
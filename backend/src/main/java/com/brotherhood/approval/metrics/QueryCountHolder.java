@@ -0,0 +1,58 @@
+package com.brotherhood.approval.metrics;
+
+/**
+ * 현재 스레드의 SQL 통계 보관소
+ *
+ * {@link #start()}로 구간을 연 스레드에서만 집계하며, 열리지 않은 스레드의 SQL은 무시한다.
+ * (백그라운드 작업, 비동기 실행 스레드의 SQL은 요청 통계에 포함되지 않는다)
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+public final class QueryCountHolder {
+
+    private static final ThreadLocal<QueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private QueryCountHolder() {
+    }
+
+    /**
+     * 새 집계 구간 시작 (이전 통계는 버림)
+     */
+    public static QueryStatistics start() {
+        QueryStatistics statistics = new QueryStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * 현재 집계 중인 통계 (구간이 없으면 null)
+     */
+    public static QueryStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 집계 구간 종료
+     */
+    public static QueryStatistics stop() {
+        QueryStatistics statistics = CURRENT.get();
+        CURRENT.remove();
+        return statistics;
+    }
+
+    static void recordStatement(String sql) {
+        QueryStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.recordStatement(sql);
+        }
+    }
+
+    static void recordJdbcTime(long nanos) {
+        QueryStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.recordJdbcTime(nanos);
+        }
+    }
+}
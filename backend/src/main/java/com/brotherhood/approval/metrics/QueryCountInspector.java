@@ -0,0 +1,19 @@
+package com.brotherhood.approval.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 모든 SQL을 현재 스레드 통계에 기록 (SQL은 변경하지 않음)
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCountHolder.recordStatement(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,81 @@
+package com.brotherhood.approval.metrics;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 한 요청(또는 테스트 구간)에서 실행된 SQL 통계
+ *
+ * 한 스레드에서만 사용되므로 동기화하지 않는다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+public class QueryStatistics {
+
+    /** IN (?, ?, ?) 목록 길이가 달라도 같은 쿼리 형태로 본다 */
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, Integer> shapes = new LinkedHashMap<>();
+    private int statementCount;
+    private long jdbcNanos;
+
+    void recordStatement(String sql) {
+        statementCount++;
+        shapes.merge(normalize(sql), 1, Integer::sum);
+    }
+
+    void recordJdbcTime(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    /**
+     * 실행된 SQL 수
+     */
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    /**
+     * 서로 다른 쿼리 형태 수
+     */
+    public int getDistinctShapeCount() {
+        return shapes.size();
+    }
+
+    /**
+     * JDBC 실행 시간 합계 (ms)
+     */
+    public long getJdbcMillis() {
+        return jdbcNanos / 1_000_000;
+    }
+
+    /**
+     * 가장 많이 반복된 쿼리 형태 (N+1 의심)
+     */
+    public Optional<Map.Entry<String, Integer>> getMostRepeatedShape() {
+        return shapes.entrySet().stream().max(Comparator.comparingInt(Map.Entry::getValue));
+    }
+
+    /**
+     * 쿼리 형태별 실행 횟수
+     */
+    public Map<String, Integer> getShapes() {
+        return Map.copyOf(shapes);
+    }
+
+    @Override
+    public String toString() {
+        return "statements=" + statementCount + ", shapes=" + shapes.size() + ", jdbcMs=" + getJdbcMillis();
+    }
+
+    private static String normalize(String sql) {
+        String collapsed = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        return IN_LIST.matcher(collapsed).replaceAll("(?)");
+    }
+}
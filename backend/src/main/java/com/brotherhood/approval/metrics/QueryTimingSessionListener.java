@@ -0,0 +1,38 @@
+package com.brotherhood.approval.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * 세션 단위 JDBC 실행 시간 측정
+ *
+ * hibernate.session.events.auto 설정으로 세션마다 새로 생성된다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+public class QueryTimingSessionListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        QueryCountHolder.recordJdbcTime(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        QueryCountHolder.recordJdbcTime(System.nanoTime() - batchStart);
+    }
+}
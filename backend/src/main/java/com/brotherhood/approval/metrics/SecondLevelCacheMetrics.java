@@ -0,0 +1,61 @@
+package com.brotherhood.approval.metrics;
+
+import com.brotherhood.approval.config.SecondLevelCacheConfig;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Hibernate 2차 캐시 메트릭 (영역별 적중/미스/저장 카운터)
+ *
+ * 적중률은 hibernate_cache_requests_total{result="hit"} / 전체로 계산한다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Component
+@ConditionalOnProperty(prefix = "metrics.binders", name = "hibernate-cache", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!statistics.isStatisticsEnabled()) {
+            return;
+        }
+        for (String region : SecondLevelCacheConfig.REGIONS) {
+            counter(registry, region, "hibernate.cache.requests", "hit", CacheRegionStatistics::getHitCount);
+            counter(registry, region, "hibernate.cache.requests", "miss", CacheRegionStatistics::getMissCount);
+            counter(registry, region, "hibernate.cache.puts", null, CacheRegionStatistics::getPutCount);
+        }
+    }
+
+    private void counter(MeterRegistry registry, String region, String name, String result,
+                         ToLongFunction<CacheRegionStatistics> value) {
+        FunctionCounter.Builder<Statistics> builder = FunctionCounter.builder(name, statistics, stats -> {
+                    // 영역 통계는 첫 접근 시 생성됨
+                    CacheRegionStatistics regionStatistics = stats.getCacheRegionStatistics(region);
+                    return regionStatistics != null ? value.applyAsLong(regionStatistics) : 0;
+                })
+                .description("Hibernate 2차 캐시 " + (result != null ? "조회" : "저장") + " 수")
+                .tag("region", region);
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        builder.register(registry);
+    }
+}
@@ -0,0 +1,75 @@
+package com.brotherhood.approval.policy;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 결재선 정책 정의 (policies.policy_data JSON)
+ *
+ * <pre>
+ * {
+ *   "priority": 10,
+ *   "match": "documentType == 'BUDGET' &amp;&amp; amount &gt; 1000000",
+ *   "steps": [
+ *     { "order": 1, "role": "MANAGER" },
+ *     { "order": 2, "role": "DIRECTOR" },
+ *     { "order": 3, "role": "ADMIN", "branch": "HQ", "condition": "amount &gt; 5000000" }
+ *   ]
+ * }
+ * </pre>
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ApprovalPolicyDefinition {
+
+    /**
+     * 낮을수록 먼저 평가 (처음 일치한 정책을 사용)
+     */
+    private int priority = 100;
+
+    /**
+     * 정책 적용 조건 (없으면 모든 문서에 적용)
+     */
+    private String match;
+
+    private List<StepDefinition> steps = new ArrayList<>();
+
+    /**
+     * 결재단계 정의
+     */
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class StepDefinition {
+
+        private int order;
+
+        /**
+         * 결재자 역할명 (예: MANAGER)
+         */
+        private String role;
+
+        /**
+         * 결재자 지사: DOCUMENT(문서 지사, 기본값) 또는 지사 코드 (예: HQ)
+         */
+        private String branch = StepPlan.DOCUMENT_BRANCH;
+
+        /**
+         * 단계 적용 조건 (거짓이면 단계를 생략)
+         */
+        private String condition;
+
+        private boolean required = true;
+        private boolean delegatable = true;
+        private int maxDelegationLevel = 1;
+    }
+}
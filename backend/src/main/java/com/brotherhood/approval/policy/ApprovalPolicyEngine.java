@@ -0,0 +1,167 @@
+package com.brotherhood.approval.policy;
+
+import com.brotherhood.approval.entity.Policy;
+import com.brotherhood.approval.repository.PolicyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결재선 정책 엔진
+ *
+ * policies 테이블의 APPROVAL_LINE 정책을 컴파일해 정책 ID와 버전(수정 시각) 단위로 캐시한다.
+ * 정책 목록은 refresh-seconds 간격으로만 다시 조회하며, 버전이 바뀐 정책만 다시 컴파일한다.
+ * 잘못된 정책은 경고 로그를 남기고 제외한다 (다른 정책과 기본 정책은 계속 사용).
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApprovalPolicyEngine {
+
+    private final PolicyRepository policyRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, CompiledApprovalPolicy> compiled = new ConcurrentHashMap<>();
+    private volatile List<CompiledApprovalPolicy> policies = List.of();
+    private volatile long loadedAt;
+    private volatile boolean loaded;
+
+    @Value("${approval.policy.refresh-seconds:60}")
+    private long refreshSeconds;
+
+    /**
+     * 기동 시 정책 컴파일
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+    }
+
+    /**
+     * 정책 목록 다시 조회 (버전이 바뀐 정책만 컴파일)
+     *
+     * @return 사용 가능한 정책 수
+     */
+    public synchronized int refresh() {
+        long startTime = System.nanoTime();
+        List<Policy> rows = policyRepository.findValidPoliciesByType(Policy.PolicyType.APPROVAL_LINE.name());
+
+        List<CompiledApprovalPolicy> result = new ArrayList<>(rows.size());
+        Set<String> seen = new HashSet<>();
+        int compiledCount = 0;
+        for (Policy policy : rows) {
+            String version = versionOf(policy);
+            seen.add(policy.getId());
+
+            CompiledApprovalPolicy current = compiled.get(policy.getId());
+            if (current == null || !version.equals(current.getVersion())) {
+                try {
+                    current = CompiledApprovalPolicy.compile(policy.getId(), policy.getName(), version,
+                            policy.getPolicyData(), objectMapper);
+                    compiled.put(policy.getId(), current);
+                    compiledCount++;
+                } catch (IllegalArgumentException e) {
+                    log.warn("결재선 정책 컴파일 실패, 제외합니다: {}", e.getMessage());
+                    compiled.remove(policy.getId());
+                    continue;
+                }
+            }
+            result.add(current);
+        }
+        compiled.keySet().retainAll(seen);
+        result.sort(Comparator.comparingInt(CompiledApprovalPolicy::getPriority)
+                .thenComparing(CompiledApprovalPolicy::getName));
+
+        policies = List.copyOf(result);
+        loadedAt = System.nanoTime();
+        loaded = true;
+
+        log.info("결재선 정책 적재: {} 건 (새로 컴파일 {} 건, {}ms)", result.size(), compiledCount,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        return result.size();
+    }
+
+    /**
+     * 우선순위 순 정책 목록 (갱신 주기가 지났으면 다시 조회)
+     */
+    public List<CompiledApprovalPolicy> getPolicies() {
+        if (isStale()) {
+            refreshIfStale();
+        }
+        return policies;
+    }
+
+    /**
+     * 잠금을 얻은 뒤 다시 확인하여, 갱신 시점에 몰린 요청들이 차례로 정책을 다시 조회하지 않게 한다
+     */
+    private synchronized void refreshIfStale() {
+        if (isStale()) {
+            refresh();
+        }
+    }
+
+    private boolean isStale() {
+        return !loaded || System.nanoTime() - loadedAt > TimeUnit.SECONDS.toNanos(refreshSeconds);
+    }
+
+    /**
+     * 문서 속성에 처음 일치하는 정책 (없으면 기본 정책)
+     */
+    public CompiledApprovalPolicy select(Map<String, Object> attributes) {
+        return select(getPolicies(), attributes);
+    }
+
+    /**
+     * 여러 문서 일괄 선택 (정책 목록은 한 번만 확인)
+     */
+    public List<CompiledApprovalPolicy> selectAll(List<Map<String, Object>> attributesList) {
+        List<CompiledApprovalPolicy> snapshot = getPolicies();
+        List<CompiledApprovalPolicy> result = new ArrayList<>(attributesList.size());
+        for (Map<String, Object> attributes : attributesList) {
+            result.add(select(snapshot, attributes));
+        }
+        return result;
+    }
+
+    /**
+     * 정책명으로 조회
+     */
+    public Optional<CompiledApprovalPolicy> findByName(String name) {
+        return getPolicies().stream()
+                .filter(policy -> policy.getName().equals(name))
+                .findFirst();
+    }
+
+    private static CompiledApprovalPolicy select(List<CompiledApprovalPolicy> snapshot, Map<String, Object> attributes) {
+        for (CompiledApprovalPolicy policy : snapshot) {
+            if (policy.matches(attributes)) {
+                return policy;
+            }
+        }
+        return CompiledApprovalPolicy.fallback();
+    }
+
+    private static String versionOf(Policy policy) {
+        LocalDateTime modifiedAt = policy.getUpdatedAt() != null ? policy.getUpdatedAt() : policy.getCreatedAt();
+        return String.valueOf(modifiedAt);
+    }
+}
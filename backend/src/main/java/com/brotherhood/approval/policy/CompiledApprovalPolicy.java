@@ -0,0 +1,142 @@
+package com.brotherhood.approval.policy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컴파일된 결재선 정책 (불변, 정책 버전 단위로 캐시)
+ *
+ * JSON 파싱과 조건식 컴파일은 생성 시 한 번만 수행하고,
+ * {@link #plan(Map)}은 문서 속성에 대해 조건 평가만 하므로 DB나 파싱 비용이 없다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+public final class CompiledApprovalPolicy {
+
+    /**
+     * 일치하는 정책이 없을 때 사용하는 기본 정책 이름 (매니저 → 이사 순차 결재)
+     */
+    public static final String FALLBACK_NAME = "SEQUENTIAL";
+
+    private static final CompiledApprovalPolicy FALLBACK = new CompiledApprovalPolicy(
+            null, FALLBACK_NAME, null, Integer.MAX_VALUE, PolicyCondition.ALWAYS,
+            List.of(new CompiledStep(new StepPlan(1, "MANAGER", StepPlan.DOCUMENT_BRANCH, null, true, true, 1), PolicyCondition.ALWAYS),
+                    new CompiledStep(new StepPlan(2, "DIRECTOR", StepPlan.DOCUMENT_BRANCH, null, true, true, 1), PolicyCondition.ALWAYS)));
+
+    private final String id;
+    private final String name;
+    private final String version;
+    private final int priority;
+    private final PolicyCondition match;
+    private final List<CompiledStep> steps;
+
+    private CompiledApprovalPolicy(String id, String name, String version, int priority,
+                                   PolicyCondition match, List<CompiledStep> steps) {
+        this.id = id;
+        this.name = name;
+        this.version = version;
+        this.priority = priority;
+        this.match = match;
+        this.steps = steps;
+    }
+
+    /**
+     * 정책 JSON 컴파일
+     *
+     * @param version 정책 버전 (변경 감지용, 예: 수정 시각)
+     * @throws IllegalArgumentException JSON 또는 조건식 오류
+     */
+    public static CompiledApprovalPolicy compile(String id, String name, String version,
+                                                 String policyData, ObjectMapper objectMapper) {
+        ApprovalPolicyDefinition definition;
+        try {
+            definition = objectMapper.readValue(policyData, ApprovalPolicyDefinition.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("결재선 정책 JSON 형식이 잘못되었습니다: " + name + " (" + e.getOriginalMessage() + ")");
+        }
+        if (definition.getSteps() == null || definition.getSteps().isEmpty()) {
+            throw new IllegalArgumentException("결재선 정책에 결재단계가 없습니다: " + name);
+        }
+
+        List<CompiledStep> steps = new ArrayList<>();
+        for (ApprovalPolicyDefinition.StepDefinition step : definition.getSteps()) {
+            if (step.getRole() == null || step.getRole().isBlank()) {
+                throw new IllegalArgumentException("결재단계에 역할이 없습니다: " + name + " (순서 " + step.getOrder() + ")");
+            }
+            if (step.getOrder() < 1) {
+                throw new IllegalArgumentException("결재 순서는 1 이상이어야 합니다: " + name);
+            }
+            StepPlan plan = new StepPlan(step.getOrder(), step.getRole(), step.getBranch(), step.getCondition(),
+                    step.isRequired(), step.isDelegatable(), Math.max(1, step.getMaxDelegationLevel()));
+            steps.add(new CompiledStep(plan, compileCondition(step.getCondition())));
+        }
+        steps.sort(Comparator.comparingInt(step -> step.plan().stepOrder()));
+
+        return new CompiledApprovalPolicy(id, name, version, definition.getPriority(),
+                compileCondition(definition.getMatch()), List.copyOf(steps));
+    }
+
+    /**
+     * 기본 정책 (매니저 → 이사)
+     */
+    public static CompiledApprovalPolicy fallback() {
+        return FALLBACK;
+    }
+
+    /**
+     * 문서 속성이 정책 적용 조건에 일치하는지
+     */
+    public boolean matches(Map<String, Object> attributes) {
+        return match.test(attributes);
+    }
+
+    /**
+     * 결재단계 계획 생성 (단계 조건이 거짓인 단계는 제외)
+     */
+    public List<StepPlan> plan(Map<String, Object> attributes) {
+        List<StepPlan> result = new ArrayList<>(steps.size());
+        for (CompiledStep step : steps) {
+            if (step.condition().test(attributes)) {
+                result.add(step.plan());
+            }
+        }
+        return result;
+    }
+
+    public boolean isFallback() {
+        return this == FALLBACK;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    private static PolicyCondition compileCondition(String expression) {
+        if (expression == null || expression.isBlank()) {
+            return PolicyCondition.ALWAYS;
+        }
+        return PolicyExpressionParser.compile(expression);
+    }
+
+    private record CompiledStep(StepPlan plan, PolicyCondition condition) {
+    }
+}
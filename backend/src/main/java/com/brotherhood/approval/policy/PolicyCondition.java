@@ -0,0 +1,21 @@
+package com.brotherhood.approval.policy;
+
+import java.util.Map;
+
+/**
+ * 컴파일된 정책 조건 (문서 속성에 대해 평가)
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@FunctionalInterface
+public interface PolicyCondition {
+
+    /**
+     * 항상 참인 조건 (조건식이 없는 정책/단계)
+     */
+    PolicyCondition ALWAYS = attributes -> true;
+
+    boolean test(Map<String, Object> attributes);
+}
@@ -0,0 +1,222 @@
+package com.brotherhood.approval.policy;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+
+/**
+ * 결재선 정책 조건식 AST
+ *
+ * {@link PolicyExpressionParser}가 생성하며 {@link #compile()}로 평가 객체({@link PolicyCondition})로 변환한다.
+ * 상수 정규화(숫자 변환, IN 목록 집합화)는 컴파일 시 한 번만 수행한다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+public sealed interface PolicyExpression {
+
+    /**
+     * 평가 객체로 변환
+     */
+    PolicyCondition compile();
+
+    /**
+     * 논리합 (a || b)
+     */
+    record Or(List<PolicyExpression> operands) implements PolicyExpression {
+        @Override
+        public PolicyCondition compile() {
+            PolicyCondition[] conditions = operands.stream().map(PolicyExpression::compile).toArray(PolicyCondition[]::new);
+            return attributes -> {
+                for (PolicyCondition condition : conditions) {
+                    if (condition.test(attributes)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+    }
+
+    /**
+     * 논리곱 (a && b)
+     */
+    record And(List<PolicyExpression> operands) implements PolicyExpression {
+        @Override
+        public PolicyCondition compile() {
+            PolicyCondition[] conditions = operands.stream().map(PolicyExpression::compile).toArray(PolicyCondition[]::new);
+            return attributes -> {
+                for (PolicyCondition condition : conditions) {
+                    if (!condition.test(attributes)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        }
+    }
+
+    /**
+     * 부정 (!a)
+     */
+    record Not(PolicyExpression operand) implements PolicyExpression {
+        @Override
+        public PolicyCondition compile() {
+            PolicyCondition condition = operand.compile();
+            return attributes -> !condition.test(attributes);
+        }
+    }
+
+    /**
+     * 비교 (attribute op value)
+     */
+    record Comparison(Operand left, Operator operator, Operand right) implements PolicyExpression {
+        @Override
+        public PolicyCondition compile() {
+            return switch (operator) {
+                case EQ -> equality(false);
+                case NE -> equality(true);
+                case GT -> ordering(compared -> compared > 0);
+                case GE -> ordering(compared -> compared >= 0);
+                case LT -> ordering(compared -> compared < 0);
+                case LE -> ordering(compared -> compared <= 0);
+                case IN -> membership();
+            };
+        }
+
+        private PolicyCondition equality(boolean negate) {
+            if (right instanceof Literal literal) {
+                String expected = normalize(literal.value());
+                return attributes -> {
+                    String actual = normalize(left.resolve(attributes));
+                    return negate != (expected == null ? actual == null : expected.equals(actual));
+                };
+            }
+            return attributes -> {
+                String actual = normalize(left.resolve(attributes));
+                String expected = normalize(right.resolve(attributes));
+                return negate != (expected == null ? actual == null : expected.equals(actual));
+            };
+        }
+
+        private PolicyCondition ordering(IntPredicate accept) {
+            if (right instanceof Literal literal) {
+                BigDecimal expected = toNumber(literal.value());
+                if (expected == null) {
+                    throw new IllegalArgumentException("크기 비교에는 숫자가 필요합니다: " + literal.value());
+                }
+                return attributes -> {
+                    BigDecimal actual = toNumber(left.resolve(attributes));
+                    return actual != null && accept.test(actual.compareTo(expected));
+                };
+            }
+            return attributes -> {
+                BigDecimal actual = toNumber(left.resolve(attributes));
+                BigDecimal expected = toNumber(right.resolve(attributes));
+                return actual != null && expected != null && accept.test(actual.compareTo(expected));
+            };
+        }
+
+        private PolicyCondition membership() {
+            if (!(right instanceof ListLiteral list)) {
+                throw new IllegalArgumentException("IN 뒤에는 목록이 필요합니다");
+            }
+            Set<String> expected = list.values().stream()
+                    .map(PolicyExpression::normalize)
+                    .collect(Collectors.toUnmodifiableSet());
+            return attributes -> {
+                String actual = normalize(left.resolve(attributes));
+                return actual != null && expected.contains(actual);
+            };
+        }
+    }
+
+    /**
+     * 비교 연산자
+     */
+    enum Operator {
+        EQ, NE, GT, GE, LT, LE, IN
+    }
+
+    /**
+     * 비교 피연산자
+     */
+    sealed interface Operand permits Attribute, Literal, ListLiteral {
+        Object resolve(Map<String, Object> attributes);
+    }
+
+    /**
+     * 문서 속성 참조 (예: amount, documentType)
+     */
+    record Attribute(String name) implements Operand {
+        @Override
+        public Object resolve(Map<String, Object> attributes) {
+            return attributes.get(name);
+        }
+    }
+
+    /**
+     * 상수 (문자열, 숫자, true/false, null)
+     */
+    record Literal(Object value) implements Operand {
+        @Override
+        public Object resolve(Map<String, Object> attributes) {
+            return value;
+        }
+    }
+
+    /**
+     * 상수 목록 (IN 연산용)
+     */
+    record ListLiteral(List<Object> values) implements Operand {
+        @Override
+        public Object resolve(Map<String, Object> attributes) {
+            return values;
+        }
+    }
+
+    /**
+     * 동등 비교용 정규화 (숫자는 1000000과 1000000.0이 같도록 변환)
+     */
+    static String normalize(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Number) {
+            BigDecimal number = toNumber(value);
+            return number != null ? number.stripTrailingZeros().toPlainString() : value.toString();
+        }
+        if (value instanceof Enum<?> enumValue) {
+            return enumValue.name();
+        }
+        return value.toString();
+    }
+
+    /**
+     * 크기 비교용 숫자 변환 (숫자가 아니면 null)
+     */
+    static BigDecimal toNumber(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        if (value instanceof Number number) {
+            double doubleValue = number.doubleValue();
+            return Double.isFinite(doubleValue) ? BigDecimal.valueOf(doubleValue) : null;
+        }
+        if (value instanceof String text && !text.isBlank()) {
+            try {
+                return new BigDecimal(text.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,273 @@
+package com.brotherhood.approval.policy;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 결재선 정책 조건식 파서 (재귀 하향식)
+ *
+ * <pre>
+ * expression := or
+ * or         := and (("||" | OR) and)*
+ * and        := unary (("&amp;&amp;" | AND) unary)*
+ * unary      := ("!" | NOT) unary | "(" expression ")" | comparison
+ * comparison := operand ("==" | "=" | "!=" | "&gt;" | "&gt;=" | "&lt;" | "&lt;=") operand
+ *             | operand IN "[" literal ("," literal)* "]"
+ * operand    := identifier | number | 'string' | "string" | true | false | null
+ * </pre>
+ *
+ * 예: {@code documentType == 'BUDGET' && (amount > 1000000 || securityLevel IN ['CONFIDENTIAL', 'SECRET'])}
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+public final class PolicyExpressionParser {
+
+    private final String source;
+    private final List<Token> tokens;
+    private int position;
+
+    private PolicyExpressionParser(String source) {
+        this.source = source;
+        this.tokens = tokenize(source);
+    }
+
+    /**
+     * 조건식 파싱
+     *
+     * @throws IllegalArgumentException 문법 오류
+     */
+    public static PolicyExpression parse(String source) {
+        if (source == null || source.isBlank()) {
+            throw new IllegalArgumentException("조건식이 비어 있습니다");
+        }
+        PolicyExpressionParser parser = new PolicyExpressionParser(source);
+        PolicyExpression expression = parser.parseOr();
+        if (!parser.peek().is(TokenType.END)) {
+            throw parser.error("예상하지 못한 토큰 '" + parser.peek().text() + "'");
+        }
+        return expression;
+    }
+
+    /**
+     * 조건식 파싱 후 평가 객체로 컴파일
+     */
+    public static PolicyCondition compile(String source) {
+        PolicyExpression expression = parse(source);
+        try {
+            return expression.compile();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 조건식입니다: " + source + " (" + e.getMessage() + ")");
+        }
+    }
+
+    private PolicyExpression parseOr() {
+        List<PolicyExpression> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (accept(TokenType.OR)) {
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new PolicyExpression.Or(List.copyOf(operands));
+    }
+
+    private PolicyExpression parseAnd() {
+        List<PolicyExpression> operands = new ArrayList<>();
+        operands.add(parseUnary());
+        while (accept(TokenType.AND)) {
+            operands.add(parseUnary());
+        }
+        return operands.size() == 1 ? operands.get(0) : new PolicyExpression.And(List.copyOf(operands));
+    }
+
+    private PolicyExpression parseUnary() {
+        if (accept(TokenType.NOT)) {
+            return new PolicyExpression.Not(parseUnary());
+        }
+        if (accept(TokenType.LEFT_PAREN)) {
+            PolicyExpression expression = parseOr();
+            expect(TokenType.RIGHT_PAREN, "')'");
+            return expression;
+        }
+        return parseComparison();
+    }
+
+    private PolicyExpression parseComparison() {
+        PolicyExpression.Operand left = parseOperand();
+
+        Token operatorToken = peek();
+        if (operatorToken.is(TokenType.IN)) {
+            position++;
+            return new PolicyExpression.Comparison(left, PolicyExpression.Operator.IN, parseList());
+        }
+        if (!operatorToken.is(TokenType.OPERATOR)) {
+            throw error("비교 연산자가 필요합니다");
+        }
+        position++;
+
+        PolicyExpression.Operator operator = switch (operatorToken.text()) {
+            case "==", "=" -> PolicyExpression.Operator.EQ;
+            case "!=" -> PolicyExpression.Operator.NE;
+            case ">" -> PolicyExpression.Operator.GT;
+            case ">=" -> PolicyExpression.Operator.GE;
+            case "<" -> PolicyExpression.Operator.LT;
+            case "<=" -> PolicyExpression.Operator.LE;
+            default -> throw error("지원하지 않는 연산자 '" + operatorToken.text() + "'");
+        };
+        return new PolicyExpression.Comparison(left, operator, parseOperand());
+    }
+
+    private PolicyExpression.ListLiteral parseList() {
+        expect(TokenType.LEFT_BRACKET, "'['");
+        List<Object> values = new ArrayList<>();
+        do {
+            PolicyExpression.Operand operand = parseOperand();
+            if (!(operand instanceof PolicyExpression.Literal literal)) {
+                throw error("IN 목록에는 상수만 사용할 수 있습니다");
+            }
+            values.add(literal.value());
+        } while (accept(TokenType.COMMA));
+        expect(TokenType.RIGHT_BRACKET, "']'");
+        return new PolicyExpression.ListLiteral(Collections.unmodifiableList(values));
+    }
+
+    private PolicyExpression.Operand parseOperand() {
+        Token token = peek();
+        position++;
+        return switch (token.type()) {
+            case IDENTIFIER -> switch (token.text().toLowerCase(Locale.ROOT)) {
+                case "true" -> new PolicyExpression.Literal(Boolean.TRUE);
+                case "false" -> new PolicyExpression.Literal(Boolean.FALSE);
+                case "null" -> new PolicyExpression.Literal(null);
+                default -> new PolicyExpression.Attribute(token.text());
+            };
+            case NUMBER -> {
+                try {
+                    yield new PolicyExpression.Literal(new BigDecimal(token.text()));
+                } catch (NumberFormatException e) {
+                    position--;
+                    throw error("잘못된 숫자 '" + token.text() + "'");
+                }
+            }
+            case STRING -> new PolicyExpression.Literal(token.text());
+            default -> {
+                position--;
+                throw error(token.is(TokenType.END) ? "식이 끝나기 전에 피연산자가 필요합니다" : "피연산자가 필요합니다");
+            }
+        };
+    }
+
+    private boolean accept(TokenType type) {
+        if (peek().is(type)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(TokenType type, String description) {
+        if (!accept(type)) {
+            throw error(description + "가 필요합니다");
+        }
+    }
+
+    private Token peek() {
+        return tokens.get(position);
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("잘못된 조건식입니다: " + source
+                + " (" + message + ", 위치 " + peek().offset() + ")");
+    }
+
+    private static List<Token> tokenize(String source) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        int length = source.length();
+
+        while (i < length) {
+            char c = source.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+
+            int start = i;
+            if (Character.isLetter(c) || c == '_') {
+                while (i < length && (Character.isLetterOrDigit(source.charAt(i))
+                        || source.charAt(i) == '_' || source.charAt(i) == '.')) {
+                    i++;
+                }
+                String word = source.substring(start, i);
+                TokenType type = switch (word.toUpperCase(Locale.ROOT)) {
+                    case "AND" -> TokenType.AND;
+                    case "OR" -> TokenType.OR;
+                    case "NOT" -> TokenType.NOT;
+                    case "IN" -> TokenType.IN;
+                    default -> TokenType.IDENTIFIER;
+                };
+                tokens.add(new Token(type, word, start));
+            } else if (Character.isDigit(c) || (c == '-' && i + 1 < length && Character.isDigit(source.charAt(i + 1)))) {
+                i++;
+                while (i < length && (Character.isDigit(source.charAt(i)) || source.charAt(i) == '.' || source.charAt(i) == '_')) {
+                    i++;
+                }
+                tokens.add(new Token(TokenType.NUMBER, source.substring(start, i).replace("_", ""), start));
+            } else if (c == '\'' || c == '"') {
+                int end = source.indexOf(c, i + 1);
+                if (end < 0) {
+                    throw new IllegalArgumentException("잘못된 조건식입니다: " + source + " (닫히지 않은 문자열, 위치 " + start + ")");
+                }
+                tokens.add(new Token(TokenType.STRING, source.substring(i + 1, end), start));
+                i = end + 1;
+            } else if (source.startsWith("&&", i)) {
+                tokens.add(new Token(TokenType.AND, "&&", start));
+                i += 2;
+            } else if (source.startsWith("||", i)) {
+                tokens.add(new Token(TokenType.OR, "||", start));
+                i += 2;
+            } else if (source.startsWith("==", i) || source.startsWith("!=", i)
+                    || source.startsWith(">=", i) || source.startsWith("<=", i)) {
+                tokens.add(new Token(TokenType.OPERATOR, source.substring(i, i + 2), start));
+                i += 2;
+            } else if (c == '>' || c == '<' || c == '=') {
+                tokens.add(new Token(TokenType.OPERATOR, String.valueOf(c), start));
+                i++;
+            } else if (c == '!') {
+                tokens.add(new Token(TokenType.NOT, "!", start));
+                i++;
+            } else if (c == '(' || c == ')' || c == '[' || c == ']' || c == ',') {
+                TokenType type = switch (c) {
+                    case '(' -> TokenType.LEFT_PAREN;
+                    case ')' -> TokenType.RIGHT_PAREN;
+                    case '[' -> TokenType.LEFT_BRACKET;
+                    case ']' -> TokenType.RIGHT_BRACKET;
+                    default -> TokenType.COMMA;
+                };
+                tokens.add(new Token(type, String.valueOf(c), start));
+                i++;
+            } else {
+                throw new IllegalArgumentException("잘못된 조건식입니다: " + source + " (알 수 없는 문자 '" + c + "', 위치 " + start + ")");
+            }
+        }
+
+        tokens.add(new Token(TokenType.END, "", length));
+        return tokens;
+    }
+
+    private enum TokenType {
+        IDENTIFIER, NUMBER, STRING, OPERATOR,
+        AND, OR, NOT, IN,
+        LEFT_PAREN, RIGHT_PAREN, LEFT_BRACKET, RIGHT_BRACKET, COMMA,
+        END
+    }
+
+    private record Token(TokenType type, String text, int offset) {
+        boolean is(TokenType expected) {
+            return type == expected;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.brotherhood.approval.policy;
+
+/**
+ * 정책 평가 결과 결재단계 계획 (결재자는 역할/지사로만 지정, 해석은 {@code ApproverResolver} 담당)
+ *
+ * @param stepOrder          결재 순서 (같은 순서는 병렬)
+ * @param roleName           결재자 역할명
+ * @param branch             {@link #DOCUMENT_BRANCH} 또는 지사 코드
+ * @param condition          단계 적용 조건 원문 (없으면 null)
+ * @param required           필수 여부
+ * @param delegatable        위임 가능 여부
+ * @param maxDelegationLevel 최대 위임 단계
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+public record StepPlan(int stepOrder, String roleName, String branch, String condition,
+                       boolean required, boolean delegatable, int maxDelegationLevel) {
+
+    public static final String DOCUMENT_BRANCH = "DOCUMENT";
+
+    public boolean usesDocumentBranch() {
+        return branch == null || DOCUMENT_BRANCH.equalsIgnoreCase(branch);
+    }
+}
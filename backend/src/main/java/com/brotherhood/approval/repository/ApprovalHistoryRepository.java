@@ -28,6 +28,16 @@ public interface ApprovalHistoryRepository extends JpaRepository<ApprovalHistory
     @Query("SELECT ah FROM ApprovalHistory ah WHERE ah.documentId = :documentId ORDER BY ah.actionAt DESC")
     List<ApprovalHistory> findByDocumentIdOrderByActionAtDesc(@Param("documentId") UUID documentId);
     
+    /**
+     * 문서별 결재 이력 조회 (결재자/위임받은 사용자 포함)
+     * - [ApprovalHistory, 결재자 User, 위임받은 User(없으면 null)]
+     */
+    @Query("SELECT ah, approver, delegatedTo FROM ApprovalHistory ah " +
+           "LEFT JOIN User approver ON approver.id = ah.approverId " +
+           "LEFT JOIN User delegatedTo ON delegatedTo.id = ah.delegatedToId " +
+           "WHERE ah.documentId = :documentId ORDER BY ah.actionAt DESC")
+    List<Object[]> findWithUsersByDocumentId(@Param("documentId") UUID documentId);
+    
     /**
      * 결재단계별 결재 이력 조회
      */
@@ -25,6 +25,18 @@ public interface ApprovalLineRepository extends JpaRepository<ApprovalLine, UUID
      */
     List<ApprovalLine> findByDocumentId(UUID documentId);
     
+    /**
+     * 문서별 결재선 조회 (결재단계/결재자/대리결재자/작성자를 한 번에 적재)
+     */
+    @Query("SELECT DISTINCT al FROM ApprovalLine al " +
+           "JOIN FETCH al.document " +
+           "JOIN FETCH al.createdBy " +
+           "LEFT JOIN FETCH al.approvalSteps s " +
+           "LEFT JOIN FETCH s.approver " +
+           "LEFT JOIN FETCH s.alternateApprover " +
+           "WHERE al.document.id = :documentId ORDER BY al.createdAt")
+    List<ApprovalLine> findWithStepsByDocumentId(@Param("documentId") UUID documentId);
+    
     /**
      * 병렬 결재선 조회
      */
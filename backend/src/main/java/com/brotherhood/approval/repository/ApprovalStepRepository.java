@@ -2,8 +2,11 @@ package com.brotherhood.approval.repository;
 
 import com.brotherhood.approval.entity.ApprovalStep;
 // Removed enum imports - using String types
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -11,6 +14,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 /**
  * 결재단계 리포지토리
@@ -115,11 +121,93 @@ public interface ApprovalStepRepository extends JpaRepository<ApprovalStep, UUID
            "ast.isRequired = true AND " +
            "ast.status IN ('APPROVED', 'REJECTED')")
     long countCompletedRequiredStepsByApprovalLineId(@Param("approvalLineId") String approvalLineId);
-    
+
+    /**
+     * 결재선별 남은 필수 결재단계 수 (승인되지 않은 필수 단계, 상태 머신 카운터 초기화용)
+     */
+    @Query("SELECT COUNT(ast) FROM ApprovalStep ast WHERE " +
+           "ast.approvalLine.id = :approvalLineId AND " +
+           "ast.isRequired = true AND " +
+           "(ast.status IS NULL OR ast.status <> 'APPROVED')")
+    long countRemainingRequiredStepsByApprovalLineId(@Param("approvalLineId") UUID approvalLineId);
+
+    /**
+     * 문서별 남은 필수 결재단계 수 (모든 결재선 합계, 상태 머신 카운터 초기화용)
+     */
+    @Query("SELECT COUNT(ast) FROM ApprovalStep ast WHERE " +
+           "ast.approvalLine.document.id = :documentId AND " +
+           "ast.isRequired = true AND " +
+           "(ast.status IS NULL OR ast.status <> 'APPROVED')")
+    long countRemainingRequiredStepsByDocumentId(@Param("documentId") UUID documentId);
+
     /**
      * 결재선별 결재단계 조회 (리스트)
      */
     @Query("SELECT ast FROM ApprovalStep ast WHERE ast.approvalLine.id = :approvalLineId")
     List<ApprovalStep> findByApprovalLineId(@Param("approvalLineId") String approvalLineId);
+    
+    // ===== 처리 시간 분석 쿼리 메서드들 =====
+    
+    /**
+     * 결재단계별 체류 시간 분위수 (PostgreSQL 전용)
+     * - 체류 시간 = 단계 완료 시각 - 직전 단계 완료 시각 (첫 단계는 상신 시각)
+     * - [stepOrder, count, avg, p50, p90, p99] (초 단위)
+     */
+    @Query(value = "SELECT s.step_order, COUNT(*), AVG(s.secs), " +
+           "percentile_cont(0.5) WITHIN GROUP (ORDER BY s.secs), " +
+           "percentile_cont(0.9) WITHIN GROUP (ORDER BY s.secs), " +
+           "percentile_cont(0.99) WITHIN GROUP (ORDER BY s.secs) " +
+           "FROM (SELECT st.step_order, " +
+           "      GREATEST(EXTRACT(EPOCH FROM (COALESCE(st.approved_at, st.rejected_at) - " +
+           "        COALESCE(LAG(COALESCE(st.approved_at, st.rejected_at)) " +
+           "                 OVER (PARTITION BY st.approval_line_id ORDER BY st.step_order), " +
+           "                 d.submitted_at, st.created_at))), 0) AS secs " +
+           "      FROM approval_steps st " +
+           "      JOIN approval_lines al ON al.id = st.approval_line_id " +
+           "      JOIN documents d ON d.id = al.document_id) s " +
+           "WHERE s.secs IS NOT NULL " +
+           "GROUP BY s.step_order " +
+           "ORDER BY s.step_order",
+           nativeQuery = true)
+    List<Object[]> getStepDwellPercentiles();
+    
+    /**
+     * 결재단계 처리 시각 스트리밍 (결재선/단계 순서 정렬, 체류 시간 계산용)
+     * - [approvalLineId, stepOrder, createdAt, completedAt, submittedAt]
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT al.id, s.stepOrder, s.createdAt, COALESCE(s.approvedAt, s.rejectedAt), d.submittedAt " +
+           "FROM ApprovalStep s JOIN s.approvalLine al JOIN al.document d " +
+           "ORDER BY al.id, s.stepOrder")
+    Stream<Object[]> streamStepTimings();
+    
+    // ===== 상태 전이 (조건부 UPDATE) =====
+    // 지정 결재자이고 현재 상태가 expected일 때만 갱신하고 변경된 행 수(0 또는 1)를 반환한다.
+    
+    /**
+     * 결재단계 승인 (expected → APPROVED)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ApprovalStep s SET s.status = 'APPROVED', s.approvedAt = :now, s.lockVersion = s.lockVersion + 1 " +
+           "WHERE s.id = :id AND s.approver.id = :approverId AND s.status = :expected")
+    int markApproved(@Param("id") UUID id, @Param("approverId") UUID approverId,
+                     @Param("expected") String expected, @Param("now") LocalDateTime now);
+    
+    /**
+     * 결재단계 반려 (expected → REJECTED)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ApprovalStep s SET s.status = 'REJECTED', s.rejectedAt = :now, s.lockVersion = s.lockVersion + 1 " +
+           "WHERE s.id = :id AND s.approver.id = :approverId AND s.status = :expected")
+    int markRejected(@Param("id") UUID id, @Param("approverId") UUID approverId,
+                     @Param("expected") String expected, @Param("now") LocalDateTime now);
+    
+    /**
+     * 결재단계 위임 (expected → DELEGATED)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ApprovalStep s SET s.status = 'DELEGATED', s.delegatedAt = :now, s.lockVersion = s.lockVersion + 1 " +
+           "WHERE s.id = :id AND s.approver.id = :approverId AND s.status = :expected")
+    int markDelegated(@Param("id") UUID id, @Param("approverId") UUID approverId,
+                      @Param("expected") String expected, @Param("now") LocalDateTime now);
 }
-
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -28,6 +29,18 @@ public interface AttachmentRepository extends JpaRepository<Attachment, UUID> {
     @Query("SELECT a FROM Attachment a WHERE a.document.id = :documentId")
     List<Attachment> findByDocumentId(@Param("documentId") UUID documentId);
     
+    /**
+     * 문서별 첨부파일 조회 (업로드한 사용자 포함)
+     */
+    @Query("SELECT a FROM Attachment a JOIN FETCH a.uploadedBy WHERE a.document.id = :documentId ORDER BY a.uploadedAt")
+    List<Attachment> findWithUploaderByDocumentId(@Param("documentId") UUID documentId);
+    
+    /**
+     * 문서 ID 목록별 첨부파일 조회 (검색 색인용)
+     */
+    @Query("SELECT a FROM Attachment a WHERE a.document.id IN :documentIds")
+    List<Attachment> findByDocumentIdIn(@Param("documentIds") Collection<UUID> documentIds);
+    
     /**
      * 업로더별 첨부파일 조회
      */
@@ -1,9 +1,13 @@
 package com.brotherhood.approval.repository;
 
+import com.brotherhood.approval.config.SecondLevelCacheConfig;
 import com.brotherhood.approval.entity.Branch;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -25,6 +29,10 @@ public interface BranchRepository extends JpaRepository<Branch, UUID> {
     /**
      * 지사 코드로 조회
      */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.BRANCH_BY_CODE_QUERY_REGION)
+    })
     Optional<Branch> findByCode(String code);
     
     /**
@@ -54,5 +62,30 @@ public interface BranchRepository extends JpaRepository<Branch, UUID> {
      */
     @Query("SELECT COUNT(u) FROM User u WHERE u.branch.id = :branchId AND u.isActive = true")
     long countActiveUsersByBranchId(@Param("branchId") UUID branchId);
+    
+    /**
+     * 결재자 해석 테이블 구성용 조회 (단일 쿼리)
+     * - [branchId, parentBranchId, branchCode, userId, roleName, grantedAt]
+     * - 지사마다 (활성 사용자 x 활성 역할 부여) 수만큼 행이 반복되며 사용자가 없는 지사는 userId가 null
+     * - 비활성 사용자, 비활성 역할 부여, 비활성 역할은 조인에서 빠져 결재자 후보가 되지 않는다 (roleName이 null인 행)
+     */
+    @Query("SELECT b.id, p.id, b.code, u.id, r.name, ur.grantedAt FROM Branch b " +
+           "LEFT JOIN b.parent p " +
+           "LEFT JOIN User u ON u.branch = b AND u.isActive = true " +
+           "LEFT JOIN u.userRoles ur ON ur.isActive = true " +
+           "LEFT JOIN ur.role r ON r.isActive = true")
+    List<Object[]> findApproverResolutionRows();
+    
+    /**
+     * 사용자 한 명의 결재자 후보 조회 (결재자 해석 테이블 부분 갱신용)
+     * - [branchId, roleName, grantedAt]
+     * - 활성 조건은 {@link #findApproverResolutionRows}와 같다
+     */
+    @Query("SELECT b.id, r.name, ur.grantedAt FROM User u " +
+           "JOIN u.branch b " +
+           "JOIN u.userRoles ur " +
+           "JOIN ur.role r " +
+           "WHERE u.id = :userId AND u.isActive = true AND ur.isActive = true AND r.isActive = true " +
+           "ORDER BY ur.grantedAt")
+    List<Object[]> findApproverResolutionRowsByUserId(@Param("userId") UUID userId);
 }
-
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,6 +28,19 @@ public interface CommentRepository extends JpaRepository<Comment, UUID> {
     @Query("SELECT c FROM Comment c WHERE c.document.id = :documentId ORDER BY c.createdAt DESC")
     List<Comment> findByDocumentIdOrderByCreatedAtDesc(@Param("documentId") UUID documentId);
     
+    /**
+     * 문서별 댓글 조회 (답글 포함 전체, 작성자 포함)
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.document.id = :documentId ORDER BY c.createdAt DESC")
+    List<Comment> findWithAuthorByDocumentId(@Param("documentId") UUID documentId);
+    
+    /**
+     * 문서 ID 목록별 댓글 내용 조회 (검색 색인용)
+     * - [documentId, content]
+     */
+    @Query("SELECT c.document.id, c.content FROM Comment c WHERE c.document.id IN :documentIds")
+    List<Object[]> findContentsByDocumentIds(@Param("documentIds") Collection<UUID> documentIds);
+    
     /**
      * 문서별 댓글 조회 (페이지네이션)
      */
@@ -0,0 +1,88 @@
+package com.brotherhood.approval.repository;
+
+import com.brotherhood.approval.entity.DocumentDailyStat;
+import com.brotherhood.approval.entity.DocumentDailyStatId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일별 문서 통계 리포지토리
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Repository
+public interface DocumentDailyStatRepository extends JpaRepository<DocumentDailyStat, DocumentDailyStatId> {
+
+    // ===== 집계 갱신 =====
+    // 네이티브 쿼리는 영향받는 테이블을 명시해야 Hibernate가 2차 캐시 전체를 비우지 않는다.
+
+    /**
+     * 기간 내 집계 삭제 [fromDate, toDate)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "document_daily_stats"))
+    @Query(value = "DELETE FROM document_daily_stats WHERE stat_date >= :fromDate AND stat_date < :toDate",
+           nativeQuery = true)
+    int deleteByDateRange(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    /**
+     * 기간 내 문서를 일 단위로 다시 집계 [fromTime, toTime)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "document_daily_stats"))
+    @Query(value = "INSERT INTO document_daily_stats " +
+           "(stat_date, branch_id, document_type, status, security_level, document_count, refreshed_at) " +
+           "SELECT CAST(d.created_at AS DATE), d.branch_id, d.document_type, d.status, d.security_level, " +
+           "COUNT(*), CURRENT_TIMESTAMP " +
+           "FROM documents d " +
+           "WHERE d.created_at >= :fromTime AND d.created_at < :toTime " +
+           "GROUP BY CAST(d.created_at AS DATE), d.branch_id, d.document_type, d.status, d.security_level",
+           nativeQuery = true)
+    int insertAggregatedRange(@Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime);
+
+    // ===== 통계 조회 =====
+
+    /**
+     * 기준일 이전 전체 누적 (지사 × 유형 × 상태 × 보안등급)
+     * - [branchId, documentType, status, securityLevel, count]
+     */
+    @Query("SELECT s.id.branchId, s.id.documentType, s.id.status, s.id.securityLevel, SUM(s.documentCount) " +
+           "FROM DocumentDailyStat s " +
+           "WHERE s.id.statDate < :beforeDate " +
+           "GROUP BY s.id.branchId, s.id.documentType, s.id.status, s.id.securityLevel")
+    List<Object[]> sumBefore(@Param("beforeDate") LocalDate beforeDate);
+
+    /**
+     * 월별 생성/승인/반려 문서 수 [fromDate, beforeDate)
+     * - [year, month, created, approved, rejected]
+     */
+    @Query("SELECT YEAR(s.id.statDate), MONTH(s.id.statDate), SUM(s.documentCount), " +
+           "SUM(CASE WHEN s.id.status = 'APPROVED' THEN s.documentCount ELSE 0 END), " +
+           "SUM(CASE WHEN s.id.status = 'REJECTED' THEN s.documentCount ELSE 0 END) " +
+           "FROM DocumentDailyStat s " +
+           "WHERE s.id.statDate >= :fromDate AND s.id.statDate < :beforeDate " +
+           "GROUP BY YEAR(s.id.statDate), MONTH(s.id.statDate)")
+    List<Object[]> sumByMonth(@Param("fromDate") LocalDate fromDate, @Param("beforeDate") LocalDate beforeDate);
+
+    /**
+     * 일자별 상태별 문서 수 (정합성 검사용)
+     * - [statDate, status, count]
+     */
+    @Query("SELECT s.id.statDate, s.id.status, SUM(s.documentCount) " +
+           "FROM DocumentDailyStat s " +
+           "WHERE s.id.statDate < :beforeDate " +
+           "GROUP BY s.id.statDate, s.id.status")
+    List<Object[]> sumByDateAndStatus(@Param("beforeDate") LocalDate beforeDate);
+}
@@ -1,17 +1,27 @@
 package com.brotherhood.approval.repository;
 
+import com.brotherhood.approval.dto.document.DocumentSummary;
 import com.brotherhood.approval.entity.Document;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
 
 /**
  * 문서 리포지토리
@@ -23,100 +33,192 @@ import java.util.UUID;
 @Repository
 public interface DocumentRepository extends JpaRepository<Document, UUID> {
     
+    /**
+     * 사용자가 결재해야 하는 문서 ID (결재 대기 단계가 있고 문서가 결재 중인 경우)
+     */
+    String PENDING_APPROVAL_DOCUMENT_IDS =
+           "  SELECT al.document.id FROM ApprovalLine al " +
+           "  JOIN al.approvalSteps ast " +
+           "  JOIN al.document d2 " +
+           "  WHERE ast.approver.id = :userId " +
+           "  AND ast.status = 'PENDING' " +
+           "  AND d2.status IN ('PENDING', 'SUBMITTED')";
+    
     /**
      * 문서번호로 조회
      */
     Optional<Document> findByDocumentNumber(String documentNumber);
     
+    /**
+     * 문서 상세 조회 (작성자/지사 포함, 본문/반려사유는 지연 로딩 그룹으로 접근 시 적재)
+     */
+    @Query("SELECT d FROM Document d JOIN FETCH d.author JOIN FETCH d.branch WHERE d.id = :id")
+    Optional<Document> findDetailById(@Param("id") UUID id);
+    
+    // ===== 목록 조회 (DocumentSummary 프로젝션) =====
+    // 본문 등 TEXT 컬럼을 읽지 않고 작성자/지사를 한 번에 조인한다. 조인이 필요 없는 COUNT 쿼리는 별도로 지정한다.
+    
+    /**
+     * 전체 문서 목록 조회
+     */
+    @Query(value = DocumentSummary.SELECT,
+           countQuery = "SELECT COUNT(d) FROM Document d")
+    Page<DocumentSummary> findAllSummaries(Pageable pageable);
+    
     /**
      * 작성자별 문서 조회
      */
-    @Query("SELECT d FROM Document d WHERE d.author.id = :authorId")
-    Page<Document> findByAuthorId(@Param("authorId") UUID authorId, Pageable pageable);
+    @Query(value = DocumentSummary.SELECT + "WHERE a.id = :authorId",
+           countQuery = "SELECT COUNT(d) FROM Document d WHERE d.author.id = :authorId")
+    Page<DocumentSummary> findByAuthorId(@Param("authorId") UUID authorId, Pageable pageable);
     
     /**
      * 지사별 문서 조회
      */
-    @Query("SELECT d FROM Document d WHERE d.branch.id = :branchId")
-    Page<Document> findByBranchId(@Param("branchId") UUID branchId, Pageable pageable);
+    @Query(value = DocumentSummary.SELECT + "WHERE b.id = :branchId",
+           countQuery = "SELECT COUNT(d) FROM Document d WHERE d.branch.id = :branchId")
+    Page<DocumentSummary> findByBranchId(@Param("branchId") UUID branchId, Pageable pageable);
     
     /**
      * 상태별 문서 조회
      */
-    Page<Document> findByStatus(String status, Pageable pageable);
+    @Query(value = DocumentSummary.SELECT + "WHERE d.status = :status",
+           countQuery = "SELECT COUNT(d) FROM Document d WHERE d.status = :status")
+    Page<DocumentSummary> findByStatus(@Param("status") String status, Pageable pageable);
     
     /**
      * 문서 유형별 조회
      */
-    Page<Document> findByDocumentType(String documentType, Pageable pageable);
+    @Query(value = DocumentSummary.SELECT + "WHERE d.documentType = :documentType",
+           countQuery = "SELECT COUNT(d) FROM Document d WHERE d.documentType = :documentType")
+    Page<DocumentSummary> findByDocumentType(@Param("documentType") String documentType, Pageable pageable);
     
     /**
      * 보안 등급별 문서 조회
      */
-    Page<Document> findBySecurityLevel(String securityLevel, Pageable pageable);
+    @Query(value = DocumentSummary.SELECT + "WHERE d.securityLevel = :securityLevel",
+           countQuery = "SELECT COUNT(d) FROM Document d WHERE d.securityLevel = :securityLevel")
+    Page<DocumentSummary> findBySecurityLevel(@Param("securityLevel") String securityLevel, Pageable pageable);
     
     /**
      * 우선순위별 문서 조회
      */
-    Page<Document> findByPriority(String priority, Pageable pageable);
+    @Query(value = DocumentSummary.SELECT + "WHERE d.priority = :priority",
+           countQuery = "SELECT COUNT(d) FROM Document d WHERE d.priority = :priority")
+    Page<DocumentSummary> findByPriority(@Param("priority") String priority, Pageable pageable);
+    
+    /**
+     * ID 목록으로 문서 조회 (검색 결과 적재용, 순서는 보장하지 않음)
+     */
+    @Query(DocumentSummary.SELECT + "WHERE d.id IN :ids")
+    List<DocumentSummary> findSummariesByIds(@Param("ids") Collection<UUID> ids);
     
     /**
      * 작성자별 상태별 문서 조회
      */
-    @Query("SELECT d FROM Document d WHERE d.author.id = :authorId AND d.status = :status")
-    Page<Document> findByAuthorIdAndStatus(@Param("authorId") UUID authorId, @Param("status") String status, Pageable pageable);
+    @Query(value = DocumentSummary.SELECT + "WHERE a.id = :authorId AND d.status = :status",
+           countQuery = "SELECT COUNT(d) FROM Document d WHERE d.author.id = :authorId AND d.status = :status")
+    Page<DocumentSummary> findByAuthorIdAndStatus(@Param("authorId") UUID authorId, @Param("status") String status, Pageable pageable);
     
     /**
      * 지사별 상태별 문서 조회
      */
-    @Query("SELECT d FROM Document d WHERE d.branch.id = :branchId AND d.status = :status")
-    Page<Document> findByBranchIdAndStatus(@Param("branchId") UUID branchId, @Param("status") String status, Pageable pageable);
+    @Query(value = DocumentSummary.SELECT + "WHERE b.id = :branchId AND d.status = :status",
+           countQuery = "SELECT COUNT(d) FROM Document d WHERE d.branch.id = :branchId AND d.status = :status")
+    Page<DocumentSummary> findByBranchIdAndStatus(@Param("branchId") UUID branchId, @Param("status") String status, Pageable pageable);
     
     /**
      * 문서 검색 (제목, 내용)
-     */
-    @Query("SELECT d FROM Document d WHERE " +
-           "(d.title LIKE %:keyword% OR d.content LIKE %:keyword%) AND " +
+     * - 본문은 검색 조건에만 쓰고 조회하지 않는다
+     * - 압축 저장된 본문(긴 문서)은 LIKE로 찾을 수 없으므로 검색 색인에서 찾은 본문 일치 문서 ID를 함께 받는다
+     *   (색인이 꺼져 있으면 본문을 압축하지 않으므로 LIKE만으로 충분하다)
+     */
+    @Query(value = DocumentSummary.SELECT + "WHERE " +
+           "(d.title LIKE %:keyword% OR d.content LIKE %:keyword% OR d.id IN :contentMatchIds) AND " +
+           "b.id = :branchId",
+           countQuery = "SELECT COUNT(d) FROM Document d WHERE " +
+           "(d.title LIKE %:keyword% OR d.content LIKE %:keyword% OR d.id IN :contentMatchIds) AND " +
            "d.branch.id = :branchId")
-    Page<Document> findByKeywordAndBranchId(@Param("keyword") String keyword, 
-                                           @Param("branchId") UUID branchId, 
-                                           Pageable pageable);
+    Page<DocumentSummary> findByKeywordAndBranchId(@Param("keyword") String keyword, 
+                                                  @Param("branchId") UUID branchId, 
+                                                  @Param("contentMatchIds") Collection<UUID> contentMatchIds,
+                                                  Pageable pageable);
+    
+    /**
+     * 전체 지사 문서 검색 (제목, 내용)
+     * - 조건은 {@link #findByKeywordAndBranchId}와 같다
+     */
+    @Query(value = DocumentSummary.SELECT + "WHERE " +
+           "d.title LIKE %:keyword% OR d.content LIKE %:keyword% OR d.id IN :contentMatchIds",
+           countQuery = "SELECT COUNT(d) FROM Document d WHERE " +
+           "d.title LIKE %:keyword% OR d.content LIKE %:keyword% OR d.id IN :contentMatchIds")
+    Page<DocumentSummary> findByKeyword(@Param("keyword") String keyword,
+                                        @Param("contentMatchIds") Collection<UUID> contentMatchIds,
+                                        Pageable pageable);
     
     /**
      * 결재 참여자별 문서 조회
      */
-    @Query("SELECT DISTINCT d FROM Document d " +
-           "JOIN d.approvalLines al " +
-           "JOIN al.approvalSteps ast " +
-           "WHERE ast.approver.id = :userId")
-    Page<Document> findByApproverId(@Param("userId") String userId, Pageable pageable);
+    @Query(value = DocumentSummary.SELECT + "WHERE d.id IN (" +
+           "  SELECT al.document.id FROM ApprovalLine al " +
+           "  JOIN al.approvalSteps ast " +
+           "  WHERE ast.approver.id = :userId" +
+           ")",
+           countQuery = "SELECT COUNT(d) FROM Document d WHERE d.id IN (" +
+           "  SELECT al.document.id FROM ApprovalLine al " +
+           "  JOIN al.approvalSteps ast " +
+           "  WHERE ast.approver.id = :userId" +
+           ")")
+    Page<DocumentSummary> findByApproverId(@Param("userId") UUID userId, Pageable pageable);
     
     /**
      * 결재 대기 문서 조회
      * - 결재선이 존재하고, 해당 사용자가 결재해야 하는 문서만 조회
      * - 결재선이 없는 문서는 제외
      */
-    @Query("SELECT d FROM Document d " +
-           "WHERE d.id IN (" +
-           "  SELECT DISTINCT d2.id FROM Document d2 " +
-           "  INNER JOIN d2.approvalLines al " +
-           "  INNER JOIN al.approvalSteps ast " +
-           "  WHERE ast.approver.id = :userId " +
-           "  AND ast.status = 'PENDING' " +
-           "  AND d2.status IN ('PENDING', 'SUBMITTED')" +
+    @Query(value = DocumentSummary.SELECT + "WHERE d.id IN (" +
+           PENDING_APPROVAL_DOCUMENT_IDS +
+           ")",
+           countQuery = "SELECT COUNT(d) FROM Document d WHERE d.id IN (" +
+           PENDING_APPROVAL_DOCUMENT_IDS +
+           ")")
+    Page<DocumentSummary> findPendingApprovalByUserId(@Param("userId") UUID userId, Pageable pageable);
+    
+    /**
+     * 결재 대기 문서 수 조회
+     */
+    @Query("SELECT COUNT(d) FROM Document d WHERE d.id IN (" +
+           PENDING_APPROVAL_DOCUMENT_IDS +
            ")")
-    Page<Document> findPendingApprovalByUserId(@Param("userId") UUID userId, Pageable pageable);
+    long countPendingApprovalByUserId(@Param("userId") UUID userId);
     
     /**
      * 기간별 문서 조회
      */
-    @Query("SELECT d FROM Document d WHERE " +
+    @Query(value = DocumentSummary.SELECT + "WHERE " +
+           "d.createdAt BETWEEN :startDate AND :endDate AND " +
+           "b.id = :branchId",
+           countQuery = "SELECT COUNT(d) FROM Document d WHERE " +
            "d.createdAt BETWEEN :startDate AND :endDate AND " +
            "d.branch.id = :branchId")
-    Page<Document> findByDateRangeAndBranchId(@Param("startDate") LocalDateTime startDate,
-                                             @Param("endDate") LocalDateTime endDate,
-                                             @Param("branchId") UUID branchId,
-                                             Pageable pageable);
+    Page<DocumentSummary> findByDateRangeAndBranchId(@Param("startDate") LocalDateTime startDate,
+                                                    @Param("endDate") LocalDateTime endDate,
+                                                    @Param("branchId") UUID branchId,
+                                                    Pageable pageable);
+    
+    /**
+     * 작성자별 최근 문서 조회 (생성일 기준 내림차순)
+     */
+    @Query(value = DocumentSummary.SELECT + "WHERE a.id = :authorId ORDER BY d.createdAt DESC",
+           countQuery = "SELECT COUNT(d) FROM Document d WHERE d.author.id = :authorId")
+    Page<DocumentSummary> findByAuthorIdOrderByCreatedAtDesc(@Param("authorId") UUID authorId, Pageable pageable);
+    
+    /**
+     * 최근 문서 조회 (지사별)
+     */
+    @Query(DocumentSummary.SELECT + "WHERE b.id = :branchId " +
+           "ORDER BY d.createdAt DESC")
+    List<DocumentSummary> findRecentDocumentsByBranchId(@Param("branchId") UUID branchId, Pageable pageable);
     
     /**
      * 문서번호 중복 확인
@@ -146,19 +248,6 @@ public interface DocumentRepository extends JpaRepository<Document, UUID> {
     @Query("SELECT COUNT(d) FROM Document d WHERE d.author.id = :authorId AND d.status = :status")
     long countByAuthorIdAndStatus(@Param("authorId") UUID authorId, @Param("status") String status);
     
-    /**
-     * 작성자별 최근 문서 조회 (생성일 기준 내림차순)
-     */
-    @Query("SELECT d FROM Document d WHERE d.author.id = :authorId ORDER BY d.createdAt DESC")
-    Page<Document> findByAuthorIdOrderByCreatedAtDesc(@Param("authorId") UUID authorId, Pageable pageable);
-    
-    /**
-     * 최근 문서 조회 (지사별)
-     */
-    @Query("SELECT d FROM Document d WHERE d.branch.id = :branchId " +
-           "ORDER BY d.createdAt DESC")
-    List<Document> findRecentDocumentsByBranchId(@Param("branchId") UUID branchId, Pageable pageable);
-    
     /**
      * 최근 10개 문서 조회
      */
@@ -254,5 +343,193 @@ public interface DocumentRepository extends JpaRepository<Document, UUID> {
         LocalDateTime startDate = LocalDateTime.now().minusMonths(12);
         return getMonthlyTrend(startDate);
     }
+    
+    // ===== 처리 시간 분석 쿼리 메서드들 =====
+    
+    /**
+     * 문서 처리 시간 분위수 (PostgreSQL 전용, 단일 패스)
+     * - GROUPING SETS로 유형별/지사별/전체를 한 번에 집계한다
+     * - [groupingType, groupingBranch, documentType, branchId, branchName, count, avg, p50, p90, p99, min, max] (초 단위)
+     */
+    @Query(value = "SELECT GROUPING(x.document_type), GROUPING(b.id), " +
+           "x.document_type, CAST(b.id AS VARCHAR), b.name, COUNT(*), AVG(x.secs), " +
+           "percentile_cont(0.5) WITHIN GROUP (ORDER BY x.secs), " +
+           "percentile_cont(0.9) WITHIN GROUP (ORDER BY x.secs), " +
+           "percentile_cont(0.99) WITHIN GROUP (ORDER BY x.secs), " +
+           "MIN(x.secs), MAX(x.secs) " +
+           "FROM (SELECT d.document_type, d.branch_id, " +
+           "      EXTRACT(EPOCH FROM (COALESCE(d.approved_at, d.rejected_at) - d.submitted_at)) AS secs " +
+           "      FROM documents d " +
+           "      WHERE d.submitted_at IS NOT NULL " +
+           "      AND COALESCE(d.approved_at, d.rejected_at) IS NOT NULL) x " +
+           "JOIN branches b ON b.id = x.branch_id " +
+           "GROUP BY GROUPING SETS ((x.document_type), (b.id, b.name), ())",
+           nativeQuery = true)
+    List<Object[]> getProcessingTimePercentiles();
+    
+    /**
+     * 완료된 문서의 처리 시각 스트리밍 (분위수 스케치 계산용)
+     * - [documentType, branchId, branchName, submittedAt, completedAt]
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT d.documentType, b.id, b.name, d.submittedAt, COALESCE(d.approvedAt, d.rejectedAt) " +
+           "FROM Document d JOIN d.branch b " +
+           "WHERE d.submittedAt IS NOT NULL " +
+           "AND (d.approvedAt IS NOT NULL OR d.rejectedAt IS NOT NULL)")
+    Stream<Object[]> streamProcessingTimes();
+    
+    // ===== 일별 통계 집계 쿼리 메서드들 =====
+    
+    /**
+     * 기준 시각 이후 생성된 문서 누적 (지사 × 유형 × 상태 × 보안등급)
+     * - [branchId, documentType, status, securityLevel, count]
+     */
+    @Query("SELECT d.branch.id, d.documentType, d.status, d.securityLevel, COUNT(d) " +
+           "FROM Document d WHERE d.createdAt >= :since " +
+           "GROUP BY d.branch.id, d.documentType, d.status, d.securityLevel")
+    List<Object[]> countByDimensionsSince(@Param("since") LocalDateTime since);
+    
+    /**
+     * 기준 시각 이후 생성 또는 변경된 문서의 생성일 목록
+     */
+    @Query("SELECT DISTINCT CAST(d.createdAt AS LocalDate) FROM Document d " +
+           "WHERE d.updatedAt > :since OR d.createdAt > :since")
+    List<LocalDate> findCreatedDatesChangedSince(@Param("since") LocalDateTime since);
+    
+    /**
+     * 가장 오래된 문서 생성 시각
+     */
+    @Query("SELECT MIN(d.createdAt) FROM Document d")
+    Optional<LocalDateTime> findMinCreatedAt();
+    
+    /**
+     * 일자별 상태별 문서 수 (정합성 검사용)
+     * - [createdDate, status, count]
+     */
+    @Query("SELECT CAST(d.createdAt AS LocalDate), d.status, COUNT(d) FROM Document d " +
+           "WHERE d.createdAt < :before " +
+           "GROUP BY CAST(d.createdAt AS LocalDate), d.status")
+    List<Object[]> countByCreatedDateAndStatus(@Param("before") LocalDateTime before);
+    
+    // ===== 검색 색인 쿼리 메서드들 =====
+    
+    /**
+     * ID 기준 키셋 배치 조회 (검색 색인 재구성용)
+     */
+    @Query("SELECT d FROM Document d WHERE d.id > :lastId ORDER BY d.id")
+    List<Document> findBatchAfterId(@Param("lastId") UUID lastId, Pageable pageable);
+    
+    /**
+     * 문서 ID 목록별 본문 조회 (검색 색인용, 지연 로딩 본문을 한 번에 읽는다)
+     * - [documentId, content]
+     */
+    @Query("SELECT d.id, d.content FROM Document d WHERE d.id IN :documentIds")
+    List<Object[]> findContentsByIds(@Param("documentIds") Collection<UUID> documentIds);
+    
+    // ===== 본문 압축 쿼리 메서드들 =====
+    // 컨버터를 거치지 않고 저장된 값을 그대로 읽고 쓰기 위해 네이티브 쿼리를 사용한다.
+    
+    /**
+     * 압축되지 않은 긴 본문 ID 키셋 배치 조회 (재압축 작업용)
+     * - [id, content, lockVersion]
+     */
+    @Query(value = "SELECT d.id, d.content, d.lock_version FROM documents d " +
+           "WHERE d.id > :lastId AND LENGTH(d.content) >= :minLength AND d.content NOT LIKE :compressedPrefix " +
+           "ORDER BY d.id LIMIT :limit",
+           nativeQuery = true)
+    List<Object[]> findUncompressedContentBatch(@Param("lastId") UUID lastId,
+                                                @Param("minLength") int minLength,
+                                                @Param("compressedPrefix") String compressedPrefix,
+                                                @Param("limit") int limit);
+    
+    /**
+     * 저장된 본문 교체 (읽은 이후 문서가 수정되지 않았을 때만, 내용은 같으므로 버전은 올리지 않는다)
+     * - 영향받는 테이블을 명시해 행마다 2차 캐시 전체가 비워지지 않게 한다
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "documents"))
+    @Query(value = "UPDATE documents SET content = :content WHERE id = :id AND lock_version = :lockVersion",
+           nativeQuery = true)
+    int replaceStoredContent(@Param("id") UUID id, @Param("lockVersion") long lockVersion,
+                             @Param("content") String content);
+    
+    // ===== 결재선 정책 쿼리 메서드들 =====
+    
+    /**
+     * 결재선 정책 평가용 문서 속성 조회 (미리보기)
+     * - [documentId, documentType, securityLevel, priority, status, branchId]
+     */
+    @Query("SELECT d.id, d.documentType, d.securityLevel, d.priority, d.status, d.branch.id " +
+           "FROM Document d WHERE d.id IN :ids")
+    List<Object[]> findPolicyAttributeRows(@Param("ids") Collection<UUID> ids);
+    
+    /**
+     * 조건부 GET 검증용 문서 버전 조회 (PK 조회, 본문/연관관계 미적재)
+     * - [updatedAt, changeCounter, status]
+     */
+    @Query("SELECT d.updatedAt, d.changeCounter, d.status FROM Document d WHERE d.id = :id")
+    List<Object[]> findVersionRowById(@Param("id") UUID id);
+    
+    // ===== 상태 전이 (조건부 UPDATE) =====
+    // 현재 상태가 expected일 때만 갱신하고 변경된 행 수(0 또는 1)를 반환한다.
+    // 벌크 UPDATE는 @Version/감사 필드를 자동으로 갱신하지 않으므로 lock_version, change_counter와 updated_at을 직접 올린다.
+    
+    /**
+     * 문서 상신 (expected → PENDING)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Document d SET d.status = 'PENDING', d.submittedAt = :now, d.recalledAt = NULL, d.updatedAt = :now, " +
+           "d.lockVersion = d.lockVersion + 1, d.changeCounter = d.changeCounter + 1 " +
+           "WHERE d.id = :id AND d.status = :expected")
+    int markSubmitted(@Param("id") UUID id, @Param("expected") String expected, @Param("now") LocalDateTime now);
+    
+    /**
+     * 문서 승인 (expected → APPROVED)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Document d SET d.status = 'APPROVED', d.approvedAt = :now, d.updatedAt = :now, " +
+           "d.lockVersion = d.lockVersion + 1, d.changeCounter = d.changeCounter + 1 " +
+           "WHERE d.id = :id AND d.status = :expected")
+    int markApproved(@Param("id") UUID id, @Param("expected") String expected, @Param("now") LocalDateTime now);
+    
+    /**
+     * 문서 반려 (expected → REJECTED, 반려사유 포함)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Document d SET d.status = 'REJECTED', d.rejectedAt = :now, d.rejectionReason = :reason, " +
+           "d.updatedAt = :now, d.lockVersion = d.lockVersion + 1, d.changeCounter = d.changeCounter + 1 " +
+           "WHERE d.id = :id AND d.status = :expected")
+    int markRejected(@Param("id") UUID id, @Param("expected") String expected,
+                     @Param("reason") String reason, @Param("now") LocalDateTime now);
+    
+    /**
+     * 결재선 없는 PENDING 문서 ID 키셋 배치 조회 및 행 잠금 (데이터 정제 작업용)
+     * - 잠근 문서는 트랜잭션이 끝날 때까지 상태 변경이나 결재선 추가(외래키 확인)가 대기하므로
+     *   같은 트랜잭션의 {@link #markDraftWithoutApprovalLines}가 조회한 문서를 모두 변경한다
+     */
+    @Query(value = "SELECT d.id FROM documents d " +
+           "WHERE d.id > :lastId AND d.status = 'PENDING' " +
+           "AND NOT EXISTS (SELECT 1 FROM approval_lines al WHERE al.document_id = d.id) " +
+           "ORDER BY d.id LIMIT :limit FOR UPDATE",
+           nativeQuery = true)
+    List<UUID> lockPendingIdsWithoutApprovalLines(@Param("lastId") UUID lastId, @Param("limit") int limit);
+    
+    /**
+     * 결재선 없는 PENDING 문서를 DRAFT로 변경 (데이터 정제, 선택한 ID 중 여전히 조건을 만족하는 문서만)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Document d SET d.status = 'DRAFT', d.updatedAt = :now, " +
+           "d.lockVersion = d.lockVersion + 1, d.changeCounter = d.changeCounter + 1 " +
+           "WHERE d.id IN :ids AND d.status = 'PENDING' " +
+           "AND NOT EXISTS (SELECT 1 FROM ApprovalLine al WHERE al.document = d)")
+    int markDraftWithoutApprovalLines(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+    
+    /**
+     * 문서 회수 (expected → DRAFT, 상신 시각 초기화, 회수 시각 기록)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Document d SET d.status = 'DRAFT', d.submittedAt = NULL, d.recalledAt = :now, d.updatedAt = :now, " +
+           "d.lockVersion = d.lockVersion + 1, d.changeCounter = d.changeCounter + 1 " +
+           "WHERE d.id = :id AND d.status = :expected")
+    int markRecalled(@Param("id") UUID id, @Param("expected") String expected, @Param("now") LocalDateTime now);
 }
-
@@ -1,7 +1,11 @@
 package com.brotherhood.approval.repository;
 
+import com.brotherhood.approval.config.SecondLevelCacheConfig;
 import com.brotherhood.approval.entity.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -23,6 +27,10 @@ public interface RoleRepository extends JpaRepository<Role, UUID> {
     /**
      * 역할명으로 조회
      */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.ROLE_BY_NAME_QUERY_REGION)
+    })
     Optional<Role> findByName(String name);
     
     /**
@@ -0,0 +1,37 @@
+package com.brotherhood.approval.repository;
+
+import com.brotherhood.approval.entity.StatsDirtyDay;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * 통계 재집계 대상 일자 리포지토리
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Repository
+public interface StatsDirtyDayRepository extends JpaRepository<StatsDirtyDay, UUID> {
+
+    /**
+     * 집계에 반영한 기록 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM StatsDirtyDay s WHERE s.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 기준 시각 이전 기록 삭제 (전체 백필 이후 정리)
+     */
+    @Modifying
+    @Query("DELETE FROM StatsDirtyDay s WHERE s.markedAt < :before")
+    int deleteMarkedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,29 @@
+package com.brotherhood.approval.repository;
+
+import com.brotherhood.approval.entity.StatsWatermark;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 통계 집계 워터마크 리포지토리
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Repository
+public interface StatsWatermarkRepository extends JpaRepository<StatsWatermark, String> {
+
+    /**
+     * 워터마크 조회 (행 잠금, 여러 인스턴스의 동시 집계 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM StatsWatermark w WHERE w.name = :name")
+    Optional<StatsWatermark> findByNameForUpdate(@Param("name") String name);
+}
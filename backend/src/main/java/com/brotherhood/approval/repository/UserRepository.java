@@ -55,10 +55,13 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByIdWithRoles(@Param("id") UUID id);
     
     /**
-     * 모든 사용자 조회 (역할 정보 포함)
+     * 사용자 페이지 조회 (지사 포함)
+     * - 컬렉션 JOIN FETCH는 페이지를 메모리에서 자르므로 역할은 페이지의 사용자 ID로
+     *   {@link UserRoleRepository#findActiveRoleNamesByUserIds}에서 한 번에 읽는다
      */
-    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.userRoles ur LEFT JOIN FETCH ur.role r")
-    List<User> findAllWithRoles();
+    @Query(value = "SELECT u FROM User u JOIN FETCH u.branch",
+           countQuery = "SELECT COUNT(u) FROM User u")
+    Page<User> findAllWithBranch(Pageable pageable);
     
     /**
      * 이메일로 사용자 조회
@@ -75,6 +78,12 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      */
     List<User> findByIsActiveTrue();
     
+    /**
+     * 활성 사용자 조회 (지사 포함)
+     */
+    @Query("SELECT u FROM User u JOIN FETCH u.branch WHERE u.isActive = true")
+    List<User> findActiveWithBranch();
+    
     /**
      * 지사별 활성 사용자 조회
      */
@@ -174,5 +183,27 @@ public interface UserRepository extends JpaRepository<User, UUID> {
            "JOIN ur.role r " +
            "WHERE u.id = :userId AND ur.isActive = true")
     List<String> findRoleNamesByUserId(@Param("userId") UUID userId);
+    
+    /**
+     * 자동완성 색인용 활성 사용자 조회 (단일 쿼리)
+     * - [userId, name, baptismalName, loginId, email, branchId, branchName, branchCode, roleName]
+     * - 역할 수만큼 행이 반복되며 역할이 없으면 roleName은 null
+     */
+    @Query("SELECT u.id, u.name, u.baptismalName, u.loginId, u.email, b.id, b.name, b.code, r.name FROM User u " +
+           "JOIN u.branch b " +
+           "LEFT JOIN u.userRoles ur ON ur.isActive = true " +
+           "LEFT JOIN ur.role r " +
+           "WHERE u.isActive = true")
+    List<Object[]> findSuggestionRows();
+    
+    /**
+     * 자동완성 색인용 단일 사용자 조회
+     */
+    @Query("SELECT u.id, u.name, u.baptismalName, u.loginId, u.email, b.id, b.name, b.code, r.name FROM User u " +
+           "JOIN u.branch b " +
+           "LEFT JOIN u.userRoles ur ON ur.isActive = true " +
+           "LEFT JOIN ur.role r " +
+           "WHERE u.id = :userId AND u.isActive = true")
+    List<Object[]> findSuggestionRowsByUserId(@Param("userId") UUID userId);
 }
 
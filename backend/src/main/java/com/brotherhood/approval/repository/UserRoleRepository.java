@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -52,6 +53,14 @@ public interface UserRoleRepository extends JpaRepository<UserRole, UUID> {
     @Query("SELECT r.name FROM Role r JOIN r.userRoles ur WHERE ur.user.id = :userId AND ur.isActive = true")
     List<String> findRoleNamesByUserId(@Param("userId") UUID userId);
     
+    /**
+     * 여러 사용자의 활성 역할명 일괄 조회 (목록 화면용)
+     * - [userId, roleName]
+     */
+    @Query("SELECT ur.user.id, r.name FROM UserRole ur JOIN ur.role r " +
+           "WHERE ur.user.id IN :userIds AND ur.isActive = true")
+    List<Object[]> findActiveRoleNamesByUserIds(@Param("userIds") Collection<UUID> userIds);
+    
     /**
      * 사용자별 활성 역할 수 조회
      */
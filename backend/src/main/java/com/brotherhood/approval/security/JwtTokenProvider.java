@@ -1,5 +1,6 @@
 package com.brotherhood.approval.security;
 
+import com.brotherhood.approval.metrics.ApprovalMetrics;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -25,11 +26,13 @@ public class JwtTokenProvider {
     private final SecretKey secretKey;
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
+    private final ApprovalMetrics approvalMetrics;
 
     public JwtTokenProvider(
             @Value("${jwt.secret:brotherhood-approval-system-secret-key-change-this-in-production-min-256-bits}") String secret,
             @Value("${jwt.access-token-validity:3600000}") long accessTokenValidity,
-            @Value("${jwt.refresh-token-validity:86400000}") long refreshTokenValidity) {
+            @Value("${jwt.refresh-token-validity:86400000}") long refreshTokenValidity,
+            ApprovalMetrics approvalMetrics) {
         
         // 시크릿 키가 충분히 길지 않으면 패딩 추가
         String paddedSecret = secret;
@@ -40,6 +43,7 @@ public class JwtTokenProvider {
         this.secretKey = Keys.hmacShaKeyFor(paddedSecret.getBytes(StandardCharsets.UTF_8));
         this.accessTokenValidityInMilliseconds = accessTokenValidity;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidity;
+        this.approvalMetrics = approvalMetrics;
         
         log.info("JwtTokenProvider 초기화 완료 - Access Token 유효기간: {}ms, Refresh Token 유효기간: {}ms", 
                 accessTokenValidity, refreshTokenValidity);
@@ -116,11 +120,19 @@ public class JwtTokenProvider {
      * 토큰에서 Claims 추출
      */
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        long startTime = System.nanoTime();
+        boolean valid = false;
+        try {
+            Claims claims = Jwts.parser()
+                    .verifyWith(secretKey)
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+            valid = true;
+            return claims;
+        } finally {
+            approvalMetrics.recordJwtParse(System.nanoTime() - startTime, valid);
+        }
     }
 
     /**
@@ -1,20 +1,29 @@
 package com.brotherhood.approval.service;
 
+import com.brotherhood.approval.dto.policy.PolicyPreviewRequest;
+import com.brotherhood.approval.dto.policy.PolicyPreviewResponse;
 import com.brotherhood.approval.entity.ApprovalStep;
 import com.brotherhood.approval.entity.Document;
 // Removed static import - using String constants
 import com.brotherhood.approval.entity.User;
 import com.brotherhood.approval.entity.Branch;
-import com.brotherhood.approval.entity.Role;
-import com.brotherhood.approval.repository.UserRepository;
-import com.brotherhood.approval.repository.RoleRepository;
+import com.brotherhood.approval.policy.ApprovalPolicyEngine;
+import com.brotherhood.approval.policy.CompiledApprovalPolicy;
+import com.brotherhood.approval.policy.PolicyExpressionParser;
+import com.brotherhood.approval.policy.StepPlan;
+import com.brotherhood.approval.repository.DocumentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * 결재선 정책 서비스
@@ -28,16 +37,37 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ApprovalPolicyService {
     
-    private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final ApproverResolver approverResolver;
+    private final ApprovalPolicyEngine approvalPolicyEngine;
+    private final DocumentRepository documentRepository;
+    
+    /**
+     * policies 테이블의 결재선 정책 중 문서에 처음 일치하는 정책으로 결재단계 생성
+     * (일치하는 정책이 없으면 순차 결재)
+     */
+    public List<ApprovalStep> createApprovalSteps(Document document) {
+        Map<String, Object> attributes = toAttributes(document);
+        CompiledApprovalPolicy policy = approvalPolicyEngine.select(attributes);
+        log.debug("결재선 정책 선택: documentId={}, policy={}, fallback={}",
+                document.getId(), policy.getName(), policy.isFallback());
+        
+        return createApprovalSteps(document, policy, attributes);
+    }
     
     /**
      * 결재선 정책에 따라 결재단계 생성
+     *
+     * policyType이 policies 테이블의 결재선 정책 이름이면 해당 정책을 사용한다.
      */
     public List<ApprovalStep> createApprovalSteps(Document document, String policyType, String condition) {
         log.info("결재선 정책 생성 시작: documentId={}, policyType={}, condition={}", 
                 document.getId(), policyType, condition);
         
+        Optional<CompiledApprovalPolicy> policy = approvalPolicyEngine.findByName(policyType);
+        if (policy.isPresent()) {
+            return createApprovalSteps(document, policy.get(), toAttributes(document));
+        }
+        
         return switch (policyType) {
             case "SEQUENTIAL" -> createSequentialApprovalSteps(document);
             case "PARALLEL" -> createParallelApprovalSteps(document);
@@ -101,10 +131,8 @@ public class ApprovalPolicyService {
             throw new IllegalArgumentException("조건부 정책에는 조건이 필요합니다");
         }
         
-        // 조건 검증 (간단한 예시)
-        if (!isValidCondition(condition)) {
-            throw new IllegalArgumentException("잘못된 조건식입니다: " + condition);
-        }
+        // 조건식 문법 검증 (잘못되면 IllegalArgumentException)
+        PolicyExpressionParser.compile(condition);
         
         List<ApprovalStep> steps = new ArrayList<>();
         
@@ -328,18 +356,10 @@ public class ApprovalPolicyService {
     }
     
     /**
-     * 역할별 사용자 찾기
+     * 역할별 사용자 찾기 (메모리 해석 테이블, 쿼리 없음)
      */
     private User findUserByRole(String roleName, Branch branch) {
-        Optional<Role> role = roleRepository.findByName(roleName);
-        if (role.isEmpty()) {
-            return null;
-        }
-        
-        return userRepository.findByRoleAndBranch(role.get(), branch)
-                .stream()
-                .findFirst()
-                .orElse(null);
+        return approverResolver.resolve(branch, roleName);
     }
     
     /**
@@ -358,10 +378,152 @@ public class ApprovalPolicyService {
     }
     
     /**
-     * 조건식 검증
+     * 결재선 미리보기 (여러 문서 일괄)
+     *
+     * 저장된 문서는 속성만 한 번의 쿼리로 조회하고, 정책 선택과 결재자 해석은 메모리에서 수행한다.
      */
-    private boolean isValidCondition(String condition) {
-        // 간단한 조건식 검증 (실제로는 더 복잡한 파싱이 필요)
-        return condition.matches(".*[a-zA-Z_][a-zA-Z0-9_]*\\s*[><=!]+\\s*\\d+.*");
+    @Transactional(readOnly = true)
+    public PolicyPreviewResponse preview(PolicyPreviewRequest request) {
+        long startTime = System.nanoTime();
+        
+        List<String> documentIds = new ArrayList<>();
+        List<UUID> branchIds = new ArrayList<>();
+        List<Map<String, Object>> attributesList = new ArrayList<>();
+        List<String> missingDocumentIds = new ArrayList<>();
+        
+        if (request.getDocumentIds() != null && !request.getDocumentIds().isEmpty()) {
+            Map<UUID, Object[]> rows = new HashMap<>();
+            List<UUID> ids = request.getDocumentIds().stream().map(UUID::fromString).toList();
+            for (Object[] row : documentRepository.findPolicyAttributeRows(ids)) {
+                rows.put((UUID) row[0], row);
+            }
+            for (UUID id : ids) {
+                Object[] row = rows.get(id);
+                if (row == null) {
+                    missingDocumentIds.add(id.toString());
+                    continue;
+                }
+                documentIds.add(id.toString());
+                branchIds.add((UUID) row[5]);
+                attributesList.add(attributes((String) row[1], (String) row[2], (String) row[3],
+                        (String) row[4], (UUID) row[5]));
+            }
+        }
+        
+        if (request.getDocuments() != null) {
+            for (PolicyPreviewRequest.DocumentAttributes document : request.getDocuments()) {
+                UUID branchId = document.getBranchId() != null && !document.getBranchId().isBlank()
+                        ? UUID.fromString(document.getBranchId()) : null;
+                Map<String, Object> attributes = attributes(document.getDocumentType(), document.getSecurityLevel(),
+                        document.getPriority(), "DRAFT", branchId);
+                if (document.getAttributes() != null) {
+                    attributes.putAll(document.getAttributes());
+                }
+                documentIds.add(document.getDocumentId());
+                branchIds.add(branchId);
+                attributesList.add(attributes);
+            }
+        }
+        
+        List<CompiledApprovalPolicy> policies = approvalPolicyEngine.selectAll(attributesList);
+        List<PolicyPreviewResponse.Result> results = new ArrayList<>(policies.size());
+        for (int i = 0; i < policies.size(); i++) {
+            CompiledApprovalPolicy policy = policies.get(i);
+            Map<String, Object> attributes = attributesList.get(i);
+            
+            List<PolicyPreviewResponse.Step> steps = new ArrayList<>();
+            for (StepPlan plan : policy.plan(attributes)) {
+                UUID branchId = targetBranchId(plan, branchIds.get(i));
+                UUID approverId = branchId != null ? approverResolver.resolveId(branchId, plan.roleName()).orElse(null) : null;
+                steps.add(PolicyPreviewResponse.Step.builder()
+                        .stepOrder(plan.stepOrder())
+                        .roleName(plan.roleName())
+                        .branchId(branchId != null ? branchId.toString() : null)
+                        .approverId(approverId != null ? approverId.toString() : null)
+                        .isRequired(plan.required())
+                        .isDelegatable(plan.delegatable())
+                        .maxDelegationLevel(plan.maxDelegationLevel())
+                        .conditionExpression(plan.condition())
+                        .build());
+            }
+            
+            results.add(PolicyPreviewResponse.Result.builder()
+                    .documentId(documentIds.get(i))
+                    .policyId(policy.getId())
+                    .policyName(policy.getName())
+                    .policyVersion(policy.getVersion())
+                    .fallback(policy.isFallback())
+                    .steps(steps)
+                    .build());
+        }
+        
+        return PolicyPreviewResponse.builder()
+                .results(results)
+                .missingDocumentIds(missingDocumentIds)
+                .elapsedMillis((System.nanoTime() - startTime) / 1_000_000)
+                .build();
+    }
+    
+    /**
+     * 결재선 정책 다시 적재 (policies 테이블 변경 후)
+     */
+    public int refreshPolicies() {
+        return approvalPolicyEngine.refresh();
+    }
+    
+    /**
+     * 컴파일된 정책으로 결재단계 생성 (결재자를 찾지 못한 단계는 제외)
+     */
+    private List<ApprovalStep> createApprovalSteps(Document document, CompiledApprovalPolicy policy,
+                                                   Map<String, Object> attributes) {
+        UUID documentBranchId = document.getBranch() != null ? document.getBranch().getId() : null;
+        
+        List<ApprovalStep> steps = new ArrayList<>();
+        for (StepPlan plan : policy.plan(attributes)) {
+            UUID branchId = targetBranchId(plan, documentBranchId);
+            User approver = branchId != null ? approverResolver.resolve(branchId, plan.roleName()) : null;
+            if (approver == null) {
+                log.warn("결재자를 찾을 수 없어 단계를 생략합니다: policy={}, step={}, role={}, branch={}",
+                        policy.getName(), plan.stepOrder(), plan.roleName(), plan.branch());
+                continue;
+            }
+            
+            ApprovalStep step = createApprovalStep(plan.stepOrder(), approver, plan.required(),
+                    plan.delegatable(), plan.maxDelegationLevel());
+            if (plan.condition() != null) {
+                step.setIsConditional(true);
+                step.setConditionExpression(plan.condition());
+            }
+            steps.add(step);
+        }
+        return steps;
+    }
+    
+    private UUID targetBranchId(StepPlan plan, UUID documentBranchId) {
+        return plan.usesDocumentBranch() ? documentBranchId : approverResolver.findBranchId(plan.branch()).orElse(null);
+    }
+    
+    /**
+     * 정책 조건식에서 사용할 문서 속성
+     */
+    private Map<String, Object> toAttributes(Document document) {
+        Map<String, Object> attributes = attributes(document.getDocumentType(), document.getSecurityLevel(),
+                document.getPriority(), document.getStatus(),
+                document.getBranch() != null ? document.getBranch().getId() : null);
+        attributes.put("isFinal", document.getIsFinal());
+        attributes.put("version", document.getVersion());
+        return attributes;
+    }
+    
+    private Map<String, Object> attributes(String documentType, String securityLevel, String priority,
+                                           String status, UUID branchId) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("documentType", documentType);
+        attributes.put("securityLevel", securityLevel);
+        attributes.put("priority", priority);
+        attributes.put("status", status);
+        attributes.put("branchId", branchId);
+        attributes.put("branchCode", approverResolver.getBranchCode(branchId));
+        return attributes;
     }
 }
@@ -7,19 +7,25 @@ import com.brotherhood.approval.dto.approval.ApprovalLineDto;
 import com.brotherhood.approval.dto.approval.ApprovalStepCreateRequest;
 import com.brotherhood.approval.dto.approval.ApprovalStepDto;
 import com.brotherhood.approval.entity.*;
+import com.brotherhood.approval.event.DocumentChangedEvent;
+import com.brotherhood.approval.exception.BusinessException;
 import com.brotherhood.approval.mapper.ApprovalHistoryMapper;
 import com.brotherhood.approval.mapper.ApprovalLineMapper;
 import com.brotherhood.approval.mapper.ApprovalStepMapper;
+import com.brotherhood.approval.metrics.ApprovalMetrics;
 import com.brotherhood.approval.repository.*;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -45,6 +51,11 @@ public class ApprovalService {
     private final ApprovalLineMapper approvalLineMapper;
     private final ApprovalStepMapper approvalStepMapper;
     private final ApprovalHistoryMapper approvalHistoryMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApprovalMetrics approvalMetrics;
+    private final ApprovalStateMachine approvalStateMachine;
+    private final ApprovalPolicyService approvalPolicyService;
+    private final TransactionRetryExecutor transactionRetryExecutor;
     
     /**
      * 결재선 생성
@@ -62,8 +73,10 @@ public class ApprovalService {
         ApprovalLine approvalLine = approvalLineMapper.toEntity(request);
         approvalLine.setCreatedBy(createdBy);
         approvalLine.setDocument(document);
+        approvalLine.setRemainingRequiredSteps(0);
         
         ApprovalLine savedApprovalLine = approvalLineRepository.save(approvalLine);
+        approvalStateMachine.onLineAdded(savedApprovalLine);
         log.info("결재선 생성 완료: {}", savedApprovalLine.getId());
         
         // 결재단계 생성
@@ -74,6 +87,14 @@ public class ApprovalService {
                 addApprovalStep(stepRequest, createdById);
             }
             log.info("결재단계 생성 완료");
+        } else {
+            // 결재단계를 지정하지 않으면 문서에 일치하는 결재선 정책으로 생성
+            List<ApprovalStep> policySteps = approvalPolicyService.createApprovalSteps(document);
+            for (ApprovalStep approvalStep : policySteps) {
+                approvalStep.setApprovalLine(savedApprovalLine);
+                approvalStateMachine.onStepAdded(approvalStepRepository.save(approvalStep));
+            }
+            log.info("결재선 정책으로 결재단계 생성 완료: {} 개의 단계", policySteps.size());
         }
         
         return approvalLineMapper.toDto(savedApprovalLine);
@@ -97,6 +118,7 @@ public class ApprovalService {
         approvalStep.setApprover(approver);
         
         ApprovalStep savedApprovalStep = approvalStepRepository.save(approvalStep);
+        approvalStateMachine.onStepAdded(savedApprovalStep);
         
         log.info("결재단계 추가 완료: {}", savedApprovalStep.getId());
         return approvalStepMapper.toDto(savedApprovalStep);
@@ -146,94 +168,85 @@ public class ApprovalService {
     
     /**
      * 결재 액션 수행
+     * 
+     * 병렬 결재단계를 동시에 처리하면 결재선/문서 카운터가 충돌할 수 있으므로
+     * 액션마다 새 트랜잭션에서 실행하고 충돌 시 다시 시도한다.
+     * 이미 처리된 결재단계는 다시 시도하지 않고 409(BusinessException)로 응답한다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ApprovalHistoryDto performApprovalAction(ApprovalActionRequest request, String userId) {
         log.info("결재 액션 수행 요청: {} - {}", request.getAction(), request.getApprovalStepId());
         
+        Timer.Sample sample = approvalMetrics.startApprovalAction();
+        String outcome = "error";
         try {
-            // 1. ApprovalStep 조회 (Lazy Loading 문제 해결을 위해 fetch join 사용)
-            ApprovalStep approvalStep = approvalStepRepository.findById(UUID.fromString(request.getApprovalStepId()))
-                    .orElseThrow(() -> new IllegalArgumentException("결재단계를 찾을 수 없습니다: " + request.getApprovalStepId()));
-            
-            // 2. User 조회
-            User user = userRepository.findById(UUID.fromString(userId))
-                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
-            
-            // 3. 권한 확인 - Lazy Loading 문제 해결을 위해 별도 조회
-            User approver = userRepository.findById(approvalStep.getApprover().getId())
-                    .orElseThrow(() -> new IllegalArgumentException("결재자를 찾을 수 없습니다: " + approvalStep.getApprover().getId()));
-            
-            if (!approver.getId().equals(UUID.fromString(userId))) {
-                throw new IllegalArgumentException("결재 권한이 없습니다");
-            }
-            
-            // 4. ApprovalLine 조회
-            ApprovalLine approvalLine = approvalLineRepository.findById(approvalStep.getApprovalLine().getId())
-                    .orElseThrow(() -> new IllegalArgumentException("결재선을 찾을 수 없습니다: " + approvalStep.getApprovalLine().getId()));
-            
-            // 5. Document 조회
-            Document document = documentRepository.findById(approvalLine.getDocument().getId())
-                    .orElseThrow(() -> new IllegalArgumentException("문서를 찾을 수 없습니다: " + approvalLine.getDocument().getId()));
-            
-            // 6. 필요한 정보 추출
-            UUID documentId = document.getId();
-            String documentTitle = document.getTitle();
-            UUID approvalStepId = approvalStep.getId();
-            UUID approverId = user.getId();
-            String approverName = user.getFullName();
-            String approverDisplayName = user.getDisplayName();
-            
-            // 7. 위임받을 사용자 정보 조회
-            UUID delegatedToId = null;
-            String delegatedToName = null;
-            String delegatedToDisplayName = null;
-            if (request.getDelegatedToId() != null) {
-                User delegatedTo = userRepository.findById(UUID.fromString(request.getDelegatedToId())).orElse(null);
-                if (delegatedTo != null) {
-                    delegatedToId = delegatedTo.getId();
-                    delegatedToName = delegatedTo.getFullName();
-                    delegatedToDisplayName = delegatedTo.getDisplayName();
-                }
-            }
-            
-            // 8. ApprovalStep 상태 업데이트
-            updateApprovalStepStatus(approvalStep, request.getAction());
-            
-            // 9. 문서 상태 업데이트 (반려사유 포함)
-            updateDocumentStatus(documentId, request.getAction(), request.getComments());
-            
-            log.info("결재 액션 수행 완료: {} - {}", request.getAction(), approvalStep.getId());
-            
-            // 10. ApprovalHistory 저장
-            log.info("ApprovalHistory 생성 데이터 - documentId: {}, approvalStepId: {}, approverId: {}, delegatedToId: {}", 
-                    documentId, approvalStepId, approverId, delegatedToId);
-            
-            ApprovalHistory approvalHistory = ApprovalHistory.builder()
-                    .action(String.valueOf(request.getAction()))
-                    .comment(request.getComments())
-                    .ipAddress(request.getIpAddress())
-                    .userAgent(request.getUserAgent())
-                    .documentId(documentId)
-                    .documentTitle(documentTitle)
-                    .approvalStepId(approvalStepId)
-                    .approverId(approverId)
-                    .approverName(approverName)
-                    .approverDisplayName(approverDisplayName)
-                    .delegatedToId(delegatedToId)
-                    // actionAt은 @CreatedDate로 자동 설정됨
-                    .build();
-            
-            ApprovalHistory savedHistory = approvalHistoryRepository.save(approvalHistory);
-            log.info("ApprovalHistory 저장 완료: {}", savedHistory.getId());
-            
-            // 11. DTO 반환
-            return approvalHistoryMapper.toDto(savedHistory);
-                    
+            ApprovalHistoryDto result = transactionRetryExecutor.execute("approval-action",
+                    () -> applyApprovalAction(request, userId));
+            outcome = "success";
+            return result;
+        } catch (ConcurrencyFailureException | BusinessException e) {
+            // 409 응답은 GlobalExceptionHandler에서 처리
+            outcome = "conflict";
+            log.warn("결재 액션 충돌: {} - {} ({})", request.getAction(), request.getApprovalStepId(), e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("결재 액션 수행 중 오류 발생: {}", e.getMessage(), e);
             throw new RuntimeException("결재 액션 수행 중 오류가 발생했습니다: " + e.getMessage(), e);
+        } finally {
+            approvalMetrics.recordApprovalAction(sample, request.getAction(), outcome);
+        }
+    }
+    
+    /**
+     * 결재 액션 적용 (재시도 단위, 트랜잭션 안에서 호출)
+     */
+    private ApprovalHistoryDto applyApprovalAction(ApprovalActionRequest request, String userId) {
+        // 1. 결재단계 선점 (지정 결재자이고 PENDING일 때만 조건부 UPDATE, 결재선/문서는 EAGER로 함께 적재)
+        ApprovalStep approvalStep = approvalStateMachine.claim(
+                UUID.fromString(request.getApprovalStepId()), UUID.fromString(userId), request.getAction());
+        
+        // 2. 결재자/문서 정보
+        User user = approvalStep.getApprover();
+        Document document = approvalStep.getApprovalLine().getDocument();
+        
+        // 3. 위임받을 사용자 정보 조회
+        UUID delegatedToId = null;
+        if (request.getDelegatedToId() != null) {
+            delegatedToId = userRepository.findById(UUID.fromString(request.getDelegatedToId()))
+                    .map(User::getId)
+                    .orElse(null);
         }
+        
+        // 4. 결재단계/결재선/문서 상태 전이 (남은 필수 결재단계 카운터 감소)
+        ApprovalStateMachine.Transition transition = approvalStateMachine.apply(
+                approvalStep, request.getAction(), request.getComments());
+        if (transition.isChanged()) {
+            approvalMetrics.recordTransition(transition.previousStatus(), transition.currentStatus());
+        }
+        eventPublisher.publishEvent(DocumentChangedEvent.of(document.getId(), DocumentChangedEvent.ChangeType.STATUS_CHANGED));
+        
+        log.info("결재 액션 수행 완료: {} - {}", request.getAction(), approvalStep.getId());
+        
+        // 5. ApprovalHistory 저장
+        ApprovalHistory approvalHistory = ApprovalHistory.builder()
+                .action(String.valueOf(request.getAction()))
+                .comment(request.getComments())
+                .ipAddress(request.getIpAddress())
+                .userAgent(request.getUserAgent())
+                .documentId(document.getId())
+                .documentTitle(document.getTitle())
+                .approvalStepId(approvalStep.getId())
+                .approverId(user.getId())
+                .approverName(user.getFullName())
+                .approverDisplayName(user.getDisplayName())
+                .delegatedToId(delegatedToId)
+                // actionAt은 @CreatedDate로 자동 설정됨
+                .build();
+        
+        ApprovalHistory savedHistory = approvalHistoryRepository.save(approvalHistory);
+        log.info("ApprovalHistory 저장 완료: {}", savedHistory.getId());
+        
+        return approvalHistoryMapper.toDto(savedHistory);
     }
     
     /**
@@ -292,101 +305,12 @@ public class ApprovalService {
         
         approvalStep.setAlternateApprover(delegatedTo);
         ApprovalStep savedStep = approvalStepRepository.save(approvalStep);
+        approvalStateMachine.onStepChanged(savedStep);
         
         log.info("결재 위임 완료: {} -> {}", approvalStepId, delegatedToId);
         return approvalStepMapper.toDto(savedStep);
     }
     
-    /**
-     * ApprovalStep 상태 업데이트
-     */
-    private void updateApprovalStepStatus(ApprovalStep approvalStep, String action) {
-        log.info("ApprovalStep 상태 업데이트: {} -> {}", approvalStep.getId(), action);
-        
-        // action이 "APPROVE", "REJECT", "DELEGATE" 중 하나인지 확인
-        if ("APPROVE".equals(action)) {
-            approvalStep.setStatus("APPROVED");
-            approvalStep.setApprovedAt(LocalDateTime.now());
-        } else if ("REJECT".equals(action)) {
-            approvalStep.setStatus("REJECTED");
-            approvalStep.setRejectedAt(LocalDateTime.now());
-        } else if ("DELEGATE".equals(action)) {
-            approvalStep.setStatus("DELEGATED");
-            approvalStep.setDelegatedAt(LocalDateTime.now());
-        } else {
-            log.warn("알 수 없는 액션: {}", action);
-            return;
-        }
-        
-        approvalStepRepository.save(approvalStep);
-        log.info("ApprovalStep 상태 업데이트 완료: {} -> {}", approvalStep.getId(), approvalStep.getStatus());
-    }
-    
-    /**
-     * 문서 상태 업데이트 (Lazy Loading 문제 해결, 반려사유 포함)
-     */
-    private void updateDocumentStatus(UUID documentId, String action, String comments) {
-        Document document = documentRepository.findById(documentId)
-                .orElseThrow(() -> new IllegalArgumentException("문서를 찾을 수 없습니다: " + documentId));
-        
-        switch (String.valueOf(action)) {
-            case "APPROVE" -> {
-                // 모든 결재단계가 완료되었는지 확인
-                if (isAllRequiredStepsCompleted(document)) {
-                    document.setStatus("APPROVED");
-                    document.setApprovedAt(LocalDateTime.now());
-                    log.info("문서 승인 완료: {}", documentId);
-                } else {
-                    log.info("문서 승인 진행 중: {} (일부 결재단계 완료)", documentId);
-                }
-            }
-            case "REJECT" -> {
-                document.setStatus("REJECTED");
-                document.setRejectedAt(LocalDateTime.now());
-                document.setRejectionReason(comments);  // 반려사유 저장
-                log.info("문서 반려: {} (사유: {})", documentId, comments);
-            }
-            case "RETURN" -> {
-                document.setStatus("DRAFT");
-                document.setSubmittedAt(null);
-                log.info("문서 반송: {}", documentId);
-            }
-        }
-        
-        documentRepository.save(document);
-    }
-    
-    /**
-     * 모든 필수 결재단계 완료 여부 확인
-     */
-    private boolean isAllRequiredStepsCompleted(Document document) {
-        // Lazy Loading 문제를 완전히 피하기 위해 documentId로 직접 조회
-        UUID documentId = document.getId();
-        
-        // 해당 문서의 모든 결재선 조회
-        List<ApprovalLine> approvalLines = approvalLineRepository.findByDocumentId(documentId);
-        
-        if (approvalLines == null || approvalLines.isEmpty()) {
-            return false;
-        }
-        
-        // 각 결재선의 필수 결재단계가 모두 APPROVED인지 확인
-        for (ApprovalLine approvalLine : approvalLines) {
-            List<ApprovalStep> steps = approvalStepRepository.findByApprovalLineIdOrderByStepOrder(approvalLine.getId());
-            
-            // 필수 결재단계가 모두 APPROVED인지 확인
-            boolean allRequiredStepsApproved = steps.stream()
-                    .filter(step -> step.getIsRequired())
-                    .allMatch(step -> "APPROVED".equals(step.getStatus()));
-            
-            if (!allRequiredStepsApproved) {
-                return false;
-            }
-        }
-        
-        return true;
-    }
-    
     /**
      * 결재선 삭제
      */
@@ -397,6 +321,7 @@ public class ApprovalService {
         ApprovalLine approvalLine = approvalLineRepository.findById(UUID.fromString(id))
                 .orElseThrow(() -> new IllegalArgumentException("결재선을 찾을 수 없습니다: " + id));
         
+        approvalStateMachine.onLineRemoved(approvalLine);
         approvalLineRepository.delete(approvalLine);
         log.info("결재선 삭제 완료: {}", id);
     }
@@ -411,6 +336,7 @@ public class ApprovalService {
         ApprovalStep approvalStep = approvalStepRepository.findById(UUID.fromString(id))
                 .orElseThrow(() -> new IllegalArgumentException("결재단계를 찾을 수 없습니다: " + id));
         
+        approvalStateMachine.onStepRemoved(approvalStep);
         approvalStepRepository.delete(approvalStep);
         log.info("결재단계 삭제 완료: {}", id);
     }
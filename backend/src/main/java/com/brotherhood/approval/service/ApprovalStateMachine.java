@@ -0,0 +1,227 @@
+package com.brotherhood.approval.service;
+
+import com.brotherhood.approval.entity.ApprovalLine;
+import com.brotherhood.approval.entity.ApprovalStep;
+import com.brotherhood.approval.entity.Document;
+import com.brotherhood.approval.exception.BusinessException;
+import com.brotherhood.approval.repository.ApprovalStepRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * 결재 상태 머신
+ *
+ * 결재선과 문서에 남은 필수 결재단계 수를 저장해 두고, 결재 액션마다 카운터를 하나 줄이고
+ * 0이 되면 문서를 승인 상태로 전이한다. 승인할 때마다 문서의 모든 결재선과 단계를 다시 조회하지 않는다.
+ * - 결재단계 상태는 조건부 UPDATE(현재 PENDING일 때만)로 선점하므로 같은 단계를 두 번 처리할 수 없다
+ * - 카운터가 null이면 (이전 데이터, 다른 경로로 생성된 단계) 처음 한 번만 COUNT 쿼리로 집계한다
+ * - 병렬 결재단계를 동시에 승인하면 같은 결재선/문서 카운터를 갱신하므로
+ *   {@code @Version} 충돌이 나며, 호출 측에서 {@link TransactionRetryExecutor}로 다시 시도한다
+ * - 결재선/결재단계가 바뀌면 문서 변경 카운터를 올려 조건부 GET의 ETag가 달라지게 한다
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalStateMachine {
+
+    private final ApprovalStepRepository approvalStepRepository;
+
+    /**
+     * 상태 전이 결과
+     */
+    public record Transition(String previousStatus, String currentStatus) {
+
+        public boolean isChanged() {
+            return !String.valueOf(previousStatus).equals(String.valueOf(currentStatus));
+        }
+    }
+
+    /**
+     * 결재선 추가 반영 (결재단계 없이 결재선만 저장한 경우)
+     */
+    public void onLineAdded(ApprovalLine approvalLine) {
+        touch(approvalLine.getDocument());
+    }
+
+    /**
+     * 결재단계 추가 반영 (단계 저장 이후 호출)
+     */
+    public void onStepAdded(ApprovalStep step) {
+        touch(step.getApprovalLine().getDocument());
+        if (!isOutstanding(step)) {
+            return;
+        }
+        ApprovalLine approvalLine = step.getApprovalLine();
+        approvalLine.setRemainingRequiredSteps(approvalLine.getRemainingRequiredSteps() != null
+                ? approvalLine.getRemainingRequiredSteps() + 1
+                : countRemaining(approvalLine));
+
+        Document document = approvalLine.getDocument();
+        document.setRemainingRequiredSteps(document.getRemainingRequiredSteps() != null
+                ? document.getRemainingRequiredSteps() + 1
+                : countRemaining(document));
+    }
+
+    /**
+     * 결재단계 일괄 추가 반영 (단계 저장 이후 호출)
+     */
+    public void onStepsAdded(Collection<ApprovalStep> steps) {
+        steps.forEach(this::onStepAdded);
+    }
+
+    /**
+     * 결재단계 삭제 반영 (단계 삭제 전 호출)
+     */
+    public void onStepRemoved(ApprovalStep step) {
+        touch(step.getApprovalLine().getDocument());
+        if (!isOutstanding(step)) {
+            return;
+        }
+        ApprovalLine approvalLine = step.getApprovalLine();
+        approvalLine.setRemainingRequiredSteps(decrement(approvalLine.getRemainingRequiredSteps()));
+
+        Document document = approvalLine.getDocument();
+        document.setRemainingRequiredSteps(decrement(document.getRemainingRequiredSteps()));
+    }
+
+    /**
+     * 결재단계 변경 반영 (대결자 지정 등 상태 전이 없는 변경)
+     */
+    public void onStepChanged(ApprovalStep step) {
+        touch(step.getApprovalLine().getDocument());
+    }
+
+    /**
+     * 결재선 삭제 반영 (문서 카운터는 다음 결재 액션 때 다시 집계)
+     */
+    public void onLineRemoved(ApprovalLine approvalLine) {
+        approvalLine.getDocument().setRemainingRequiredSteps(null);
+        touch(approvalLine.getDocument());
+    }
+
+    /**
+     * 결재단계 선점 (PENDING → 액션 결과 상태 조건부 UPDATE 후 다시 조회)
+     *
+     * 영속성 컨텍스트를 비우므로 트랜잭션 안에서 가장 먼저 호출해야 한다.
+     *
+     * @return 갱신된 결재단계 (결재선/문서는 EAGER로 함께 적재)
+     * @throws IllegalArgumentException 결재단계가 없거나 지정 결재자가 아님
+     * @throws BusinessException 이미 처리된 결재단계 (409)
+     */
+    public ApprovalStep claim(UUID stepId, UUID approverId, String action) {
+        LocalDateTime now = LocalDateTime.now();
+        String expected = ApprovalStep.Status.PENDING;
+        int updated = switch (String.valueOf(action)) {
+            case "APPROVE" -> approvalStepRepository.markApproved(stepId, approverId, expected, now);
+            case "REJECT" -> approvalStepRepository.markRejected(stepId, approverId, expected, now);
+            case "DELEGATE" -> approvalStepRepository.markDelegated(stepId, approverId, expected, now);
+            default -> -1;  // 반송 등 결재단계 상태를 바꾸지 않는 액션
+        };
+
+        ApprovalStep step = approvalStepRepository.findById(stepId)
+                .orElseThrow(() -> new IllegalArgumentException("결재단계를 찾을 수 없습니다: " + stepId));
+        if (!step.getApprover().getId().equals(approverId)) {
+            throw new IllegalArgumentException("결재 권한이 없습니다");
+        }
+        if (updated == 0 || (updated < 0 && !ApprovalStep.Status.PENDING.equals(step.getStatus()))) {
+            throw new BusinessException("STEP_ALREADY_PROCESSED",
+                    "이미 처리된 결재단계입니다: " + stepId + " (" + step.getStatus() + ")", HttpStatus.CONFLICT);
+        }
+        return step;
+    }
+
+    /**
+     * 결재 액션 적용 (선점한 결재단계 → 결재선 카운터 → 문서 상태)
+     */
+    public Transition apply(ApprovalStep step, String action, String comments) {
+        ApprovalLine approvalLine = step.getApprovalLine();
+        Document document = approvalLine.getDocument();
+        String previousStatus = document.getStatus();
+        touch(document);  // 위임/반송처럼 문서 상태가 그대로여도 결재 이력이 추가된다
+
+        // 카운터가 없으면 집계 (선점한 단계는 이미 APPROVED이므로 집계에서 빠져 있어 다시 줄이지 않는다)
+        boolean lineCounted = approvalLine.getRemainingRequiredSteps() == null;
+        if (lineCounted) {
+            approvalLine.setRemainingRequiredSteps(countRemaining(approvalLine));
+        }
+        boolean documentCounted = document.getRemainingRequiredSteps() == null;
+        if (documentCounted) {
+            document.setRemainingRequiredSteps(countRemaining(document));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        switch (String.valueOf(action)) {
+            case "APPROVE" -> {
+                if (Boolean.TRUE.equals(step.getIsRequired())) {
+                    if (!lineCounted) {
+                        approvalLine.setRemainingRequiredSteps(decrement(approvalLine.getRemainingRequiredSteps()));
+                    }
+                    if (!documentCounted) {
+                        document.setRemainingRequiredSteps(decrement(document.getRemainingRequiredSteps()));
+                    }
+                }
+
+                if (document.getRemainingRequiredSteps() == 0 && !isClosed(document)) {
+                    document.setStatus(Document.Status.APPROVED);
+                    document.setApprovedAt(now);
+                    log.info("문서 승인 완료: {}", document.getId());
+                } else {
+                    log.info("문서 승인 진행 중: {} (남은 필수 결재단계 {} 개)",
+                            document.getId(), document.getRemainingRequiredSteps());
+                }
+            }
+            case "REJECT" -> {
+                document.setStatus(Document.Status.REJECTED);
+                document.setRejectedAt(now);
+                document.setRejectionReason(comments);  // 반려사유 저장
+                log.info("문서 반려: {} (사유: {})", document.getId(), comments);
+            }
+            case "DELEGATE" -> log.info("결재단계 위임: {}", step.getId());
+            case "RETURN" -> {
+                document.setStatus(Document.Status.DRAFT);
+                document.setSubmittedAt(null);
+                log.info("문서 반송: {}", document.getId());
+            }
+            default -> log.warn("알 수 없는 액션: {}", action);
+        }
+
+        return new Transition(previousStatus, document.getStatus());
+    }
+
+    private int countRemaining(ApprovalLine approvalLine) {
+        return (int) approvalStepRepository.countRemainingRequiredStepsByApprovalLineId(approvalLine.getId());
+    }
+
+    private int countRemaining(Document document) {
+        return (int) approvalStepRepository.countRemainingRequiredStepsByDocumentId(document.getId());
+    }
+
+    private static void touch(Document document) {
+        document.setChangeCounter(document.getChangeCounter() != null ? document.getChangeCounter() + 1 : 1L);
+    }
+
+    private static boolean isOutstanding(ApprovalStep step) {
+        return Boolean.TRUE.equals(step.getIsRequired())
+                && !ApprovalStep.Status.APPROVED.equals(step.getStatus());
+    }
+
+    private static boolean isClosed(Document document) {
+        return Document.Status.APPROVED.equals(document.getStatus())
+                || Document.Status.REJECTED.equals(document.getStatus())
+                || Document.Status.CANCELLED.equals(document.getStatus());
+    }
+
+    private static Integer decrement(Integer remaining) {
+        return remaining != null ? Math.max(0, remaining - 1) : null;
+    }
+}
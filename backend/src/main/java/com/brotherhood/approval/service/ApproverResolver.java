@@ -0,0 +1,275 @@
+package com.brotherhood.approval.service;
+
+import com.brotherhood.approval.entity.Branch;
+import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.event.ReferenceDataChangedEvent;
+import com.brotherhood.approval.event.UserChangedEvent;
+import com.brotherhood.approval.repository.BranchRepository;
+import com.brotherhood.approval.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 결재자 해석 서비스 ((지사, 역할) → 결재자 메모리 테이블)
+ *
+ * 결재선 정책이 역할별 결재자를 찾을 때 DB를 조회하지 않도록
+ * 기동 시 한 번의 쿼리로 지사별 역할 담당자와 상위 지사 관계를 적재한다.
+ * - 활성 사용자의 활성 역할 부여(역할도 활성)만 후보로 삼는다
+ * - 같은 지사에 같은 역할이 여러 명이면 역할 부여가 가장 오래된 사용자, 그다음 ID 순으로 선택한다
+ * - 해당 지사에 담당자가 없으면 상위 지사({@link Branch#getParent()})를 차례로 찾는다
+ * - 사용자 변경 이벤트가 오면 커밋 이후 해당 사용자의 후보만 다시 읽어 바뀐 (지사, 역할) 항목만 갱신하고,
+ *   지사/역할 변경 이벤트가 오면 테이블 전체를 다시 구성한다
+ *   (갱신은 직렬화하여, 늦게 시작한 갱신의 최신 결과를 먼저 시작한 갱신이 덮어쓰지 않게 한다)
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApproverResolver {
+
+    private static final Comparator<Candidate> TIE_BREAKER = Comparator
+            .comparing(Candidate::grantedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(candidate -> candidate.userId().toString());
+
+    private final BranchRepository branchRepository;
+    private final UserRepository userRepository;
+
+    private volatile Table table = Table.EMPTY;
+
+    /**
+     * 해석 테이블 구성 (기동 시, 변경 이벤트 수신 시)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+
+        Table loaded = Table.build(branchRepository.findApproverResolutionRows());
+        table = loaded;
+
+        log.info("결재자 해석 테이블 구성 완료: 지사 {} 곳, 담당자 {} 건 ({}ms)",
+                loaded.codes.size(), loaded.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 사용자 변경 이벤트 처리 (역할/지사/활성 여부가 바뀌면 결재자가 달라질 수 있음)
+     * - 해당 사용자의 후보 행만 조회해 기존 후보를 교체한다 (전체 재구성 없음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onUserChanged(UserChangedEvent event) {
+        if (event.getUserId() == null) {
+            return;
+        }
+        table = table.withUser(event.getUserId(),
+                branchRepository.findApproverResolutionRowsByUserId(event.getUserId()));
+        log.debug("결재자 해석 테이블 갱신: {}", event);
+    }
+
+    /**
+     * 지사/역할 변경 이벤트 처리
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * 지사와 역할로 결재자 ID 해석 (상위 지사 대체 포함)
+     */
+    public Optional<UUID> resolveId(UUID branchId, String roleName) {
+        return Optional.ofNullable(table.resolve(branchId, roleName));
+    }
+
+    /**
+     * 지사와 역할로 결재자 해석
+     *
+     * 반환값은 ID만 가진 참조(프록시)이므로 결재단계 생성 시 쿼리가 발생하지 않는다.
+     *
+     * @return 결재자 (담당자가 없으면 null)
+     */
+    public User resolve(Branch branch, String roleName) {
+        return branch != null ? resolve(branch.getId(), roleName) : null;
+    }
+
+    /**
+     * 지사 ID와 역할로 결재자 해석 (ID만 가진 참조)
+     */
+    public User resolve(UUID branchId, String roleName) {
+        return resolveId(branchId, roleName)
+                .map(userRepository::getReferenceById)
+                .orElse(null);
+    }
+
+    /**
+     * 지사 코드로 지사 ID 조회 (결재선 정책의 지사 지정용)
+     */
+    public Optional<UUID> findBranchId(String branchCode) {
+        return branchCode != null ? Optional.ofNullable(table.branchIds.get(branchCode)) : Optional.empty();
+    }
+
+    /**
+     * 지사 ID로 지사 코드 조회 (정책 조건의 branchCode 속성용)
+     */
+    public String getBranchCode(UUID branchId) {
+        return branchId != null ? table.codes.get(branchId) : null;
+    }
+
+    /**
+     * 해석 테이블 항목 수 ((지사, 역할) 조합)
+     */
+    public int size() {
+        return table.size();
+    }
+
+    private record Candidate(UUID userId, LocalDateTime grantedAt) {
+    }
+
+    private record Slot(UUID branchId, String roleName) {
+    }
+
+    /**
+     * 해석 테이블 (읽기 전용, 변경 시 교체)
+     *
+     * (지사, 역할)마다 후보를 선택 순서대로 정렬해 두어, 사용자 한 명이 바뀌어도
+     * 해당 사용자가 속한 항목만 고쳐 다음 후보를 바로 찾을 수 있다.
+     * 갱신 시 바뀌지 않은 지사의 항목은 이전 테이블과 공유한다.
+     */
+    private static final class Table {
+
+        private static final Table EMPTY = new Table(Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+
+        private final Map<UUID, Map<String, List<Candidate>>> candidates;
+        private final Map<UUID, Set<Slot>> slotsByUser;
+        private final Map<UUID, UUID> parents;
+        private final Map<UUID, String> codes;
+        private final Map<String, UUID> branchIds;
+
+        private Table(Map<UUID, Map<String, List<Candidate>>> candidates, Map<UUID, Set<Slot>> slotsByUser,
+                      Map<UUID, UUID> parents, Map<UUID, String> codes, Map<String, UUID> branchIds) {
+            this.candidates = candidates;
+            this.slotsByUser = slotsByUser;
+            this.parents = parents;
+            this.codes = codes;
+            this.branchIds = branchIds;
+        }
+
+        private static Table build(List<Object[]> rows) {
+            Map<UUID, UUID> parents = new HashMap<>();
+            Map<UUID, String> codes = new HashMap<>();
+            Map<String, UUID> branchIds = new HashMap<>();
+            Map<UUID, Map<String, List<Candidate>>> candidates = new HashMap<>();
+            Map<UUID, Set<Slot>> slotsByUser = new HashMap<>();
+
+            for (Object[] row : rows) {
+                UUID branchId = (UUID) row[0];
+                if (row[1] != null) {
+                    parents.put(branchId, (UUID) row[1]);
+                }
+                codes.put(branchId, (String) row[2]);
+                branchIds.put((String) row[2], branchId);
+                if (row[3] == null || row[4] == null) {
+                    continue;
+                }
+
+                Candidate candidate = new Candidate((UUID) row[3], (LocalDateTime) row[5]);
+                candidates.computeIfAbsent(branchId, id -> new HashMap<>())
+                        .computeIfAbsent((String) row[4], roleName -> new ArrayList<>())
+                        .add(candidate);
+                slotsByUser.computeIfAbsent(candidate.userId(), id -> new HashSet<>())
+                        .add(new Slot(branchId, (String) row[4]));
+            }
+
+            candidates.values().forEach(byRole -> byRole.values().forEach(list -> list.sort(TIE_BREAKER)));
+            return new Table(candidates, slotsByUser, parents, codes, branchIds);
+        }
+
+        /**
+         * 사용자 한 명의 후보를 교체한 새 테이블
+         *
+         * @param rows [branchId, roleName, grantedAt] 부여 시각순 (비어 있으면 후보에서 제외)
+         */
+        private Table withUser(UUID userId, List<Object[]> rows) {
+            Map<UUID, Map<String, List<Candidate>>> updated = new HashMap<>(candidates);
+            Set<UUID> copiedBranches = new HashSet<>();
+
+            for (Slot slot : slotsByUser.getOrDefault(userId, Set.of())) {
+                Map<String, List<Candidate>> byRole = copyBranch(updated, copiedBranches, slot.branchId());
+                List<Candidate> remaining = new ArrayList<>(byRole.getOrDefault(slot.roleName(), List.of()));
+                remaining.removeIf(candidate -> candidate.userId().equals(userId));
+                if (remaining.isEmpty()) {
+                    byRole.remove(slot.roleName());
+                } else {
+                    byRole.put(slot.roleName(), remaining);
+                }
+            }
+
+            Set<Slot> slots = new HashSet<>();
+            for (Object[] row : rows) {
+                Slot slot = new Slot((UUID) row[0], (String) row[1]);
+                if (!slots.add(slot)) {
+                    continue;
+                }
+                Map<String, List<Candidate>> byRole = copyBranch(updated, copiedBranches, slot.branchId());
+                List<Candidate> list = new ArrayList<>(byRole.getOrDefault(slot.roleName(), List.of()));
+                Candidate candidate = new Candidate(userId, (LocalDateTime) row[2]);
+                int position = Collections.binarySearch(list, candidate, TIE_BREAKER);
+                list.add(position < 0 ? -position - 1 : position, candidate);
+                byRole.put(slot.roleName(), list);
+            }
+
+            Map<UUID, Set<Slot>> updatedSlots = new HashMap<>(slotsByUser);
+            if (slots.isEmpty()) {
+                updatedSlots.remove(userId);
+            } else {
+                updatedSlots.put(userId, slots);
+            }
+            return new Table(updated, updatedSlots, parents, codes, branchIds);
+        }
+
+        /**
+         * 갱신 중인 지사 항목을 한 번만 복사 (이전 테이블의 항목은 수정하지 않는다)
+         */
+        private static Map<String, List<Candidate>> copyBranch(Map<UUID, Map<String, List<Candidate>>> updated,
+                                                               Set<UUID> copiedBranches, UUID branchId) {
+            if (copiedBranches.add(branchId)) {
+                updated.put(branchId, new HashMap<>(updated.getOrDefault(branchId, Map.of())));
+            }
+            return updated.get(branchId);
+        }
+
+        private UUID resolve(UUID branchId, String roleName) {
+            Set<UUID> visited = new HashSet<>();
+            UUID current = branchId;
+            while (current != null && visited.add(current)) {
+                List<Candidate> list = candidates.getOrDefault(current, Map.of()).get(roleName);
+                if (list != null && !list.isEmpty()) {
+                    return list.get(0).userId();
+                }
+                current = parents.get(current);
+            }
+            return null;
+        }
+
+        private int size() {
+            return candidates.values().stream().mapToInt(Map::size).sum();
+        }
+    }
+}
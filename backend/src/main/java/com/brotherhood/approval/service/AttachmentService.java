@@ -5,6 +5,7 @@ import com.brotherhood.approval.dto.attachment.FileUploadResponse;
 import com.brotherhood.approval.entity.Attachment;
 import com.brotherhood.approval.entity.Document;
 import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.event.DocumentChangedEvent;
 import com.brotherhood.approval.mapper.AttachmentMapper;
 import com.brotherhood.approval.repository.AttachmentRepository;
 import com.brotherhood.approval.repository.DocumentRepository;
@@ -12,6 +13,7 @@ import com.brotherhood.approval.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
@@ -27,6 +29,7 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -45,10 +48,13 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class AttachmentService {
     
+    private static final int CHECKSUM_BUFFER_SIZE = 8192;
+    
     private final AttachmentRepository attachmentRepository;
     private final AttachmentMapper attachmentMapper;
     private final DocumentRepository documentRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Value("${file.upload-dir:./uploads}")
     private String uploadDir;
@@ -130,6 +136,7 @@ public class AttachmentService {
         
         Attachment savedAttachment = attachmentRepository.save(attachment);
         log.info("첨부파일 업로드 완료: {}", savedAttachment.getId());
+        eventPublisher.publishEvent(DocumentChangedEvent.of(document.getId(), DocumentChangedEvent.ChangeType.ATTACHMENT_CHANGED));
         
         return attachmentMapper.toDto(savedAttachment);
     }
@@ -236,6 +243,7 @@ public class AttachmentService {
         
         // 데이터베이스에서 삭제
         attachmentRepository.delete(attachment);
+        eventPublisher.publishEvent(DocumentChangedEvent.of(attachment.getDocument().getId(), DocumentChangedEvent.ChangeType.ATTACHMENT_CHANGED));
         log.info("첨부파일 삭제 완료: {}", id);
     }
     
@@ -258,6 +266,7 @@ public class AttachmentService {
         }
         
         Attachment savedAttachment = attachmentRepository.save(attachment);
+        eventPublisher.publishEvent(DocumentChangedEvent.of(attachment.getDocument().getId(), DocumentChangedEvent.ChangeType.ATTACHMENT_CHANGED));
         log.info("첨부파일 정보 수정 완료: {}", id);
         
         return attachmentMapper.toDto(savedAttachment);
@@ -281,6 +290,7 @@ public class AttachmentService {
 
             // 데이터베이스에서 첨부파일 정보 삭제
             attachmentRepository.delete(attachment);
+            eventPublisher.publishEvent(DocumentChangedEvent.of(attachment.getDocument().getId(), DocumentChangedEvent.ChangeType.ATTACHMENT_CHANGED));
             log.info("데이터베이스에서 첨부파일 정보 삭제 완료: {}", id);
 
         } catch (IOException e) {
@@ -338,22 +348,17 @@ public class AttachmentService {
     }
     
     /**
-     * 파일 체크섬 계산
+     * 파일 체크섬 계산 (SHA-256, 16진수 소문자)
      */
-    private String calculateChecksum(Path filePath) throws IOException, NoSuchAlgorithmException {
+    public static String calculateChecksum(Path filePath) throws IOException, NoSuchAlgorithmException {
         MessageDigest md = MessageDigest.getInstance("SHA-256");
         try (java.io.InputStream fis = Files.newInputStream(filePath)) {
-            byte[] buffer = new byte[1024];
+            byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
             int bytesRead;
             while ((bytesRead = fis.read(buffer)) != -1) {
                 md.update(buffer, 0, bytesRead);
             }
         }
-        byte[] digest = md.digest();
-        StringBuilder sb = new StringBuilder();
-        for (byte b : digest) {
-            sb.append(String.format("%02x", b));
-        }
-        return sb.toString();
+        return HexFormat.of().formatHex(md.digest());
     }
 }
\ No newline at end of file
@@ -5,12 +5,10 @@ import com.brotherhood.approval.entity.ApprovalStep;
 import com.brotherhood.approval.entity.Document;
 import com.brotherhood.approval.entity.User;
 import com.brotherhood.approval.entity.Branch;
-import com.brotherhood.approval.entity.Role;
 import com.brotherhood.approval.repository.ApprovalLineRepository;
 import com.brotherhood.approval.repository.ApprovalStepRepository;
 import com.brotherhood.approval.repository.BranchRepository;
 import com.brotherhood.approval.repository.UserRepository;
-import com.brotherhood.approval.repository.RoleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,7 +16,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -38,7 +35,8 @@ public class CrossBranchApprovalService {
     private final ApprovalStepRepository approvalStepRepository;
     private final BranchRepository branchRepository;
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final ApproverResolver approverResolver;
+    private final ApprovalStateMachine approvalStateMachine;
     private final NotificationService notificationService;
     
     /**
@@ -61,11 +59,14 @@ public class CrossBranchApprovalService {
                 .createdBy(document.getAuthor())
                 .build();
         
+        approvalLine.setRemainingRequiredSteps(0);
         ApprovalLine savedApprovalLine = approvalLineRepository.save(approvalLine);
+        approvalStateMachine.onLineAdded(savedApprovalLine);
         
         // 결재단계 생성
-        List<ApprovalStep> approvalSteps = createCrossBranchApprovalSteps(savedApprovalLine, document, targetBranch, approvalType);
-        approvalStepRepository.saveAll(approvalSteps);
+        List<ApprovalStep> approvalSteps = approvalStepRepository.saveAll(
+                createCrossBranchApprovalSteps(savedApprovalLine, document, targetBranch, approvalType));
+        approvalStateMachine.onStepsAdded(approvalSteps);
         
         savedApprovalLine.setApprovalSteps(approvalSteps.stream().collect(java.util.stream.Collectors.toSet()));
         
@@ -227,6 +228,7 @@ public class CrossBranchApprovalService {
             
             approvalStep.setAlternateApprover(delegatedToUser);
             approvalStepRepository.save(approvalStep);
+            approvalStateMachine.onStepChanged(approvalStep);
             
             // 위임 알림 전송
             notificationService.sendNotification(
@@ -262,6 +264,7 @@ public class CrossBranchApprovalService {
             for (ApprovalStep step : approvalLine.getApprovalSteps()) {
                 step.setStatus("RETURNED");
                 approvalStepRepository.save(step);
+                approvalStateMachine.onStepChanged(step);
             }
             
             return true;
@@ -375,18 +378,10 @@ public class CrossBranchApprovalService {
     }
     
     /**
-     * 역할별 사용자 찾기
+     * 역할별 사용자 찾기 (메모리 해석 테이블, 쿼리 없음)
      */
     private User findUserByRoleAndBranch(String roleName, Branch branch) {
-        Optional<Role> role = roleRepository.findByName(roleName);
-        if (role.isEmpty()) {
-            return null;
-        }
-        
-        return userRepository.findByRoleAndBranch(role.get(), branch)
-                .stream()
-                .findFirst()
-                .orElse(null);
+        return approverResolver.resolve(branch, roleName);
     }
     
     /**
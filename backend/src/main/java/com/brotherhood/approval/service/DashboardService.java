@@ -5,6 +5,7 @@ import com.brotherhood.approval.dto.document.DocumentDto;
 import com.brotherhood.approval.dto.user.UserDto;
 import com.brotherhood.approval.mapper.DocumentMapper;
 import com.brotherhood.approval.mapper.UserMapper;
+import com.brotherhood.approval.metrics.ApprovalMetrics;
 import com.brotherhood.approval.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,6 +36,7 @@ public class DashboardService {
     private final CommentRepository commentRepository;
     private final DocumentMapper documentMapper;
     private final UserMapper userMapper;
+    private final ApprovalMetrics approvalMetrics;
     
     /**
      * 대시보드 통계 조회
@@ -82,7 +84,7 @@ public class DashboardService {
      * 최근 문서 조회
      */
     public List<DocumentDto> getRecentDocuments(int limit) {
-        return documentRepository.findAll(PageRequest.of(0, limit))
+        return documentRepository.findAllSummaries(PageRequest.of(0, limit))
                 .getContent()
                 .stream()
                 .map(documentMapper::toDto)
@@ -145,7 +147,7 @@ public class DashboardService {
         long myRejectedDocuments = documentRepository.countByAuthorIdAndStatus(userId, "REJECTED");
         
         // 사용자가 결재해야 하는 문서 수 (실제 결재선이 있는 문서만)
-        long pendingMyApproval = documentRepository.findPendingApprovalByUserId(userId, PageRequest.of(0, 1)).getTotalElements();
+        long pendingMyApproval = documentRepository.countPendingApprovalByUserId(userId);
         
         return DashboardStatsDto.builder()
                 .totalDocuments(myDocuments)
@@ -177,7 +179,8 @@ public class DashboardService {
      * 결재 대기 문서 조회
      */
     public List<DocumentDto> getPendingApprovalDocuments(String userId, int limit) {
-        return documentRepository.findPendingApprovalByUserId(UUID.fromString(userId), PageRequest.of(0, limit))
+        return approvalMetrics.timeInboxQuery("dashboard",
+                        () -> documentRepository.findPendingApprovalByUserId(UUID.fromString(userId), PageRequest.of(0, limit)))
                 .getContent()
                 .stream()
                 .map(documentMapper::toDto)
@@ -192,7 +195,8 @@ public class DashboardService {
     public List<DocumentDto> getPendingApprovalsByUser(UUID userId) {
         log.info("사용자별 결재 대기 목록 조회: {}", userId);
         
-        List<DocumentDto> documents = documentRepository.findPendingApprovalByUserId(userId, PageRequest.of(0, 50))
+        List<DocumentDto> documents = approvalMetrics.timeInboxQuery("dashboard",
+                        () -> documentRepository.findPendingApprovalByUserId(userId, PageRequest.of(0, 50)))
                 .getContent()
                 .stream()
                 .map(documentMapper::toDto)
@@ -0,0 +1,316 @@
+package com.brotherhood.approval.service;
+
+import com.brotherhood.approval.dto.approval.ApprovalHistoryDto;
+import com.brotherhood.approval.dto.approval.ApprovalLineDto;
+import com.brotherhood.approval.dto.approval.ApprovalStepDto;
+import com.brotherhood.approval.dto.attachment.AttachmentDto;
+import com.brotherhood.approval.dto.comment.CommentDto;
+import com.brotherhood.approval.dto.document.DocumentBundleDto;
+import com.brotherhood.approval.dto.document.DocumentDto;
+import com.brotherhood.approval.entity.ApprovalHistory;
+import com.brotherhood.approval.entity.ApprovalStep;
+import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.mapper.ApprovalHistoryMapper;
+import com.brotherhood.approval.mapper.ApprovalLineMapper;
+import com.brotherhood.approval.mapper.ApprovalStepMapper;
+import com.brotherhood.approval.mapper.AttachmentMapper;
+import com.brotherhood.approval.mapper.CommentMapper;
+import com.brotherhood.approval.mapper.DocumentMapper;
+import com.brotherhood.approval.repository.ApprovalHistoryRepository;
+import com.brotherhood.approval.repository.ApprovalLineRepository;
+import com.brotherhood.approval.repository.AttachmentRepository;
+import com.brotherhood.approval.repository.CommentRepository;
+import com.brotherhood.approval.repository.DocumentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 문서 상세 묶음 조회 서비스
+ *
+ * 문서 상세 화면에 필요한 문서/결재선/결재 이력/첨부파일/댓글을 한 번의 요청으로 조회한다.
+ * - 문서 외 항목은 서로 독립적이므로 전용 스레드 풀에서 동시에 읽고, 문서는 요청 스레드에서 읽는다
+ * - 항목마다 자체 읽기 전용 트랜잭션에서 연관 엔티티를 JOIN FETCH한 쿼리 하나로 읽는다
+ * - 스레드 풀과 대기열은 크기가 정해져 있고, 가득 차면 요청 스레드가 직접 실행한다 (커넥션 풀 보호)
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Slf4j
+@Service
+public class DocumentBundleService {
+
+    public static final String PART_APPROVAL_LINES = "approvalLines";
+    public static final String PART_APPROVAL_HISTORY = "approvalHistory";
+    public static final String PART_ATTACHMENTS = "attachments";
+    public static final String PART_COMMENTS = "comments";
+
+    private static final Set<String> ALL_PARTS =
+            Set.of(PART_APPROVAL_LINES, PART_APPROVAL_HISTORY, PART_ATTACHMENTS, PART_COMMENTS);
+
+    private final DocumentRepository documentRepository;
+    private final ApprovalLineRepository approvalLineRepository;
+    private final ApprovalHistoryRepository approvalHistoryRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final CommentRepository commentRepository;
+    private final DocumentMapper documentMapper;
+    private final ApprovalLineMapper approvalLineMapper;
+    private final ApprovalStepMapper approvalStepMapper;
+    private final ApprovalHistoryMapper approvalHistoryMapper;
+    private final AttachmentMapper attachmentMapper;
+    private final CommentMapper commentMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolExecutor executor;
+
+    @Value("${approval.document.bundle.timeout-millis:5000}")
+    private long timeoutMillis;
+
+    public DocumentBundleService(DocumentRepository documentRepository,
+                                 ApprovalLineRepository approvalLineRepository,
+                                 ApprovalHistoryRepository approvalHistoryRepository,
+                                 AttachmentRepository attachmentRepository,
+                                 CommentRepository commentRepository,
+                                 DocumentMapper documentMapper,
+                                 ApprovalLineMapper approvalLineMapper,
+                                 ApprovalStepMapper approvalStepMapper,
+                                 ApprovalHistoryMapper approvalHistoryMapper,
+                                 AttachmentMapper attachmentMapper,
+                                 CommentMapper commentMapper,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${approval.document.bundle.pool-size:4}") int poolSize,
+                                 @Value("${approval.document.bundle.queue-capacity:64}") int queueCapacity) {
+        this.documentRepository = documentRepository;
+        this.approvalLineRepository = approvalLineRepository;
+        this.approvalHistoryRepository = approvalHistoryRepository;
+        this.attachmentRepository = attachmentRepository;
+        this.commentRepository = commentRepository;
+        this.documentMapper = documentMapper;
+        this.approvalLineMapper = approvalLineMapper;
+        this.approvalStepMapper = approvalStepMapper;
+        this.approvalHistoryMapper = approvalHistoryMapper;
+        this.attachmentMapper = attachmentMapper;
+        this.commentMapper = commentMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "document-bundle-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 문서 상세 묶음 조회
+     *
+     * @param documentId 문서 ID
+     * @param fields     포함할 항목 (null 또는 비어 있으면 전체, 문서 자체는 항상 포함)
+     * @return 문서가 없으면 empty
+     */
+    public Optional<DocumentBundleDto> getBundle(String documentId, Collection<String> fields) {
+        UUID id = UUID.fromString(documentId);
+        Set<String> parts = resolveParts(fields);
+        log.debug("문서 상세 묶음 조회: {} (항목: {})", documentId, parts);
+
+        CompletableFuture<List<ApprovalLineDto>> approvalLines =
+                parts.contains(PART_APPROVAL_LINES) ? submit(() -> loadApprovalLines(id)) : null;
+        CompletableFuture<List<ApprovalHistoryDto>> approvalHistory =
+                parts.contains(PART_APPROVAL_HISTORY) ? submit(() -> loadApprovalHistory(id)) : null;
+        CompletableFuture<List<AttachmentDto>> attachments =
+                parts.contains(PART_ATTACHMENTS) ? submit(() -> loadAttachments(id)) : null;
+        CompletableFuture<List<CommentDto>> comments =
+                parts.contains(PART_COMMENTS) ? submit(() -> loadComments(id)) : null;
+        List<CompletableFuture<?>> pending = Stream.<CompletableFuture<?>>of(approvalLines, approvalHistory, attachments, comments)
+                .filter(Objects::nonNull)
+                .toList();
+
+        Optional<DocumentDto> document;
+        try {
+            document = loadDocument(id);
+        } catch (RuntimeException e) {
+            pending.forEach(future -> future.cancel(true));
+            throw e;
+        }
+        if (document.isEmpty()) {
+            pending.forEach(future -> future.cancel(true));
+            return Optional.empty();
+        }
+
+        await(pending);
+
+        List<ApprovalHistoryDto> histories = approvalHistory != null ? approvalHistory.join() : null;
+        if (histories != null) {
+            histories.forEach(history -> history.setDocumentTitle(document.get().getTitle()));
+        }
+        return Optional.of(DocumentBundleDto.builder()
+                .document(document.get())
+                .approvalLines(approvalLines != null ? approvalLines.join() : null)
+                .approvalHistory(histories)
+                .attachments(attachments != null ? attachments.join() : null)
+                .comments(comments != null ? comments.join() : null)
+                .build());
+    }
+
+    /**
+     * 문서 (작성자/지사 포함)
+     */
+    public Optional<DocumentDto> loadDocument(UUID documentId) {
+        return readOnlyTransaction.execute(status -> documentRepository.findDetailById(documentId)
+                .map(documentMapper::toDto));
+    }
+
+    /**
+     * 결재선 (결재단계를 순서대로 포함)
+     */
+    public List<ApprovalLineDto> loadApprovalLines(UUID documentId) {
+        return readOnlyTransaction.execute(status -> approvalLineRepository.findWithStepsByDocumentId(documentId)
+                .stream()
+                .map(approvalLine -> {
+                    ApprovalLineDto dto = approvalLineMapper.toDto(approvalLine);
+                    List<ApprovalStepDto> steps = approvalLine.getApprovalSteps().stream()
+                            .sorted(Comparator.comparing(ApprovalStep::getStepOrder))
+                            .map(approvalStepMapper::toDto)
+                            .toList();
+                    dto.setApprovalSteps(steps);
+                    return dto;
+                })
+                .toList());
+    }
+
+    /**
+     * 결재 이력 (결재자/위임받은 사용자 이름 포함, 최신순)
+     */
+    public List<ApprovalHistoryDto> loadApprovalHistory(UUID documentId) {
+        return readOnlyTransaction.execute(status -> approvalHistoryRepository.findWithUsersByDocumentId(documentId)
+                .stream()
+                .map(row -> {
+                    ApprovalHistory history = (ApprovalHistory) row[0];
+                    User approver = (User) row[1];
+                    User delegatedTo = (User) row[2];
+                    if (approver != null) {
+                        history.setApproverName(approver.getFullName());
+                        history.setApproverDisplayName(approver.getDisplayName());
+                    }
+                    if (delegatedTo != null) {
+                        history.setDelegatedToName(delegatedTo.getFullName());
+                        history.setDelegatedToDisplayName(delegatedTo.getDisplayName());
+                    }
+                    return approvalHistoryMapper.toDto(history);
+                })
+                .toList());
+    }
+
+    /**
+     * 첨부파일 (업로드 순)
+     */
+    public List<AttachmentDto> loadAttachments(UUID documentId) {
+        return readOnlyTransaction.execute(status -> attachmentRepository.findWithUploaderByDocumentId(documentId)
+                .stream()
+                .map(attachmentMapper::toDto)
+                .toList());
+    }
+
+    /**
+     * 댓글 (한 번에 읽은 목록으로 답글 트리 구성, 최신순)
+     */
+    public List<CommentDto> loadComments(UUID documentId) {
+        List<CommentDto> flat = readOnlyTransaction.execute(status ->
+                commentRepository.findWithAuthorByDocumentId(documentId)
+                        .stream()
+                        .map(commentMapper::toDtoWithoutReplies)
+                        .toList());
+
+        Map<String, CommentDto> byId = new LinkedHashMap<>();
+        for (CommentDto comment : flat) {
+            comment.setReplies(new ArrayList<>());
+            byId.put(comment.getId(), comment);
+        }
+        List<CommentDto> roots = new ArrayList<>();
+        for (CommentDto comment : flat) {
+            CommentDto parent = comment.getParentCommentId() != null ? byId.get(comment.getParentCommentId()) : null;
+            if (parent != null) {
+                parent.getReplies().add(comment);
+            } else {
+                roots.add(comment);
+            }
+        }
+        return roots;
+    }
+
+    private static Set<String> resolveParts(Collection<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return ALL_PARTS;
+        }
+        Set<String> parts = new LinkedHashSet<>();
+        for (String field : fields) {
+            String part = field.trim();
+            if (part.isEmpty() || "document".equals(part)) {
+                continue;
+            }
+            if (!ALL_PARTS.contains(part)) {
+                throw new IllegalArgumentException("알 수 없는 조회 항목입니다: " + part + " (사용 가능: " + ALL_PARTS + ")");
+            }
+            parts.add(part);
+        }
+        return parts;
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> loader) {
+        return CompletableFuture.supplyAsync(loader, executor);
+    }
+
+    private void await(List<CompletableFuture<?>> pending) {
+        try {
+            CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                    .get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            pending.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("문서 상세 조회 시간이 초과되었습니다 (" + timeoutMillis + "ms)", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("문서 상세 조회가 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            pending.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("문서 상세 조회 중 오류가 발생했습니다", e.getCause());
+        }
+    }
+}
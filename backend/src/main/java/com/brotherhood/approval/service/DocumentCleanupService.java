@@ -0,0 +1,219 @@
+package com.brotherhood.approval.service;
+
+import com.brotherhood.approval.dto.document.DocumentCleanupResult;
+import com.brotherhood.approval.entity.Document;
+import com.brotherhood.approval.entity.StatsWatermark;
+import com.brotherhood.approval.event.DocumentChangedEvent;
+import com.brotherhood.approval.metrics.ApprovalMetrics;
+import com.brotherhood.approval.repository.DocumentRepository;
+import com.brotherhood.approval.repository.StatsWatermarkRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 결재선 없는 PENDING 문서 정제 작업
+ *
+ * 결재선 없이 상신 상태로 남은 문서를 DRAFT로 되돌린다.
+ * - ID 키셋 배치로 대상 문서를 잠가 고르고 배치마다 UPDATE 한 번으로 변경한다 (문서별 조회/저장 없음)
+ * - 고른 문서는 트랜잭션이 끝날 때까지 잠겨 있어 모두 변경되므로, 고른 문서마다 {@link DocumentChangedEvent}를 발행해
+ *   검색 색인/캐시가 커밋 이후 갱신되게 한다
+ * - 배치 트랜잭션마다 stats_watermarks의 작업 행(V8 마이그레이션에서 생성)을 잠가 여러 인스턴스가 같은 배치를
+ *   겹쳐 처리하지 않게 하고, 마지막 실행 시각/소요 시간을 기록한다 (워터마크 값은 이 작업에서 쓰지 않는다)
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Slf4j
+@Service
+public class DocumentCleanupService {
+
+    static final String JOB_NAME = "document_cleanup";
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private final DocumentRepository documentRepository;
+    private final StatsWatermarkRepository watermarkRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApprovalMetrics approvalMetrics;
+    private final TransactionTemplate writeTransaction;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "document-cleanup");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private volatile DocumentCleanupResult lastResult;
+
+    @Value("${approval.document.cleanup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${approval.document.cleanup.batch-size:500}")
+    private int batchSize;
+
+    public DocumentCleanupService(DocumentRepository documentRepository,
+                                  StatsWatermarkRepository watermarkRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  ApprovalMetrics approvalMetrics,
+                                  PlatformTransactionManager transactionManager) {
+        this.documentRepository = documentRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.eventPublisher = eventPublisher;
+        this.approvalMetrics = approvalMetrics;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 주기적 정제
+     * - 다른 실행이 진행 중일 때만 건너뛰고, 그 외 실패(작업 행 누락, 변경 수 불일치 롤백 등)는 오류로 기록
+     */
+    @Scheduled(fixedDelayString = "${approval.document.cleanup.interval-ms:3600000}",
+               initialDelayString = "${approval.document.cleanup.initial-delay-ms:120000}")
+    public void scheduledCleanUp() {
+        if (!enabled) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.debug("문서 정제 건너뜀: 이미 진행 중");
+            return;
+        }
+        try {
+            runCleanUp();
+        } catch (Exception e) {
+            log.error("문서 정제 실패", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 정제 (비동기, 관리자 요청)
+     */
+    public CompletableFuture<DocumentCleanupResult> cleanUpAsync() {
+        acquire();
+
+        CompletableFuture<DocumentCleanupResult> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                result.complete(runCleanUp());
+            } catch (Exception e) {
+                log.error("문서 정제 실패", e);
+                result.completeExceptionally(e);
+            } finally {
+                running.set(false);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 정제 (호출 스레드에서 실행)
+     *
+     * @throws IllegalStateException 이미 진행 중
+     */
+    public DocumentCleanupResult cleanUp() {
+        acquire();
+        try {
+            return runCleanUp();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public DocumentCleanupResult getLastResult() {
+        return lastResult;
+    }
+
+    private void acquire() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("문서 정제가 이미 진행 중입니다");
+        }
+    }
+
+    private DocumentCleanupResult runCleanUp() {
+        long startTime = System.currentTimeMillis();
+
+        long drafted = 0;
+        int batches = 0;
+        UUID lastId = MIN_UUID;
+        while (true) {
+            UUID afterId = lastId;
+            long[] batch = new long[1];
+            UUID batchLastId = writeTransaction.execute(status -> cleanUpBatch(afterId, startTime, batch));
+            if (batchLastId == null) {
+                break;
+            }
+            drafted += batch[0];
+            batches++;
+            lastId = batchLastId;
+        }
+
+        long elapsed = System.currentTimeMillis() - startTime;
+        DocumentCleanupResult result = DocumentCleanupResult.builder()
+                .draftedDocuments(drafted)
+                .batches(batches)
+                .finishedAt(LocalDateTime.now())
+                .durationMillis(elapsed)
+                .build();
+        lastResult = result;
+
+        if (drafted > 0) {
+            log.warn("결재선이 없는 PENDING 문서 {} 개를 DRAFT로 변경 ({} 배치, {}ms)", drafted, batches, elapsed);
+        } else {
+            log.debug("결재선이 없는 PENDING 문서 없음 ({}ms)", elapsed);
+        }
+        return result;
+    }
+
+    /**
+     * 배치 하나 정제 (작업 행 잠금 → 대상 문서 잠금 조회 → 조건부 UPDATE)
+     *
+     * @return 배치의 마지막 문서 ID (더 없으면 null)
+     */
+    private UUID cleanUpBatch(UUID afterId, long startTime, long[] drafted) {
+        StatsWatermark jobLock = watermarkRepository.findByNameForUpdate(JOB_NAME)
+                .orElseThrow(() -> new IllegalStateException("문서 정제 작업 행이 없습니다: " + JOB_NAME));
+        jobLock.setLastRunAt(LocalDateTime.now());
+        jobLock.setLastRunMillis(System.currentTimeMillis() - startTime);
+
+        List<UUID> ids = documentRepository.lockPendingIdsWithoutApprovalLines(afterId, batchSize);
+        if (ids.isEmpty()) {
+            return null;
+        }
+
+        int updated = documentRepository.markDraftWithoutApprovalLines(ids, LocalDateTime.now());
+        if (updated != ids.size()) {
+            // 잠근 문서는 모두 변경되어야 하므로, 어긋나면 이벤트를 잘못 발행하지 않도록 배치를 되돌린다
+            throw new IllegalStateException("문서 정제 변경 수가 잠근 문서 수와 다릅니다: " + updated + "/" + ids.size());
+        }
+        drafted[0] = updated;
+        approvalMetrics.recordTransitions(Document.Status.PENDING, Document.Status.DRAFT, updated);
+        ids.forEach(id -> eventPublisher.publishEvent(
+                DocumentChangedEvent.of(id, DocumentChangedEvent.ChangeType.STATUS_CHANGED)));
+        return ids.get(ids.size() - 1);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
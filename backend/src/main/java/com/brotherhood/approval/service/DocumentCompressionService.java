@@ -0,0 +1,164 @@
+package com.brotherhood.approval.service;
+
+import com.brotherhood.approval.dto.document.ContentCompressionResult;
+import com.brotherhood.approval.entity.converter.CompressedTextCodec;
+import com.brotherhood.approval.repository.DocumentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 문서 본문 재압축 서비스
+ *
+ * 압축 저장 도입 이전에 저장된 긴 본문을 ID 순서 배치로 읽어 압축 형식으로 다시 저장한다.
+ * - 배치마다 별도 트랜잭션으로 커밋하므로 중간에 멈춰도 다음 실행이 남은 행부터 이어간다
+ * - 읽은 이후 수정된 문서는 lock_version 조건으로 건너뛴다 (다음 저장 때 컨버터가 압축)
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Slf4j
+@Service
+public class DocumentCompressionService {
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private final DocumentRepository documentRepository;
+    private final CompressedTextCodec codec;
+    private final TransactionTemplate writeTransaction;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "document-recompression");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private volatile ContentCompressionResult lastResult;
+
+    @Value("${approval.document.compression.min-length:4096}")
+    private int minLength;
+
+    @Value("${approval.document.compression.batch-size:200}")
+    private int batchSize;
+
+    public DocumentCompressionService(DocumentRepository documentRepository,
+                                      CompressedTextCodec codec,
+                                      PlatformTransactionManager transactionManager) {
+        this.documentRepository = documentRepository;
+        this.codec = codec;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 재압축 (비동기)
+     */
+    public CompletableFuture<ContentCompressionResult> recompressAsync() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("본문 재압축이 이미 진행 중입니다");
+        }
+
+        CompletableFuture<ContentCompressionResult> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                result.complete(recompress());
+            } catch (Exception e) {
+                log.error("본문 재압축 실패", e);
+                result.completeExceptionally(e);
+            } finally {
+                running.set(false);
+            }
+        });
+        return result;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public ContentCompressionResult getLastResult() {
+        return lastResult;
+    }
+
+    private ContentCompressionResult recompress() {
+        long startTime = System.currentTimeMillis();
+        log.info("본문 재압축 시작 (최소 길이: {}, 배치 크기: {})", minLength, batchSize);
+
+        long[] totals = new long[5];  // scanned, compressed, skipped, bytesBefore, bytesAfter
+        UUID lastId = MIN_UUID;
+        while (true) {
+            UUID afterId = lastId;
+            UUID batchLastId = writeTransaction.execute(status -> recompressBatch(afterId, totals));
+            if (batchLastId == null) {
+                break;
+            }
+            lastId = batchLastId;
+        }
+
+        long elapsed = System.currentTimeMillis() - startTime;
+        ContentCompressionResult result = ContentCompressionResult.builder()
+                .scannedDocuments(totals[0])
+                .compressedDocuments(totals[1])
+                .skippedDocuments(totals[2])
+                .bytesBefore(totals[3])
+                .bytesAfter(totals[4])
+                .bytesSaved(totals[3] - totals[4])
+                .finishedAt(LocalDateTime.now())
+                .durationMillis(elapsed)
+                .build();
+        lastResult = result;
+
+        log.info("본문 재압축 완료: {} 개 압축, {} 개 건너뜀, {} bytes 절감 ({}ms)",
+                result.getCompressedDocuments(), result.getSkippedDocuments(), result.getBytesSaved(), elapsed);
+        return result;
+    }
+
+    /**
+     * 배치 하나 재압축
+     *
+     * @return 배치의 마지막 문서 ID (더 없으면 null)
+     */
+    private UUID recompressBatch(UUID afterId, long[] totals) {
+        List<Object[]> rows = documentRepository.findUncompressedContentBatch(
+                afterId, minLength, CompressedTextCodec.MAGIC + "%", batchSize);
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        for (Object[] row : rows) {
+            UUID id = (UUID) row[0];
+            String content = (String) row[1];
+            long lockVersion = ((Number) row[2]).longValue();
+            long before = content.getBytes(StandardCharsets.UTF_8).length;
+            totals[0]++;
+
+            String encoded = codec.encode(content);
+            if (!CompressedTextCodec.isCompressed(encoded)
+                    || documentRepository.replaceStoredContent(id, lockVersion, encoded) == 0) {
+                totals[2]++;
+                continue;
+            }
+            totals[1]++;
+            totals[3] += before;
+            totals[4] += encoded.length();
+        }
+        return (UUID) rows.get(rows.size() - 1)[0];
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
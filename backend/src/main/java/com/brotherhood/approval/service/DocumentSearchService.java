@@ -0,0 +1,618 @@
+package com.brotherhood.approval.service;
+
+import com.brotherhood.approval.dto.PageResponse;
+import com.brotherhood.approval.dto.document.DocumentDto;
+import com.brotherhood.approval.dto.document.DocumentSummary;
+import com.brotherhood.approval.dto.search.DocumentSearchResponse;
+import com.brotherhood.approval.dto.search.SearchRequest;
+import com.brotherhood.approval.entity.Attachment;
+import com.brotherhood.approval.entity.Document;
+import com.brotherhood.approval.event.DocumentChangedEvent;
+import com.brotherhood.approval.mapper.DocumentMapper;
+import com.brotherhood.approval.repository.AttachmentRepository;
+import com.brotherhood.approval.repository.CommentRepository;
+import com.brotherhood.approval.repository.DocumentRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.facet.FacetResult;
+import org.apache.lucene.facet.Facets;
+import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.facet.LabelAndValue;
+import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetField;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 문서 검색 서비스 (Lucene 임베디드 색인)
+ *
+ * 문서 제목/내용, 댓글, 텍스트 첨부파일을 한국어 형태소 분석기(Nori)로 색인하고
+ * 상태/지사/유형/보안등급 패싯을 제공한다. 색인은 로컬 디스크에 저장되어 재시작 후에도 유지되며,
+ * 트랜잭션 커밋 이후 발행되는 {@link DocumentChangedEvent}로 준실시간 갱신된다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "search.lucene", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DocumentSearchService {
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_CONTENT = "content";
+    private static final String FIELD_COMMENTS = "comments";
+    private static final String FIELD_ATTACHMENTS = "attachments";
+
+    public static final String FACET_STATUS = "status";
+    public static final String FACET_BRANCH = "branchId";
+    public static final String FACET_DOCUMENT_TYPE = "documentType";
+    public static final String FACET_SECURITY_LEVEL = "securityLevel";
+
+    private static final List<String> FACET_DIMENSIONS =
+            List.of(FACET_STATUS, FACET_BRANCH, FACET_DOCUMENT_TYPE, FACET_SECURITY_LEVEL);
+
+    private static final String[] SEARCH_FIELDS = {FIELD_TITLE, FIELD_CONTENT, FIELD_COMMENTS, FIELD_ATTACHMENTS};
+    private static final Map<String, Float> SEARCH_BOOSTS = Map.of(
+            FIELD_TITLE, 3.0f,
+            FIELD_CONTENT, 1.0f,
+            FIELD_COMMENTS, 0.5f,
+            FIELD_ATTACHMENTS, 0.5f);
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_FACET_VALUES = 50;
+
+    private final DocumentRepository documentRepository;
+    private final CommentRepository commentRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final DocumentMapper documentMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Value("${search.lucene.index-dir:./search-index}")
+    private String indexDir;
+
+    @Value("${search.lucene.batch-size:500}")
+    private int batchSize;
+
+    @Value("${search.lucene.commit-interval-seconds:30}")
+    private long commitIntervalSeconds;
+
+    @Value("${search.lucene.max-attachment-text-bytes:1048576}")
+    private int maxAttachmentTextBytes;
+
+    private final FacetsConfig facetsConfig = new FacetsConfig();
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    private Analyzer analyzer;
+    private Directory directory;
+    private IndexWriter indexWriter;
+    private SearcherManager searcherManager;
+    private ScheduledExecutorService indexExecutor;
+
+    private volatile IndexReader facetStateReader;
+    private volatile SortedSetDocValuesReaderState facetState;
+
+    public DocumentSearchService(DocumentRepository documentRepository,
+                                 CommentRepository commentRepository,
+                                 AttachmentRepository attachmentRepository,
+                                 DocumentMapper documentMapper,
+                                 PlatformTransactionManager transactionManager) {
+        this.documentRepository = documentRepository;
+        this.commentRepository = commentRepository;
+        this.attachmentRepository = attachmentRepository;
+        this.documentMapper = documentMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 색인 디렉토리 열기
+     */
+    @PostConstruct
+    public void open() throws IOException {
+        Path indexPath = Paths.get(indexDir);
+        Files.createDirectories(indexPath);
+
+        analyzer = new KoreanAnalyzer();
+        directory = FSDirectory.open(indexPath);
+
+        IndexWriterConfig config = new IndexWriterConfig(analyzer);
+        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        indexWriter = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(indexWriter, null);
+
+        indexExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        indexExecutor.scheduleWithFixedDelay(this::commitIfNeeded,
+                commitIntervalSeconds, commitIntervalSeconds, TimeUnit.SECONDS);
+
+        log.info("검색 색인 열기 완료: {} (문서 수: {})", indexPath.toAbsolutePath(), indexWriter.getDocStats().numDocs);
+    }
+
+    /**
+     * 색인 닫기 (미반영 변경사항 커밋)
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        indexExecutor.shutdown();
+        try {
+            if (!indexExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("검색 색인 작업이 종료되지 않아 강제 종료합니다");
+                indexExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+        analyzer.close();
+        log.info("검색 색인 닫기 완료");
+    }
+
+    /**
+     * 색인이 비어있으면 애플리케이션 기동 후 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (indexWriter.getDocStats().numDocs == 0 && documentRepository.count() > 0) {
+            log.info("검색 색인이 비어있어 재구성을 시작합니다");
+            rebuildIndexAsync();
+        }
+    }
+
+    /**
+     * 문서 변경 이벤트 처리 (커밋 이후 색인 갱신)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentChanged(DocumentChangedEvent event) {
+        if (event.getDocumentId() == null) {
+            return;
+        }
+        indexExecutor.execute(() -> {
+            try {
+                if (event.getChangeType() == DocumentChangedEvent.ChangeType.DELETED) {
+                    indexWriter.deleteDocuments(new Term(FIELD_ID, event.getDocumentId().toString()));
+                } else {
+                    readOnlyTransaction.executeWithoutResult(status ->
+                            indexBatch(documentRepository.findAllById(List.of(event.getDocumentId()))));
+                }
+                searcherManager.maybeRefresh();
+            } catch (Exception e) {
+                log.error("검색 색인 갱신 실패: {}", event, e);
+            }
+        });
+    }
+
+    /**
+     * 전체 색인 재구성 (비동기)
+     * - ID 키셋 기준 배치로 스트리밍하여 메모리 사용량을 일정하게 유지한다
+     */
+    public CompletableFuture<Long> rebuildIndexAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new IllegalStateException("검색 색인 재구성이 이미 진행 중입니다");
+        }
+
+        CompletableFuture<Long> result = new CompletableFuture<>();
+        indexExecutor.execute(() -> {
+            try {
+                result.complete(rebuildIndex());
+            } catch (Exception e) {
+                log.error("검색 색인 재구성 실패", e);
+                result.completeExceptionally(e);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 문서 검색
+     */
+    @Transactional(readOnly = true)
+    public DocumentSearchResponse search(SearchRequest request) {
+        int page = request.getPage() != null ? Math.max(0, request.getPage()) : 0;
+        int size = request.getSize() != null ? Math.min(Math.max(1, request.getSize()), MAX_PAGE_SIZE) : 20;
+
+        Query query = buildQuery(request);
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+
+            FacetsCollector facetsCollector = new FacetsCollector();
+            TopDocs topDocs = FacetsCollector.search(searcher, query, (page + 1) * size, facetsCollector);
+
+            StoredFields storedFields = searcher.storedFields();
+            List<UUID> documentIds = new ArrayList<>();
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            for (int i = page * size; i < scoreDocs.length; i++) {
+                documentIds.add(UUID.fromString(storedFields.document(scoreDocs[i].doc).get(FIELD_ID)));
+            }
+
+            long totalHits = topDocs.totalHits.value;
+            Map<String, Map<String, Long>> facets = totalHits > 0
+                    ? collectFacets(searcher.getIndexReader(), facetsCollector)
+                    : Map.of();
+
+            List<DocumentDto> documents = hydrate(documentIds);
+            PageResponse<DocumentDto> pageResponse = PageResponse.of(
+                    new PageImpl<>(documents, PageRequest.of(page, size), totalHits));
+
+            return DocumentSearchResponse.builder()
+                    .documents(pageResponse)
+                    .facets(facets)
+                    .build();
+        } catch (IOException e) {
+            log.error("문서 검색 실패: {}", request.getKeyword(), e);
+            throw new RuntimeException("문서 검색 중 오류가 발생했습니다", e);
+        } finally {
+            if (searcher != null) {
+                try {
+                    searcherManager.release(searcher);
+                } catch (IOException e) {
+                    log.warn("검색기 반환 실패: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 본문이 키워드와 일치하는 문서 ID 조회 (점수순, 최대 limit건)
+     * - 압축 저장된 긴 본문은 DB에서 LIKE로 찾을 수 없으므로 키워드 검색(DocumentService)이 본문 일치를 여기서 가져간다
+     */
+    public List<UUID> findContentMatches(String keyword, String branchId, int limit) {
+        QueryParser parser = new QueryParser(FIELD_CONTENT, analyzer);
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        Query contentQuery;
+        try {
+            contentQuery = parser.parse(QueryParser.escape(keyword.trim()));
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("검색어를 해석할 수 없습니다: " + keyword);
+        }
+        if (contentQuery == null) {
+            return List.of();  // 분석 후 남는 검색어가 없음
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        builder.add(contentQuery, BooleanClause.Occur.MUST);
+        addFilter(builder, FACET_BRANCH, branchId != null ? List.of(branchId) : null);
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            TopDocs topDocs = searcher.search(builder.build(), limit);
+            StoredFields storedFields = searcher.storedFields();
+            List<UUID> documentIds = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                documentIds.add(UUID.fromString(storedFields.document(scoreDoc.doc).get(FIELD_ID)));
+            }
+            return documentIds;
+        } catch (IOException e) {
+            log.error("본문 검색 실패: {}", keyword, e);
+            throw new RuntimeException("문서 검색 중 오류가 발생했습니다", e);
+        } finally {
+            if (searcher != null) {
+                try {
+                    searcherManager.release(searcher);
+                } catch (IOException e) {
+                    log.warn("검색기 반환 실패: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 색인 문서 수 조회
+     */
+    public long getIndexedDocumentCount() {
+        return indexWriter.getDocStats().numDocs;
+    }
+
+    /**
+     * 재구성 진행 여부
+     */
+    public boolean isRebuilding() {
+        return rebuilding.get();
+    }
+
+    private long rebuildIndex() throws IOException {
+        long startTime = System.currentTimeMillis();
+        log.info("검색 색인 재구성 시작 (배치 크기: {})", batchSize);
+
+        indexWriter.deleteAll();
+
+        long indexedCount = 0;
+        UUID lastId = MIN_UUID;
+        while (true) {
+            UUID afterId = lastId;
+            List<UUID> batchIds = readOnlyTransaction.execute(status -> {
+                List<Document> batch = documentRepository.findBatchAfterId(afterId, PageRequest.of(0, batchSize));
+                indexBatch(batch);
+                return batch.stream().map(Document::getId).toList();
+            });
+
+            if (batchIds == null || batchIds.isEmpty()) {
+                break;
+            }
+            indexedCount += batchIds.size();
+            lastId = batchIds.get(batchIds.size() - 1);
+        }
+
+        indexWriter.commit();
+        searcherManager.maybeRefresh();
+
+        log.info("검색 색인 재구성 완료: {} 개 문서 ({}ms)", indexedCount, System.currentTimeMillis() - startTime);
+        return indexedCount;
+    }
+
+    /**
+     * 문서 배치 색인 (댓글/첨부파일은 문서 ID 목록으로 한 번에 조회)
+     */
+    private void indexBatch(Collection<Document> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+
+        List<UUID> documentIds = documents.stream().map(Document::getId).toList();
+
+        // 본문은 지연 로딩이므로 문서마다 따로 읽지 않고 한 번에 조회
+        Map<UUID, String> contentByDocument = new HashMap<>();
+        for (Object[] row : documentRepository.findContentsByIds(documentIds)) {
+            contentByDocument.put((UUID) row[0], (String) row[1]);
+        }
+
+        Map<UUID, List<String>> commentsByDocument = commentRepository.findContentsByDocumentIds(documentIds)
+                .stream()
+                .collect(Collectors.groupingBy(row -> (UUID) row[0],
+                        Collectors.mapping(row -> (String) row[1], Collectors.toList())));
+
+        Map<UUID, List<Attachment>> attachmentsByDocument = attachmentRepository.findByDocumentIdIn(documentIds)
+                .stream()
+                .collect(Collectors.groupingBy(attachment -> attachment.getDocument().getId()));
+
+        try {
+            for (Document document : documents) {
+                indexWriter.updateDocument(new Term(FIELD_ID, document.getId().toString()),
+                        toIndexDocument(document,
+                                contentByDocument.get(document.getId()),
+                                commentsByDocument.getOrDefault(document.getId(), List.of()),
+                                attachmentsByDocument.getOrDefault(document.getId(), List.of())));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("검색 색인 쓰기에 실패했습니다", e);
+        }
+    }
+
+    private org.apache.lucene.document.Document toIndexDocument(Document document,
+                                                                 String content,
+                                                                 List<String> comments,
+                                                                 List<Attachment> attachments) throws IOException {
+        org.apache.lucene.document.Document indexDocument = new org.apache.lucene.document.Document();
+        indexDocument.add(new StringField(FIELD_ID, document.getId().toString(), Field.Store.YES));
+        indexDocument.add(new TextField(FIELD_TITLE, nullToEmpty(document.getTitle()), Field.Store.NO));
+        indexDocument.add(new TextField(FIELD_CONTENT, nullToEmpty(content), Field.Store.NO));
+
+        for (String comment : comments) {
+            indexDocument.add(new TextField(FIELD_COMMENTS, nullToEmpty(comment), Field.Store.NO));
+        }
+        for (Attachment attachment : attachments) {
+            indexDocument.add(new TextField(FIELD_ATTACHMENTS, nullToEmpty(attachment.getOriginalFilename()), Field.Store.NO));
+            String text = extractAttachmentText(attachment);
+            if (!text.isEmpty()) {
+                indexDocument.add(new TextField(FIELD_ATTACHMENTS, text, Field.Store.NO));
+            }
+        }
+
+        addFacet(indexDocument, FACET_STATUS, document.getStatus());
+        addFacet(indexDocument, FACET_BRANCH, document.getBranchId() != null ? document.getBranchId().toString() : null);
+        addFacet(indexDocument, FACET_DOCUMENT_TYPE, document.getDocumentType());
+        addFacet(indexDocument, FACET_SECURITY_LEVEL, document.getSecurityLevel());
+
+        return facetsConfig.build(indexDocument);
+    }
+
+    private void addFacet(org.apache.lucene.document.Document indexDocument, String dimension, String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        indexDocument.add(new StringField(dimension, value, Field.Store.NO));
+        indexDocument.add(new SortedSetDocValuesFacetField(dimension, value));
+    }
+
+    /**
+     * 텍스트 계열 첨부파일 본문 추출 (최대 크기 제한)
+     */
+    private String extractAttachmentText(Attachment attachment) {
+        if (!isTextMimeType(attachment.getMimeType()) || attachment.getFilePath() == null) {
+            return "";
+        }
+
+        Path filePath = Paths.get(attachment.getFilePath());
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            return new String(inputStream.readNBytes(maxAttachmentTextBytes), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.debug("첨부파일 본문 추출 실패: {} ({})", filePath, e.getMessage());
+            return "";
+        }
+    }
+
+    private boolean isTextMimeType(String mimeType) {
+        if (mimeType == null) {
+            return false;
+        }
+        return mimeType.startsWith("text/")
+                || mimeType.equals("application/json")
+                || mimeType.equals("application/xml");
+    }
+
+    private Query buildQuery(SearchRequest request) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+
+        if (request.getKeyword() == null || request.getKeyword().isBlank()) {
+            builder.add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST);
+        } else {
+            MultiFieldQueryParser parser = new MultiFieldQueryParser(SEARCH_FIELDS, analyzer, SEARCH_BOOSTS);
+            parser.setDefaultOperator(QueryParser.Operator.AND);
+            try {
+                builder.add(parser.parse(QueryParser.escape(request.getKeyword().trim())), BooleanClause.Occur.MUST);
+            } catch (ParseException e) {
+                throw new IllegalArgumentException("검색어를 해석할 수 없습니다: " + request.getKeyword());
+            }
+        }
+
+        addFilter(builder, FACET_STATUS, request.getStatuses());
+        addFilter(builder, FACET_BRANCH, request.getBranchIds());
+        addFilter(builder, FACET_DOCUMENT_TYPE, request.getDocumentTypes());
+        addFilter(builder, FACET_SECURITY_LEVEL, request.getSecurityLevels());
+
+        return builder.build();
+    }
+
+    private void addFilter(BooleanQuery.Builder builder, String dimension, List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        BooleanQuery.Builder anyOf = new BooleanQuery.Builder();
+        for (String value : values) {
+            anyOf.add(new TermQuery(new Term(dimension, value)), BooleanClause.Occur.SHOULD);
+        }
+        builder.add(anyOf.build(), BooleanClause.Occur.FILTER);
+    }
+
+    private Map<String, Map<String, Long>> collectFacets(IndexReader reader, FacetsCollector facetsCollector) throws IOException {
+        Map<String, Map<String, Long>> result = new LinkedHashMap<>();
+        try {
+            Facets facets = new SortedSetDocValuesFacetCounts(getFacetState(reader), facetsCollector);
+            for (String dimension : FACET_DIMENSIONS) {
+                Map<String, Long> counts = new LinkedHashMap<>();
+                FacetResult facetResult = facets.getTopChildren(MAX_FACET_VALUES, dimension);
+                if (facetResult != null) {
+                    for (LabelAndValue labelAndValue : facetResult.labelValues) {
+                        counts.put(labelAndValue.label, labelAndValue.value.longValue());
+                    }
+                }
+                result.put(dimension, counts);
+            }
+        } catch (IllegalArgumentException e) {
+            // 아직 패싯이 색인되지 않은 차원
+            log.debug("패싯 집계 생략: {}", e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * 패싯 상태는 생성 비용이 크므로 리더가 바뀔 때만 다시 만든다
+     */
+    private SortedSetDocValuesReaderState getFacetState(IndexReader reader) throws IOException {
+        SortedSetDocValuesReaderState state = facetState;
+        if (state == null || facetStateReader != reader) {
+            synchronized (this) {
+                if (facetState == null || facetStateReader != reader) {
+                    facetState = new DefaultSortedSetDocValuesReaderState(reader, facetsConfig);
+                    facetStateReader = reader;
+                }
+                state = facetState;
+            }
+        }
+        return state;
+    }
+
+    /**
+     * 검색 결과 ID를 목록 프로젝션 한 번으로 조회 (검색 순위 유지)
+     */
+    private List<DocumentDto> hydrate(List<UUID> documentIds) {
+        if (documentIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 목록 프로젝션 한 번으로 작성자/지사까지 조회하고 점수 순서대로 다시 정렬
+        Map<UUID, DocumentSummary> summariesById = new HashMap<>();
+        documentRepository.findSummariesByIds(documentIds)
+                .forEach(summary -> summariesById.put(summary.id(), summary));
+
+        return documentIds.stream()
+                .map(summariesById::get)
+                .filter(summary -> summary != null)
+                .map(documentMapper::toDto)
+                .toList();
+    }
+
+    private void commitIfNeeded() {
+        try {
+            if (indexWriter.hasUncommittedChanges()) {
+                indexWriter.commit();
+            }
+        } catch (Exception e) {
+            log.error("검색 색인 커밋 실패", e);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -3,6 +3,7 @@ package com.brotherhood.approval.service;
 import com.brotherhood.approval.dto.document.DocumentCreateRequest;
 import com.brotherhood.approval.dto.document.DocumentDto;
 import com.brotherhood.approval.dto.document.DocumentSearchRequest;
+import com.brotherhood.approval.dto.document.DocumentSummary;
 import com.brotherhood.approval.dto.document.DocumentUpdateRequest;
 import com.brotherhood.approval.dto.approval.ApprovalLineCreateRequest;
 import com.brotherhood.approval.entity.Branch;
@@ -13,7 +14,10 @@ import com.brotherhood.approval.entity.ApprovalStep;
 import com.brotherhood.approval.entity.ApprovalHistory;
 import com.brotherhood.approval.entity.Comment;
 import com.brotherhood.approval.entity.Attachment;
+import com.brotherhood.approval.entity.converter.CompressedTextCodec;
+import com.brotherhood.approval.event.DocumentChangedEvent;
 import com.brotherhood.approval.mapper.DocumentMapper;
+import com.brotherhood.approval.metrics.ApprovalMetrics;
 import com.brotherhood.approval.repository.BranchRepository;
 import com.brotherhood.approval.repository.DocumentRepository;
 import com.brotherhood.approval.repository.UserRepository;
@@ -24,16 +28,23 @@ import com.brotherhood.approval.repository.CommentRepository;
 import com.brotherhood.approval.repository.AttachmentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * 문서 서비스
@@ -48,6 +59,13 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class DocumentService {
     
+    /**
+     * 키워드 검색에서 색인으로 보완하는 본문 일치 문서 최대 수
+     */
+    private static final int MAX_INDEXED_CONTENT_MATCHES = 1000;
+    
+    private static final UUID NO_DOCUMENT_ID = new UUID(0L, 0L);
+    
     private final DocumentRepository documentRepository;
     private final DocumentMapper documentMapper;
     private final UserRepository userRepository;
@@ -59,6 +77,10 @@ public class DocumentService {
     private final ApprovalHistoryRepository approvalHistoryRepository;
     private final CommentRepository commentRepository;
     private final AttachmentRepository attachmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApprovalMetrics approvalMetrics;
+    private final TransactionRetryExecutor transactionRetryExecutor;
+    private final ObjectProvider<DocumentSearchService> documentSearchServiceProvider;
     
     /**
      * 문서 생성
@@ -99,6 +121,7 @@ public class DocumentService {
             log.info("결재선 생성 완료");
         }
         
+        eventPublisher.publishEvent(DocumentChangedEvent.of(savedDocument.getId(), DocumentChangedEvent.ChangeType.CREATED));
         return documentMapper.toDto(savedDocument);
     }
     
@@ -127,7 +150,7 @@ public class DocumentService {
      * 문서 목록 조회 (페이지네이션)
      */
     public Page<DocumentDto> getDocuments(Pageable pageable) {
-        return documentRepository.findAll(pageable)
+        return documentRepository.findAllSummaries(pageable)
                 .map(documentMapper::toDto);
     }
     
@@ -158,27 +181,47 @@ public class DocumentService {
     
     /**
      * 문서 검색
+     * - 제목/본문은 LIKE로 찾고, 압축 저장된 긴 본문은 검색 색인의 본문 일치 결과로 보완한다
+     * - 색인이 꺼져 있으면 본문을 압축하지 않으므로 LIKE만 사용한다 ({@link CompressedTextCodec})
      */
     public Page<DocumentDto> searchDocuments(DocumentSearchRequest request, Pageable pageable) {
+        String keyword = request.getKeyword();
+        if (keyword == null || keyword.isBlank()) {
+            return request.getBranchId() != null
+                    ? documentRepository.findByBranchId(UUID.fromString(request.getBranchId()), pageable)
+                            .map(documentMapper::toDto)
+                    : documentRepository.findAllSummaries(pageable).map(documentMapper::toDto);
+        }
+
+        List<UUID> contentMatchIds = findIndexedContentMatches(keyword, request.getBranchId());
         if (request.getBranchId() != null) {
-            UUID branchUuid = UUID.fromString(request.getBranchId());
             return documentRepository.findByKeywordAndBranchId(
-                    request.getKeyword(), 
-                    branchUuid, 
+                    keyword, 
+                    UUID.fromString(request.getBranchId()), 
+                    contentMatchIds,
                     pageable
             ).map(documentMapper::toDto);
-        } else {
-            // 전체 검색 로직 구현 필요
-            return documentRepository.findAll(pageable)
-                    .map(documentMapper::toDto);
         }
+        return documentRepository.findByKeyword(keyword, contentMatchIds, pageable)
+                .map(documentMapper::toDto);
+    }
+    
+    /**
+     * 색인에서 본문 일치 문서 ID 조회 (색인이 꺼져 있거나 일치가 없으면 빈 IN 목록 대신 자리표시 ID)
+     */
+    private List<UUID> findIndexedContentMatches(String keyword, String branchId) {
+        DocumentSearchService documentSearchService = documentSearchServiceProvider.getIfAvailable();
+        List<UUID> matches = documentSearchService != null
+                ? documentSearchService.findContentMatches(keyword, branchId, MAX_INDEXED_CONTENT_MATCHES)
+                : List.of();
+        return matches.isEmpty() ? List.of(NO_DOCUMENT_ID) : matches;
     }
     
     /**
      * 결재 참여자별 문서 조회
      */
     public Page<DocumentDto> getDocumentsByApprover(String approverId, Pageable pageable) {
-        return documentRepository.findByApproverId(approverId, pageable)
+        return documentRepository.findByApproverId(UUID.fromString(approverId), pageable)
                 .map(documentMapper::toDto);
     }
     
@@ -189,49 +232,15 @@ public class DocumentService {
     public Page<DocumentDto> getPendingApprovalDocuments(String userId, Pageable pageable) {
         log.info("결재 대기 문서 조회: userId={}", userId);
         
-        Page<Document> documentPage = documentRepository.findPendingApprovalByUserId(UUID.fromString(userId), pageable);
-        
-        // 데이터 정제: 결재선이 없는 문서 필터링
-        List<DocumentDto> filteredDocuments = documentPage.getContent()
-                .stream()
-                .map(documentMapper::toDto)
-                .filter(doc -> {
-                    // 결재선이 존재하는지 확인
-                    if (doc.getApprovalLines() == null || doc.getApprovalLines().isEmpty()) {
-                        log.warn("결재선이 없는 문서 발견: {} (ID: {})", doc.getTitle(), doc.getId());
-                        return false;
-                    }
-                    
-                    // 해당 사용자가 결재해야 하는 단계가 있는지 확인
-                    boolean hasPendingStep = doc.getApprovalLines().stream()
-                            .anyMatch(approvalLine -> 
-                                approvalLine.getApprovalSteps() != null &&
-                                approvalLine.getApprovalSteps().stream()
-                                        .anyMatch(step -> 
-                                            step.getApproverId() != null &&
-                                            step.getApproverId().equals(userId) &&
-                                            "PENDING".equals(step.getStatus())
-                                        )
-                            );
-                    
-                    if (!hasPendingStep) {
-                        log.warn("사용자가 결재해야 하는 단계가 없는 문서: {} (ID: {})", doc.getTitle(), doc.getId());
-                        return false;
-                    }
-                    
-                    return true;
-                })
-                .toList();
+        // 결재선/대기 단계 조건은 쿼리에서 이미 걸러지므로 그대로 변환한다
+        Page<DocumentDto> documentPage = approvalMetrics.timeInboxQuery("pending",
+                () -> documentRepository.findPendingApprovalByUserId(UUID.fromString(userId), pageable))
+                .map(documentMapper::toDto);
         
-        log.info("결재 대기 문서 조회 완료: {} 개 문서 (필터링 전: {} 개)", 
-                filteredDocuments.size(), documentPage.getContent().size());
+        log.info("결재 대기 문서 조회 완료: {} 개 문서 (전체 {} 개)",
+                documentPage.getNumberOfElements(), documentPage.getTotalElements());
         
-        // 필터링된 결과를 Page로 변환
-        return new org.springframework.data.domain.PageImpl<>(
-                filteredDocuments, 
-                pageable, 
-                filteredDocuments.size()
-        );
+        return documentPage;
     }
     
     /**
@@ -244,33 +253,6 @@ public class DocumentService {
                 .toList();
     }
     
-    /**
-     * 데이터 정제: 결재선이 없는 PENDING 상태 문서를 DRAFT로 변경
-     */
-    @Transactional
-    public void cleanUpDocumentsWithoutApprovalLines() {
-        log.info("결재선이 없는 PENDING 상태 문서 정제 시작");
-        
-        // PENDING 상태인 모든 문서 조회
-        List<Document> pendingDocuments = documentRepository.findByStatus("PENDING", PageRequest.of(0, 1000))
-                .getContent();
-        
-        int cleanedCount = 0;
-        for (Document document : pendingDocuments) {
-            // 결재선이 없는 문서인지 확인
-            if (document.getApprovalLines() == null || document.getApprovalLines().isEmpty()) {
-                log.warn("결재선이 없는 PENDING 문서 발견: {} (ID: {}) - DRAFT로 변경", 
-                        document.getTitle(), document.getId());
-                
-                document.setStatus("DRAFT");
-                documentRepository.save(document);
-                cleanedCount++;
-            }
-        }
-        
-        log.info("문서 정제 완료: {} 개 문서를 DRAFT로 변경", cleanedCount);
-    }
-    
     /**
      * 문서의 결재선 존재 여부 검증
      */
@@ -326,126 +308,122 @@ public class DocumentService {
         Document savedDocument = documentRepository.save(document);
         
         log.info("문서 정보 수정 완료: {}", savedDocument.getId());
+        eventPublisher.publishEvent(DocumentChangedEvent.of(savedDocument.getId(), DocumentChangedEvent.ChangeType.UPDATED));
         return documentMapper.toDto(savedDocument);
     }
     
     /**
      * 문서 상신
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public DocumentDto submitDocument(String id, String userId) {
         log.info("문서 상신 요청: {}", id);
         
-        Document document = documentRepository.findById(UUID.fromString(id))
-                .orElseThrow(() -> new IllegalArgumentException("문서를 찾을 수 없습니다: " + id));
-        
-        // 권한 확인 (임시 비활성화)
-        log.info("문서 작성자 ID: {}, 요청자 ID: {}", document.getAuthor().getId().toString(), userId);
-        // if (!document.getAuthor().getId().toString().equals(userId)) {
-        //     throw new IllegalArgumentException("문서를 상신할 권한이 없습니다");
-        // }
-        
-        // 상태 확인
-        log.info("문서 현재 상태: '{}', 비교 대상: 'DRAFT'", document.getStatus());
-        if (!"DRAFT".equals(document.getStatus())) {
-            throw new IllegalArgumentException("상신 가능한 상태가 아닙니다. 현재 상태: " + document.getStatus());
-        }
-        
-        document.setStatus("PENDING");
-        document.setSubmittedAt(LocalDateTime.now());
-        
-        Document savedDocument = documentRepository.save(document);
-        
-        log.info("문서 상신 완료: {}", savedDocument.getId());
-        return documentMapper.toDto(savedDocument);
+        return transitionStatus("document-submit", id, "상신", Document.Status.DRAFT, Document.Status.PENDING,
+                document -> {
+                    // 권한 확인 (임시 비활성화)
+                    log.info("문서 작성자 ID: {}, 요청자 ID: {}", document.getAuthor().getId().toString(), userId);
+                    // if (!document.getAuthor().getId().toString().equals(userId)) {
+                    //     throw new IllegalArgumentException("문서를 상신할 권한이 없습니다");
+                    // }
+                },
+                document -> document.getSubmittedAt() != null,
+                (documentId, now) -> documentRepository.markSubmitted(documentId, Document.Status.DRAFT, now));
     }
     
     /**
      * 문서 승인
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public DocumentDto approveDocument(String id, String userId) {
         log.info("문서 승인 요청: {}", id);
         
-        Document document = documentRepository.findById(UUID.fromString(id))
-                .orElseThrow(() -> new IllegalArgumentException("문서를 찾을 수 없습니다: " + id));
-        
-        // 권한 확인 - 승인자는 문서 작성자와 달라야 함
-        if (document.getAuthor().getId().toString().equals(userId)) {
-            throw new IllegalArgumentException("자신이 작성한 문서는 승인할 수 없습니다");
-        }
-        
-        // 상태 확인
-        if (!"PENDING".equals(document.getStatus())) {
-            throw new IllegalArgumentException("승인 가능한 상태가 아닙니다. 현재 상태: " + document.getStatus());
-        }
-        
-        document.setStatus("APPROVED");
-        document.setApprovedAt(LocalDateTime.now());
-        
-        Document savedDocument = documentRepository.save(document);
-        
-        log.info("문서 승인 완료: {} (승인자: {})", savedDocument.getId(), userId);
-        return documentMapper.toDto(savedDocument);
+        return transitionStatus("document-approve", id, "승인", Document.Status.PENDING, Document.Status.APPROVED,
+                document -> {
+                    // 권한 확인 - 승인자는 문서 작성자와 달라야 함
+                    if (document.getAuthor().getId().toString().equals(userId)) {
+                        throw new IllegalArgumentException("자신이 작성한 문서는 승인할 수 없습니다");
+                    }
+                },
+                document -> document.getApprovedAt() != null,
+                (documentId, now) -> documentRepository.markApproved(documentId, Document.Status.PENDING, now));
     }
     
     /**
      * 문서 반려
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public DocumentDto rejectDocument(String id, String rejectionReason, String userId) {
         log.info("문서 반려 요청: {}", id);
         
-        Document document = documentRepository.findById(UUID.fromString(id))
-                .orElseThrow(() -> new IllegalArgumentException("문서를 찾을 수 없습니다: " + id));
-        
-        // 권한 확인 - 반려자는 문서 작성자와 달라야 함
-        if (document.getAuthor().getId().toString().equals(userId)) {
-            throw new IllegalArgumentException("자신이 작성한 문서는 반려할 수 없습니다");
-        }
-        
-        // 상태 확인
-        if (!"PENDING".equals(document.getStatus())) {
-            throw new IllegalArgumentException("반려 가능한 상태가 아닙니다. 현재 상태: " + document.getStatus());
-        }
-        
-        document.setStatus("REJECTED");
-        document.setRejectedAt(LocalDateTime.now());
-        document.setRejectionReason(rejectionReason);
-        
-        Document savedDocument = documentRepository.save(document);
-        
-        log.info("문서 반려 완료: {} (사유: {}, 반려자: {})", savedDocument.getId(), rejectionReason, userId);
-        return documentMapper.toDto(savedDocument);
+        return transitionStatus("document-reject", id, "반려", Document.Status.PENDING, Document.Status.REJECTED,
+                document -> {
+                    // 권한 확인 - 반려자는 문서 작성자와 달라야 함
+                    if (document.getAuthor().getId().toString().equals(userId)) {
+                        throw new IllegalArgumentException("자신이 작성한 문서는 반려할 수 없습니다");
+                    }
+                },
+                document -> Objects.equals(document.getRejectionReason(), rejectionReason),
+                (documentId, now) -> documentRepository.markRejected(documentId, Document.Status.PENDING, rejectionReason, now));
     }
     
     /**
      * 문서 회수
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public DocumentDto recallDocument(String id, String userId) {
         log.info("문서 회수 요청: {}", id);
         
-        Document document = documentRepository.findById(UUID.fromString(id))
-                .orElseThrow(() -> new IllegalArgumentException("문서를 찾을 수 없습니다: " + id));
-        
-        // 권한 확인
-        if (!document.getAuthor().getId().toString().equals(userId)) {
-            throw new IllegalArgumentException("문서를 회수할 권한이 없습니다");
-        }
-        
-        // 상태 확인
-        if (!"PENDING".equals(document.getStatus())) {
-            throw new IllegalArgumentException("회수 가능한 상태가 아닙니다. 현재 상태: " + document.getStatus());
-        }
-        
-        document.setStatus("DRAFT");
-        document.setSubmittedAt(null);
-        
-        Document savedDocument = documentRepository.save(document);
-        
-        log.info("문서 회수 완료: {}", savedDocument.getId());
-        return documentMapper.toDto(savedDocument);
+        return transitionStatus("document-recall", id, "회수", Document.Status.PENDING, Document.Status.DRAFT,
+                document -> {
+                    // 권한 확인
+                    if (!document.getAuthor().getId().toString().equals(userId)) {
+                        throw new IllegalArgumentException("문서를 회수할 권한이 없습니다");
+                    }
+                },
+                document -> document.getRecalledAt() != null,
+                (documentId, now) -> documentRepository.markRecalled(documentId, Document.Status.PENDING, now));
+    }
+    
+    /**
+     * 문서 상태 전이 (조건부 UPDATE)
+     * 
+     * 현재 상태가 expected일 때만 UPDATE하고, 변경된 행이 없으면 다른 요청이 먼저 상태를 바꾼 것이므로
+     * 충돌로 보고 새 트랜잭션에서 다시 시도한다. 다시 조회했을 때 이미 target 상태이고
+     * replayed가 같은 전이의 흔적(상신/승인/회수 시각, 같은 반려사유)을 확인하면 중복 요청(중복 클릭, 재시도)으로 보고
+     * 현재 문서를 그대로 반환한다. 그 밖의 경우(상신한 적 없는 DRAFT 회수, 다른 사유의 반려 등)는 거부한다.
+     */
+    private DocumentDto transitionStatus(String operation, String id, String actionName, String expected, String target,
+                                         Consumer<Document> permissionCheck,
+                                         Predicate<Document> replayed,
+                                         BiFunction<UUID, LocalDateTime, Integer> update) {
+        return transactionRetryExecutor.execute(operation, () -> {
+            Document document = documentRepository.findById(UUID.fromString(id))
+                    .orElseThrow(() -> new IllegalArgumentException("문서를 찾을 수 없습니다: " + id));
+            
+            permissionCheck.accept(document);
+            
+            // 상태 확인
+            if (target.equals(document.getStatus()) && replayed.test(document)) {
+                log.info("이미 {} 상태인 문서입니다 (중복 요청): {}", target, id);
+                return documentMapper.toDto(document);
+            }
+            if (!expected.equals(document.getStatus())) {
+                throw new IllegalArgumentException(actionName + " 가능한 상태가 아닙니다. 현재 상태: " + document.getStatus());
+            }
+            
+            if (update.apply(document.getId(), LocalDateTime.now()) == 0) {
+                throw new OptimisticLockingFailureException("문서 상태가 다른 요청에 의해 변경되었습니다: " + id);
+            }
+            
+            Document savedDocument = documentRepository.findById(document.getId())
+                    .orElseThrow(() -> new IllegalArgumentException("문서를 찾을 수 없습니다: " + id));
+            
+            log.info("문서 {} 완료: {} ({} → {})", actionName, savedDocument.getId(), expected, target);
+            approvalMetrics.recordTransition(expected, target);
+            eventPublisher.publishEvent(DocumentChangedEvent.of(savedDocument.getId(), DocumentChangedEvent.ChangeType.STATUS_CHANGED));
+            return documentMapper.toDto(savedDocument);
+        });
     }
     
     /**
@@ -543,6 +521,8 @@ public class DocumentService {
             // 6. 문서 삭제 (Document 삭제)
             try {
                 documentRepository.deleteById(documentUuid);
+                eventPublisher.publishEvent(DocumentChangedEvent.deleted(documentUuid,
+                        document.getCreatedAt() != null ? document.getCreatedAt().toLocalDate() : null));
                 log.info("문서 삭제 완료: {}", documentId);
             } catch (Exception e) {
                 log.error("문서 삭제 실패: {}", e.getMessage(), e);
@@ -675,7 +655,7 @@ public class DocumentService {
         UUID userUuid = UUID.fromString(userId);
         
         // 1. 본인이 작성한 문서만 반환 (결재 문서는 추후 구현)
-        Page<Document> myDocuments = documentRepository.findByAuthorId(userUuid, pageable);
+        Page<DocumentSummary> myDocuments = documentRepository.findByAuthorId(userUuid, pageable);
         
         return myDocuments.map(documentMapper::toDto);
     }
@@ -687,7 +667,7 @@ public class DocumentService {
         UUID userUuid = UUID.fromString(userId);
         
         // 1. 본인이 작성한 문서만 반환 (참여 문서는 추후 구현)
-        Page<Document> myDocuments = documentRepository.findByAuthorId(userUuid, pageable);
+        Page<DocumentSummary> myDocuments = documentRepository.findByAuthorId(userUuid, pageable);
         
         return myDocuments.map(documentMapper::toDto);
     }
@@ -0,0 +1,425 @@
+package com.brotherhood.approval.service;
+
+import com.brotherhood.approval.dto.stats.StatsConsistencyReport;
+import com.brotherhood.approval.dto.stats.StatsRollupResult;
+import com.brotherhood.approval.entity.StatsDirtyDay;
+import com.brotherhood.approval.entity.StatsWatermark;
+import com.brotherhood.approval.event.DocumentChangedEvent;
+import com.brotherhood.approval.repository.DocumentDailyStatRepository;
+import com.brotherhood.approval.repository.DocumentRepository;
+import com.brotherhood.approval.repository.StatsDirtyDayRepository;
+import com.brotherhood.approval.repository.StatsWatermarkRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 일별 문서 통계 집계 서비스
+ *
+ * document_daily_stats 롤업 테이블을 관리한다.
+ * - 증분 집계: 워터마크 이후 생성/변경된 문서의 생성일만 DELETE + INSERT ... SELECT로 다시 계산
+ * - 삭제된 문서는 삭제 트랜잭션에서 생성일을 stats_dirty_days에 기록하고 다음 증분 집계가 워터마크 잠금 안에서 가져간다
+ * - 조회: 어제까지는 롤업 테이블, 오늘은 documents 테이블에서 직접 집계해 합산
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Slf4j
+@Service
+public class DocumentStatsRollupService {
+
+    static final String WATERMARK_NAME = "document_daily_stats";
+
+    /** 늦게 커밋된 트랜잭션을 놓치지 않도록 워터마크보다 조금 앞에서부터 다시 본다 */
+    private static final Duration WATERMARK_OVERLAP = Duration.ofMinutes(2);
+
+    private static final int BACKFILL_CHUNK_DAYS = 31;
+    private static final int MAX_REPORTED_MISMATCHES = 100;
+    private static final LocalDate EPOCH = LocalDate.of(1970, 1, 1);
+
+    private final DocumentRepository documentRepository;
+    private final DocumentDailyStatRepository dailyStatRepository;
+    private final StatsWatermarkRepository watermarkRepository;
+    private final StatsDirtyDayRepository dirtyDayRepository;
+    private final TransactionTemplate writeTransaction;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${stats.rollup.enabled:true}")
+    private boolean enabled;
+
+    public DocumentStatsRollupService(DocumentRepository documentRepository,
+                                      DocumentDailyStatRepository dailyStatRepository,
+                                      StatsWatermarkRepository watermarkRepository,
+                                      StatsDirtyDayRepository dirtyDayRepository,
+                                      PlatformTransactionManager transactionManager) {
+        this.documentRepository = documentRepository;
+        this.dailyStatRepository = dailyStatRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.dirtyDayRepository = dirtyDayRepository;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    // ===== 집계 작업 =====
+
+    /**
+     * 주기적 증분 집계 (최초 실행 시 전체 백필)
+     */
+    @Scheduled(fixedDelayString = "${stats.rollup.interval-ms:300000}",
+               initialDelayString = "${stats.rollup.initial-delay-ms:60000}")
+    public void scheduledRefresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            StatsRollupResult result = isInitialized() ? refreshIncremental() : backfill();
+            log.debug("일별 문서 통계 집계 완료: {}", result);
+        } catch (IllegalStateException e) {
+            log.debug("일별 문서 통계 집계 건너뜀: {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("일별 문서 통계 집계 실패", e);
+        }
+    }
+
+    /**
+     * 증분 집계 - 워터마크 이후 변경된 문서와 삭제 기록된 문서의 생성일만 다시 계산
+     */
+    public StatsRollupResult refreshIncremental() {
+        acquire();
+        try {
+            long startTime = System.currentTimeMillis();
+            LocalDateTime runStartedAt = LocalDateTime.now();
+
+            int[] counts = writeTransaction.execute(status -> {
+                StatsWatermark watermark = watermarkRepository.findByNameForUpdate(WATERMARK_NAME)
+                        .orElseThrow(() -> new IllegalStateException("통계 집계가 초기화되지 않았습니다. 백필을 먼저 실행하세요."));
+
+                Set<LocalDate> days = new TreeSet<>(documentRepository.findCreatedDatesChangedSince(
+                        watermark.getWatermark().minus(WATERMARK_OVERLAP)));
+
+                // 삭제 기록은 읽은 행만 지운다 (집계 중 커밋된 삭제는 다음 실행에서 반영)
+                List<StatsDirtyDay> dirtyDays = dirtyDayRepository.findAll();
+                dirtyDays.forEach(dirtyDay -> days.add(dirtyDay.getStatDate()));
+
+                int insertedRows = recomputeDays(days);
+                if (!dirtyDays.isEmpty()) {
+                    dirtyDayRepository.deleteByIds(dirtyDays.stream().map(StatsDirtyDay::getId).toList());
+                }
+
+                watermark.setWatermark(runStartedAt);
+                watermark.setLastRunAt(LocalDateTime.now());
+                watermark.setLastRunMillis(System.currentTimeMillis() - startTime);
+                return new int[]{days.size(), insertedRows};
+            });
+
+            return StatsRollupResult.builder()
+                    .mode("INCREMENTAL")
+                    .recomputedDays(counts[0])
+                    .insertedRows(counts[1])
+                    .watermark(runStartedAt)
+                    .durationMillis(System.currentTimeMillis() - startTime)
+                    .build();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 전체 백필 - 가장 오래된 문서부터 오늘까지 구간 단위로 다시 계산
+     */
+    public StatsRollupResult backfill() {
+        acquire();
+        try {
+            long startTime = System.currentTimeMillis();
+            LocalDateTime runStartedAt = LocalDateTime.now();
+            LocalDate today = runStartedAt.toLocalDate();
+            LocalDate firstDay = documentRepository.findMinCreatedAt()
+                    .map(LocalDateTime::toLocalDate)
+                    .orElse(today);
+
+            log.info("일별 문서 통계 백필 시작: {} ~ {}", firstDay, today);
+
+            // 문서보다 이전 날짜의 잔여 집계 정리
+            writeTransaction.executeWithoutResult(status -> dailyStatRepository.deleteByDateRange(EPOCH, firstDay));
+
+            int insertedRows = 0;
+            int days = 0;
+            for (LocalDate from = firstDay; !from.isAfter(today); from = from.plusDays(BACKFILL_CHUNK_DAYS)) {
+                LocalDate to = from.plusDays(BACKFILL_CHUNK_DAYS - 1);
+                if (to.isAfter(today)) {
+                    to = today;
+                }
+                LocalDate chunkFrom = from;
+                LocalDate chunkTo = to;
+                Integer inserted = writeTransaction.execute(status -> recomputeRange(chunkFrom, chunkTo));
+                insertedRows += inserted != null ? inserted : 0;
+                days += (int) ChronoUnit.DAYS.between(chunkFrom, chunkTo) + 1;
+            }
+
+            long elapsed = System.currentTimeMillis() - startTime;
+            writeTransaction.executeWithoutResult(status -> {
+                StatsWatermark watermark = watermarkRepository.findById(WATERMARK_NAME)
+                        .orElseGet(() -> StatsWatermark.builder().name(WATERMARK_NAME).build());
+                watermark.setWatermark(runStartedAt);
+                watermark.setLastRunAt(LocalDateTime.now());
+                watermark.setLastRunMillis(elapsed);
+                watermarkRepository.save(watermark);
+
+                // 백필 시작 전에 기록된 삭제는 모두 다시 계산됨
+                dirtyDayRepository.deleteMarkedBefore(runStartedAt.minus(WATERMARK_OVERLAP));
+            });
+
+            log.info("일별 문서 통계 백필 완료: {} 일, {} 행 ({}ms)", days, insertedRows, elapsed);
+            return StatsRollupResult.builder()
+                    .mode("BACKFILL")
+                    .recomputedDays(days)
+                    .insertedRows(insertedRows)
+                    .watermark(runStartedAt)
+                    .durationMillis(elapsed)
+                    .build();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 정합성 검사 - 어제까지의 일자별/상태별 문서 수를 원본과 비교
+     *
+     * @param repair true이면 불일치 일자를 다시 집계
+     */
+    public StatsConsistencyReport checkConsistency(boolean repair) {
+        LocalDate today = LocalDate.now();
+
+        Map<LocalDate, Map<String, Long>> expected = toDateStatusMap(
+                documentRepository.countByCreatedDateAndStatus(today.atStartOfDay()));
+        Map<LocalDate, Map<String, Long>> actual = toDateStatusMap(
+                dailyStatRepository.sumByDateAndStatus(today));
+
+        Set<LocalDate> dates = new TreeSet<>(expected.keySet());
+        dates.addAll(actual.keySet());
+
+        List<StatsConsistencyReport.Mismatch> mismatches = new ArrayList<>();
+        Set<LocalDate> mismatchedDates = new TreeSet<>();
+        for (LocalDate date : dates) {
+            Map<String, Long> expectedByStatus = expected.getOrDefault(date, Map.of());
+            Map<String, Long> actualByStatus = actual.getOrDefault(date, Map.of());
+
+            Set<String> statuses = new TreeSet<>(expectedByStatus.keySet());
+            statuses.addAll(actualByStatus.keySet());
+            for (String status : statuses) {
+                long expectedCount = expectedByStatus.getOrDefault(status, 0L);
+                long actualCount = actualByStatus.getOrDefault(status, 0L);
+                if (expectedCount != actualCount) {
+                    mismatchedDates.add(date);
+                    mismatches.add(StatsConsistencyReport.Mismatch.builder()
+                            .date(date)
+                            .status(status)
+                            .expected(expectedCount)
+                            .actual(actualCount)
+                            .build());
+                }
+            }
+        }
+
+        boolean repaired = false;
+        if (repair && !mismatchedDates.isEmpty()) {
+            acquire();
+            try {
+                writeTransaction.executeWithoutResult(status -> recomputeDays(mismatchedDates));
+                repaired = true;
+                log.info("일별 문서 통계 보정 완료: {} 일", mismatchedDates.size());
+            } finally {
+                running.set(false);
+            }
+        }
+
+        if (!mismatches.isEmpty()) {
+            log.warn("일별 문서 통계 불일치: {} 건 ({} 일)", mismatches.size(), mismatchedDates.size());
+        }
+
+        return StatsConsistencyReport.builder()
+                .consistent(mismatches.isEmpty())
+                .checkedDays(dates.size())
+                .mismatchCount(mismatches.size())
+                .mismatches(mismatches.subList(0, Math.min(mismatches.size(), MAX_REPORTED_MISMATCHES)))
+                .repaired(repaired)
+                .build();
+    }
+
+    /**
+     * 삭제된 문서의 생성일을 다음 증분 집계 대상으로 기록
+     * - 삭제 트랜잭션 안에서 함께 커밋되므로 재시작이나 다른 인스턴스의 삭제도 누락되지 않는다
+     */
+    @EventListener
+    @Transactional
+    public void onDocumentChanged(DocumentChangedEvent event) {
+        if (event.getChangeType() == DocumentChangedEvent.ChangeType.DELETED && event.getCreatedDate() != null) {
+            dirtyDayRepository.save(StatsDirtyDay.builder()
+                    .statDate(event.getCreatedDate())
+                    .markedAt(LocalDateTime.now())
+                    .build());
+        }
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 롤업 테이블 초기화(백필) 여부
+     */
+    @Transactional(readOnly = true)
+    public boolean isInitialized() {
+        return watermarkRepository.existsById(WATERMARK_NAME);
+    }
+
+    /**
+     * 전체 누적 문서 수 (지사 × 유형 × 상태 × 보안등급)
+     * - 어제까지 롤업 + 오늘 원본 집계, 초기화 전이면 원본 전체 집계
+     */
+    @Transactional(readOnly = true)
+    public List<StatsCell> getCumulativeCells() {
+        if (!isInitialized()) {
+            return toCells(documentRepository.countByDimensionsSince(EPOCH.atStartOfDay()));
+        }
+
+        LocalDate today = LocalDate.now();
+        List<StatsCell> cells = toCells(dailyStatRepository.sumBefore(today));
+        cells.addAll(toCells(documentRepository.countByDimensionsSince(today.atStartOfDay())));
+        return cells;
+    }
+
+    /**
+     * 월별 생성/승인/반려 문서 수 (최근 월 우선)
+     *
+     * @param months 조회할 개월 수
+     */
+    @Transactional(readOnly = true)
+    public List<MonthlyCount> getMonthlyCounts(int months) {
+        LocalDate today = LocalDate.now();
+        LocalDate fromDate = today.minusMonths(months);
+        Map<YearMonth, long[]> totals = new TreeMap<>(Comparator.reverseOrder());
+
+        if (!isInitialized()) {
+            for (Object[] row : documentRepository.getMonthlyTrend(fromDate.atStartOfDay())) {
+                totals.put(YearMonth.parse((String) row[0]), new long[]{
+                        ((Number) row[1]).longValue(), ((Number) row[2]).longValue(), ((Number) row[3]).longValue()});
+            }
+        } else {
+            for (Object[] row : dailyStatRepository.sumByMonth(fromDate, today)) {
+                YearMonth month = YearMonth.of(((Number) row[0]).intValue(), ((Number) row[1]).intValue());
+                totals.put(month, new long[]{
+                        ((Number) row[2]).longValue(), ((Number) row[3]).longValue(), ((Number) row[4]).longValue()});
+            }
+
+            long[] current = totals.computeIfAbsent(YearMonth.from(today), month -> new long[3]);
+            for (StatsCell cell : toCells(documentRepository.countByDimensionsSince(today.atStartOfDay()))) {
+                current[0] += cell.count();
+                if ("APPROVED".equals(cell.status())) {
+                    current[1] += cell.count();
+                } else if ("REJECTED".equals(cell.status())) {
+                    current[2] += cell.count();
+                }
+            }
+            if (current[0] == 0) {
+                totals.remove(YearMonth.from(today));
+            }
+        }
+
+        List<MonthlyCount> result = new ArrayList<>(totals.size());
+        totals.forEach((month, counts) -> result.add(new MonthlyCount(month, counts[0], counts[1], counts[2])));
+        return result;
+    }
+
+    // ===== 내부 처리 =====
+
+    private void acquire() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("일별 문서 통계 집계가 이미 진행 중입니다");
+        }
+    }
+
+    /**
+     * 연속된 일자를 구간으로 묶어 다시 집계
+     */
+    private int recomputeDays(Set<LocalDate> days) {
+        int insertedRows = 0;
+        LocalDate rangeStart = null;
+        LocalDate rangeEnd = null;
+
+        for (LocalDate day : new TreeSet<>(days)) {
+            if (rangeEnd != null && day.equals(rangeEnd.plusDays(1))) {
+                rangeEnd = day;
+                continue;
+            }
+            if (rangeStart != null) {
+                insertedRows += recomputeRange(rangeStart, rangeEnd);
+            }
+            rangeStart = day;
+            rangeEnd = day;
+        }
+        if (rangeStart != null) {
+            insertedRows += recomputeRange(rangeStart, rangeEnd);
+        }
+        return insertedRows;
+    }
+
+    /**
+     * [from, to] 일자 집계 교체
+     */
+    private int recomputeRange(LocalDate from, LocalDate to) {
+        LocalDate end = to.plusDays(1);
+        dailyStatRepository.deleteByDateRange(from, end);
+        return dailyStatRepository.insertAggregatedRange(from.atStartOfDay(), end.atStartOfDay());
+    }
+
+    private static List<StatsCell> toCells(List<Object[]> rows) {
+        List<StatsCell> cells = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            cells.add(new StatsCell((UUID) row[0], (String) row[1], (String) row[2], (String) row[3],
+                    ((Number) row[4]).longValue()));
+        }
+        return cells;
+    }
+
+    private static Map<LocalDate, Map<String, Long>> toDateStatusMap(List<Object[]> rows) {
+        Map<LocalDate, Map<String, Long>> result = new HashMap<>();
+        for (Object[] row : rows) {
+            result.computeIfAbsent((LocalDate) row[0], date -> new HashMap<>())
+                    .merge((String) row[1], ((Number) row[2]).longValue(), Long::sum);
+        }
+        return result;
+    }
+
+    /**
+     * 누적 문서 수 셀
+     */
+    public record StatsCell(UUID branchId, String documentType, String status, String securityLevel, long count) {
+    }
+
+    /**
+     * 월별 문서 수
+     */
+    public record MonthlyCount(YearMonth month, long created, long approved, long rejected) {
+    }
+}
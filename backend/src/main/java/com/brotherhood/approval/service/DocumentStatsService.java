@@ -1,18 +1,19 @@
 package com.brotherhood.approval.service;
 
 import com.brotherhood.approval.dto.stats.DocumentStatsResponse;
-import com.brotherhood.approval.repository.DocumentRepository;
+import com.brotherhood.approval.entity.Branch;
 import com.brotherhood.approval.repository.BranchRepository;
+import com.brotherhood.approval.service.DocumentStatsRollupService.StatsCell;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -28,31 +29,39 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class DocumentStatsService {
     
-    private final DocumentRepository documentRepository;
+    private static final int TREND_MONTHS = 12;
+    
     private final BranchRepository branchRepository;
+    private final ProcessingTimeStatsService processingTimeStatsService;
+    private final DocumentStatsRollupService documentStatsRollupService;
     
     /**
      * 문서 통계 조회
+     * - 분포 통계는 일별 집계 테이블(어제까지) + 오늘 생성 문서를 한 번에 읽어 계산한다
      */
     public DocumentStatsResponse getDocumentStats() {
         log.info("문서 통계 조회 시작");
         
         try {
+            // 지사 × 유형 × 상태 × 보안등급 누적
+            List<StatsCell> cells = documentStatsRollupService.getCumulativeCells();
+            
             // 기본 현황
-            Long totalDocuments = documentRepository.count();
-            DocumentStatsResponse.DocumentsByStatus documentsByStatus = getDocumentsByStatus();
+            Long totalDocuments = cells.stream().mapToLong(StatsCell::count).sum();
+            DocumentStatsResponse.DocumentsByStatus documentsByStatus = getDocumentsByStatus(cells);
             
             // 지사별 분포
-            List<DocumentStatsResponse.BranchDistribution> documentsByBranch = getDocumentsByBranch();
+            List<DocumentStatsResponse.BranchDistribution> documentsByBranch = getDocumentsByBranch(cells, totalDocuments);
+            
+            // 처리 시간 분석
+            DocumentStatsResponse.ProcessingTimeStats processingTimeStats = processingTimeStatsService.getProcessingTimeStats();
             
             // 문서 유형별 분포
-            List<DocumentStatsResponse.DocumentTypeDistribution> documentsByType = getDocumentsByType();
+            List<DocumentStatsResponse.DocumentTypeDistribution> documentsByType = getDocumentsByType(cells,
+                    processingTimeStatsService.getAverageProcessingDaysByType(processingTimeStats));
             
             // 보안 등급별 분포
-            List<DocumentStatsResponse.SecurityLevelDistribution> documentsBySecurityLevel = getDocumentsBySecurityLevel();
-            
-            // 처리 시간 분석
-            DocumentStatsResponse.ProcessingTimeStats processingTimeStats = getProcessingTimeStats();
+            List<DocumentStatsResponse.SecurityLevelDistribution> documentsBySecurityLevel = getDocumentsBySecurityLevel(cells, totalDocuments);
             
             // 월별 트렌드 (최근 12개월)
             List<DocumentStatsResponse.MonthlyTrend> monthlyTrend = getMonthlyTrend();
@@ -79,13 +88,8 @@ public class DocumentStatsService {
     /**
      * 상태별 문서 수 조회
      */
-    private DocumentStatsResponse.DocumentsByStatus getDocumentsByStatus() {
-        List<Object[]> results = documentRepository.countByStatus();
-        Map<String, Long> statusCounts = results.stream()
-                .collect(Collectors.toMap(
-                    result -> (String) result[0],
-                    result -> ((Number) result[1]).longValue()
-                ));
+    private DocumentStatsResponse.DocumentsByStatus getDocumentsByStatus(List<StatsCell> cells) {
+        Map<String, Long> statusCounts = sumBy(cells, StatsCell::status);
         
         return DocumentStatsResponse.DocumentsByStatus.builder()
                 .draft(statusCounts.getOrDefault("DRAFT", 0L))
@@ -98,20 +102,21 @@ public class DocumentStatsService {
     /**
      * 지사별 문서 분포 조회
      */
-    private List<DocumentStatsResponse.BranchDistribution> getDocumentsByBranch() {
-        List<Object[]> results = documentRepository.countByBranch();
-        Long totalDocuments = documentRepository.count();
+    private List<DocumentStatsResponse.BranchDistribution> getDocumentsByBranch(List<StatsCell> cells, Long totalDocuments) {
+        Map<UUID, Long> branchCounts = sumBy(cells, StatsCell::branchId);
+        Map<UUID, String> branchNames = branchRepository.findAllById(branchCounts.keySet())
+                .stream()
+                .collect(Collectors.toMap(Branch::getId, Branch::getName));
         
-        return results.stream()
-                .map(result -> {
-                    UUID branchId = (UUID) result[0];
-                    String branchName = (String) result[1];
-                    Long count = ((Number) result[2]).longValue();
+        return branchCounts.entrySet().stream()
+                .map(entry -> {
+                    UUID branchId = entry.getKey();
+                    Long count = entry.getValue();
                     Double percentage = totalDocuments > 0 ? (count.doubleValue() / totalDocuments) * 100 : 0.0;
                     
                     return DocumentStatsResponse.BranchDistribution.builder()
                             .branchId(branchId.toString())
-                            .branchName(branchName)
+                            .branchName(branchNames.get(branchId))
                             .count(count)
                             .percentage(Math.round(percentage * 100.0) / 100.0)
                             .build();
@@ -122,39 +127,28 @@ public class DocumentStatsService {
     /**
      * 문서 유형별 분포 조회
      */
-    private List<DocumentStatsResponse.DocumentTypeDistribution> getDocumentsByType() {
-        List<Object[]> results = documentRepository.countByDocumentType();
-        
-        return results.stream()
-                .map(result -> {
-                    String documentType = (String) result[0];
-                    Long count = ((Number) result[1]).longValue();
-                    Double avgProcessingDays = calculateAvgProcessingDays(documentType);
-                    
-                    return DocumentStatsResponse.DocumentTypeDistribution.builder()
-                            .documentType(documentType)
-                            .count(count)
-                            .avgProcessingDays(Math.round(avgProcessingDays * 100.0) / 100.0)
-                            .build();
-                })
+    private List<DocumentStatsResponse.DocumentTypeDistribution> getDocumentsByType(List<StatsCell> cells,
+                                                                                   Map<String, Double> avgProcessingDaysByType) {
+        return sumBy(cells, StatsCell::documentType).entrySet().stream()
+                .map(entry -> DocumentStatsResponse.DocumentTypeDistribution.builder()
+                        .documentType(entry.getKey())
+                        .count(entry.getValue())
+                        .avgProcessingDays(avgProcessingDaysByType.getOrDefault(entry.getKey(), 0.0))
+                        .build())
                 .collect(Collectors.toList());
     }
     
     /**
      * 보안 등급별 분포 조회
      */
-    private List<DocumentStatsResponse.SecurityLevelDistribution> getDocumentsBySecurityLevel() {
-        List<Object[]> results = documentRepository.countBySecurityLevel();
-        Long totalDocuments = documentRepository.count();
-        
-        return results.stream()
-                .map(result -> {
-                    String securityLevel = (String) result[0];
-                    Long count = ((Number) result[1]).longValue();
+    private List<DocumentStatsResponse.SecurityLevelDistribution> getDocumentsBySecurityLevel(List<StatsCell> cells, Long totalDocuments) {
+        return sumBy(cells, StatsCell::securityLevel).entrySet().stream()
+                .map(entry -> {
+                    Long count = entry.getValue();
                     Double percentage = totalDocuments > 0 ? (count.doubleValue() / totalDocuments) * 100 : 0.0;
                     
                     return DocumentStatsResponse.SecurityLevelDistribution.builder()
-                            .securityLevel(securityLevel)
+                            .securityLevel(entry.getKey())
                             .count(count)
                             .percentage(Math.round(percentage * 100.0) / 100.0)
                             .build();
@@ -162,55 +156,25 @@ public class DocumentStatsService {
                 .collect(Collectors.toList());
     }
     
-    /**
-     * 처리 시간 통계 조회
-     */
-    private DocumentStatsResponse.ProcessingTimeStats getProcessingTimeStats() {
-        // 실제 구현에서는 더 복잡한 쿼리가 필요하지만, 
-        // 현재는 기본적인 통계만 제공
-        return DocumentStatsResponse.ProcessingTimeStats.builder()
-                .averageDays(5.2)
-                .medianDays(3.0)
-                .longestProcessing(30L)
-                .quickestProcessing(1L)
-                .build();
-    }
-    
     /**
      * 월별 트렌드 조회 (최근 12개월)
      */
     private List<DocumentStatsResponse.MonthlyTrend> getMonthlyTrend() {
-        List<Object[]> results = documentRepository.getMonthlyTrend();
-        
-        return results.stream()
-                .map(result -> {
-                    String month = (String) result[0];
-                    Long created = ((Number) result[1]).longValue();
-                    Long approved = ((Number) result[2]).longValue();
-                    Long rejected = ((Number) result[3]).longValue();
-                    
-                    return DocumentStatsResponse.MonthlyTrend.builder()
-                            .month(month)
-                            .created(created)
-                            .approved(approved)
-                            .rejected(rejected)
-                            .build();
-                })
+        return documentStatsRollupService.getMonthlyCounts(TREND_MONTHS).stream()
+                .map(monthly -> DocumentStatsResponse.MonthlyTrend.builder()
+                        .month(monthly.month().toString())
+                        .created(monthly.created())
+                        .approved(monthly.approved())
+                        .rejected(monthly.rejected())
+                        .build())
                 .collect(Collectors.toList());
     }
     
-    /**
-     * 문서 유형별 평균 처리 일수 계산
-     */
-    private Double calculateAvgProcessingDays(String documentType) {
-        // 실제 구현에서는 문서 생성일과 승인일의 차이를 계산
-        // 현재는 임시 데이터 반환
-        return switch (documentType) {
-            case "REPORT" -> 3.5;
-            case "REQUEST" -> 5.2;
-            case "APPROVAL" -> 2.1;
-            case "NOTICE" -> 1.0;
-            default -> 4.0;
-        };
+    private static <K> Map<K, Long> sumBy(List<StatsCell> cells, Function<StatsCell, K> key) {
+        Map<K, Long> result = new LinkedHashMap<>();
+        for (StatsCell cell : cells) {
+            result.merge(key.apply(cell), cell.count(), Long::sum);
+        }
+        return result;
     }
 }
@@ -0,0 +1,77 @@
+package com.brotherhood.approval.service;
+
+import com.brotherhood.approval.entity.Document;
+import com.brotherhood.approval.repository.DocumentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 문서 버전 서비스 (조건부 GET)
+ *
+ * 문서 수정 시각(updatedAt)과 변경 카운터로 ETag/Last-Modified를 만든다.
+ * 컨트롤러는 DTO를 만들기 전에 PK 조회 한 번으로 If-None-Match를 확인하고 일치하면 304로 응답한다.
+ * - 버전을 먼저 읽고 본문을 나중에 만들기 때문에 그 사이에 변경되면 이전 ETag와 새 본문이 함께 나갈 수 있으나,
+ *   다음 요청에서 ETag가 달라 다시 받으므로 오래된 본문이 304로 유지되지는 않는다
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DocumentVersionService {
+
+    private final DocumentRepository documentRepository;
+
+    /**
+     * 문서 버전
+     */
+    public record DocumentVersion(LocalDateTime updatedAt, long changeCounter, String status) {
+
+        /**
+         * 결재가 끝난 문서 (승인/반려, 이후 관리자 수정 외에는 바뀌지 않음)
+         */
+        public boolean isFinalized() {
+            return Document.Status.APPROVED.equals(status) || Document.Status.REJECTED.equals(status);
+        }
+
+        /**
+         * 약한 ETag (JSON 직렬화 결과가 바이트 단위로 같음을 보장하지 않으므로 W/ 사용)
+         */
+        public String eTag() {
+            long updated = updatedAt != null ? lastModified() : 0L;
+            return "W/\"" + Long.toHexString(updated) + "-" + changeCounter + "\"";
+        }
+
+        /**
+         * Last-Modified (epoch millis, 수정 시각이 없으면 -1)
+         */
+        public long lastModified() {
+            return updatedAt != null ? updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1L;
+        }
+    }
+
+    /**
+     * 문서 버전 조회 (본문/연관관계를 적재하지 않는 단일 PK 조회)
+     *
+     * @return 문서가 없으면 empty
+     */
+    public Optional<DocumentVersion> findVersion(String documentId) {
+        List<Object[]> rows = documentRepository.findVersionRowById(UUID.fromString(documentId));
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = rows.get(0);
+        Long changeCounter = (Long) row[1];
+        return Optional.of(new DocumentVersion((LocalDateTime) row[0], changeCounter != null ? changeCounter : 0L,
+                (String) row[2]));
+    }
+}
@@ -0,0 +1,151 @@
+package com.brotherhood.approval.service;
+
+import com.brotherhood.approval.event.DocumentChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 결재 완료 문서 응답 캐시
+ *
+ * 승인/반려된 문서는 사실상 바뀌지 않으므로 조회 응답을 UTF-8 JSON 바이트로 직렬화해 두고
+ * 다음 조회부터 Jackson 직렬화 없이 그대로 내려보낸다.
+ * - 항목(상세, 결재선, 결재 이력)별로 문서 ETag와 함께 저장하고, ETag가 다르면 다시 만든다
+ *   (이벤트를 거치지 않은 변경이 있어도 오래된 응답을 내보내지 않는다)
+ * - 관리자 수정 등 문서 변경 이벤트가 오면 해당 문서 항목을 모두 제거한다
+ * - 전체 크기(바이트) 기준으로 제한하며, 넘치면 오래 쓰이지 않은 항목부터 제거된다
+ * - 응답의 timestamp는 직렬화한 시각으로 고정된다
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Slf4j
+@Service
+public class FinalizedDocumentCache {
+
+    public static final String VIEW_DETAIL = "detail";
+    public static final String VIEW_APPROVAL_LINES = "approvalLines";
+    public static final String VIEW_APPROVAL_HISTORY = "approvalHistory";
+
+    private static final List<String> VIEWS = List.of(VIEW_DETAIL, VIEW_APPROVAL_LINES, VIEW_APPROVAL_HISTORY);
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Cache<Key, Entry> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public FinalizedDocumentCache(ObjectMapper objectMapper,
+                                  @Value("${approval.document.finalized-cache.enabled:true}") boolean enabled,
+                                  @Value("${approval.document.finalized-cache.max-bytes:67108864}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, Entry entry) -> entry.body().length)
+                .build();
+        log.info("결재 완료 문서 응답 캐시: enabled={}, maxBytes={}", enabled, maxBytes);
+    }
+
+    private record Key(UUID documentId, String view) {
+    }
+
+    private record Entry(String eTag, byte[] body) {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 직렬화된 응답 조회 (없거나 ETag가 다르면 loader로 만들어 저장)
+     *
+     * @param loader 응답 본문 (문서가 없으면 empty, 저장하지 않음)
+     * @return UTF-8 JSON 바이트
+     */
+    public Optional<byte[]> get(UUID documentId, String view, String eTag, Supplier<Optional<?>> loader) {
+        Key key = new Key(documentId, view);
+        Entry cached = cache.asMap().get(key);
+        if (cached != null && cached.eTag().equals(eTag)) {
+            hits.increment();
+            return Optional.of(cached.body());
+        }
+
+        misses.increment();
+        Optional<?> body = loader.get();
+        if (body.isEmpty()) {
+            return Optional.empty();
+        }
+        byte[] json = serialize(body.get());
+        cache.put(key, new Entry(eTag, json));
+        return Optional.of(json);
+    }
+
+    /**
+     * 문서 변경 시 해당 문서의 모든 항목 제거 (트랜잭션 커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentChanged(DocumentChangedEvent event) {
+        evict(event.getDocumentId());
+    }
+
+    public void evict(UUID documentId) {
+        cache.invalidateAll(VIEWS.stream().map(view -> new Key(documentId, view)).toList());
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 보관 중인 응답 바이트 합계
+     */
+    public long getBytes() {
+        cache.cleanUp();  // 크기 집계는 비동기로 반영되므로 대기 중인 작업을 먼저 처리
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    public long getEntryCount() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 적중률 (조회가 없으면 0)
+     */
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화에 실패했습니다", e);
+        }
+    }
+}
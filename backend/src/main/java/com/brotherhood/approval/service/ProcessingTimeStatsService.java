@@ -0,0 +1,334 @@
+package com.brotherhood.approval.service;
+
+import com.brotherhood.approval.dto.stats.DocumentStatsResponse;
+import com.brotherhood.approval.repository.ApprovalStepRepository;
+import com.brotherhood.approval.repository.DocumentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 문서 처리 시간 통계 서비스
+ *
+ * 상신 → 승인/반려까지의 처리 시간과 결재단계별 체류 시간의 평균/중앙값/p90/p99를 계산한다.
+ * PostgreSQL에서는 percentile_cont로 DB에서 한 번에 집계하고,
+ * 그 외 DB(H2 등)에서는 행을 스트리밍하면서 HdrHistogram 스케치로 근사 분위수를 구한다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProcessingTimeStatsService {
+
+    private static final double SECONDS_PER_DAY = 86_400.0;
+    private static final double SECONDS_PER_HOUR = 3_600.0;
+
+    /** 스케치 유효 자릿수 (상대 오차 0.1%) */
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final DocumentRepository documentRepository;
+    private final ApprovalStepRepository approvalStepRepository;
+    private final DataSource dataSource;
+
+    /**
+     * 산출 방식 (auto: DB 종류로 결정, sql: percentile_cont, sketch: 스트리밍 스케치)
+     */
+    @Value("${stats.processing-time.method:auto}")
+    private String method;
+
+    private volatile Boolean postgres;
+
+    /**
+     * 처리 시간 통계 조회
+     */
+    public DocumentStatsResponse.ProcessingTimeStats getProcessingTimeStats() {
+        long startTime = System.currentTimeMillis();
+
+        boolean useSql = useSqlPercentiles();
+        ProcessingTimes processingTimes = useSql ? loadProcessingTimesFromSql() : loadProcessingTimesFromStream();
+        List<DocumentStatsResponse.StepDwellTime> stepDwellTimes = useSql ? loadStepDwellFromSql() : loadStepDwellFromStream();
+
+        Quantiles overall = processingTimes.overall();
+        DocumentStatsResponse.ProcessingTimeStats stats = DocumentStatsResponse.ProcessingTimeStats.builder()
+                .averageDays(toDays(overall.mean()))
+                .medianDays(toDays(overall.p50()))
+                .p90Days(toDays(overall.p90()))
+                .p99Days(toDays(overall.p99()))
+                .longestProcessing(Math.round(overall.max() / SECONDS_PER_DAY))
+                .quickestProcessing(Math.round(overall.min() / SECONDS_PER_DAY))
+                .sampleCount(overall.count())
+                .method(useSql ? "SQL" : "SKETCH")
+                .byDocumentType(toBreakdowns(processingTimes.byDocumentType()))
+                .byBranch(toBreakdowns(processingTimes.byBranch()))
+                .stepDwellTimes(stepDwellTimes)
+                .build();
+
+        log.debug("처리 시간 통계 계산 완료: {} 건, 방식={} ({}ms)",
+                overall.count(), stats.getMethod(), System.currentTimeMillis() - startTime);
+        return stats;
+    }
+
+    /**
+     * 문서 유형별 평균 처리 일수
+     */
+    public Map<String, Double> getAverageProcessingDaysByType(DocumentStatsResponse.ProcessingTimeStats stats) {
+        Map<String, Double> result = new LinkedHashMap<>();
+        if (stats.getByDocumentType() != null) {
+            stats.getByDocumentType().forEach(breakdown -> result.put(breakdown.getKey(), breakdown.getAverageDays()));
+        }
+        return result;
+    }
+
+    private boolean useSqlPercentiles() {
+        if ("sql".equalsIgnoreCase(method)) {
+            return true;
+        }
+        if ("sketch".equalsIgnoreCase(method)) {
+            return false;
+        }
+
+        Boolean detected = postgres;
+        if (detected == null) {
+            try {
+                String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+                detected = productName != null && productName.toLowerCase().contains("postgres");
+            } catch (MetaDataAccessException e) {
+                log.warn("데이터베이스 종류 확인 실패, 스케치 방식으로 계산합니다: {}", e.getMessage());
+                detected = false;
+            }
+            postgres = detected;
+        }
+        return detected;
+    }
+
+    // ===== PostgreSQL (percentile_cont) =====
+
+    private ProcessingTimes loadProcessingTimesFromSql() {
+        Quantiles overall = Quantiles.EMPTY;
+        Map<String, Quantiles> byType = new TreeMap<>();
+        Map<String, Quantiles> byBranch = new LinkedHashMap<>();
+        Map<String, String> branchNames = new LinkedHashMap<>();
+
+        for (Object[] row : documentRepository.getProcessingTimePercentiles()) {
+            boolean typeRolledUp = ((Number) row[0]).intValue() == 1;
+            boolean branchRolledUp = ((Number) row[1]).intValue() == 1;
+            Quantiles quantiles = new Quantiles(
+                    ((Number) row[5]).longValue(),
+                    toDouble(row[6]), toDouble(row[7]), toDouble(row[8]),
+                    toDouble(row[9]), toDouble(row[10]), toDouble(row[11]));
+
+            if (typeRolledUp && branchRolledUp) {
+                overall = quantiles;
+            } else if (!typeRolledUp) {
+                byType.put((String) row[2], quantiles);
+            } else {
+                String branchId = (String) row[3];
+                byBranch.put(branchId, quantiles);
+                branchNames.put(branchId, (String) row[4]);
+            }
+        }
+
+        return new ProcessingTimes(overall, labelled(byType, Map.of()), labelled(byBranch, branchNames));
+    }
+
+    private List<DocumentStatsResponse.StepDwellTime> loadStepDwellFromSql() {
+        return approvalStepRepository.getStepDwellPercentiles()
+                .stream()
+                .map(row -> toStepDwellTime(((Number) row[0]).intValue(), new Quantiles(
+                        ((Number) row[1]).longValue(),
+                        toDouble(row[2]), toDouble(row[3]), toDouble(row[4]), toDouble(row[5]), 0, 0)))
+                .toList();
+    }
+
+    // ===== 스트리밍 스케치 (HdrHistogram) =====
+
+    private ProcessingTimes loadProcessingTimesFromStream() {
+        DurationSketch overall = new DurationSketch();
+        Map<String, DurationSketch> byType = new TreeMap<>();
+        Map<String, DurationSketch> byBranch = new LinkedHashMap<>();
+        Map<String, String> branchNames = new LinkedHashMap<>();
+
+        try (Stream<Object[]> rows = documentRepository.streamProcessingTimes()) {
+            rows.forEach(row -> {
+                long seconds = secondsBetween((LocalDateTime) row[3], (LocalDateTime) row[4]);
+                if (seconds < 0) {
+                    return;
+                }
+                String documentType = (String) row[0];
+                String branchId = row[1] != null ? row[1].toString() : null;
+
+                overall.record(seconds);
+                if (documentType != null) {
+                    byType.computeIfAbsent(documentType, key -> new DurationSketch()).record(seconds);
+                }
+                if (branchId != null) {
+                    byBranch.computeIfAbsent(branchId, key -> new DurationSketch()).record(seconds);
+                    branchNames.putIfAbsent(branchId, (String) row[2]);
+                }
+            });
+        }
+
+        return new ProcessingTimes(
+                overall.toQuantiles(),
+                labelled(toQuantiles(byType), Map.of()),
+                labelled(toQuantiles(byBranch), branchNames));
+    }
+
+    private List<DocumentStatsResponse.StepDwellTime> loadStepDwellFromStream() {
+        Map<Integer, DurationSketch> byStepOrder = new TreeMap<>();
+
+        try (Stream<Object[]> rows = approvalStepRepository.streamStepTimings()) {
+            // 결재선/단계 순서로 정렬되어 있으므로 직전 단계 완료 시각만 기억하면 된다
+            UUID[] currentLine = new UUID[1];
+            LocalDateTime[] previousCompletedAt = new LocalDateTime[1];
+
+            rows.forEach(row -> {
+                UUID approvalLineId = (UUID) row[0];
+                Integer stepOrder = (Integer) row[1];
+                LocalDateTime createdAt = (LocalDateTime) row[2];
+                LocalDateTime completedAt = (LocalDateTime) row[3];
+                LocalDateTime submittedAt = (LocalDateTime) row[4];
+
+                if (!Objects.equals(currentLine[0], approvalLineId)) {
+                    currentLine[0] = approvalLineId;
+                    previousCompletedAt[0] = null;
+                }
+
+                if (completedAt != null) {
+                    LocalDateTime startedAt = previousCompletedAt[0] != null ? previousCompletedAt[0]
+                            : submittedAt != null ? submittedAt : createdAt;
+                    if (startedAt != null) {
+                        long seconds = Math.max(0, secondsBetween(startedAt, completedAt));
+                        byStepOrder.computeIfAbsent(stepOrder, key -> new DurationSketch()).record(seconds);
+                    }
+                }
+                previousCompletedAt[0] = completedAt;
+            });
+        }
+
+        List<DocumentStatsResponse.StepDwellTime> result = new ArrayList<>();
+        byStepOrder.forEach((stepOrder, sketch) -> result.add(toStepDwellTime(stepOrder, sketch.toQuantiles())));
+        return result;
+    }
+
+    // ===== 변환 =====
+
+    private List<DocumentStatsResponse.ProcessingTimeBreakdown> toBreakdowns(Map<String, LabelledQuantiles> source) {
+        return source.entrySet().stream()
+                .map(entry -> DocumentStatsResponse.ProcessingTimeBreakdown.builder()
+                        .key(entry.getKey())
+                        .label(entry.getValue().label())
+                        .count(entry.getValue().quantiles().count())
+                        .averageDays(toDays(entry.getValue().quantiles().mean()))
+                        .medianDays(toDays(entry.getValue().quantiles().p50()))
+                        .p90Days(toDays(entry.getValue().quantiles().p90()))
+                        .p99Days(toDays(entry.getValue().quantiles().p99()))
+                        .build())
+                .sorted(Comparator.comparing(DocumentStatsResponse.ProcessingTimeBreakdown::getCount).reversed())
+                .toList();
+    }
+
+    private DocumentStatsResponse.StepDwellTime toStepDwellTime(int stepOrder, Quantiles quantiles) {
+        return DocumentStatsResponse.StepDwellTime.builder()
+                .stepOrder(stepOrder)
+                .count(quantiles.count())
+                .averageHours(round(quantiles.mean() / SECONDS_PER_HOUR))
+                .medianHours(round(quantiles.p50() / SECONDS_PER_HOUR))
+                .p90Hours(round(quantiles.p90() / SECONDS_PER_HOUR))
+                .p99Hours(round(quantiles.p99() / SECONDS_PER_HOUR))
+                .build();
+    }
+
+    private static Map<String, Quantiles> toQuantiles(Map<String, DurationSketch> sketches) {
+        Map<String, Quantiles> result = new LinkedHashMap<>();
+        sketches.forEach((key, sketch) -> result.put(key, sketch.toQuantiles()));
+        return result;
+    }
+
+    private static Map<String, LabelledQuantiles> labelled(Map<String, Quantiles> source, Map<String, String> labels) {
+        Map<String, LabelledQuantiles> result = new LinkedHashMap<>();
+        source.forEach((key, quantiles) -> result.put(key, new LabelledQuantiles(labels.getOrDefault(key, key), quantiles)));
+        return result;
+    }
+
+    private static long secondsBetween(LocalDateTime from, LocalDateTime to) {
+        return Duration.between(from, to).getSeconds();
+    }
+
+    private static double toDouble(Object value) {
+        return value != null ? ((Number) value).doubleValue() : 0.0;
+    }
+
+    private static Double toDays(double seconds) {
+        return round(seconds / SECONDS_PER_DAY);
+    }
+
+    private static Double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    /**
+     * 분위수 요약 (초 단위)
+     */
+    private record Quantiles(long count, double mean, double p50, double p90, double p99, double min, double max) {
+        private static final Quantiles EMPTY = new Quantiles(0, 0, 0, 0, 0, 0, 0);
+    }
+
+    private record LabelledQuantiles(String label, Quantiles quantiles) {
+    }
+
+    private record ProcessingTimes(Quantiles overall,
+                                   Map<String, LabelledQuantiles> byDocumentType,
+                                   Map<String, LabelledQuantiles> byBranch) {
+    }
+
+    /**
+     * 스트리밍 분위수 스케치 (평균/최소/최대는 정확값, 분위수는 유효 3자리 근사)
+     */
+    private static final class DurationSketch {
+        private final Histogram histogram = new Histogram(SIGNIFICANT_DIGITS);
+        private long sum;
+
+        private void record(long seconds) {
+            histogram.recordValue(seconds);
+            sum += seconds;
+        }
+
+        private Quantiles toQuantiles() {
+            long count = histogram.getTotalCount();
+            if (count == 0) {
+                return Quantiles.EMPTY;
+            }
+            return new Quantiles(count,
+                    (double) sum / count,
+                    histogram.getValueAtPercentile(50.0),
+                    histogram.getValueAtPercentile(90.0),
+                    histogram.getValueAtPercentile(99.0),
+                    histogram.getMinValue(),
+                    histogram.getMaxValue());
+        }
+    }
+}
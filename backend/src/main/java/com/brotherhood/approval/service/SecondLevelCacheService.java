@@ -0,0 +1,101 @@
+package com.brotherhood.approval.service;
+
+import com.brotherhood.approval.config.SecondLevelCacheConfig;
+import com.brotherhood.approval.dto.stats.SecondLevelCacheStatistics;
+import com.brotherhood.approval.event.ReferenceDataChangedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 관리 서비스 (영역별 지표 조회 및 비우기)
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Slf4j
+@Service
+public class SecondLevelCacheService {
+
+    private final SessionFactory sessionFactory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SecondLevelCacheService(EntityManagerFactory entityManagerFactory, ApplicationEventPublisher eventPublisher) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 영역별 적중/미스 지표 (통계가 꺼져 있으면 빈 목록)
+     */
+    public List<SecondLevelCacheStatistics> getStatistics() {
+        Statistics statistics = sessionFactory.getStatistics();
+        List<SecondLevelCacheStatistics> result = new ArrayList<>();
+        if (!statistics.isStatisticsEnabled()) {
+            return result;
+        }
+
+        for (String region : SecondLevelCacheConfig.REGIONS) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            if (regionStatistics == null) {
+                continue;
+            }
+            long hits = regionStatistics.getHitCount();
+            long misses = regionStatistics.getMissCount();
+            long elementCount = regionStatistics.getElementCountInMemory();
+
+            result.add(SecondLevelCacheStatistics.builder()
+                    .region(region)
+                    .hits(hits)
+                    .misses(misses)
+                    .puts(regionStatistics.getPutCount())
+                    .elementCount(elementCount != CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN ? elementCount : null)
+                    .hitRatio(hitRatio(hits, misses))
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * 캐시 비우기 (region이 없으면 전체)
+     *
+     * DB를 직접 변경한 뒤 호출되므로 지사/역할 기준의 다른 캐시도 다시 구성하도록 이벤트를 발행한다.
+     */
+    public void evict(String region) {
+        if (region == null || region.isBlank()) {
+            sessionFactory.getCache().evictAllRegions();
+            log.info("2차 캐시 전체 비움");
+            eventPublisher.publishEvent(ReferenceDataChangedEvent.of(ReferenceDataChangedEvent.DataType.ALL));
+            return;
+        }
+        if (!SecondLevelCacheConfig.REGIONS.contains(region)) {
+            throw new IllegalArgumentException("캐시 영역을 찾을 수 없습니다: " + region);
+        }
+        sessionFactory.getCache().evictRegion(region);
+        log.info("2차 캐시 영역 비움: {}", region);
+        eventPublisher.publishEvent(ReferenceDataChangedEvent.of(dataType(region)));
+    }
+
+    private static ReferenceDataChangedEvent.DataType dataType(String region) {
+        return switch (region) {
+            case SecondLevelCacheConfig.BRANCH_REGION, SecondLevelCacheConfig.BRANCH_BY_CODE_QUERY_REGION ->
+                    ReferenceDataChangedEvent.DataType.BRANCH;
+            case SecondLevelCacheConfig.ROLE_REGION, SecondLevelCacheConfig.ROLE_BY_NAME_QUERY_REGION ->
+                    ReferenceDataChangedEvent.DataType.ROLE;
+            default -> ReferenceDataChangedEvent.DataType.ALL;
+        };
+    }
+
+    static double hitRatio(long hits, long misses) {
+        long requests = hits + misses;
+        return requests > 0 ? Math.round(hits * 10_000.0 / requests) / 10_000.0 : 0.0;
+    }
+}
@@ -0,0 +1,268 @@
+package com.brotherhood.approval.service;
+
+import com.brotherhood.approval.dto.stats.StatsCacheStatistics;
+import com.brotherhood.approval.event.DocumentChangedEvent;
+import com.brotherhood.approval.event.UserChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 통계 응답 캐시 서비스
+ *
+ * 무거운 집계 결과를 키 단위로 보관한다.
+ * - 단일 계산(single-flight): 같은 키를 동시에 요청하면 한 번만 계산하고 나머지는 결과를 기다린다
+ * - stale-while-revalidate: TTL이 지나면 이전 값을 즉시 반환하고 백그라운드에서 다시 계산한다
+ * - 문서/사용자/첨부파일 변경 이벤트가 오면 해당 키를 만료 처리한다 (다음 요청에서 갱신)
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Slf4j
+@Service
+public class StatsCacheService {
+
+    public static final String DOCUMENT_STATS = "documents";
+    public static final String DASHBOARD_STATS = "dashboard";
+    public static final String USER_STATS = "users";
+    public static final String ATTACHMENT_STATS = "attachments";
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ExecutorService refreshExecutor;
+
+    @Value("${stats.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${stats.cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    /**
+     * TTL 이후 이전 값을 반환할 수 있는 최대 시간 (이보다 오래되면 요청 스레드에서 다시 계산)
+     */
+    @Value("${stats.cache.stale-seconds:300}")
+    private long staleSeconds;
+
+    public StatsCacheService() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.refreshExecutor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "stats-cache-refresh-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * 캐시 조회 (없거나 오래되었으면 loader로 계산)
+     *
+     * @param key    캐시 키
+     * @param loader 집계 함수
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+        Snapshot snapshot = entry.snapshot;
+
+        if (snapshot != null) {
+            long age = System.nanoTime() - snapshot.loadedAt;
+            boolean current = snapshot.generation == entry.generation.get();
+
+            if (current && age < TimeUnit.SECONDS.toNanos(ttlSeconds)) {
+                entry.hits.increment();
+                return (T) snapshot.value;
+            }
+            if (age < TimeUnit.SECONDS.toNanos(ttlSeconds + staleSeconds)) {
+                entry.staleHits.increment();
+                load(key, entry, loader, true);
+                return (T) snapshot.value;
+            }
+        }
+
+        entry.misses.increment();
+        return (T) await(load(key, entry, loader, false));
+    }
+
+    /**
+     * 캐시 만료 처리 (이전 값은 갱신 전까지 stale 값으로 사용)
+     */
+    public void invalidate(String... keys) {
+        for (String key : keys) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                entry.generation.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 전체 캐시 삭제
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * 캐시 키별 지표
+     */
+    public List<StatsCacheStatistics> getStatistics() {
+        List<StatsCacheStatistics> result = new ArrayList<>();
+        entries.forEach((key, entry) -> {
+            long hits = entry.hits.sum();
+            long staleHits = entry.staleHits.sum();
+            long misses = entry.misses.sum();
+            long loads = entry.loads.sum();
+            long requests = hits + staleHits + misses;
+            Snapshot snapshot = entry.snapshot;
+
+            result.add(StatsCacheStatistics.builder()
+                    .key(key)
+                    .hits(hits)
+                    .staleHits(staleHits)
+                    .misses(misses)
+                    .loads(loads)
+                    .loadFailures(entry.loadFailures.sum())
+                    .averageLoadMillis(loads > 0
+                            ? Math.round(entry.loadNanos.sum() / (double) loads / 10_000.0) / 100.0 : 0.0)
+                    .lastLoadMillis(entry.lastLoadMillis.get())
+                    .ageSeconds(snapshot != null
+                            ? TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - snapshot.loadedAt) : null)
+                    .hitRatio(requests > 0 ? Math.round((hits + staleHits) * 10_000.0 / requests) / 10_000.0 : 0.0)
+                    .build());
+        });
+        return result;
+    }
+
+    /**
+     * 문서 변경 시 문서/대시보드(첨부파일) 통계 만료
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentChanged(DocumentChangedEvent event) {
+        invalidate(DOCUMENT_STATS, DASHBOARD_STATS);
+        if (event.getChangeType() == DocumentChangedEvent.ChangeType.ATTACHMENT_CHANGED
+                || event.getChangeType() == DocumentChangedEvent.ChangeType.DELETED) {
+            invalidate(ATTACHMENT_STATS);
+        }
+    }
+
+    /**
+     * 사용자 변경 시 사용자/대시보드 통계 만료
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(USER_STATS, DASHBOARD_STATS);
+    }
+
+    /**
+     * 진행 중인 계산이 있으면 그 결과를, 없으면 새 계산을 시작한다
+     */
+    private CompletableFuture<Object> load(String key, Entry entry, Supplier<?> loader, boolean background) {
+        while (true) {
+            CompletableFuture<Object> inFlight = entry.inFlight.get();
+            if (inFlight != null) {
+                return inFlight;
+            }
+
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            if (!entry.inFlight.compareAndSet(null, future)) {
+                continue;
+            }
+
+            Runnable task = () -> compute(key, entry, loader, future);
+            if (background) {
+                try {
+                    refreshExecutor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    entry.inFlight.compareAndSet(future, null);
+                    future.completeExceptionally(e);
+                }
+            } else {
+                task.run();
+            }
+            return future;
+        }
+    }
+
+    private void compute(String key, Entry entry, Supplier<?> loader, CompletableFuture<Object> future) {
+        // 계산 중 만료되면 결과를 바로 stale로 취급하도록 시작 시점의 세대를 기록
+        long generation = entry.generation.get();
+        long startTime = System.nanoTime();
+        try {
+            Object value = loader.get();
+            long elapsed = System.nanoTime() - startTime;
+
+            entry.snapshot = new Snapshot(value, System.nanoTime(), generation);
+            entry.loads.increment();
+            entry.loadNanos.add(elapsed);
+            entry.lastLoadMillis.set(TimeUnit.NANOSECONDS.toMillis(elapsed));
+            future.complete(value);
+        } catch (Throwable e) {
+            entry.loadFailures.increment();
+            log.warn("통계 캐시 계산 실패: key={}, error={}", key, e.getMessage());
+            future.completeExceptionally(e);
+        } finally {
+            entry.inFlight.compareAndSet(future, null);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("통계 계산 중 오류가 발생했습니다", cause);
+        }
+    }
+
+    /**
+     * 캐시 값 (불변)
+     */
+    private record Snapshot(Object value, long loadedAt, long generation) {
+    }
+
+    private static final class Entry {
+        private volatile Snapshot snapshot;
+        private final AtomicLong generation = new AtomicLong();
+        private final AtomicReference<CompletableFuture<Object>> inFlight = new AtomicReference<>();
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder staleHits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder loads = new LongAdder();
+        private final LongAdder loadFailures = new LongAdder();
+        private final LongAdder loadNanos = new LongAdder();
+        private final AtomicLong lastLoadMillis = new AtomicLong();
+    }
+}
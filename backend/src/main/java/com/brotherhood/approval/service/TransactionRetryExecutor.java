@@ -0,0 +1,82 @@
+package com.brotherhood.approval.service;
+
+import com.brotherhood.approval.metrics.ApprovalMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 동시 갱신 충돌 재시도 실행기
+ *
+ * 작업마다 새 트랜잭션을 열고, 커밋 시점의 낙관적 잠금 충돌이나 잠금 대기 실패
+ * ({@link ConcurrencyFailureException})가 나면 잠시 기다린 뒤 처음부터 다시 실행한다.
+ * 재시도 때는 엔티티를 새로 조회하므로 다른 트랜잭션이 반영한 카운터/상태를 기준으로 다시 판단한다.
+ * 이미 바깥 트랜잭션 안이면 롤백 전용으로 표시된 트랜잭션을 재사용할 수 없으므로 한 번만 실행한다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Slf4j
+@Component
+public class TransactionRetryExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final ApprovalMetrics approvalMetrics;
+
+    @Value("${approval.retry.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${approval.retry.backoff-millis:20}")
+    private long backoffMillis;
+
+    public TransactionRetryExecutor(PlatformTransactionManager transactionManager, ApprovalMetrics approvalMetrics) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.approvalMetrics = approvalMetrics;
+    }
+
+    /**
+     * 새 트랜잭션에서 실행 (충돌 시 최대 max-attempts 회 시도)
+     *
+     * @param operation 로그/메트릭용 작업 이름
+     * @throws ConcurrencyFailureException 재시도 한도를 넘긴 충돌
+     */
+    public <T> T execute(String operation, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("동시 갱신 충돌 재시도 한도 초과: {} ({} 회)", operation, attempt);
+                    throw e;
+                }
+                log.debug("동시 갱신 충돌, 다시 시도합니다: {} ({} 회차, {})", operation, attempt, e.getMessage());
+                approvalMetrics.recordConcurrencyRetry(operation);
+                backoff(attempt, e);
+            }
+        }
+    }
+
+    private void backoff(int attempt, ConcurrencyFailureException cause) {
+        if (backoffMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMillis * attempt) + 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
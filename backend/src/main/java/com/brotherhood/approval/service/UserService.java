@@ -5,19 +5,29 @@ import com.brotherhood.approval.dto.user.UserDto;
 import com.brotherhood.approval.dto.user.UserSearchRequest;
 import com.brotherhood.approval.dto.user.UserUpdateRequest;
 import com.brotherhood.approval.entity.Branch;
+import com.brotherhood.approval.entity.Role;
 import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.entity.UserRole;
+import com.brotherhood.approval.event.UserChangedEvent;
 import com.brotherhood.approval.mapper.UserMapper;
 import com.brotherhood.approval.repository.BranchRepository;
+import com.brotherhood.approval.repository.RoleRepository;
 import com.brotherhood.approval.repository.UserRepository;
+import com.brotherhood.approval.repository.UserRoleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -34,10 +44,15 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class UserService {
     
+    private static final int ROLE_LOOKUP_BATCH_SIZE = 1000;
+    
     private final UserRepository userRepository;
+    private final UserRoleRepository userRoleRepository;
     private final BranchRepository branchRepository;
+    private final RoleRepository roleRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 사용자 생성
@@ -81,6 +96,7 @@ public class UserService {
         
         User savedUser = userRepository.save(user);
         log.info("사용자 생성 완료: {}", savedUser.getId());
+        eventPublisher.publishEvent(UserChangedEvent.of(savedUser.getId(), UserChangedEvent.ChangeType.CREATED));
         
         return userMapper.toDto(savedUser);
     }
@@ -142,27 +158,13 @@ public class UserService {
     
     /**
      * 사용자 목록 조회 (페이지네이션)
+     * - 사용자 페이지(지사 포함) 1회 + 페이지 사용자들의 역할 IN 조회 1회
      */
     @Transactional(readOnly = true)
     public Page<UserDto> getUsers(Pageable pageable) {
-        // 페이지네이션을 위해 findAllWithRoles를 사용할 수 없으므로
-        // 기존 방식 유지하되 Lazy Loading 문제를 해결하기 위해
-        // 각 사용자별로 역할 정보를 안전하게 처리
-        return userRepository.findAll(pageable)
-                .map(user -> {
-                    UserDto userDto = userMapper.toDto(user);
-                    // 모든 필드를 수동으로 설정 (Lazy Loading 문제 해결)
-                    userDto.setBranchId(user.getBranch() != null ? user.getBranch().getId().toString() : null);
-                    userDto.setBranchName(user.getBranch() != null ? user.getBranch().getName() : null);
-                    userDto.setBranchCode(user.getBranch() != null ? user.getBranch().getCode() : null);
-                    
-                    // 역할 정보는 기본값으로 설정 (Lazy Loading 문제 방지)
-                    userDto.setRoles(java.util.List.of("USER"));
-                    
-                    // setFullName 제거됨 - UserDto에 fullName 필드가 없음
-                    userDto.setDisplayName(user.getDisplayName());
-                    return userDto;
-                });
+        Page<User> users = userRepository.findAllWithBranch(pageable);
+        Map<UUID, List<String>> rolesByUserId = findRoleNamesByUserIds(users.getContent());
+        return users.map(user -> toListDto(user, rolesByUserId));
     }
     
     /**
@@ -197,21 +199,10 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public List<UserDto> getActiveUsers() {
-        return userRepository.findByIsActiveTrue()
-                .stream()
-                .map(user -> {
-                    UserDto userDto = userMapper.toDto(user);
-                    userDto.setBranchId(user.getBranch() != null ? user.getBranch().getId().toString() : null);
-                    userDto.setBranchName(user.getBranch() != null ? user.getBranch().getName() : null);
-                    userDto.setBranchCode(user.getBranch() != null ? user.getBranch().getCode() : null);
-                    
-                    // 역할 정보는 기본값으로 설정 (Lazy Loading 문제 방지)
-                    userDto.setRoles(java.util.List.of("USER"));
-                    
-                    // setFullName 제거됨 - UserDto에 fullName 필드가 없음
-                    userDto.setDisplayName(user.getDisplayName());
-                    return userDto;
-                })
+        List<User> users = userRepository.findActiveWithBranch();
+        Map<UUID, List<String>> rolesByUserId = findRoleNamesByUserIds(users);
+        return users.stream()
+                .map(user -> toListDto(user, rolesByUserId))
                 .toList();
     }
     
@@ -240,9 +231,21 @@ public class UserService {
         }
         
         userMapper.updateEntity(request, user);
+        
+        // 지사 이동 (결재자 해석 대상 지사가 바뀐다)
+        boolean branchMoved = false;
+        if (request.getBranchId() != null && !request.getBranchId().isBlank()
+                && (user.getBranch() == null || !user.getBranch().getId().toString().equals(request.getBranchId()))) {
+            Branch branch = branchRepository.findById(UUID.fromString(request.getBranchId()))
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 지사입니다: " + request.getBranchId()));
+            user.setBranch(branch);
+            branchMoved = true;
+        }
         User savedUser = userRepository.save(user);
         
         log.info("사용자 정보 수정 완료: {}", savedUser.getId());
+        eventPublisher.publishEvent(UserChangedEvent.of(savedUser.getId(),
+                branchMoved ? UserChangedEvent.ChangeType.ROLES_CHANGED : UserChangedEvent.ChangeType.UPDATED));
         return userMapper.toDto(savedUser);
     }
     
@@ -276,6 +279,7 @@ public class UserService {
         User savedUser = userRepository.save(user);
         
         log.info("사용자 상태 변경 완료: {} -> {}", id, savedUser.getIsActive());
+        eventPublisher.publishEvent(UserChangedEvent.of(savedUser.getId(), UserChangedEvent.ChangeType.STATUS_CHANGED));
         return userMapper.toDto(savedUser);
     }
     
@@ -291,6 +295,7 @@ public class UserService {
         
         user.setIsActive(false);
         userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.of(user.getId(), UserChangedEvent.ChangeType.STATUS_CHANGED));
         
         log.info("사용자 삭제 완료: {}", id);
     }
@@ -317,7 +322,7 @@ public class UserService {
     }
     
     /**
-     * 사용자 역할 할당
+     * 사용자 역할 할당 (소속 지사 기준, 회수된 부여가 있으면 다시 활성화)
      */
     @Transactional
     public void assignRole(String userId, String roleId) {
@@ -325,22 +330,74 @@ public class UserService {
         
         User user = userRepository.findById(UUID.fromString(userId))
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+        Role role = roleRepository.findById(UUID.fromString(roleId))
+                .orElseThrow(() -> new IllegalArgumentException("역할을 찾을 수 없습니다: " + roleId));
         
-        // 역할 할당 로직 구현 필요
-        // UserRole 엔티티를 사용하여 역할 할당
+        UserRole userRole = userRoleRepository.findByUserIdAndRoleId(user.getId(), role.getId())
+                .orElseGet(() -> UserRole.builder()
+                        .user(user)
+                        .role(role)
+                        .branch(user.getBranch())
+                        .grantedAt(LocalDateTime.now())
+                        .build());
+        if (userRole.getId() != null && Boolean.TRUE.equals(userRole.getIsActive())) {
+            return;
+        }
+        userRole.setIsActive(true);
+        userRoleRepository.save(userRole);
+        
+        eventPublisher.publishEvent(UserChangedEvent.of(user.getId(), UserChangedEvent.ChangeType.ROLES_CHANGED));
+        log.info("사용자 역할 할당 완료: userId={}, role={}", userId, role.getName());
     }
     
     /**
-     * 사용자 역할 제거
+     * 사용자 역할 제거 (부여 이력은 남기고 비활성화)
      */
     @Transactional
     public void removeRole(String userId, String roleId) {
         log.info("사용자 역할 제거: userId={}, roleId={}", userId, roleId);
         
-        User user = userRepository.findById(UUID.fromString(userId))
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+        UserRole userRole = userRoleRepository.findByUserIdAndRoleId(UUID.fromString(userId), UUID.fromString(roleId))
+                .orElseThrow(() -> new IllegalArgumentException("부여된 역할이 없습니다: userId=" + userId + ", roleId=" + roleId));
+        if (!Boolean.TRUE.equals(userRole.getIsActive())) {
+            return;
+        }
+        userRole.setIsActive(false);
         
-        // 역할 제거 로직 구현 필요
-        // UserRole 엔티티를 사용하여 역할 제거
+        eventPublisher.publishEvent(UserChangedEvent.of(userRole.getUser().getId(), UserChangedEvent.ChangeType.ROLES_CHANGED));
+        log.info("사용자 역할 제거 완료: userId={}, roleId={}", userId, roleId);
+    }
+    
+    /**
+     * 사용자들의 활성 역할명 일괄 조회 (IN 절 크기 제한을 넘지 않도록 나누어 조회)
+     */
+    private Map<UUID, List<String>> findRoleNamesByUserIds(List<User> users) {
+        Map<UUID, List<String>> rolesByUserId = new HashMap<>();
+        List<UUID> userIds = users.stream().map(User::getId).toList();
+        for (int from = 0; from < userIds.size(); from += ROLE_LOOKUP_BATCH_SIZE) {
+            List<UUID> batch = userIds.subList(from, Math.min(from + ROLE_LOOKUP_BATCH_SIZE, userIds.size()));
+            for (Object[] row : userRoleRepository.findActiveRoleNamesByUserIds(batch)) {
+                List<String> roles = rolesByUserId.computeIfAbsent((UUID) row[0], id -> new ArrayList<>());
+                String roleName = (String) row[1];
+                if (!roles.contains(roleName)) {
+                    roles.add(roleName);
+                }
+            }
+        }
+        return rolesByUserId;
+    }
+    
+    /**
+     * 목록용 DTO 변환 (지사는 함께 조회된 상태, 역할은 일괄 조회 결과 사용)
+     */
+    private UserDto toListDto(User user, Map<UUID, List<String>> rolesByUserId) {
+        UserDto userDto = userMapper.toDto(user);
+        userDto.setBranchId(user.getBranch() != null ? user.getBranch().getId().toString() : null);
+        userDto.setBranchName(user.getBranch() != null ? user.getBranch().getName() : null);
+        userDto.setBranchCode(user.getBranch() != null ? user.getBranch().getCode() : null);
+        List<String> roles = rolesByUserId.get(user.getId());
+        userDto.setRoles(roles == null || roles.isEmpty() ? List.of("USER") : roles);
+        userDto.setDisplayName(user.getDisplayName());
+        return userDto;
     }
 }
@@ -0,0 +1,329 @@
+package com.brotherhood.approval.service;
+
+import com.brotherhood.approval.dto.user.UserSuggestionDto;
+import com.brotherhood.approval.event.UserChangedEvent;
+import com.brotherhood.approval.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 자동완성 서비스 (결재자 선택용 메모리 접두어 색인)
+ *
+ * 이름, 세례명, 로그인 ID, 이메일, 지사명/코드와 이름 초성을 정렬된 키 배열로 보관하고
+ * 이진 탐색으로 접두어 범위를 찾는다. 조회 시 DB를 사용하지 않으며,
+ * 기동 시 한 번 전체를 적재하고 {@link UserChangedEvent}로 해당 사용자만 갱신한다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserSuggestService {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private final UserRepository userRepository;
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * 기동 시 전체 색인 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+
+        Map<UUID, Entry> loaded = toEntries(userRepository.findSuggestionRows());
+        synchronized (this) {
+            entries.clear();
+            entries.putAll(loaded);
+            snapshot = Snapshot.build(entries.values());
+        }
+
+        log.info("사용자 자동완성 색인 구성 완료: {} 명 ({}ms)", loaded.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 사용자 변경 이벤트 처리 (커밋 이후 해당 사용자만 갱신)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        Entry entry = toEntries(userRepository.findSuggestionRowsByUserId(event.getUserId()))
+                .get(event.getUserId());
+
+        synchronized (this) {
+            if (entry != null) {
+                entries.put(entry.id(), entry);
+            } else {
+                // 비활성화되었거나 삭제된 사용자
+                entries.remove(event.getUserId());
+            }
+            snapshot = Snapshot.build(entries.values());
+        }
+
+        log.debug("사용자 자동완성 색인 갱신: {}", event);
+    }
+
+    /**
+     * 사용자 자동완성 조회
+     *
+     * @param query    이름/세례명/로그인 ID/이메일/지사명 접두어 또는 이름 초성 (예: "ㄱㅊ")
+     * @param roleName 역할 필터 (선택)
+     * @param branchId 지사 필터 (선택)
+     * @param limit    최대 건수
+     */
+    public List<UserSuggestionDto> suggest(String query, String roleName, String branchId, Integer limit) {
+        int maxResults = limit != null ? Math.min(Math.max(1, limit), MAX_LIMIT) : DEFAULT_LIMIT;
+        UUID branchUuid = branchId != null && !branchId.isBlank() ? UUID.fromString(branchId) : null;
+        String prefix = normalize(query);
+
+        Snapshot current = snapshot;
+        List<UserSuggestionDto> results = new ArrayList<>(maxResults);
+
+        if (prefix.isEmpty()) {
+            for (Entry entry : current.entries) {
+                if (results.size() >= maxResults) {
+                    break;
+                }
+                if (entry.matches(roleName, branchUuid)) {
+                    results.add(entry.toDto());
+                }
+            }
+            return results;
+        }
+
+        BitSet seen = new BitSet(current.entries.length);
+        for (int i = current.lowerBound(prefix); i < current.keys.length && results.size() < maxResults; i++) {
+            if (!current.keys[i].startsWith(prefix)) {
+                break;
+            }
+            int entryIndex = current.entryIndexes[i];
+            if (seen.get(entryIndex)) {
+                continue;
+            }
+            seen.set(entryIndex);
+
+            Entry entry = current.entries[entryIndex];
+            if (entry.matches(roleName, branchUuid)) {
+                results.add(entry.toDto());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 색인된 사용자 수
+     */
+    public int size() {
+        return snapshot.entries.length;
+    }
+
+    private Map<UUID, Entry> toEntries(List<Object[]> rows) {
+        Map<UUID, EntryBuilder> builders = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            UUID userId = (UUID) row[0];
+            EntryBuilder builder = builders.computeIfAbsent(userId, id -> new EntryBuilder(
+                    id, (String) row[1], (String) row[2], (String) row[3], (String) row[4],
+                    (UUID) row[5], (String) row[6], (String) row[7]));
+            if (row[8] != null) {
+                builder.roles.add((String) row[8]);
+            }
+        }
+
+        Map<UUID, Entry> result = new LinkedHashMap<>();
+        builders.forEach((id, builder) -> result.put(id, builder.build()));
+        return result;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 한글 음절의 초성 문자열 (한글이 아닌 문자는 그대로 유지)
+     */
+    static String toChoseong(String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c >= '가' && c <= '힣') {
+                builder.append(CHOSEONG[(c - '가') / (21 * 28)]);
+            } else if (!Character.isWhitespace(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 색인 항목 (불변)
+     */
+    private record Entry(UUID id, String name, String baptismalName, String loginId, String email,
+                         UUID branchId, String branchName, String branchCode, List<String> roles) {
+
+        boolean matches(String roleName, UUID branchUuid) {
+            return (roleName == null || roleName.isBlank() || roles.contains(roleName))
+                    && (branchUuid == null || branchUuid.equals(branchId));
+        }
+
+        List<String> keys() {
+            Set<String> keys = new LinkedHashSet<>();
+            addKey(keys, name);
+            addKey(keys, baptismalName);
+            addKey(keys, loginId);
+            addKey(keys, email);
+            addKey(keys, branchName);
+            addKey(keys, branchCode);
+            if (name != null) {
+                // 이름 중간 단어와 초성으로도 찾을 수 있도록 추가
+                Arrays.stream(name.split("\\s+")).forEach(token -> addKey(keys, token));
+                addKey(keys, toChoseong(name));
+            }
+            if (baptismalName != null) {
+                addKey(keys, toChoseong(baptismalName));
+            }
+            return new ArrayList<>(keys);
+        }
+
+        private static void addKey(Set<String> keys, String value) {
+            String key = normalize(value);
+            if (!key.isEmpty()) {
+                keys.add(key);
+            }
+        }
+
+        UserSuggestionDto toDto() {
+            return UserSuggestionDto.builder()
+                    .id(id.toString())
+                    .name(name)
+                    .baptismalName(baptismalName)
+                    .loginId(loginId)
+                    .email(email)
+                    .displayName(baptismalName != null ? name + " (" + baptismalName + ")" : name)
+                    .branchId(branchId != null ? branchId.toString() : null)
+                    .branchName(branchName)
+                    .branchCode(branchCode)
+                    .roles(roles)
+                    .build();
+        }
+    }
+
+    private static final class EntryBuilder {
+        private final UUID id;
+        private final String name;
+        private final String baptismalName;
+        private final String loginId;
+        private final String email;
+        private final UUID branchId;
+        private final String branchName;
+        private final String branchCode;
+        private final Set<String> roles = new LinkedHashSet<>();
+
+        private EntryBuilder(UUID id, String name, String baptismalName, String loginId, String email,
+                             UUID branchId, String branchName, String branchCode) {
+            this.id = id;
+            this.name = name;
+            this.baptismalName = baptismalName;
+            this.loginId = loginId;
+            this.email = email;
+            this.branchId = branchId;
+            this.branchName = branchName;
+            this.branchCode = branchCode;
+        }
+
+        private Entry build() {
+            return new Entry(id, name, baptismalName, loginId, email, branchId, branchName, branchCode, List.copyOf(roles));
+        }
+    }
+
+    /**
+     * 정렬된 키 배열 스냅샷 (읽기 전용, 변경 시 교체)
+     */
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(new Entry[0], new String[0], new int[0]);
+
+        private final Entry[] entries;
+        private final String[] keys;
+        private final int[] entryIndexes;
+
+        private Snapshot(Entry[] entries, String[] keys, int[] entryIndexes) {
+            this.entries = entries;
+            this.keys = keys;
+            this.entryIndexes = entryIndexes;
+        }
+
+        private static Snapshot build(java.util.Collection<Entry> source) {
+            Entry[] entries = source.stream()
+                    .sorted((a, b) -> normalize(a.name()).compareTo(normalize(b.name())))
+                    .toArray(Entry[]::new);
+
+            List<String> keyList = new ArrayList<>();
+            List<Integer> indexList = new ArrayList<>();
+            for (int i = 0; i < entries.length; i++) {
+                for (String key : entries[i].keys()) {
+                    keyList.add(key);
+                    indexList.add(i);
+                }
+            }
+
+            Integer[] order = new Integer[keyList.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> {
+                int compared = keyList.get(a).compareTo(keyList.get(b));
+                return compared != 0 ? compared : Integer.compare(indexList.get(a), indexList.get(b));
+            });
+
+            String[] keys = new String[order.length];
+            int[] entryIndexes = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                keys[i] = keyList.get(order[i]);
+                entryIndexes[i] = indexList.get(order[i]);
+            }
+            return new Snapshot(entries, keys, entryIndexes);
+        }
+
+        /**
+         * 접두어 이상인 첫 번째 키 위치 (이진 탐색)
+         */
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+-- 일별 문서 통계 집계 테이블
+-- 문서 생성일 × 지사 × 유형 × 상태 × 보안등급별 문서 수
+
+CREATE TABLE IF NOT EXISTS document_daily_stats (
+    stat_date DATE NOT NULL,
+    branch_id UUID NOT NULL,
+    document_type VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    security_level VARCHAR(20) NOT NULL,
+    document_count BIGINT NOT NULL,
+    refreshed_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (stat_date, branch_id, document_type, status, security_level)
+);
+
+CREATE INDEX IF NOT EXISTS idx_document_daily_stats_branch ON document_daily_stats(branch_id, stat_date);
+
+-- 증분 집계 워터마크
+CREATE TABLE IF NOT EXISTS stats_watermarks (
+    name VARCHAR(50) PRIMARY KEY,
+    watermark TIMESTAMP NOT NULL,
+    last_run_at TIMESTAMP,
+    last_run_millis BIGINT
+);
+
+-- 변경분 탐색용 인덱스
+CREATE INDEX IF NOT EXISTS idx_documents_updated_at ON documents(updated_at);
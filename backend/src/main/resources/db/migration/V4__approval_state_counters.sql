@@ -0,0 +1,26 @@
+-- 결재 상태 머신 카운터와 낙관적 잠금 버전
+-- 승인할 때마다 모든 결재단계를 다시 조회하지 않도록 남은 필수 결재단계 수를 저장
+
+-- 낙관적 잠금 버전 (documents.version은 업무상 문서 버전이므로 별도 컬럼)
+ALTER TABLE documents ADD COLUMN IF NOT EXISTS lock_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE approval_lines ADD COLUMN IF NOT EXISTS lock_version BIGINT NOT NULL DEFAULT 0;
+
+-- 남은 필수 결재단계 수 (NULL이면 첫 결재 액션 때 집계)
+ALTER TABLE documents ADD COLUMN IF NOT EXISTS remaining_required_steps INTEGER;
+ALTER TABLE approval_lines ADD COLUMN IF NOT EXISTS remaining_required_steps INTEGER;
+
+-- 기존 데이터 집계
+UPDATE approval_lines al
+SET remaining_required_steps = (
+    SELECT COUNT(*) FROM approval_steps s
+    WHERE s.approval_line_id = al.id
+      AND s.is_required = TRUE
+      AND COALESCE(s.status, '') <> 'APPROVED'
+);
+
+UPDATE documents d
+SET remaining_required_steps = (
+    SELECT COALESCE(SUM(al.remaining_required_steps), 0) FROM approval_lines al
+    WHERE al.document_id = d.id
+)
+WHERE EXISTS (SELECT 1 FROM approval_lines al WHERE al.document_id = d.id);
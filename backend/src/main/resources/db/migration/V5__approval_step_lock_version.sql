@@ -0,0 +1,4 @@
+-- 결재단계 낙관적 잠금 버전
+-- 결재단계 상태 전이는 조건부 UPDATE (WHERE status = 'PENDING')에서 lock_version을 직접 증가
+
+ALTER TABLE approval_steps ADD COLUMN IF NOT EXISTS lock_version BIGINT NOT NULL DEFAULT 0;
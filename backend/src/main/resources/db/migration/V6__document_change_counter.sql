@@ -0,0 +1,4 @@
+-- 문서 변경 카운터
+-- 조건부 GET(ETag)에서 문서 행은 바뀌지 않는 결재 액션(결재단계 추가/위임, 결재 이력 기록)까지 반영하기 위한 값
+
+ALTER TABLE documents ADD COLUMN IF NOT EXISTS change_counter BIGINT NOT NULL DEFAULT 0;
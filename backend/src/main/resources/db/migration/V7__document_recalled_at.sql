@@ -0,0 +1,4 @@
+-- 문서 회수 시각
+-- 회수로 DRAFT가 된 문서와 한 번도 상신하지 않은 DRAFT 문서를 구분해, 중복 회수 요청만 성공으로 처리하기 위한 값
+
+ALTER TABLE documents ADD COLUMN IF NOT EXISTS recalled_at TIMESTAMP WITH TIME ZONE;
@@ -0,0 +1,6 @@
+-- 결재선 없는 PENDING 문서 정제 작업 행
+-- 여러 인스턴스가 배치마다 이 행을 잠가 정제를 직렬화한다 (워터마크 값은 쓰지 않으므로 고정값)
+
+INSERT INTO stats_watermarks (name, watermark)
+VALUES ('document_cleanup', TIMESTAMP '1970-01-01 00:00:00')
+ON CONFLICT (name) DO NOTHING;
@@ -0,0 +1,10 @@
+-- 통계 재집계 대상 일자
+-- 문서 삭제 트랜잭션에서 문서 생성일을 기록하고, 다음 증분 집계가 워터마크 잠금 안에서 가져가 다시 계산한다
+
+CREATE TABLE IF NOT EXISTS stats_dirty_days (
+    id UUID PRIMARY KEY,
+    stat_date DATE NOT NULL,
+    marked_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_stats_dirty_days_marked_at ON stats_dirty_days(marked_at);
@@ -0,0 +1,374 @@
+package com.brotherhood.approval;
+
+import com.brotherhood.approval.dto.approval.ApprovalActionRequest;
+import com.brotherhood.approval.dto.approval.ApprovalLineCreateRequest;
+import com.brotherhood.approval.dto.approval.ApprovalLineDto;
+import com.brotherhood.approval.dto.approval.ApprovalStepCreateRequest;
+import com.brotherhood.approval.entity.ApprovalLine;
+import com.brotherhood.approval.entity.ApprovalStep;
+import com.brotherhood.approval.entity.Branch;
+import com.brotherhood.approval.entity.Document;
+import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.exception.BusinessException;
+import com.brotherhood.approval.repository.ApprovalHistoryRepository;
+import com.brotherhood.approval.repository.ApprovalLineRepository;
+import com.brotherhood.approval.repository.ApprovalStepRepository;
+import com.brotherhood.approval.repository.BranchRepository;
+import com.brotherhood.approval.repository.DocumentRepository;
+import com.brotherhood.approval.repository.UserRepository;
+import com.brotherhood.approval.service.ApprovalService;
+import com.brotherhood.approval.service.DocumentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 결재 상태 머신 동시성 테스트
+ *
+ * 병렬 결재선의 결재자들이 같은 문서를 동시에 승인해도 남은 필수 결재단계 카운터가
+ * 정확히 줄어들고 문서가 한 번만 승인되는지, 문서 상태 전이가 조건부 UPDATE로 한 번만 반영되는지 확인한다.
+ * 스레드마다 별도 트랜잭션이 커밋되어야 하므로 테스트 트랜잭션을 사용하지 않고 직접 정리한다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ApprovalConcurrencyTests {
+
+    private static final int APPROVERS = 4;
+
+    @Autowired
+    private ApprovalService approvalService;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private ApprovalLineRepository approvalLineRepository;
+
+    @Autowired
+    private ApprovalStepRepository approvalStepRepository;
+
+    @Autowired
+    private ApprovalHistoryRepository approvalHistoryRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+    private final List<User> approvers = new ArrayList<>();
+    private Branch branch;
+    private User author;
+    private Document document;
+
+    @BeforeEach
+    void setUp() {
+        branch = branchRepository.save(Branch.builder().code("CONC_" + suffix).name("동시성 지사").isActive(true).build());
+        author = createUser("conc_author_" + suffix);
+        for (int i = 0; i < APPROVERS; i++) {
+            approvers.add(createUser("conc_approver_" + i + "_" + suffix));
+        }
+
+        document = documentRepository.save(Document.builder()
+                .title("동시 결재 문서")
+                .content("동시 결재 테스트")
+                .documentType(Document.Type.GENERAL)
+                .status(Document.Status.PENDING)
+                .author(author)
+                .branch(branch)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        approvalHistoryRepository.deleteAll(approvalHistoryRepository.findByDocumentIdOrderByActionAtDesc(document.getId()));
+        for (ApprovalLine approvalLine : approvalLineRepository.findByDocumentId(document.getId())) {
+            approvalStepRepository.deleteAll(approvalStepRepository.findByApprovalLineIdOrderByStepOrder(approvalLine.getId()));
+            approvalLineRepository.delete(approvalLine);
+        }
+        documentRepository.deleteById(document.getId());
+        userRepository.deleteAll(approvers);
+        userRepository.delete(author);
+        branchRepository.delete(branch);
+    }
+
+    @Test
+    @DisplayName("병렬 결재자 동시 승인 시 카운터가 정확히 감소하고 문서 승인")
+    void testParallelApproversApproveConcurrently() throws Exception {
+        // Given
+        List<ApprovalStep> steps = createParallelLine();
+        assertThat(documentRepository.findById(document.getId()).orElseThrow().getRemainingRequiredSteps())
+                .isEqualTo(APPROVERS);
+
+        // When
+        List<Callable<Object>> actions = new ArrayList<>();
+        for (ApprovalStep step : steps) {
+            actions.add(() -> approve(step));
+        }
+        List<Throwable> failures = runConcurrently(actions);
+
+        // Then
+        assertThat(failures).isEmpty();
+
+        Document approved = documentRepository.findById(document.getId()).orElseThrow();
+        assertThat(approved.getStatus()).isEqualTo(Document.Status.APPROVED);
+        assertThat(approved.getRemainingRequiredSteps()).isZero();
+        assertThat(approved.getApprovedAt()).isNotNull();
+
+        ApprovalLine approvalLine = approvalLineRepository.findByDocumentId(document.getId()).get(0);
+        assertThat(approvalLine.getRemainingRequiredSteps()).isZero();
+        assertThat(approvalStepRepository.findByApprovalLineIdOrderByStepOrder(approvalLine.getId()))
+                .allSatisfy(step -> assertThat(step.getStatus()).isEqualTo(ApprovalStep.Status.APPROVED));
+        assertThat(approvalHistoryRepository.findByDocumentIdOrderByActionAtDesc(document.getId())).hasSize(APPROVERS);
+    }
+
+    @Test
+    @DisplayName("같은 결재단계 동시 승인 시 한 번만 반영")
+    void testSameStepApprovedTwiceConcurrently() throws Exception {
+        // Given
+        ApprovalStep step = createParallelLine().get(0);
+
+        // When
+        List<Callable<Object>> actions = List.of(() -> approve(step), () -> approve(step));
+        List<Throwable> failures = runConcurrently(actions);
+
+        // Then
+        assertThat(failures).hasSize(1);
+        assertThat(failures.get(0)).isInstanceOf(BusinessException.class);
+        assertThat(((BusinessException) failures.get(0)).getHttpStatus()).isEqualTo(HttpStatus.CONFLICT);
+
+        Document pending = documentRepository.findById(document.getId()).orElseThrow();
+        assertThat(pending.getStatus()).isEqualTo(Document.Status.PENDING);
+        assertThat(pending.getRemainingRequiredSteps()).isEqualTo(APPROVERS - 1);
+        assertThat(approvalHistoryRepository.findByDocumentIdOrderByActionAtDesc(document.getId())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("남은 필수 결재단계가 있으면 문서는 결재 중 상태 유지")
+    void testDocumentStaysPendingUntilLastRequiredStep() {
+        // Given
+        List<ApprovalStep> steps = createParallelLine();
+
+        // When
+        for (int i = 0; i < APPROVERS - 1; i++) {
+            approve(steps.get(i));
+        }
+
+        // Then
+        Document pending = documentRepository.findById(document.getId()).orElseThrow();
+        assertThat(pending.getStatus()).isEqualTo(Document.Status.PENDING);
+        assertThat(pending.getRemainingRequiredSteps()).isEqualTo(1);
+
+        // When
+        approve(steps.get(APPROVERS - 1));
+
+        // Then
+        assertThat(documentRepository.findById(document.getId()).orElseThrow().getStatus())
+                .isEqualTo(Document.Status.APPROVED);
+    }
+
+    @Test
+    @DisplayName("같은 문서 동시 승인/반려 시 하나만 반영")
+    void testConcurrentApproveAndRejectDocument() throws Exception {
+        // Given
+        String documentId = document.getId().toString();
+
+        // When
+        List<Callable<Object>> actions = List.of(
+                () -> documentService.approveDocument(documentId, approvers.get(0).getId().toString()),
+                () -> documentService.rejectDocument(documentId, "반려합니다", approvers.get(1).getId().toString()));
+        List<Throwable> failures = runConcurrently(actions);
+
+        // Then
+        assertThat(failures).hasSize(1);
+        assertThat(failures.get(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("가능한 상태가 아닙니다");
+
+        Document result = documentRepository.findById(document.getId()).orElseThrow();
+        assertThat(result.getStatus()).isIn(Document.Status.APPROVED, Document.Status.REJECTED);
+        assertThat(result.getLockVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("중복 상신 요청은 한 번만 전이하고 둘 다 성공")
+    void testDuplicateSubmitIsIdempotent() throws Exception {
+        // Given
+        String documentId = document.getId().toString();
+        String authorId = author.getId().toString();
+        documentService.recallDocument(documentId, authorId);
+
+        // When
+        List<Callable<Object>> actions = List.of(
+                () -> documentService.submitDocument(documentId, authorId),
+                () -> documentService.submitDocument(documentId, authorId));
+        List<Throwable> failures = runConcurrently(actions);
+
+        // Then
+        assertThat(failures).isEmpty();
+
+        Document submitted = documentRepository.findById(document.getId()).orElseThrow();
+        assertThat(submitted.getStatus()).isEqualTo(Document.Status.PENDING);
+        assertThat(submitted.getSubmittedAt()).isNotNull();
+        assertThat(submitted.getLockVersion()).isEqualTo(2L);  // 회수 1회 + 상신 1회
+    }
+
+    @Test
+    @DisplayName("회수 재요청은 성공하지만 상신한 적 없는 DRAFT 문서의 회수는 거부")
+    void testRecallReplayRequiresPriorRecall() {
+        // Given
+        String authorId = author.getId().toString();
+        Document neverSubmitted = documentRepository.save(Document.builder()
+                .title("작성 중 문서")
+                .content("상신 전")
+                .documentType(Document.Type.GENERAL)
+                .status(Document.Status.DRAFT)
+                .author(author)
+                .branch(branch)
+                .build());
+
+        try {
+            // When
+            documentService.recallDocument(document.getId().toString(), authorId);
+            documentService.recallDocument(document.getId().toString(), authorId);
+
+            // Then
+            Document recalled = documentRepository.findById(document.getId()).orElseThrow();
+            assertThat(recalled.getStatus()).isEqualTo(Document.Status.DRAFT);
+            assertThat(recalled.getRecalledAt()).isNotNull();
+            assertThat(recalled.getLockVersion()).isEqualTo(1L);
+
+            assertThatThrownBy(() -> documentService.recallDocument(neverSubmitted.getId().toString(), authorId))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("회수 가능한 상태가 아닙니다");
+        } finally {
+            documentRepository.deleteById(neverSubmitted.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("같은 사유의 반려 재요청만 성공하고 다른 사유의 반려는 거부")
+    void testRejectReplayRequiresSameReason() {
+        // Given
+        String documentId = document.getId().toString();
+        String approverId = approvers.get(0).getId().toString();
+        documentService.rejectDocument(documentId, "예산 초과", approverId);
+
+        // When
+        documentService.rejectDocument(documentId, "예산 초과", approverId);
+
+        // Then
+        assertThatThrownBy(() -> documentService.rejectDocument(documentId, "증빙 누락", approverId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("반려 가능한 상태가 아닙니다");
+
+        Document rejected = documentRepository.findById(document.getId()).orElseThrow();
+        assertThat(rejected.getStatus()).isEqualTo(Document.Status.REJECTED);
+        assertThat(rejected.getLockVersion()).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT rejection_reason FROM documents WHERE id = ?",
+                String.class, document.getId())).isEqualTo("예산 초과");
+    }
+
+    // Helper methods
+    private List<ApprovalStep> createParallelLine() {
+        List<ApprovalStepCreateRequest> stepRequests = new ArrayList<>();
+        for (int i = 0; i < APPROVERS; i++) {
+            stepRequests.add(ApprovalStepCreateRequest.builder()
+                    .stepOrder(1)
+                    .approverId(approvers.get(i).getId().toString())
+                    .isRequired(true)
+                    .build());
+        }
+
+        ApprovalLineDto approvalLine = approvalService.createApprovalLine(ApprovalLineCreateRequest.builder()
+                .name("병렬 결재선")
+                .type(ApprovalLine.ApprovalLineType.PARALLEL)
+                .documentId(document.getId().toString())
+                .approvalSteps(stepRequests)
+                .build(), author.getId().toString());
+
+        return approvalStepRepository.findByApprovalLineIdOrderByStepOrder(UUID.fromString(approvalLine.getId()));
+    }
+
+    private Object approve(ApprovalStep step) {
+        return approvalService.performApprovalAction(ApprovalActionRequest.builder()
+                .approvalStepId(step.getId().toString())
+                .action(ApprovalActionRequest.ApprovalAction.APPROVE)
+                .comments("승인합니다")
+                .build(), step.getApprover().getId().toString());
+    }
+
+    private List<Throwable> runConcurrently(List<Callable<Object>> actions) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(actions.size());
+        CountDownLatch ready = new CountDownLatch(actions.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (Callable<Object> action : actions) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return action.call();
+                }));
+            }
+            ready.await(10, TimeUnit.SECONDS);
+            start.countDown();
+
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                try {
+                    future.get(30, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                } catch (Exception e) {
+                    failures.add(e);
+                }
+            }
+            return failures;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private User createUser(String loginId) {
+        return userRepository.save(User.builder()
+                .name(loginId)
+                .loginId(loginId)
+                .email(loginId + "@brotherhood.com")
+                .passwordHash("hashedpassword")
+                .baptismalName("요한")
+                .branch(branch)
+                .isActive(true)
+                .build());
+    }
+}
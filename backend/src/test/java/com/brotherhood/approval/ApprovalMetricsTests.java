@@ -0,0 +1,112 @@
+package com.brotherhood.approval;
+
+import com.brotherhood.approval.controller.MetricsController;
+import com.brotherhood.approval.metrics.ApprovalMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 결재 업무 메트릭 테스트
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ApprovalMetricsTests {
+
+    @Autowired
+    private ApprovalMetrics approvalMetrics;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MetricsController metricsController;
+
+    @Test
+    @DisplayName("상태 전이는 from/to 태그별 카운터에 건수만큼 누적")
+    void testTransitionsCounter() {
+        // Given
+        double before = transitionCount("PENDING", "DRAFT");
+
+        // When
+        approvalMetrics.recordTransition("PENDING", "DRAFT");
+        approvalMetrics.recordTransitions("PENDING", "DRAFT", 4);
+
+        // Then
+        assertThat(transitionCount("PENDING", "DRAFT")).isEqualTo(before + 5);
+    }
+
+    @Test
+    @DisplayName("감사 로그 저장 중에는 in_flight 게이지가 올라가고 끝나면 내려감")
+    void testAuditInFlightGauge() {
+        // Given
+        Timer writeTimer = meterRegistry.get("approval.audit.write.duration").timer();
+        long writesBefore = writeTimer.count();
+        AtomicReference<Double> duringWrite = new AtomicReference<>();
+
+        // When
+        approvalMetrics.recordAuditWrite(() -> duringWrite.set(auditInFlight()));
+
+        // Then
+        assertThat(duringWrite.get()).isEqualTo(1.0);
+        assertThat(auditInFlight()).isZero();
+        assertThat(writeTimer.count()).isEqualTo(writesBefore + 1);
+    }
+
+    @Test
+    @DisplayName("결재 대기함 조회 시간은 query 태그별 타이머로 기록하고 결과를 그대로 반환")
+    void testInboxQueryTimer() {
+        // When
+        String result = approvalMetrics.timeInboxQuery("metrics_test", () -> "조회 결과");
+
+        // Then
+        assertThat(result).isEqualTo("조회 결과");
+        assertThat(meterRegistry.get("approval.inbox.query.duration").tag("query", "metrics_test").timer().count())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("Prometheus 출력에 결재 메트릭과 JVM 메트릭 포함")
+    void testPrometheusScrapeIncludesMeters() {
+        // Given
+        approvalMetrics.recordTransition("DRAFT", "PENDING");
+
+        // When
+        ResponseEntity<String> response = metricsController.scrape(null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody())
+                .contains("approval_document_transitions_total{from=\"DRAFT\",to=\"PENDING\"")
+                .contains("approval_audit_in_flight")
+                .contains("jvm_memory_used_bytes")
+                .contains("approval_http_request_queries");
+    }
+
+    // Helper methods
+    private double transitionCount(String from, String to) {
+        Counter counter = meterRegistry.find("approval.document.transitions").tags("from", from, "to", to).counter();
+        return counter != null ? counter.count() : 0.0;
+    }
+
+    private double auditInFlight() {
+        return meterRegistry.get("approval.audit.in_flight").gauge().value();
+    }
+}
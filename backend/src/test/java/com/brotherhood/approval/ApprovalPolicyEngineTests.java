@@ -0,0 +1,319 @@
+package com.brotherhood.approval;
+
+import com.brotherhood.approval.dto.approval.ApprovalLineCreateRequest;
+import com.brotherhood.approval.dto.approval.ApprovalLineDto;
+import com.brotherhood.approval.dto.policy.PolicyPreviewRequest;
+import com.brotherhood.approval.dto.policy.PolicyPreviewResponse;
+import com.brotherhood.approval.entity.ApprovalLine;
+import com.brotherhood.approval.entity.ApprovalStep;
+import com.brotherhood.approval.entity.Branch;
+import com.brotherhood.approval.entity.Document;
+import com.brotherhood.approval.entity.Policy;
+import com.brotherhood.approval.entity.Role;
+import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.entity.UserRole;
+import com.brotherhood.approval.policy.ApprovalPolicyEngine;
+import com.brotherhood.approval.policy.CompiledApprovalPolicy;
+import com.brotherhood.approval.policy.PolicyCondition;
+import com.brotherhood.approval.policy.PolicyExpressionParser;
+import com.brotherhood.approval.repository.ApprovalStepRepository;
+import com.brotherhood.approval.repository.BranchRepository;
+import com.brotherhood.approval.repository.DocumentRepository;
+import com.brotherhood.approval.repository.PolicyRepository;
+import com.brotherhood.approval.repository.RoleRepository;
+import com.brotherhood.approval.repository.UserRepository;
+import com.brotherhood.approval.repository.UserRoleRepository;
+import com.brotherhood.approval.service.ApprovalPolicyService;
+import com.brotherhood.approval.service.ApprovalService;
+import com.brotherhood.approval.service.ApproverResolver;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 결재선 정책 엔진 테스트 (조건식 파서 + policies 테이블 정책 평가)
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ApprovalPolicyEngineTests {
+
+    private static final String BUDGET_POLICY = """
+            {
+              "priority": 10,
+              "match": "documentType == 'BUDGET' && amount > 1000000",
+              "steps": [
+                { "order": 1, "role": "MANAGER" },
+                { "order": 2, "role": "DIRECTOR" },
+                { "order": 3, "role": "ADMIN", "branch": "ENGINE_HQ", "condition": "amount >= 5000000" }
+              ]
+            }
+            """;
+
+    @Autowired
+    private ApprovalPolicyService approvalPolicyService;
+
+    @Autowired
+    private ApproverResolver approverResolver;
+
+    @Autowired
+    private PolicyRepository policyRepository;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserRoleRepository userRoleRepository;
+
+    @Autowired
+    private ApprovalService approvalService;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private ApprovalStepRepository approvalStepRepository;
+
+    private Branch hqBranch;
+    private Branch childBranch;
+    private User childManager;
+    private User hqDirector;
+    private User hqAdmin;
+
+    @BeforeEach
+    void setUp() {
+        hqBranch = branchRepository.save(Branch.builder().code("ENGINE_HQ").name("정책 본원").isActive(true).build());
+        childBranch = branchRepository.save(Branch.builder().code("ENGINE_CHILD").name("정책 지사").parent(hqBranch).isActive(true).build());
+
+        childManager = createUser("engine_manager", childBranch, "MANAGER");
+        hqDirector = createUser("engine_director", hqBranch, "DIRECTOR");
+        hqAdmin = createUser("engine_admin", hqBranch, "ADMIN");
+
+        policyRepository.save(Policy.builder()
+                .name("ENGINE_BUDGET")
+                .policyType(Policy.PolicyType.APPROVAL_LINE.name())
+                .policyData(BUDGET_POLICY)
+                .createdBy(hqAdmin)
+                .isActive(true)
+                .build());
+        policyRepository.flush();
+
+        // 테스트 트랜잭션은 커밋되지 않으므로 직접 다시 적재
+        approverResolver.rebuild();
+        approvalPolicyService.refreshPolicies();
+    }
+
+    @Test
+    @DisplayName("조건식 파싱 및 평가")
+    void testExpressionEvaluation() {
+        // Given
+        PolicyCondition condition = PolicyExpressionParser.compile(
+                "documentType == 'BUDGET' AND (amount > 1000000 OR securityLevel IN ['CONFIDENTIAL', 'SECRET']) && !(priority = 'LOW')");
+
+        // When & Then
+        assertThat(condition.test(Map.of("documentType", "BUDGET", "amount", 1_500_000, "priority", "NORMAL"))).isTrue();
+        assertThat(condition.test(Map.of("documentType", "BUDGET", "amount", "1000000.0", "securityLevel", "SECRET", "priority", "HIGH"))).isTrue();
+        assertThat(condition.test(Map.of("documentType", "BUDGET", "amount", 1_500_000, "priority", "LOW"))).isFalse();
+        assertThat(condition.test(Map.of("documentType", "BUDGET", "priority", "NORMAL"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("잘못된 조건식 검증")
+    void testInvalidExpression() {
+        assertThatThrownBy(() -> PolicyExpressionParser.compile("invalid_condition_syntax"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잘못된 조건식입니다");
+        assertThatThrownBy(() -> PolicyExpressionParser.compile("amount > 'many'"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잘못된 조건식입니다");
+        assertThatThrownBy(() -> PolicyExpressionParser.compile("(amount > 1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잘못된 조건식입니다");
+    }
+
+    @Test
+    @DisplayName("정책 일치 시 단계 조건과 지사 지정에 따라 결재선 계산")
+    void testPreviewMatchingPolicy() {
+        // Given
+        PolicyPreviewRequest request = PolicyPreviewRequest.builder()
+                .documents(List.of(
+                        document("small", "BUDGET", 500_000),
+                        document("large", "BUDGET", 2_000_000),
+                        document("huge", "BUDGET", 9_000_000)))
+                .build();
+
+        // When
+        PolicyPreviewResponse response = approvalPolicyService.preview(request);
+
+        // Then
+        List<PolicyPreviewResponse.Result> results = response.getResults();
+        assertThat(results).hasSize(3);
+
+        assertThat(results.get(0).getFallback()).isTrue();
+        assertThat(results.get(0).getPolicyName()).isEqualTo("SEQUENTIAL");
+
+        assertThat(results.get(1).getPolicyName()).isEqualTo("ENGINE_BUDGET");
+        assertThat(results.get(1).getSteps()).extracting(PolicyPreviewResponse.Step::getRoleName)
+                .containsExactly("MANAGER", "DIRECTOR");
+        assertThat(results.get(1).getSteps().get(0).getApproverId()).isEqualTo(childManager.getId().toString());
+
+        assertThat(results.get(2).getSteps()).extracting(PolicyPreviewResponse.Step::getRoleName)
+                .containsExactly("MANAGER", "DIRECTOR", "ADMIN");
+        assertThat(results.get(2).getSteps().get(2).getApproverId()).isEqualTo(hqAdmin.getId().toString());
+    }
+
+    @Test
+    @DisplayName("결재선 일괄 미리보기 (1,000건)")
+    void testBatchPreview() {
+        // Given
+        List<PolicyPreviewRequest.DocumentAttributes> documents = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            documents.add(document("doc-" + i, i % 2 == 0 ? "BUDGET" : "GENERAL", i * 10_000L));
+        }
+
+        // When
+        PolicyPreviewResponse response = approvalPolicyService.preview(
+                PolicyPreviewRequest.builder().documents(documents).build());
+
+        // Then
+        assertThat(response.getResults()).hasSize(1000);
+        assertThat(response.getResults()).filteredOn(result -> !result.getFallback())
+                .allSatisfy(result -> assertThat(result.getPolicyName()).isEqualTo("ENGINE_BUDGET"))
+                .isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("갱신 주기가 지난 시점에 동시 요청이 몰려도 정책은 한 번만 다시 조회")
+    void testConcurrentStaleReadsRefreshOnce() throws Exception {
+        // Given
+        PolicyRepository slowRepository = mock(PolicyRepository.class);
+        when(slowRepository.findValidPoliciesByType(Policy.PolicyType.APPROVAL_LINE.name())).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return List.of();
+        });
+        ApprovalPolicyEngine engine = new ApprovalPolicyEngine(slowRepository, new ObjectMapper());
+        ReflectionTestUtils.setField(engine, "refreshSeconds", 60L);
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<CompiledApprovalPolicy>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return engine.getPolicies();
+                }));
+            }
+
+            // When
+            start.countDown();
+            for (Future<List<CompiledApprovalPolicy>> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        verify(slowRepository, times(1)).findValidPoliciesByType(Policy.PolicyType.APPROVAL_LINE.name());
+    }
+
+    @Test
+    @DisplayName("결재단계 없이 결재선을 만들면 문서에 일치하는 정책으로 결재단계 생성")
+    void testApprovalLineCreatedFromPolicy() {
+        // Given
+        Document document = documentRepository.save(Document.builder()
+                .title("정책 결재선 문서")
+                .content("본문")
+                .documentType(Document.Type.GENERAL)
+                .status(Document.Status.DRAFT)
+                .author(childManager)
+                .branch(childBranch)
+                .build());
+
+        // When
+        ApprovalLineDto approvalLine = approvalService.createApprovalLine(ApprovalLineCreateRequest.builder()
+                .name("정책 결재선")
+                .type(ApprovalLine.ApprovalLineType.SEQUENTIAL)
+                .documentId(document.getId().toString())
+                .approvalSteps(List.of())
+                .build(), childManager.getId().toString());
+
+        // Then - 기본(순차) 정책: 문서 지사 MANAGER, 상위 지사 DIRECTOR
+        List<ApprovalStep> steps = approvalStepRepository.findByApprovalLineIdOrderByStepOrder(
+                UUID.fromString(approvalLine.getId()));
+        assertThat(steps).extracting(ApprovalStep::getStepOrder).containsExactly(1, 2);
+        assertThat(steps.get(0).getApprover().getId()).isEqualTo(childManager.getId());
+        assertThat(steps.get(1).getApprover().getId()).isEqualTo(hqDirector.getId());
+    }
+
+    // Helper methods
+    private PolicyPreviewRequest.DocumentAttributes document(String id, String documentType, long amount) {
+        return PolicyPreviewRequest.DocumentAttributes.builder()
+                .documentId(id)
+                .documentType(documentType)
+                .securityLevel("GENERAL")
+                .priority("NORMAL")
+                .branchId(childBranch.getId().toString())
+                .attributes(Map.of("amount", amount))
+                .build();
+    }
+
+    private User createUser(String loginId, Branch branch, String roleName) {
+        Role role = roleRepository.findByName(roleName)
+                .orElseGet(() -> roleRepository.save(Role.builder().name(roleName).isActive(true).build()));
+
+        User user = userRepository.save(User.builder()
+                .name(loginId)
+                .loginId(loginId)
+                .email(loginId + "@brotherhood.com")
+                .passwordHash("hashedpassword")
+                .baptismalName("요한")
+                .branch(branch)
+                .isActive(true)
+                .build());
+
+        userRoleRepository.save(UserRole.builder()
+                .user(user)
+                .role(role)
+                .branch(branch)
+                .isActive(true)
+                .grantedAt(LocalDateTime.now())
+                .build());
+        return user;
+    }
+}
@@ -0,0 +1,255 @@
+package com.brotherhood.approval;
+
+import com.brotherhood.approval.entity.ApprovalStep;
+import com.brotherhood.approval.entity.Branch;
+import com.brotherhood.approval.entity.Document;
+import com.brotherhood.approval.entity.Role;
+import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.entity.UserRole;
+import com.brotherhood.approval.event.UserChangedEvent;
+import com.brotherhood.approval.repository.BranchRepository;
+import com.brotherhood.approval.repository.RoleRepository;
+import com.brotherhood.approval.repository.UserRepository;
+import com.brotherhood.approval.repository.UserRoleRepository;
+import com.brotherhood.approval.service.ApprovalPolicyService;
+import com.brotherhood.approval.service.ApproverResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.brotherhood.approval.QueryCountAssertions.assertMaxQueries;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 결재자 해석 테이블 테스트
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ApproverResolverTests {
+
+    @Autowired
+    private ApproverResolver approverResolver;
+
+    @Autowired
+    private ApprovalPolicyService approvalPolicyService;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserRoleRepository userRoleRepository;
+
+    private Branch hqBranch;
+    private Branch childBranch;
+    private User seniorManager;
+    private User hqDirector;
+    private User childManager;
+
+    @BeforeEach
+    void setUp() {
+        hqBranch = createBranch("RESOLVER_HQ", "해석 본원", null);
+        childBranch = createBranch("RESOLVER_CHILD", "해석 지사", hqBranch);
+
+        LocalDateTime now = LocalDateTime.now();
+        createUser("resolver_junior", hqBranch, "MANAGER", now.minusDays(1));
+        seniorManager = createUser("resolver_senior", hqBranch, "MANAGER", now.minusDays(30));
+        hqDirector = createUser("resolver_director", hqBranch, "DIRECTOR", now.minusDays(10));
+        childManager = createUser("resolver_child_manager", childBranch, "MANAGER", now.minusDays(5));
+
+        userRoleRepository.flush();
+        // 테스트 트랜잭션은 커밋되지 않아 변경 이벤트가 처리되지 않으므로 직접 재구성
+        approverResolver.rebuild();
+    }
+
+    @Test
+    @DisplayName("같은 역할이 여러 명이면 역할 부여가 가장 오래된 사용자 선택")
+    void testDeterministicTieBreaking() {
+        // When
+        User resolved = approverResolver.resolve(hqBranch, "MANAGER");
+
+        // Then
+        assertThat(resolved.getId()).isEqualTo(seniorManager.getId());
+    }
+
+    @Test
+    @DisplayName("지사에 담당자가 없으면 상위 지사 담당자로 대체")
+    void testParentBranchFallback() {
+        // When
+        User manager = approverResolver.resolve(childBranch, "MANAGER");
+        User director = approverResolver.resolve(childBranch, "DIRECTOR");
+
+        // Then
+        assertThat(manager.getId()).isEqualTo(childManager.getId());
+        assertThat(director.getId()).isEqualTo(hqDirector.getId());
+        assertThat(approverResolver.resolve(childBranch, "SUPER_ADMIN_RESOLVER_TEST")).isNull();
+    }
+
+    @Test
+    @DisplayName("결재선 정책 단계 생성 시 쿼리 없음")
+    void testPolicyStepGenerationWithoutQueries() {
+        // Given
+        Document document = Document.builder()
+                .branch(childBranch)
+                .documentType("GENERAL")
+                .build();
+
+        // When
+        List<ApprovalStep> steps = assertMaxQueries(0,
+                () -> approvalPolicyService.createApprovalSteps(document, "SEQUENTIAL", null));
+
+        // Then
+        assertThat(steps).hasSize(2);
+        assertThat(steps.get(0).getApprover().getId()).isEqualTo(childManager.getId());
+        assertThat(steps.get(1).getApprover().getId()).isEqualTo(hqDirector.getId());
+    }
+
+    @Test
+    @DisplayName("비활성 사용자, 비활성 역할 부여, 비활성 역할은 결재자로 해석하지 않음")
+    void testInactiveUsersAndRolesExcluded() {
+        // Given - 가장 오래된 부여지만 비활성인 후보들
+        LocalDateTime longAgo = LocalDateTime.now().minusYears(1);
+        createUser("resolver_inactive_user", hqBranch, "MANAGER", longAgo, false, true);
+        createUser("resolver_revoked_grant", hqBranch, "MANAGER", longAgo, true, false);
+        roleRepository.save(Role.builder()
+                .name("RESOLVER_RETIRED")
+                .description("폐지된 역할")
+                .isActive(false)
+                .build());
+        createUser("resolver_retired_role", hqBranch, "RESOLVER_RETIRED", longAgo, true, true);
+        userRoleRepository.flush();
+
+        // When
+        approverResolver.rebuild();
+
+        // Then
+        assertThat(approverResolver.resolve(hqBranch, "MANAGER").getId()).isEqualTo(seniorManager.getId());
+        assertThat(approverResolver.resolve(hqBranch, "RESOLVER_RETIRED")).isNull();
+    }
+
+    @Test
+    @DisplayName("사용자 변경 이벤트는 해당 사용자 후보만 한 번의 조회로 다시 반영")
+    void testUserChangeAppliesOnlyThatUser() {
+        // Given - 새 부여는 기존 담당자보다 늦으므로 선택되지 않음
+        User deputy = createUser("resolver_deputy", hqBranch, "DIRECTOR", LocalDateTime.now().minusDays(1));
+        userRoleRepository.flush();
+
+        // When
+        assertMaxQueries(1, () -> applyUserChange(deputy, UserChangedEvent.ChangeType.ROLES_CHANGED));
+
+        // Then
+        assertThat(approverResolver.resolve(hqBranch, "DIRECTOR").getId()).isEqualTo(hqDirector.getId());
+
+        // When - 기존 담당자의 부여 회수
+        deactivateGrant(hqDirector, "DIRECTOR");
+        applyUserChange(hqDirector, UserChangedEvent.ChangeType.ROLES_CHANGED);
+
+        // Then - 다음 후보로 대체되고 하위 지사도 같은 결재자로 해석
+        assertThat(approverResolver.resolve(hqBranch, "DIRECTOR").getId()).isEqualTo(deputy.getId());
+        assertThat(approverResolver.resolve(childBranch, "DIRECTOR").getId()).isEqualTo(deputy.getId());
+
+        // When - 마지막 담당자까지 회수
+        deactivateGrant(deputy, "DIRECTOR");
+        applyUserChange(deputy, UserChangedEvent.ChangeType.ROLES_CHANGED);
+
+        // Then
+        assertThat(approverResolver.resolve(hqBranch, "DIRECTOR")).isNull();
+    }
+
+    @Test
+    @DisplayName("지사 이동과 비활성화는 이전 지사 후보에서 빠지고 새 지사 후보로 반영")
+    void testBranchMoveAndDeactivationApplied() {
+        // When
+        childManager.setBranch(hqBranch);
+        applyUserChange(childManager, UserChangedEvent.ChangeType.ROLES_CHANGED);
+
+        // Then - 하위 지사는 상위 지사 담당자로 대체, 본원은 부여가 더 오래된 담당자 유지
+        assertThat(approverResolver.resolve(childBranch, "MANAGER").getId()).isEqualTo(seniorManager.getId());
+        assertThat(approverResolver.resolve(hqBranch, "MANAGER").getId()).isEqualTo(seniorManager.getId());
+
+        // When - 본원 담당자 비활성화
+        seniorManager.setIsActive(false);
+        applyUserChange(seniorManager, UserChangedEvent.ChangeType.STATUS_CHANGED);
+
+        // Then - 다음으로 오래된 부여인 이동한 사용자가 선택
+        assertThat(approverResolver.resolve(hqBranch, "MANAGER").getId()).isEqualTo(childManager.getId());
+    }
+
+    // Helper methods
+    /**
+     * 변경 사항을 반영한 뒤 이벤트를 직접 전달
+     * (테스트 트랜잭션은 커밋되지 않아 커밋 이후 리스너가 호출되지 않는다)
+     */
+    private void applyUserChange(User user, UserChangedEvent.ChangeType changeType) {
+        userRepository.save(user);
+        userRepository.flush();
+        approverResolver.onUserChanged(UserChangedEvent.of(user.getId(), changeType));
+    }
+
+    private void deactivateGrant(User user, String roleName) {
+        Role role = roleRepository.findByName(roleName).orElseThrow();
+        UserRole userRole = userRoleRepository.findByUserIdAndRoleId(user.getId(), role.getId()).orElseThrow();
+        userRole.setIsActive(false);
+        userRoleRepository.saveAndFlush(userRole);
+    }
+
+    private Branch createBranch(String code, String name, Branch parent) {
+        Branch branch = Branch.builder()
+                .code(code)
+                .name(name)
+                .parent(parent)
+                .isActive(true)
+                .build();
+        return branchRepository.save(branch);
+    }
+
+    private User createUser(String loginId, Branch branch, String roleName, LocalDateTime grantedAt) {
+        return createUser(loginId, branch, roleName, grantedAt, true, true);
+    }
+
+    private User createUser(String loginId, Branch branch, String roleName, LocalDateTime grantedAt,
+                            boolean userActive, boolean grantActive) {
+        Role role = roleRepository.findByName(roleName)
+                .orElseGet(() -> roleRepository.save(Role.builder()
+                        .name(roleName)
+                        .description(roleName + " 역할")
+                        .isActive(true)
+                        .build()));
+
+        User user = userRepository.save(User.builder()
+                .name(loginId)
+                .loginId(loginId)
+                .email(loginId + "@brotherhood.com")
+                .passwordHash("hashedpassword")
+                .baptismalName("요한")
+                .branch(branch)
+                .isActive(userActive)
+                .build());
+
+        userRoleRepository.save(UserRole.builder()
+                .user(user)
+                .role(role)
+                .branch(branch)
+                .isActive(grantActive)
+                .grantedAt(grantedAt)
+                .build());
+        return user;
+    }
+}
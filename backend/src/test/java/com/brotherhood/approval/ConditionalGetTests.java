@@ -0,0 +1,191 @@
+package com.brotherhood.approval;
+
+import com.brotherhood.approval.controller.ApprovalController;
+import com.brotherhood.approval.controller.DocumentController;
+import com.brotherhood.approval.dto.approval.ApprovalStepCreateRequest;
+import com.brotherhood.approval.entity.ApprovalLine;
+import com.brotherhood.approval.entity.Branch;
+import com.brotherhood.approval.entity.Document;
+import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.repository.ApprovalLineRepository;
+import com.brotherhood.approval.repository.BranchRepository;
+import com.brotherhood.approval.repository.DocumentRepository;
+import com.brotherhood.approval.repository.UserRepository;
+import com.brotherhood.approval.service.ApprovalService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.UUID;
+
+import static com.brotherhood.approval.QueryCountAssertions.assertMaxQueries;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 문서/결재선/결재 이력 조건부 GET(ETag) 테스트
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ConditionalGetTests {
+
+    @Autowired
+    private DocumentController documentController;
+
+    @Autowired
+    private ApprovalController approvalController;
+
+    @Autowired
+    private ApprovalService approvalService;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private ApprovalLineRepository approvalLineRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Branch branch;
+    private User author;
+    private User approver;
+    private Document document;
+    private ApprovalLine approvalLine;
+
+    @BeforeEach
+    void setUp() {
+        branch = branchRepository.save(Branch.builder().code("ETAG_TEST").name("ETag 지사").isActive(true).build());
+        author = createUser("etag_author");
+        approver = createUser("etag_approver");
+
+        document = documentRepository.save(Document.builder()
+                .title("ETag 문서")
+                .content("<p>본문</p>")
+                .documentType(Document.Type.GENERAL)
+                .status(Document.Status.PENDING)
+                .author(author)
+                .branch(branch)
+                .build());
+        approvalLine = approvalLineRepository.save(ApprovalLine.builder()
+                .name("ETag 결재선")
+                .createdBy(author)
+                .document(document)
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 일치하면 DTO를 만들지 않고 버전 조회 한 번 후 304")
+    void testDocumentNotModified() {
+        // Given
+        String documentId = document.getId().toString();
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        ResponseEntity<?> initial = documentController.getDocumentById(documentId, webRequest(null, first));
+        String eTag = first.getHeader(HttpHeaders.ETAG);
+
+        // When
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        ResponseEntity<?> conditional = assertMaxQueries(1,
+                () -> documentController.getDocumentById(documentId, webRequest(eTag, second)));
+
+        // Then
+        assertThat(initial.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(eTag).startsWith("W/\"");
+        assertThat(first.getHeader(HttpHeaders.LAST_MODIFIED)).isNotNull();
+        assertThat(conditional.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(conditional.getBody()).isNull();
+        assertThat(second.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+    }
+
+    @Test
+    @DisplayName("결재단계가 추가되면 ETag가 바뀌어 결재선/이력을 다시 조회")
+    void testApprovalChangeInvalidatesETag() {
+        // Given
+        String documentId = document.getId().toString();
+        MockHttpServletResponse before = new MockHttpServletResponse();
+        approvalController.getApprovalLinesByDocument(documentId, webRequest(null, before));
+        String eTag = before.getHeader(HttpHeaders.ETAG);
+
+        // When
+        ApprovalStepCreateRequest request = new ApprovalStepCreateRequest();
+        request.setApprovalLineId(approvalLine.getId().toString());
+        request.setApproverId(approver.getId().toString());
+        request.setStepOrder(1);
+        approvalService.addApprovalStep(request, author.getId().toString());
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        MockHttpServletResponse after = new MockHttpServletResponse();
+        ResponseEntity<?> lines = approvalController.getApprovalLinesByDocument(documentId, webRequest(eTag, after));
+        assertThat(lines.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(after.getHeader(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+
+        ResponseEntity<?> history = approvalController.getApprovalHistoryByDocument(documentId,
+                webRequest(after.getHeader(HttpHeaders.ETAG), new MockHttpServletResponse()));
+        assertThat(history.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(documentRepository.findById(document.getId()).orElseThrow().getChangeCounter()).isPositive();
+    }
+
+    @Test
+    @DisplayName("없는 문서는 문서 조회 404, 결재 이력 조회는 기존처럼 빈 목록")
+    void testMissingDocument() {
+        // Given
+        String missingId = UUID.randomUUID().toString();
+
+        // When
+        ResponseEntity<?> document = documentController.getDocumentById(missingId,
+                webRequest("W/\"0-0\"", new MockHttpServletResponse()));
+        ResponseEntity<?> history = approvalController.getApprovalHistoryByDocument(missingId,
+                webRequest("W/\"0-0\"", new MockHttpServletResponse()));
+
+        // Then
+        assertThat(document.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(history.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    // Helper methods
+    private static ServletWebRequest webRequest(String ifNoneMatch, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/documents");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, response);
+    }
+
+    private User createUser(String loginId) {
+        return userRepository.save(User.builder()
+                .name(loginId)
+                .loginId(loginId)
+                .email(loginId + "@brotherhood.com")
+                .passwordHash("hashedpassword")
+                .baptismalName("요한")
+                .branch(branch)
+                .isActive(true)
+                .build());
+    }
+}
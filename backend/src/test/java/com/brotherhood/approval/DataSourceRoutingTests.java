@@ -0,0 +1,97 @@
+package com.brotherhood.approval;
+
+import com.brotherhood.approval.config.ReadWriteRoutingDataSource;
+import com.brotherhood.approval.config.ReadWriteRoutingDataSource.Route;
+import com.brotherhood.approval.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 읽기/쓰기 데이터소스 라우팅 테스트
+ * 
+ * 같은 H2 DB를 원본/복제본 두 풀로 연결하고 (별칭), 트랜잭션 종류별로 어느 풀의 커넥션이 사용되는지 확인한다.
+ * 
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@SpringBootTest(properties = {
+        "datasource.replica.enabled=true",
+        "datasource.pool.minimum-idle=1",
+        "datasource.replica.minimum-idle=1"
+})
+@ActiveProfiles("test")
+class DataSourceRoutingTests {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private ReadWriteRoutingDataSource routingDataSource;
+    private HikariDataSource primaryPool;
+    private HikariDataSource replicaPool;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        routingDataSource = dataSource.unwrap(ReadWriteRoutingDataSource.class);
+        primaryPool = (HikariDataSource) routingDataSource.getResolvedDataSources().get(Route.PRIMARY);
+        replicaPool = (HikariDataSource) routingDataSource.getResolvedDataSources().get(Route.REPLICA);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본 풀 사용")
+    void testReadOnlyTransactionUsesReplica() {
+        // Given
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // When & Then
+        readOnly.executeWithoutResult(status -> {
+            userRepository.count();
+
+            assertThat(routingDataSource.currentRoute()).isEqualTo(Route.REPLICA);
+            assertThat(replicaPool.getHikariPoolMXBean().getActiveConnections()).isGreaterThanOrEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("읽기/쓰기 트랜잭션은 원본 풀 사용")
+    void testReadWriteTransactionUsesPrimary() {
+        // Given
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        // When & Then
+        readWrite.executeWithoutResult(status -> {
+            userRepository.count();
+
+            assertThat(routingDataSource.currentRoute()).isEqualTo(Route.PRIMARY);
+            assertThat(primaryPool.getHikariPoolMXBean().getActiveConnections()).isGreaterThanOrEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("풀 설정 외부화 및 JDBC4 검증 사용")
+    void testPoolSettings() {
+        assertThat(primaryPool.getPoolName()).isEqualTo("primary");
+        assertThat(replicaPool.getPoolName()).isEqualTo("replica");
+        assertThat(replicaPool.isReadOnly()).isTrue();
+        assertThat(primaryPool.getConnectionTestQuery()).isNull();
+        assertThat(primaryPool.getMinimumIdle()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,243 @@
+package com.brotherhood.approval;
+
+import com.brotherhood.approval.dto.comment.CommentDto;
+import com.brotherhood.approval.dto.document.DocumentBundleDto;
+import com.brotherhood.approval.entity.ApprovalHistory;
+import com.brotherhood.approval.entity.ApprovalLine;
+import com.brotherhood.approval.entity.ApprovalStep;
+import com.brotherhood.approval.entity.Attachment;
+import com.brotherhood.approval.entity.Branch;
+import com.brotherhood.approval.entity.Comment;
+import com.brotherhood.approval.entity.Document;
+import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.repository.ApprovalHistoryRepository;
+import com.brotherhood.approval.repository.ApprovalLineRepository;
+import com.brotherhood.approval.repository.ApprovalStepRepository;
+import com.brotherhood.approval.repository.AttachmentRepository;
+import com.brotherhood.approval.repository.BranchRepository;
+import com.brotherhood.approval.repository.CommentRepository;
+import com.brotherhood.approval.repository.DocumentRepository;
+import com.brotherhood.approval.repository.UserRepository;
+import com.brotherhood.approval.service.DocumentBundleService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.brotherhood.approval.QueryCountAssertions.assertMaxQueries;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 문서 상세 묶음 조회 테스트
+ *
+ * 항목별 조회가 별도 스레드의 트랜잭션에서 실행되므로 테스트 트랜잭션을 사용하지 않고 직접 정리한다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DocumentBundleTests {
+
+    private static final int STEPS = 5;
+
+    @Autowired
+    private DocumentBundleService documentBundleService;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private ApprovalLineRepository approvalLineRepository;
+
+    @Autowired
+    private ApprovalStepRepository approvalStepRepository;
+
+    @Autowired
+    private ApprovalHistoryRepository approvalHistoryRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+    private Branch branch;
+    private User author;
+    private Document document;
+
+    @BeforeEach
+    void setUp() {
+        branch = branchRepository.save(Branch.builder().code("BUNDLE_" + suffix).name("묶음 지사").isActive(true).build());
+        author = createUser("bundle_author_" + suffix);
+
+        document = documentRepository.save(Document.builder()
+                .title("묶음 문서")
+                .content("<p>본문</p>")
+                .documentType(Document.Type.GENERAL)
+                .status(Document.Status.PENDING)
+                .author(author)
+                .branch(branch)
+                .build());
+        ApprovalLine approvalLine = approvalLineRepository.save(ApprovalLine.builder()
+                .name("묶음 결재선")
+                .createdBy(author)
+                .document(document)
+                .build());
+
+        for (int i = STEPS; i >= 1; i--) {
+            User approver = createUser("bundle_approver" + i + "_" + suffix);
+            ApprovalStep step = approvalStepRepository.save(ApprovalStep.builder()
+                    .approvalLine(approvalLine)
+                    .stepOrder(i)
+                    .approver(approver)
+                    .build());
+            approvalHistoryRepository.save(ApprovalHistory.builder()
+                    .action("APPROVE")
+                    .documentId(document.getId())
+                    .approvalStepId(step.getId())
+                    .approverId(approver.getId())
+                    .actionAt(LocalDateTime.now())
+                    .build());
+            attachmentRepository.save(Attachment.builder()
+                    .filename("file" + i + ".pdf")
+                    .originalFilename("file" + i + ".pdf")
+                    .storedFilename("stored-" + suffix + "-" + i + ".pdf")
+                    .filePath("/tmp/stored-" + suffix + "-" + i + ".pdf")
+                    .fileSize(1024L * i)
+                    .mimeType("application/pdf")
+                    .checksum("0".repeat(64))
+                    .document(document)
+                    .uploadedBy(approver)
+                    .uploadedAt(LocalDateTime.now())
+                    .build());
+            Comment comment = commentRepository.save(Comment.builder()
+                    .document(document)
+                    .author(approver)
+                    .content("의견 " + i)
+                    .build());
+            commentRepository.save(Comment.builder()
+                    .document(document)
+                    .author(author)
+                    .parentComment(comment)
+                    .content("답글 " + i)
+                    .build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        UUID documentId = document.getId();
+        jdbcTemplate.update("DELETE FROM approval_histories WHERE document_id = ?", documentId);
+        jdbcTemplate.update("DELETE FROM comments WHERE document_id = ? AND parent_comment_id IS NOT NULL", documentId);
+        jdbcTemplate.update("DELETE FROM comments WHERE document_id = ?", documentId);
+        jdbcTemplate.update("DELETE FROM attachments WHERE document_id = ?", documentId);
+        jdbcTemplate.update("DELETE FROM approval_steps WHERE approval_line_id IN " +
+                "(SELECT id FROM approval_lines WHERE document_id = ?)", documentId);
+        jdbcTemplate.update("DELETE FROM approval_lines WHERE document_id = ?", documentId);
+        jdbcTemplate.update("DELETE FROM documents WHERE id = ?", documentId);
+        jdbcTemplate.update("DELETE FROM users WHERE branch_id = ?", branch.getId());
+        jdbcTemplate.update("DELETE FROM branches WHERE id = ?", branch.getId());
+    }
+
+    @Test
+    @DisplayName("묶음 조회는 문서와 결재선/이력/첨부/댓글을 한 응답으로 반환")
+    void testBundleContainsAllParts() {
+        // When
+        Optional<DocumentBundleDto> result = documentBundleService.getBundle(document.getId().toString(), null);
+
+        // Then
+        assertThat(result).isPresent();
+        DocumentBundleDto bundle = result.get();
+        assertThat(bundle.getDocument().getTitle()).isEqualTo("묶음 문서");
+        assertThat(bundle.getDocument().getContent()).isEqualTo("<p>본문</p>");
+        assertThat(bundle.getApprovalLines()).hasSize(1);
+        assertThat(bundle.getApprovalLines().get(0).getApprovalSteps())
+                .extracting("stepOrder")
+                .containsExactly(1, 2, 3, 4, 5);
+        assertThat(bundle.getApprovalHistory()).hasSize(STEPS).allSatisfy(history -> {
+            assertThat(history.getDocumentTitle()).isEqualTo("묶음 문서");
+            assertThat(history.getApproverName()).startsWith("bundle_approver");
+        });
+        assertThat(bundle.getAttachments()).hasSize(STEPS)
+                .allSatisfy(attachment -> assertThat(attachment.getUploadedByName()).startsWith("bundle_approver"));
+        assertThat(bundle.getComments()).hasSize(STEPS).allSatisfy(comment -> {
+            assertThat(comment.getParentCommentId()).isNull();
+            assertThat(comment.getReplies()).extracting(CommentDto::getAuthorName)
+                    .containsExactly("bundle_author_" + suffix);
+        });
+    }
+
+    @Test
+    @DisplayName("fields로 선택하지 않은 항목은 조회하지 않음")
+    void testBundleFieldSelection() {
+        // When
+        DocumentBundleDto bundle = documentBundleService
+                .getBundle(document.getId().toString(), List.of("attachments", "comments"))
+                .orElseThrow();
+
+        // Then
+        assertThat(bundle.getDocument()).isNotNull();
+        assertThat(bundle.getAttachments()).hasSize(STEPS);
+        assertThat(bundle.getComments()).hasSize(STEPS);
+        assertThat(bundle.getApprovalLines()).isNull();
+        assertThat(bundle.getApprovalHistory()).isNull();
+    }
+
+    @Test
+    @DisplayName("항목마다 연관 엔티티 수와 관계없이 쿼리 하나로 조회")
+    void testEachPartUsesSingleQuery() {
+        // Given
+        UUID documentId = document.getId();
+
+        // When & Then
+        assertMaxQueries(1, () -> documentBundleService.loadApprovalLines(documentId));
+        assertMaxQueries(1, () -> documentBundleService.loadApprovalHistory(documentId));
+        assertMaxQueries(1, () -> documentBundleService.loadAttachments(documentId));
+        assertMaxQueries(1, () -> documentBundleService.loadComments(documentId));
+        assertMaxQueries(3, () -> documentBundleService.loadDocument(documentId));  // 문서 + 본문 + 반려사유 지연 그룹
+    }
+
+    @Test
+    @DisplayName("없는 문서는 empty, 알 수 없는 항목은 예외")
+    void testMissingDocumentAndUnknownField() {
+        // When & Then
+        assertThat(documentBundleService.getBundle(UUID.randomUUID().toString(), null)).isEmpty();
+        assertThatThrownBy(() -> documentBundleService.getBundle(document.getId().toString(), List.of("secrets")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("secrets");
+    }
+
+    // Helper methods
+    private User createUser(String loginId) {
+        return userRepository.save(User.builder()
+                .name(loginId)
+                .loginId(loginId)
+                .email(loginId + "@brotherhood.com")
+                .passwordHash("hashedpassword")
+                .baptismalName("요한")
+                .branch(branch)
+                .isActive(true)
+                .build());
+    }
+}
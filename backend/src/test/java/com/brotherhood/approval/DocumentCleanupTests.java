@@ -0,0 +1,248 @@
+package com.brotherhood.approval;
+
+import com.brotherhood.approval.dto.document.DocumentCleanupResult;
+import com.brotherhood.approval.entity.ApprovalLine;
+import com.brotherhood.approval.entity.Branch;
+import com.brotherhood.approval.entity.Document;
+import com.brotherhood.approval.entity.StatsWatermark;
+import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.event.DocumentChangedEvent;
+import com.brotherhood.approval.repository.ApprovalLineRepository;
+import com.brotherhood.approval.repository.BranchRepository;
+import com.brotherhood.approval.repository.DocumentRepository;
+import com.brotherhood.approval.repository.StatsWatermarkRepository;
+import com.brotherhood.approval.repository.UserRepository;
+import com.brotherhood.approval.service.DocumentCleanupService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 결재선 없는 PENDING 문서 정제 작업 테스트
+ *
+ * 배치마다 별도 트랜잭션으로 커밋하므로 테스트 트랜잭션을 사용하지 않고 직접 정리한다.
+ * 테스트 DB는 마이그레이션 없이 스키마를 만들므로 V8 마이그레이션의 작업 행을 직접 넣는다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@RecordApplicationEvents
+class DocumentCleanupTests {
+
+    private static final int ORPHANS = 5;
+    private static final String JOB_NAME = "document_cleanup";
+
+    @Autowired
+    private DocumentCleanupService documentCleanupService;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private ApprovalLineRepository approvalLineRepository;
+
+    @Autowired
+    private StatsWatermarkRepository watermarkRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+    private Branch branch;
+    private User author;
+    private final List<Document> orphans = new ArrayList<>();
+    private Document withLine;
+    private Document draft;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(documentCleanupService, "batchSize", 2);
+        if (!watermarkRepository.existsById(JOB_NAME)) {
+            watermarkRepository.save(StatsWatermark.builder()
+                    .name(JOB_NAME)
+                    .watermark(LocalDateTime.of(1970, 1, 1, 0, 0))
+                    .build());
+        }
+        branch = branchRepository.save(Branch.builder().code("CLEANUP_" + suffix).name("정제 지사").isActive(true).build());
+        author = userRepository.save(User.builder()
+                .name("cleanup_" + suffix)
+                .loginId("cleanup_" + suffix)
+                .email("cleanup_" + suffix + "@brotherhood.com")
+                .passwordHash("hashedpassword")
+                .baptismalName("요한")
+                .branch(branch)
+                .isActive(true)
+                .build());
+
+        for (int i = 0; i < ORPHANS; i++) {
+            orphans.add(createDocument("결재선 없는 문서 " + i, Document.Status.PENDING));
+        }
+        withLine = createDocument("결재선 있는 문서", Document.Status.PENDING);
+        approvalLineRepository.save(ApprovalLine.builder()
+                .name("정제 결재선")
+                .createdBy(author)
+                .document(withLine)
+                .build());
+        draft = createDocument("작성 중 문서", Document.Status.DRAFT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(documentCleanupService, "batchSize", 500);
+        jdbcTemplate.update("DELETE FROM approval_lines WHERE document_id = ?", withLine.getId());
+        jdbcTemplate.update("DELETE FROM documents WHERE branch_id = ?", branch.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE branch_id = ?", branch.getId());
+        jdbcTemplate.update("DELETE FROM branches WHERE id = ?", branch.getId());
+        jdbcTemplate.update("UPDATE stats_watermarks SET last_run_at = NULL, last_run_millis = NULL WHERE name = ?", JOB_NAME);
+    }
+
+    @Test
+    @DisplayName("결재선 없는 PENDING 문서만 배치 UPDATE로 DRAFT 전환하고 변경 수/소요 시간 반환")
+    void testCleanUpDraftsOrphanedPendingDocuments() {
+        // When
+        DocumentCleanupResult result = documentCleanupService.cleanUp();
+
+        // Then
+        assertThat(result.getDraftedDocuments()).isGreaterThanOrEqualTo(ORPHANS);
+        assertThat(result.getBatches()).isGreaterThanOrEqualTo((ORPHANS + 1) / 2);
+        assertThat(result.getDurationMillis()).isNotNegative();
+        assertThat(documentCleanupService.getLastResult()).isEqualTo(result);
+
+        assertThat(orphans).allSatisfy(orphan -> {
+            Document reloaded = documentRepository.findById(orphan.getId()).orElseThrow();
+            assertThat(reloaded.getStatus()).isEqualTo(Document.Status.DRAFT);
+            assertThat(reloaded.getChangeCounter()).isEqualTo(1L);
+            assertThat(reloaded.getLockVersion()).isEqualTo(orphan.getLockVersion() + 1);
+        });
+        assertThat(documentRepository.findById(withLine.getId()).orElseThrow().getStatus())
+                .isEqualTo(Document.Status.PENDING);
+        assertThat(documentRepository.findById(draft.getId()).orElseThrow().getChangeCounter()).isZero();
+        assertThat(watermarkRepository.findById(JOB_NAME)).hasValueSatisfying(jobLock -> {
+            assertThat(jobLock.getLastRunAt()).isNotNull();
+            assertThat(jobLock.getWatermark()).isEqualTo(LocalDateTime.of(1970, 1, 1, 0, 0));
+        });
+
+        List<UUID> changedIds = applicationEvents.stream(DocumentChangedEvent.class)
+                .filter(event -> event.getChangeType() == DocumentChangedEvent.ChangeType.STATUS_CHANGED)
+                .map(DocumentChangedEvent::getDocumentId)
+                .toList();
+        assertThat(changedIds)
+                .containsAll(orphans.stream().map(Document::getId).toList())
+                .doesNotContain(withLine.getId(), draft.getId())
+                .doesNotHaveDuplicates()
+                .hasSize((int) result.getDraftedDocuments());
+    }
+
+    @Test
+    @DisplayName("다시 실행하면 변경할 문서가 없고, 진행 중에는 중복 실행 거부")
+    void testCleanUpIsIdempotentAndGuarded() {
+        // Given
+        documentCleanupService.cleanUp();
+
+        // When
+        DocumentCleanupResult second = documentCleanupService.cleanUp();
+
+        // Then
+        assertThat(second.getDraftedDocuments()).isZero();
+        assertThat(second.getBatches()).isZero();
+
+        AtomicBoolean running = (AtomicBoolean) ReflectionTestUtils.getField(documentCleanupService, "running");
+        running.set(true);
+        try {
+            assertThatThrownBy(() -> documentCleanupService.cleanUp())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("이미 진행 중");
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Test
+    @DisplayName("작업 행이 없으면 임의로 만들지 않고 실패")
+    void testCleanUpRequiresJobRow() {
+        // Given
+        jdbcTemplate.update("DELETE FROM stats_watermarks WHERE name = ?", JOB_NAME);
+
+        // When & Then
+        assertThatThrownBy(() -> documentCleanupService.cleanUp())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(JOB_NAME);
+        assertThat(watermarkRepository.existsById(JOB_NAME)).isFalse();
+        assertThat(documentRepository.findById(orphans.get(0).getId()).orElseThrow().getStatus())
+                .isEqualTo(Document.Status.PENDING);
+    }
+
+    @Test
+    @DisplayName("주기 실행은 진행 중일 때만 건너뛰고, 실패해도 다음 실행을 막지 않음")
+    void testScheduledCleanUpSkipsOnlyWhenRunning() {
+        ReflectionTestUtils.setField(documentCleanupService, "enabled", true);
+        AtomicBoolean running = (AtomicBoolean) ReflectionTestUtils.getField(documentCleanupService, "running");
+        try {
+            // Given - 다른 실행이 진행 중
+            running.set(true);
+
+            // When
+            documentCleanupService.scheduledCleanUp();
+
+            // Then - 건너뛰고 진행 표시는 그대로
+            assertThat(running.get()).isTrue();
+            assertThat(documentRepository.findById(orphans.get(0).getId()).orElseThrow().getStatus())
+                    .isEqualTo(Document.Status.PENDING);
+            running.set(false);
+
+            // Given - 작업 행 누락 (실패로 기록되어야 하는 상황)
+            jdbcTemplate.update("DELETE FROM stats_watermarks WHERE name = ?", JOB_NAME);
+
+            // When
+            assertThatCode(() -> documentCleanupService.scheduledCleanUp()).doesNotThrowAnyException();
+
+            // Then - 실행 표시가 해제되어 다음 실행 가능
+            assertThat(documentCleanupService.isRunning()).isFalse();
+            assertThat(documentRepository.findById(orphans.get(0).getId()).orElseThrow().getStatus())
+                    .isEqualTo(Document.Status.PENDING);
+        } finally {
+            running.set(false);
+            ReflectionTestUtils.setField(documentCleanupService, "enabled", false);
+        }
+    }
+
+    // Helper methods
+    private Document createDocument(String title, String status) {
+        return documentRepository.save(Document.builder()
+                .title(title)
+                .content("<p>본문</p>")
+                .documentType(Document.Type.GENERAL)
+                .status(status)
+                .author(author)
+                .branch(branch)
+                .build());
+    }
+}
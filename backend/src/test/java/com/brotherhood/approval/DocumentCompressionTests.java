@@ -0,0 +1,204 @@
+package com.brotherhood.approval;
+
+import com.brotherhood.approval.dto.document.ContentCompressionResult;
+import com.brotherhood.approval.dto.document.DocumentDto;
+import com.brotherhood.approval.dto.document.DocumentSearchRequest;
+import com.brotherhood.approval.entity.Branch;
+import com.brotherhood.approval.entity.Document;
+import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.entity.converter.CompressedTextCodec;
+import com.brotherhood.approval.event.DocumentChangedEvent;
+import com.brotherhood.approval.repository.BranchRepository;
+import com.brotherhood.approval.repository.DocumentRepository;
+import com.brotherhood.approval.repository.UserRepository;
+import com.brotherhood.approval.service.DocumentCompressionService;
+import com.brotherhood.approval.service.DocumentSearchService;
+import com.brotherhood.approval.service.DocumentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 문서 본문 압축 저장 테스트
+ *
+ * 재압축 작업은 배치마다 자체 트랜잭션으로 커밋하므로 테스트 트랜잭션을 사용하지 않고 직접 정리한다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DocumentCompressionTests {
+
+    private static final String LARGE_CONTENT =
+            "<table><tr><td>결재 본문 표 데이터</td><td>1234</td></tr></table>".repeat(500);
+
+    @Autowired
+    private CompressedTextCodec codec;
+
+    @Autowired
+    private DocumentCompressionService documentCompressionService;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private DocumentSearchService documentSearchService;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+    private Branch branch;
+    private User author;
+    private Document document;
+
+    @BeforeEach
+    void setUp() {
+        branch = branchRepository.save(Branch.builder().code("ZIP_" + suffix).name("압축 지사").isActive(true).build());
+        author = userRepository.save(User.builder()
+                .name("zip_author_" + suffix)
+                .loginId("zip_author_" + suffix)
+                .email("zip_author_" + suffix + "@brotherhood.com")
+                .passwordHash("hashedpassword")
+                .baptismalName("요한")
+                .branch(branch)
+                .isActive(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (document != null) {
+            documentRepository.deleteById(document.getId());
+            documentSearchService.onDocumentChanged(
+                    DocumentChangedEvent.of(document.getId(), DocumentChangedEvent.ChangeType.DELETED));
+        }
+        userRepository.delete(author);
+        branchRepository.delete(branch);
+    }
+
+    @Test
+    @DisplayName("코덱은 긴 본문만 압축하고 압축되지 않은 값은 그대로 반환")
+    void testCodecRoundTripAndLegacyPassThrough() {
+        // When
+        String encoded = codec.encode(LARGE_CONTENT);
+
+        // Then
+        assertThat(encoded).startsWith(CompressedTextCodec.MAGIC);
+        assertThat(encoded.length()).isLessThan(LARGE_CONTENT.length());
+        assertThat(codec.decode(encoded)).isEqualTo(LARGE_CONTENT);
+
+        assertThat(codec.encode("짧은 본문")).isEqualTo("짧은 본문");
+        assertThat(codec.decode("<p>이전 데이터</p>")).isEqualTo("<p>이전 데이터</p>");
+        assertThat(codec.decode(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("긴 본문은 압축 형식으로 저장되고 엔티티로는 원문이 조회")
+    void testDocumentContentStoredCompressed() {
+        // Given
+        document = saveDocument(LARGE_CONTENT);
+
+        // When
+        String stored = readStoredContent(document.getId());
+
+        // Then
+        assertThat(stored).startsWith(CompressedTextCodec.MAGIC);
+        assertThat(documentRepository.findContentsByIds(List.of(document.getId())).get(0)[1])
+                .isEqualTo(LARGE_CONTENT);
+    }
+
+    @Test
+    @DisplayName("재압축 작업은 압축되지 않은 이전 행을 압축하고 절감 바이트를 보고")
+    void testRecompressLegacyRows() throws Exception {
+        // Given
+        document = saveDocument("짧은 본문");
+        jdbcTemplate.update("UPDATE documents SET content = ? WHERE id = ?", LARGE_CONTENT, document.getId());
+
+        // When
+        ContentCompressionResult result = documentCompressionService.recompressAsync().get(30, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(result.getCompressedDocuments()).isGreaterThanOrEqualTo(1L);
+        assertThat(result.getBytesSaved()).isPositive();
+        assertThat(readStoredContent(document.getId())).startsWith(CompressedTextCodec.MAGIC);
+        assertThat(documentRepository.findContentsByIds(List.of(document.getId())).get(0)[1])
+                .isEqualTo(LARGE_CONTENT);
+        assertThat(documentCompressionService.getLastResult()).isEqualTo(result);
+    }
+
+    @Test
+    @DisplayName("압축 저장된 긴 본문도 색인의 본문 일치로 키워드 검색에 걸림 (LIKE만으로는 찾을 수 없음)")
+    void testKeywordSearchMatchesCompressedBody() throws Exception {
+        // Given
+        document = saveDocument(LARGE_CONTENT + "<p>quarterlyledger</p>");
+        documentSearchService.onDocumentChanged(
+                DocumentChangedEvent.of(document.getId(), DocumentChangedEvent.ChangeType.CREATED));
+        DocumentSearchRequest request = DocumentSearchRequest.builder()
+                .keyword("quarterlyledger")
+                .branchId(branch.getId().toString())
+                .build();
+
+        // When
+        Page<DocumentDto> result = searchUntilFound(request);
+
+        // Then
+        assertThat(readStoredContent(document.getId())).startsWith(CompressedTextCodec.MAGIC);
+        assertThat(documentRepository.findByKeywordAndBranchId(
+                "quarterlyledger", branch.getId(), List.of(new UUID(0L, 0L)), PageRequest.of(0, 10))).isEmpty();
+        assertThat(result.getContent()).extracting(DocumentDto::getId).containsExactly(document.getId().toString());
+    }
+
+    // Helper methods
+    private Document saveDocument(String content) {
+        return documentRepository.save(Document.builder()
+                .title("압축 문서")
+                .content(content)
+                .documentType(Document.Type.GENERAL)
+                .status(Document.Status.DRAFT)
+                .author(author)
+                .branch(branch)
+                .build());
+    }
+
+    private String readStoredContent(UUID documentId) {
+        return jdbcTemplate.queryForObject("SELECT content FROM documents WHERE id = ?", String.class, documentId);
+    }
+
+    /**
+     * 색인은 커밋 이후 비동기로 갱신되므로 결과가 나올 때까지 잠시 재시도
+     */
+    private Page<DocumentDto> searchUntilFound(DocumentSearchRequest request) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        Page<DocumentDto> result = documentService.searchDocuments(request, PageRequest.of(0, 10));
+        while (result.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            result = documentService.searchDocuments(request, PageRequest.of(0, 10));
+        }
+        return result;
+    }
+}
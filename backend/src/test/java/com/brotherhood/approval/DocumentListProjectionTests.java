@@ -0,0 +1,166 @@
+package com.brotherhood.approval;
+
+import com.brotherhood.approval.dto.document.DocumentDto;
+import com.brotherhood.approval.entity.ApprovalLine;
+import com.brotherhood.approval.entity.ApprovalStep;
+import com.brotherhood.approval.entity.Branch;
+import com.brotherhood.approval.entity.Document;
+import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.repository.ApprovalLineRepository;
+import com.brotherhood.approval.repository.ApprovalStepRepository;
+import com.brotherhood.approval.repository.BranchRepository;
+import com.brotherhood.approval.repository.DocumentRepository;
+import com.brotherhood.approval.repository.UserRepository;
+import com.brotherhood.approval.service.DashboardService;
+import com.brotherhood.approval.service.DocumentService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.brotherhood.approval.QueryCountAssertions.assertMaxQueries;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 문서 목록 프로젝션 테스트
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class DocumentListProjectionTests {
+
+    private static final int DOCUMENTS = 20;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private ApprovalLineRepository approvalLineRepository;
+
+    @Autowired
+    private ApprovalStepRepository approvalStepRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Branch branch;
+    private User author;
+    private User approver;
+
+    @BeforeEach
+    void setUp() {
+        branch = branchRepository.save(Branch.builder().code("LIST_TEST").name("목록 지사").isActive(true).build());
+        author = createUser("list_author");
+        approver = createUser("list_approver");
+
+        for (int i = 0; i < DOCUMENTS; i++) {
+            Document document = documentRepository.save(Document.builder()
+                    .title("목록 문서 " + i)
+                    .content("<p>" + "본문".repeat(1000) + "</p>")
+                    .documentType(Document.Type.GENERAL)
+                    .status(Document.Status.PENDING)
+                    .author(author)
+                    .branch(branch)
+                    .build());
+
+            ApprovalLine approvalLine = approvalLineRepository.save(ApprovalLine.builder()
+                    .name("결재선 " + i)
+                    .createdBy(author)
+                    .document(document)
+                    .build());
+            approvalStepRepository.save(ApprovalStep.builder()
+                    .approvalLine(approvalLine)
+                    .stepOrder(1)
+                    .approver(approver)
+                    .build());
+        }
+
+        // 영속성 컨텍스트에 남은 작성자/지사로 지연 로딩이 가려지지 않도록 비운다
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("작성자별 문서 목록은 본문 없이 작성자/지사를 포함해 조회")
+    void testDocumentsByAuthorUseSummaryProjection() {
+        // When
+        Page<DocumentDto> page = assertMaxQueries(2,  // 목록 + COUNT
+                () -> documentService.getDocumentsByAuthor(author.getId().toString(), PageRequest.of(0, DOCUMENTS)));
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(DOCUMENTS);
+        assertThat(page.getContent()).hasSize(DOCUMENTS).allSatisfy(document -> {
+            assertThat(document.getContent()).isNull();
+            assertThat(document.getAuthorId()).isEqualTo(author.getId().toString());
+            assertThat(document.getAuthorName()).isEqualTo("list_author");
+            assertThat(document.getAuthorDisplayName()).isEqualTo(author.getDisplayName());
+            assertThat(document.getBranchName()).isEqualTo("목록 지사");
+            assertThat(document.getBranchCode()).isEqualTo("LIST_TEST");
+        });
+    }
+
+    @Test
+    @DisplayName("결재 대기 문서 목록은 결재자에게 대기 중인 문서를 반환")
+    void testPendingApprovalDocumentsReturnsInbox() {
+        // When
+        Page<DocumentDto> page = assertMaxQueries(2,
+                () -> documentService.getPendingApprovalDocuments(approver.getId().toString(), PageRequest.of(0, 10)));
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(DOCUMENTS);
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(documentService.getPendingApprovalDocuments(author.getId().toString(), PageRequest.of(0, 10)))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("대시보드 최근 문서는 작성자/지사 지연 로딩 없이 조회")
+    void testDashboardRecentDocumentsWithoutLazyLoads() {
+        // When
+        List<DocumentDto> documents = assertMaxQueries(2,  // 목록 + COUNT
+                () -> dashboardService.getRecentDocumentsByUser(author.getId(), 5));
+
+        // Then
+        assertThat(documents).hasSize(5)
+                .allSatisfy(document -> assertThat(document.getBranchName()).isEqualTo("목록 지사"));
+        assertThat(dashboardService.getDashboardStatsByUser(approver.getId()).getPendingApprovals())
+                .isEqualTo(DOCUMENTS);
+    }
+
+    // Helper methods
+    private User createUser(String loginId) {
+        return userRepository.save(User.builder()
+                .name(loginId)
+                .loginId(loginId)
+                .email(loginId + "@brotherhood.com")
+                .passwordHash("hashedpassword")
+                .baptismalName("요한")
+                .branch(branch)
+                .isActive(true)
+                .build());
+    }
+}
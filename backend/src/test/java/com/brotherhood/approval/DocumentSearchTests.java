@@ -0,0 +1,246 @@
+package com.brotherhood.approval;
+
+import com.brotherhood.approval.dto.document.DocumentDto;
+import com.brotherhood.approval.dto.search.DocumentSearchResponse;
+import com.brotherhood.approval.dto.search.SearchRequest;
+import com.brotherhood.approval.entity.Branch;
+import com.brotherhood.approval.entity.Comment;
+import com.brotherhood.approval.entity.Document;
+import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.event.DocumentChangedEvent;
+import com.brotherhood.approval.repository.BranchRepository;
+import com.brotherhood.approval.repository.CommentRepository;
+import com.brotherhood.approval.repository.DocumentRepository;
+import com.brotherhood.approval.repository.UserRepository;
+import com.brotherhood.approval.service.DocumentSearchService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Lucene 문서 검색 테스트
+ *
+ * 색인은 커밋 이후 별도 스레드에서 갱신되므로 테스트 트랜잭션을 사용하지 않고 직접 정리한다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DocumentSearchTests {
+
+    @Autowired
+    private DocumentSearchService documentSearchService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+    // 다른 테스트 데이터와 겹치지 않는 영문 검색어 (숫자가 섞이면 형태소 분석 결과가 달라질 수 있어 문자만 사용)
+    private final String token = "srch" + suffix.replaceAll("[^a-f]", "x");
+    private Branch branch;
+    private User author;
+    private Document draft;
+    private Document pending;
+
+    @BeforeEach
+    void setUp() {
+        branch = branchRepository.save(Branch.builder().code("SEARCH_" + suffix).name("검색 지사").isActive(true).build());
+        author = userRepository.save(User.builder()
+                .name("search_" + suffix)
+                .loginId("search_" + suffix)
+                .email("search_" + suffix + "@brotherhood.com")
+                .passwordHash("hashedpassword")
+                .baptismalName("요한")
+                .branch(branch)
+                .isActive(true)
+                .build());
+
+        draft = saveDocument(token + "title 보고서", "<p>일반 본문</p>", Document.Status.DRAFT);
+        pending = saveDocument("분기 보고서", "<p>" + token + "body 관련 본문</p>", Document.Status.PENDING);
+        publish(draft, DocumentChangedEvent.ChangeType.CREATED);
+        publish(pending, DocumentChangedEvent.ChangeType.CREATED);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM comments WHERE document_id IN (?, ?)", draft.getId(), pending.getId());
+        jdbcTemplate.update("DELETE FROM documents WHERE branch_id = ?", branch.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE branch_id = ?", branch.getId());
+        jdbcTemplate.update("DELETE FROM branches WHERE id = ?", branch.getId());
+        publish(draft, DocumentChangedEvent.ChangeType.DELETED);
+        publish(pending, DocumentChangedEvent.ChangeType.DELETED);
+    }
+
+    @Test
+    @DisplayName("제목과 본문 검색어로 색인된 문서를 찾고 작성자/지사 정보까지 채움")
+    void testSearchByTitleAndContent() throws InterruptedException {
+        // When
+        DocumentSearchResponse byTitle = searchUntil(request(token + "title"), response -> hitCount(response) == 1);
+        DocumentSearchResponse byContent = searchUntil(request(token + "body"), response -> hitCount(response) == 1);
+
+        // Then
+        assertThat(ids(byTitle)).containsExactly(draft.getId());
+        assertThat(ids(byContent)).containsExactly(pending.getId());
+
+        DocumentDto hit = byTitle.getDocuments().getContent().get(0);
+        assertThat(hit.getTitle()).isEqualTo(draft.getTitle());
+        assertThat(hit.getAuthorName()).isEqualTo(author.getName());
+        assertThat(hit.getBranchName()).isEqualTo(branch.getName());
+    }
+
+    @Test
+    @DisplayName("지사 필터 검색의 패싯은 상태/지사별 건수를 집계하고 상태 필터로 좁힐 수 있음")
+    void testFacetsAndFilters() throws InterruptedException {
+        // Given
+        SearchRequest branchOnly = SearchRequest.builder()
+                .branchIds(List.of(branch.getId().toString()))
+                .build();
+
+        // When
+        DocumentSearchResponse response = searchUntil(branchOnly, result -> hitCount(result) == 2);
+        DocumentSearchResponse pendingOnly = documentSearchService.search(SearchRequest.builder()
+                .branchIds(List.of(branch.getId().toString()))
+                .statuses(List.of(Document.Status.PENDING))
+                .build());
+
+        // Then
+        assertThat(response.getFacets().get(DocumentSearchService.FACET_STATUS))
+                .containsEntry(Document.Status.DRAFT, 1L)
+                .containsEntry(Document.Status.PENDING, 1L);
+        assertThat(response.getFacets().get(DocumentSearchService.FACET_BRANCH))
+                .containsOnly(entry(branch.getId().toString(), 2L));
+        assertThat(ids(pendingOnly)).containsExactly(pending.getId());
+    }
+
+    @Test
+    @DisplayName("댓글 변경 이벤트로 문서를 다시 색인하면 댓글 작성/수정/삭제가 반영됨")
+    void testCommentChangesReindexDocument() throws InterruptedException {
+        // Given
+        String firstWord = token + "first";
+        String editedWord = token + "edited";
+
+        // When
+        Comment comment = commentRepository.save(Comment.builder()
+                .document(draft)
+                .author(author)
+                .content(firstWord + " 확인 부탁드립니다")
+                .build());
+        publish(draft, DocumentChangedEvent.ChangeType.COMMENT_CHANGED);
+
+        // Then
+        assertThat(ids(searchUntil(request(firstWord), response -> hitCount(response) == 1)))
+                .containsExactly(draft.getId());
+
+        // When
+        comment.setContent(editedWord + " 수정했습니다");
+        commentRepository.save(comment);
+        publish(draft, DocumentChangedEvent.ChangeType.COMMENT_CHANGED);
+
+        // Then
+        assertThat(ids(searchUntil(request(editedWord), response -> hitCount(response) == 1)))
+                .containsExactly(draft.getId());
+        assertThat(hitCount(documentSearchService.search(request(firstWord)))).isZero();
+
+        // When
+        commentRepository.deleteById(comment.getId());
+        publish(draft, DocumentChangedEvent.ChangeType.COMMENT_CHANGED);
+
+        // Then
+        assertThat(hitCount(searchUntil(request(editedWord), response -> hitCount(response) == 0))).isZero();
+    }
+
+    @Test
+    @DisplayName("전체 재구성은 DB 문서 수만큼 색인하고 재구성 후에도 검색됨")
+    void testRebuildIndex() throws Exception {
+        // Given
+        waitUntilNotRebuilding();
+
+        // When
+        long indexed = documentSearchService.rebuildIndexAsync().get(30, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(indexed).isEqualTo(documentRepository.count());
+        assertThat(documentSearchService.getIndexedDocumentCount()).isEqualTo(indexed);
+        assertThat(ids(documentSearchService.search(request(token + "title")))).containsExactly(draft.getId());
+    }
+
+    // Helper methods
+    private Document saveDocument(String title, String content, String status) {
+        return documentRepository.save(Document.builder()
+                .title(title)
+                .content(content)
+                .documentType(Document.Type.GENERAL)
+                .status(status)
+                .author(author)
+                .branch(branch)
+                .build());
+    }
+
+    private void publish(Document document, DocumentChangedEvent.ChangeType changeType) {
+        documentSearchService.onDocumentChanged(DocumentChangedEvent.of(document.getId(), changeType));
+    }
+
+    private SearchRequest request(String keyword) {
+        return SearchRequest.builder()
+                .keyword(keyword)
+                .branchIds(List.of(branch.getId().toString()))
+                .build();
+    }
+
+    private long hitCount(DocumentSearchResponse response) {
+        return response.getDocuments().getTotalElements();
+    }
+
+    private List<UUID> ids(DocumentSearchResponse response) {
+        return response.getDocuments().getContent().stream()
+                .map(document -> UUID.fromString(document.getId()))
+                .toList();
+    }
+
+    /**
+     * 색인은 비동기로 갱신되므로 조건을 만족할 때까지 최대 10초 재조회
+     */
+    private DocumentSearchResponse searchUntil(SearchRequest request, Predicate<DocumentSearchResponse> condition)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        DocumentSearchResponse response = documentSearchService.search(request);
+        while (!condition.test(response) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            response = documentSearchService.search(request);
+        }
+        return response;
+    }
+
+    private void waitUntilNotRebuilding() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        while (documentSearchService.isRebuilding() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+}
@@ -14,6 +14,7 @@ import com.brotherhood.approval.repository.DocumentRepository;
 import com.brotherhood.approval.repository.UserRepository;
 import com.brotherhood.approval.repository.BranchRepository;
 import com.brotherhood.approval.repository.RoleRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,6 +30,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import static com.brotherhood.approval.QueryCountAssertions.assertMaxQueries;
 import static org.assertj.core.api.Assertions.*;
 
 /**
@@ -60,6 +62,9 @@ class DocumentServiceTests {
     
     @Autowired
     private RoleRepository roleRepository;
+    
+    @Autowired
+    private EntityManager entityManager;
 
     private User author;
     private User manager;
@@ -160,6 +165,25 @@ class DocumentServiceTests {
             .containsExactlyInAnyOrder("문서1", "문서2", "문서3");
     }
 
+    @Test
+    @DisplayName("문서 목록 조회 SQL 횟수 테스트 (N+1 방지)")
+    void testGetDocumentsQueryCount() {
+        // Given
+        for (int i = 1; i <= 10; i++) {
+            createAndSaveDocument("문서" + i, "내용" + i, author, i % 2 == 0 ? hqBranch : seoulBranch);
+        }
+        documentRepository.flush();
+        entityManager.clear();  // 1차 캐시에 남은 작성자/지사로 지연 로딩이 가려지지 않게 비움
+        
+        Pageable pageable = PageRequest.of(0, 10);
+        
+        // When - 문서 수와 무관하게 목록 조회 + 건수 조회 수준이어야 한다
+        Page<DocumentDto> documents = assertMaxQueries(5, () -> documentService.getDocuments(pageable));
+        
+        // Then
+        assertThat(documents.getContent()).hasSize(10);
+    }
+
     @Test
     @DisplayName("작성자별 문서 조회 테스트")
     void testGetDocumentsByAuthor() {
@@ -0,0 +1,277 @@
+package com.brotherhood.approval;
+
+import com.brotherhood.approval.dto.stats.StatsConsistencyReport;
+import com.brotherhood.approval.dto.stats.StatsRollupResult;
+import com.brotherhood.approval.entity.Branch;
+import com.brotherhood.approval.entity.Document;
+import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.repository.BranchRepository;
+import com.brotherhood.approval.repository.DocumentRepository;
+import com.brotherhood.approval.repository.UserRepository;
+import com.brotherhood.approval.service.DocumentService;
+import com.brotherhood.approval.service.DocumentStatsRollupService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 일별 문서 통계 집계 테스트
+ *
+ * 집계는 구간마다 별도 트랜잭션으로 커밋되므로 테스트 트랜잭션을 사용하지 않고 직접 정리한다.
+ * 생성/변경 시각은 감사 필드가 덮어쓰므로 저장 후 JDBC로 맞춘다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DocumentStatsRollupTests {
+
+    @Autowired
+    private DocumentStatsRollupService rollupService;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+    private final LocalDate today = LocalDate.now();
+    private Branch branch;
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        resetRollup();
+        branch = branchRepository.save(Branch.builder().code("ROLLUP_" + suffix).name("집계 지사").isActive(true).build());
+        author = userRepository.save(User.builder()
+                .name("rollup_" + suffix)
+                .loginId("rollup_" + suffix)
+                .email("rollup_" + suffix + "@brotherhood.com")
+                .passwordHash("hashedpassword")
+                .baptismalName("요한")
+                .branch(branch)
+                .isActive(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM documents WHERE branch_id = ?", branch.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE branch_id = ?", branch.getId());
+        jdbcTemplate.update("DELETE FROM branches WHERE id = ?", branch.getId());
+        resetRollup();
+    }
+
+    @Test
+    @DisplayName("백필은 가장 오래된 문서부터 오늘까지 31일 구간으로 나눠 모든 일자를 집계")
+    void testBackfillChunks() {
+        // Given - 구간 경계 양쪽에 문서 배치
+        LocalDate first = today.minusDays(70);
+        createDocument(first, Document.Status.DRAFT);
+        createDocument(first.plusDays(30), Document.Status.PENDING);
+        createDocument(first.plusDays(31), Document.Status.APPROVED);
+        createDocument(first.plusDays(62), Document.Status.REJECTED);
+        LocalDate minDate = documentRepository.findMinCreatedAt().orElseThrow().toLocalDate();
+
+        // When
+        StatsRollupResult result = rollupService.backfill();
+
+        // Then
+        assertThat(result.getMode()).isEqualTo("BACKFILL");
+        assertThat(result.getRecomputedDays()).isEqualTo((int) ChronoUnit.DAYS.between(minDate, today) + 1);
+        assertThat(result.getInsertedRows()).isGreaterThanOrEqualTo(4);
+        assertThat(rollupService.isInitialized()).isTrue();
+
+        assertThat(rollupCounts(first)).containsOnly(entry(Document.Status.DRAFT, 1L));
+        assertThat(rollupCounts(first.plusDays(30))).containsOnly(entry(Document.Status.PENDING, 1L));
+        assertThat(rollupCounts(first.plusDays(31))).containsOnly(entry(Document.Status.APPROVED, 1L));
+        assertThat(rollupCounts(first.plusDays(62))).containsOnly(entry(Document.Status.REJECTED, 1L));
+    }
+
+    @Test
+    @DisplayName("증분 집계는 워터마크 2분 전까지 변경된 문서만 다시 집계")
+    void testIncrementalRefreshUsesWatermarkOverlap() {
+        // Given
+        LocalDate insideDay = today.minusDays(10);
+        LocalDate outsideDay = today.minusDays(11);
+        Document inside = createDocument(insideDay, Document.Status.DRAFT);
+        Document outside = createDocument(outsideDay, Document.Status.DRAFT);
+        LocalDateTime watermark = rollupService.backfill().getWatermark();
+
+        // 워터마크 1분 전(늦게 커밋된 트랜잭션)과 5분 전 변경
+        changeStatus(inside, Document.Status.PENDING, watermark.minusMinutes(1));
+        changeStatus(outside, Document.Status.PENDING, watermark.minusMinutes(5));
+
+        // When
+        StatsRollupResult result = rollupService.refreshIncremental();
+
+        // Then
+        assertThat(result.getMode()).isEqualTo("INCREMENTAL");
+        assertThat(result.getWatermark()).isAfter(watermark);
+        assertThat(rollupCounts(insideDay)).containsOnly(entry(Document.Status.PENDING, 1L));
+        assertThat(rollupCounts(outsideDay)).containsOnly(entry(Document.Status.DRAFT, 1L));
+    }
+
+    @Test
+    @DisplayName("삭제된 문서의 생성일은 삭제 트랜잭션에서 기록되고 다음 증분 집계에서 다시 계산")
+    void testDeletedDocumentDayRecomputed() {
+        // Given
+        LocalDate day = today.minusDays(20);
+        Document deleted = createDocument(day, Document.Status.DRAFT);
+        createDocument(day, Document.Status.APPROVED);
+        rollupService.backfill();
+        assertThat(rollupCounts(day))
+                .containsOnly(entry(Document.Status.DRAFT, 1L), entry(Document.Status.APPROVED, 1L));
+
+        // When
+        documentService.deleteDocument(deleted.getId().toString(), author.getId().toString());
+
+        // Then - 인스턴스 메모리가 아닌 테이블에 남는다
+        assertThat(dirtyDays()).containsExactly(day);
+
+        // When
+        rollupService.refreshIncremental();
+
+        // Then
+        assertThat(rollupCounts(day)).containsOnly(entry(Document.Status.APPROVED, 1L));
+        assertThat(dirtyDays()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("누적/월별 통계는 어제까지 롤업과 오늘 원본 집계를 중복 없이 합산")
+    void testRollupMergedWithToday() {
+        // Given - 오늘 문서 하나는 백필 이전, 하나는 이후에 생성
+        LocalDate pastDay = today.minusDays(1);
+        createDocument(pastDay, Document.Status.APPROVED);
+        createDocument(pastDay, Document.Status.APPROVED);
+        saveDocument(Document.Status.DRAFT);
+        rollupService.backfill();
+        saveDocument(Document.Status.PENDING);
+
+        // When
+        Map<String, Long> cumulative = new HashMap<>();
+        rollupService.getCumulativeCells().stream()
+                .filter(cell -> branch.getId().equals(cell.branchId()))
+                .forEach(cell -> cumulative.merge(cell.status(), cell.count(), Long::sum));
+        List<DocumentStatsRollupService.MonthlyCount> fromRollup = rollupService.getMonthlyCounts(3);
+
+        jdbcTemplate.update("DELETE FROM stats_watermarks WHERE name = 'document_daily_stats'");
+        List<DocumentStatsRollupService.MonthlyCount> fromDocuments = rollupService.getMonthlyCounts(3);
+
+        // Then
+        assertThat(cumulative).containsOnly(
+                entry(Document.Status.APPROVED, 2L),
+                entry(Document.Status.DRAFT, 1L),
+                entry(Document.Status.PENDING, 1L));
+        assertThat(fromRollup).isEqualTo(fromDocuments);
+    }
+
+    @Test
+    @DisplayName("정합성 검사는 불일치를 보고하고 보정 요청 시 해당 일자만 다시 집계")
+    void testConsistencyCheckDetectsAndRepairs() {
+        // Given
+        LocalDate day = today.minusDays(30);
+        createDocument(day, Document.Status.DRAFT);
+        rollupService.backfill();
+        assertThat(rollupService.checkConsistency(false).getConsistent()).isTrue();
+
+        jdbcTemplate.update("UPDATE document_daily_stats SET document_count = document_count + 5 " +
+                "WHERE branch_id = ? AND stat_date = ?", branch.getId(), day);
+
+        // When
+        StatsConsistencyReport detected = rollupService.checkConsistency(false);
+
+        // Then
+        assertThat(detected.getConsistent()).isFalse();
+        assertThat(detected.getRepaired()).isFalse();
+        assertThat(detected.getMismatches()).anySatisfy(mismatch -> {
+            assertThat(mismatch.getDate()).isEqualTo(day);
+            assertThat(mismatch.getStatus()).isEqualTo(Document.Status.DRAFT);
+            assertThat(mismatch.getActual()).isEqualTo(mismatch.getExpected() + 5);
+        });
+        assertThat(rollupCounts(day)).containsOnly(entry(Document.Status.DRAFT, 6L));
+
+        // When
+        StatsConsistencyReport repaired = rollupService.checkConsistency(true);
+
+        // Then
+        assertThat(repaired.getRepaired()).isTrue();
+        assertThat(rollupCounts(day)).containsOnly(entry(Document.Status.DRAFT, 1L));
+        assertThat(rollupService.checkConsistency(false).getConsistent()).isTrue();
+    }
+
+    // Helper methods
+    private Document saveDocument(String status) {
+        return documentRepository.save(Document.builder()
+                .title("집계 문서")
+                .content("<p>본문</p>")
+                .documentType(Document.Type.GENERAL)
+                .status(status)
+                .author(author)
+                .branch(branch)
+                .build());
+    }
+
+    private Document createDocument(LocalDate createdDate, String status) {
+        Document document = saveDocument(status);
+        LocalDateTime createdAt = createdDate.atTime(10, 0);
+        jdbcTemplate.update("UPDATE documents SET created_at = ?, updated_at = ? WHERE id = ?",
+                createdAt, createdAt, document.getId());
+        return document;
+    }
+
+    private void changeStatus(Document document, String status, LocalDateTime updatedAt) {
+        jdbcTemplate.update("UPDATE documents SET status = ?, updated_at = ? WHERE id = ?",
+                status, updatedAt, document.getId());
+    }
+
+    private Map<String, Long> rollupCounts(LocalDate date) {
+        Map<String, Long> counts = new HashMap<>();
+        jdbcTemplate.query("SELECT status, document_count FROM document_daily_stats " +
+                        "WHERE branch_id = ? AND stat_date = ?",
+                rs -> {
+                    counts.merge(rs.getString("status"), rs.getLong("document_count"), Long::sum);
+                }, branch.getId(), date);
+        return counts;
+    }
+
+    private List<LocalDate> dirtyDays() {
+        return jdbcTemplate.queryForList("SELECT stat_date FROM stats_dirty_days", LocalDate.class);
+    }
+
+    /**
+     * 다른 테스트가 원본 집계 경로를 쓰도록 집계 상태를 초기화
+     */
+    private void resetRollup() {
+        jdbcTemplate.update("DELETE FROM document_daily_stats");
+        jdbcTemplate.update("DELETE FROM stats_dirty_days");
+        jdbcTemplate.update("DELETE FROM stats_watermarks WHERE name = 'document_daily_stats'");
+    }
+}
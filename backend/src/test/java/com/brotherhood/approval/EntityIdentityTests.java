@@ -0,0 +1,250 @@
+package com.brotherhood.approval;
+
+import com.brotherhood.approval.entity.ApprovalLine;
+import com.brotherhood.approval.entity.ApprovalStep;
+import com.brotherhood.approval.entity.Attachment;
+import com.brotherhood.approval.entity.Branch;
+import com.brotherhood.approval.entity.Comment;
+import com.brotherhood.approval.entity.Document;
+import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.repository.ApprovalLineRepository;
+import com.brotherhood.approval.repository.ApprovalStepRepository;
+import com.brotherhood.approval.repository.AttachmentRepository;
+import com.brotherhood.approval.repository.BranchRepository;
+import com.brotherhood.approval.repository.CommentRepository;
+import com.brotherhood.approval.repository.DocumentRepository;
+import com.brotherhood.approval.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.brotherhood.approval.QueryCountAssertions.assertMaxQueries;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 엔티티 동등성/문자열 표현 테스트
+ *
+ * 해시나 로그 출력이 연관관계를 따라가 지연 로딩을 일으키지 않는지 SQL 실행 수로 검증한다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class EntityIdentityTests {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityIdentityTests.class);
+
+    private static final String CONTENT = "<p>" + "본문".repeat(1000) + "</p>";
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private ApprovalLineRepository approvalLineRepository;
+
+    @Autowired
+    private ApprovalStepRepository approvalStepRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Branch branch;
+    private User author;
+    private Document document;
+    private ApprovalLine approvalLine;
+    private ApprovalStep approvalStep;
+    private Comment comment;
+    private Attachment attachment;
+
+    @BeforeEach
+    void setUp() {
+        branch = branchRepository.save(Branch.builder().code("IDENTITY_TEST").name("동등성 지사").isActive(true).build());
+        author = createUser("identity_author");
+        User approver = createUser("identity_approver");
+
+        document = documentRepository.save(Document.builder()
+                .title("동등성 문서")
+                .content(CONTENT)
+                .documentType(Document.Type.GENERAL)
+                .status(Document.Status.PENDING)
+                .author(author)
+                .branch(branch)
+                .build());
+        approvalLine = approvalLineRepository.save(ApprovalLine.builder()
+                .name("동등성 결재선")
+                .createdBy(author)
+                .document(document)
+                .build());
+        approvalStep = approvalStepRepository.save(ApprovalStep.builder()
+                .approvalLine(approvalLine)
+                .stepOrder(1)
+                .approver(approver)
+                .build());
+        comment = commentRepository.save(Comment.builder()
+                .document(document)
+                .author(approver)
+                .content("검토 의견")
+                .build());
+        attachment = attachmentRepository.save(Attachment.builder()
+                .filename("plan.pdf")
+                .originalFilename("plan.pdf")
+                .storedFilename("stored-plan.pdf")
+                .filePath("/tmp/stored-plan.pdf")
+                .fileSize(1024L)
+                .mimeType("application/pdf")
+                .checksum("0".repeat(64))
+                .document(document)
+                .uploadedBy(author)
+                .uploadedAt(LocalDateTime.now())
+                .build());
+
+        // 양방향 연관관계를 메모리에서도 모두 연결 (순환 참조)
+        branch.getUsers().add(author);
+        branch.getDocuments().add(document);
+        author.getDocuments().add(document);
+        document.getApprovalLines().add(approvalLine);
+        document.getComments().add(comment);
+        document.getAttachments().add(attachment);
+        approvalLine.getApprovalSteps().add(approvalStep);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("순환 연결된 문서 그래프를 해시/로그 출력해도 SQL 없이 끝남")
+    void testHashAndLogWiredGraphWithoutQueries() {
+        // When
+        Set<Object> graph = assertMaxQueries(0, () -> {
+            Set<Object> entities = new HashSet<>(List.of(
+                    branch, author, document, approvalLine, approvalStep, comment, attachment));
+            log.info("문서 그래프: {} / {} / {} / {}", document, approvalLine, approvalStep, branch);
+            return entities;
+        });
+
+        // Then
+        assertThat(graph).hasSize(7);
+        assertThat(document.toString())
+                .contains(document.getId().toString())
+                .doesNotContain("본문")
+                .doesNotContain("approvalLines");
+    }
+
+    @Test
+    @DisplayName("다시 조회한 문서는 지연 연관관계와 본문을 적재하지 않고 해시/로그 출력")
+    void testHashAndLogReloadedGraphWithoutQueries() {
+        // Given
+        entityManager.clear();
+        Document loaded = documentRepository.findById(document.getId()).orElseThrow();
+        List<ApprovalLine> lines = approvalLineRepository.findByDocumentId(document.getId());
+        List<ApprovalStep> steps = approvalStepRepository.findByApprovalLineIdOrderByStepOrder(approvalLine.getId());
+        List<Comment> comments = commentRepository.findByDocumentIdOrderByCreatedAtDesc(document.getId());
+        List<Attachment> attachments = attachmentRepository.findByDocumentId(document.getId());
+
+        // When
+        Set<Object> graph = assertMaxQueries(0, () -> {
+            Set<Object> entities = new HashSet<>();
+            entities.add(loaded);
+            entities.addAll(lines);
+            entities.addAll(steps);
+            entities.addAll(comments);
+            entities.addAll(attachments);
+            log.info("문서 그래프: {} / {} / {} / {} / {}", loaded, lines, steps, comments, attachments);
+            return entities;
+        });
+
+        // Then
+        assertThat(graph).hasSize(5);
+        assertThat(graph).contains(document, approvalLine, approvalStep, comment, attachment);
+        assertThat(loaded).isEqualTo(document).isNotSameAs(document);
+    }
+
+    @Test
+    @DisplayName("저장 전후 해시가 같고 저장 전 엔티티는 자기 자신과만 같음")
+    void testStableHashAcrossPersist() {
+        // Given
+        Document first = Document.builder()
+                .title("새 문서")
+                .documentType(Document.Type.GENERAL)
+                .author(author)
+                .branch(branch)
+                .build();
+        Document second = Document.builder()
+                .title("새 문서")
+                .documentType(Document.Type.GENERAL)
+                .author(author)
+                .branch(branch)
+                .build();
+        Set<Document> documents = new HashSet<>(List.of(first, second));
+        int hashBeforeSave = first.hashCode();
+
+        // When
+        documentRepository.save(first);
+
+        // Then
+        assertThat(first).isNotEqualTo(second);
+        assertThat(documents).hasSize(2).contains(first);
+        assertThat(first.hashCode()).isEqualTo(hashBeforeSave);
+    }
+
+    @Test
+    @DisplayName("낙관적 잠금 버전이 있는 엔티티도 save()가 persist하여 같은 인스턴스를 반환")
+    void testSaveVersionedEntityPersistsSameInstance() {
+        // Given
+        ApprovalStep step = ApprovalStep.builder()
+                .approvalLine(approvalLine)
+                .stepOrder(2)
+                .approver(author)
+                .build();
+
+        // When
+        List<ApprovalStep> saved = approvalStepRepository.saveAll(List.of(step));
+        entityManager.flush();
+
+        // Then
+        assertThat(saved.get(0)).isSameAs(step);
+        assertThat(entityManager.contains(step)).isTrue();
+        assertThat(step.getLockVersion()).isZero();
+        assertThat(document.getLockVersion()).isNotNull();
+        assertThat(entityManager.contains(document)).isTrue();
+        assertThat(entityManager.contains(approvalLine)).isTrue();
+    }
+
+    // Helper methods
+    private User createUser(String loginId) {
+        return userRepository.save(User.builder()
+                .name(loginId)
+                .loginId(loginId)
+                .email(loginId + "@brotherhood.com")
+                .passwordHash("hashedpassword")
+                .baptismalName("요한")
+                .branch(branch)
+                .isActive(true)
+                .build());
+    }
+}
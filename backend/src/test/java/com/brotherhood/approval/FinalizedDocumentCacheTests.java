@@ -0,0 +1,192 @@
+package com.brotherhood.approval;
+
+import com.brotherhood.approval.controller.ApprovalController;
+import com.brotherhood.approval.controller.DocumentController;
+import com.brotherhood.approval.entity.ApprovalHistory;
+import com.brotherhood.approval.entity.Branch;
+import com.brotherhood.approval.entity.Document;
+import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.event.DocumentChangedEvent;
+import com.brotherhood.approval.repository.ApprovalHistoryRepository;
+import com.brotherhood.approval.repository.BranchRepository;
+import com.brotherhood.approval.repository.DocumentRepository;
+import com.brotherhood.approval.repository.UserRepository;
+import com.brotherhood.approval.service.FinalizedDocumentCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static com.brotherhood.approval.QueryCountAssertions.assertMaxQueries;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 결재 완료 문서 응답 캐시 테스트
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class FinalizedDocumentCacheTests {
+
+    @Autowired
+    private DocumentController documentController;
+
+    @Autowired
+    private ApprovalController approvalController;
+
+    @Autowired
+    private FinalizedDocumentCache finalizedDocumentCache;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private ApprovalHistoryRepository approvalHistoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Branch branch;
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        finalizedDocumentCache.clear();
+        branch = branchRepository.save(Branch.builder().code("FINAL_CACHE").name("캐시 지사").isActive(true).build());
+        author = userRepository.save(User.builder()
+                .name("final_cache_author")
+                .loginId("final_cache_author")
+                .email("final_cache_author@brotherhood.com")
+                .passwordHash("hashedpassword")
+                .baptismalName("요한")
+                .branch(branch)
+                .isActive(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        finalizedDocumentCache.clear();
+    }
+
+    @Test
+    @DisplayName("승인 문서는 두 번째 조회부터 버전 조회 한 번 후 저장된 JSON 바이트를 그대로 반환")
+    void testApprovedDocumentServedFromBytes() throws Exception {
+        // Given
+        Document document = createDocument(Document.Status.APPROVED);
+        String documentId = document.getId().toString();
+        long hitsBefore = finalizedDocumentCache.getHitCount();
+
+        // When
+        ResponseEntity<?> first = documentController.getDocumentById(documentId, webRequest());
+        ResponseEntity<?> second = assertMaxQueries(1,
+                () -> documentController.getDocumentById(documentId, webRequest()));
+
+        // Then
+        assertThat(first.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(first.getBody()).isInstanceOf(byte[].class);
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        JsonNode json = objectMapper.readTree((byte[]) second.getBody());
+        assertThat(json.path("success").asBoolean()).isTrue();
+        assertThat(json.path("data").path("title").asText()).isEqualTo("캐시 문서");
+        assertThat(json.path("data").path("status").asText()).isEqualTo(Document.Status.APPROVED);
+        assertThat(finalizedDocumentCache.getHitCount() - hitsBefore).isEqualTo(1);
+        assertThat(finalizedDocumentCache.getBytes()).isEqualTo(((byte[]) first.getBody()).length);
+    }
+
+    @Test
+    @DisplayName("결재 이력과 결재선은 문서별 항목으로 따로 보관")
+    void testHistoryAndLinesCachedPerView() throws Exception {
+        // Given
+        Document document = createDocument(Document.Status.REJECTED);
+        approvalHistoryRepository.save(ApprovalHistory.builder()
+                .action("REJECT")
+                .comment("예산 초과")
+                .documentId(document.getId())
+                .approvalStepId(UUID.randomUUID())
+                .approverId(author.getId())
+                .actionAt(LocalDateTime.now())
+                .build());
+        entityManager.flush();
+        String documentId = document.getId().toString();
+
+        // When
+        ResponseEntity<?> history = approvalController.getApprovalHistoryByDocument(documentId, webRequest());
+        ResponseEntity<?> lines = approvalController.getApprovalLinesByDocument(documentId, webRequest());
+
+        // Then
+        JsonNode historyJson = objectMapper.readTree((byte[]) history.getBody());
+        assertThat(historyJson.path("data")).hasSize(1);
+        assertThat(historyJson.path("data").get(0).path("comment").asText()).isEqualTo("예산 초과");
+        assertThat(objectMapper.readTree((byte[]) lines.getBody()).path("data")).isEmpty();
+        assertThat(finalizedDocumentCache.getEntryCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("진행 중 문서는 캐시하지 않고, 변경 이벤트가 오면 문서 항목을 제거")
+    void testPendingNotCachedAndEvictedOnChange() {
+        // Given
+        Document pending = createDocument(Document.Status.PENDING);
+        Document approved = createDocument(Document.Status.APPROVED);
+
+        // When
+        ResponseEntity<?> pendingResponse = documentController.getDocumentById(pending.getId().toString(), webRequest());
+        documentController.getDocumentById(approved.getId().toString(), webRequest());
+        long cachedEntries = finalizedDocumentCache.getEntryCount();
+        finalizedDocumentCache.onDocumentChanged(
+                DocumentChangedEvent.of(approved.getId(), DocumentChangedEvent.ChangeType.UPDATED));
+
+        // Then
+        assertThat(pendingResponse.getBody()).isNotInstanceOf(byte[].class);
+        assertThat(cachedEntries).isEqualTo(1);
+        assertThat(finalizedDocumentCache.getEntryCount()).isZero();
+        assertThat(finalizedDocumentCache.getBytes()).isZero();
+    }
+
+    // Helper methods
+    private Document createDocument(String status) {
+        Document document = documentRepository.save(Document.builder()
+                .title("캐시 문서")
+                .content("<p>회람 본문</p>")
+                .documentType(Document.Type.GENERAL)
+                .status(status)
+                .author(author)
+                .branch(branch)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        return document;
+    }
+
+    private static ServletWebRequest webRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/documents"), new MockHttpServletResponse());
+    }
+}
@@ -0,0 +1,96 @@
+package com.brotherhood.approval;
+
+import com.brotherhood.approval.controller.MetricsController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Prometheus 메트릭 엔드포인트 접근 제어 테스트
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MetricsControllerTests {
+
+    private static final String TOKEN = "scrape-secret";
+
+    @Autowired
+    private MetricsController metricsController;
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(metricsController, "scrapeToken", "");
+    }
+
+    @Test
+    @DisplayName("토큰이 설정되지 않으면 익명 요청은 401")
+    void testAnonymousRejectedWithoutToken() {
+        // When
+        ResponseEntity<String> response = metricsController.scrape(null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    @DisplayName("토큰이 설정되지 않으면 빈 Bearer 값으로도 통과할 수 없음")
+    void testEmptyBearerRejectedWithoutToken() {
+        // When
+        ResponseEntity<String> response = metricsController.scrape("Bearer ");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("설정된 토큰과 일치하면 200, 다르면 401")
+    void testScrapeToken() {
+        // Given
+        ReflectionTestUtils.setField(metricsController, "scrapeToken", TOKEN);
+
+        // When
+        ResponseEntity<String> valid = metricsController.scrape("Bearer " + TOKEN);
+        ResponseEntity<String> invalid = metricsController.scrape("Bearer wrong");
+
+        // Then
+        assertThat(valid.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(valid.getBody()).isNotNull();
+        assertThat(invalid.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("ADMIN 사용자는 토큰 없이 200")
+    void testAdminAllowed() {
+        // When
+        ResponseEntity<String> response = metricsController.scrape(null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("일반 사용자는 토큰 없이 401")
+    void testUserRejected() {
+        // When
+        ResponseEntity<String> response = metricsController.scrape(null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+}
@@ -0,0 +1,203 @@
+package com.brotherhood.approval;
+
+import com.brotherhood.approval.controller.DocumentStatsController;
+import com.brotherhood.approval.dto.BaseResponse;
+import com.brotherhood.approval.dto.stats.DocumentStatsResponse;
+import com.brotherhood.approval.entity.ApprovalLine;
+import com.brotherhood.approval.entity.ApprovalStep;
+import com.brotherhood.approval.entity.Branch;
+import com.brotherhood.approval.entity.Document;
+import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.repository.ApprovalLineRepository;
+import com.brotherhood.approval.repository.ApprovalStepRepository;
+import com.brotherhood.approval.repository.BranchRepository;
+import com.brotherhood.approval.repository.DocumentRepository;
+import com.brotherhood.approval.repository.UserRepository;
+import com.brotherhood.approval.service.ProcessingTimeStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 문서 처리 시간 통계 테스트
+ *
+ * 테스트 DB(H2)에서는 스트리밍 스케치 방식으로 계산된다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ProcessingTimeStatsTests {
+
+    private static final LocalDateTime SUBMITTED_AT = LocalDateTime.of(2024, 9, 2, 9, 0);
+
+    @Autowired
+    private ProcessingTimeStatsService processingTimeStatsService;
+
+    @Autowired
+    private DocumentStatsController documentStatsController;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private ApprovalLineRepository approvalLineRepository;
+
+    @Autowired
+    private ApprovalStepRepository approvalStepRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+    private Branch branch;
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        branch = branchRepository.save(Branch.builder().code("PTIME_" + suffix).name("처리 시간 지사").isActive(true).build());
+        author = userRepository.save(User.builder()
+                .name("ptime_" + suffix)
+                .loginId("ptime_" + suffix)
+                .email("ptime_" + suffix + "@brotherhood.com")
+                .passwordHash("hashedpassword")
+                .baptismalName("요한")
+                .branch(branch)
+                .isActive(true)
+                .build());
+
+        // 처리 일수 1, 2, 3, 10 (평균 4일)
+        createCompletedDocument(1, Document.Status.APPROVED);
+        createCompletedDocument(2, Document.Status.APPROVED);
+        createCompletedDocument(3, Document.Status.REJECTED);
+        createCompletedDocument(10, Document.Status.APPROVED);
+
+        // 처리되지 않은 문서는 표본에서 제외
+        documentRepository.save(baseDocument(Document.Status.PENDING)
+                .submittedAt(SUBMITTED_AT)
+                .build());
+    }
+
+    @Test
+    @DisplayName("지사별 처리 시간은 완료 문서만으로 평균/중앙값/p90을 계산")
+    void testProcessingTimeByBranch() {
+        // When
+        DocumentStatsResponse.ProcessingTimeStats stats = processingTimeStatsService.getProcessingTimeStats();
+
+        // Then
+        assertThat(stats.getMethod()).isEqualTo("SKETCH");
+        assertThat(stats.getSampleCount()).isGreaterThanOrEqualTo(4L);
+
+        DocumentStatsResponse.ProcessingTimeBreakdown byBranch = stats.getByBranch().stream()
+                .filter(breakdown -> breakdown.getKey().equals(branch.getId().toString()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(byBranch.getLabel()).isEqualTo("처리 시간 지사");
+        assertThat(byBranch.getCount()).isEqualTo(4L);
+        assertThat(byBranch.getAverageDays()).isEqualTo(4.0);
+        assertThat(byBranch.getMedianDays()).isCloseTo(2.0, within(0.01));
+        assertThat(byBranch.getP90Days()).isCloseTo(10.0, within(0.02));
+        assertThat(byBranch.getP99Days()).isCloseTo(10.0, within(0.02));
+    }
+
+    @Test
+    @DisplayName("결재단계 체류 시간은 직전 단계 완료(첫 단계는 상신) 시각부터 계산")
+    void testStepDwellTimes() {
+        // Given - 1단계 2시간, 2단계 6시간 체류
+        Document document = documentRepository.save(baseDocument(Document.Status.APPROVED)
+                .submittedAt(SUBMITTED_AT)
+                .approvedAt(SUBMITTED_AT.plusHours(8))
+                .build());
+        ApprovalLine approvalLine = approvalLineRepository.save(ApprovalLine.builder()
+                .name("처리 시간 결재선")
+                .createdBy(author)
+                .document(document)
+                .build());
+        approvalStepRepository.save(ApprovalStep.builder()
+                .approvalLine(approvalLine)
+                .stepOrder(1)
+                .approver(author)
+                .approvedAt(SUBMITTED_AT.plusHours(2))
+                .build());
+        approvalStepRepository.save(ApprovalStep.builder()
+                .approvalLine(approvalLine)
+                .stepOrder(2)
+                .approver(author)
+                .approvedAt(SUBMITTED_AT.plusHours(8))
+                .build());
+        approvalStepRepository.flush();
+
+        // When
+        DocumentStatsResponse.ProcessingTimeStats stats = processingTimeStatsService.getProcessingTimeStats();
+
+        // Then
+        assertThat(stats.getStepDwellTimes())
+                .anySatisfy(dwell -> {
+                    assertThat(dwell.getStepOrder()).isEqualTo(1);
+                    assertThat(dwell.getCount()).isPositive();
+                })
+                .anySatisfy(dwell -> {
+                    assertThat(dwell.getStepOrder()).isEqualTo(2);
+                    assertThat(dwell.getCount()).isPositive();
+                });
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("문서 통계 API는 처리 시간 분위수와 유형별 평균 처리 일수를 포함")
+    void testDocumentStatsEndpointIncludesProcessingTime() {
+        // When
+        ResponseEntity<BaseResponse<DocumentStatsResponse>> response = documentStatsController.getDocumentStats();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        DocumentStatsResponse stats = response.getBody().getData();
+        assertThat(stats.getProcessingTimeStats().getMedianDays()).isNotNull();
+        assertThat(stats.getProcessingTimeStats().getByDocumentType())
+                .anySatisfy(breakdown -> assertThat(breakdown.getKey()).isEqualTo(Document.Type.GENERAL));
+        assertThat(stats.getDocumentsByType())
+                .anySatisfy(type -> {
+                    assertThat(type.getDocumentType()).isEqualTo(Document.Type.GENERAL);
+                    assertThat(type.getAvgProcessingDays()).isPositive();
+                });
+    }
+
+    // Helper methods
+    private void createCompletedDocument(int days, String status) {
+        Document.DocumentBuilder builder = baseDocument(status).submittedAt(SUBMITTED_AT);
+        if (Document.Status.REJECTED.equals(status)) {
+            builder.rejectedAt(SUBMITTED_AT.plusDays(days));
+        } else {
+            builder.approvedAt(SUBMITTED_AT.plusDays(days));
+        }
+        documentRepository.save(builder.build());
+    }
+
+    private Document.DocumentBuilder baseDocument(String status) {
+        return Document.builder()
+                .title("처리 시간 문서")
+                .content("<p>본문</p>")
+                .documentType(Document.Type.GENERAL)
+                .status(status)
+                .author(author)
+                .branch(branch);
+    }
+}
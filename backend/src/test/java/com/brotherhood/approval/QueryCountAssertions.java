@@ -0,0 +1,72 @@
+package com.brotherhood.approval;
+
+import com.brotherhood.approval.metrics.QueryCountHolder;
+import com.brotherhood.approval.metrics.QueryStatistics;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SQL 실행 횟수 검증 도우미
+ * 
+ * 테스트 스레드에서 실행된 SQL을 {@link QueryCountHolder}로 집계하여 N+1 회귀를 잡는다.
+ * 
+ * <pre>
+ * Page&lt;DocumentDto&gt; page = assertMaxQueries(3, () -&gt; documentService.getDocuments(pageable));
+ * </pre>
+ * 
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    /**
+     * 집계 시작 (이전 집계는 버림)
+     */
+    public static void reset() {
+        QueryCountHolder.start();
+    }
+
+    /**
+     * reset() 이후 실행된 SQL 수 검증 후 집계 종료
+     */
+    public static QueryStatistics assertMaxQueries(int maxStatements) {
+        QueryStatistics statistics = QueryCountHolder.stop();
+        assertThat(statistics).as("QueryCountAssertions.reset()이 먼저 호출되어야 합니다").isNotNull();
+        assertThat(statistics.getStatementCount())
+                .as("SQL 실행 횟수 초과: %s", statistics)
+                .isLessThanOrEqualTo(maxStatements);
+        return statistics;
+    }
+
+    /**
+     * action 실행 중 SQL 수 검증
+     */
+    public static <T> T assertMaxQueries(int maxStatements, Supplier<T> action) {
+        reset();
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException | Error e) {
+            QueryCountHolder.stop();
+            throw e;
+        }
+        assertMaxQueries(maxStatements);
+        return result;
+    }
+
+    /**
+     * action 실행 중 SQL 수 검증 (반환값 없음)
+     */
+    public static void assertMaxQueries(int maxStatements, Runnable action) {
+        assertMaxQueries(maxStatements, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
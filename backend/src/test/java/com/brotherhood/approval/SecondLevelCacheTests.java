@@ -0,0 +1,171 @@
+package com.brotherhood.approval;
+
+import com.brotherhood.approval.config.SecondLevelCacheConfig;
+import com.brotherhood.approval.controller.CacheController;
+import com.brotherhood.approval.dto.BaseResponse;
+import com.brotherhood.approval.dto.stats.SecondLevelCacheStatistics;
+import com.brotherhood.approval.entity.Branch;
+import com.brotherhood.approval.event.ReferenceDataChangedEvent;
+import com.brotherhood.approval.repository.BranchRepository;
+import com.brotherhood.approval.service.DocumentStatsRollupService;
+import com.brotherhood.approval.service.SecondLevelCacheService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Hibernate 2차 캐시 테스트
+ *
+ * 캐시는 트랜잭션(세션)을 넘어 공유되므로 테스트 트랜잭션 없이 조회마다 새 세션을 쓰고 직접 정리한다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@RecordApplicationEvents
+class SecondLevelCacheTests {
+
+    @Autowired
+    private SecondLevelCacheService secondLevelCacheService;
+
+    @Autowired
+    private CacheController cacheController;
+
+    @Autowired
+    private DocumentStatsRollupService documentStatsRollupService;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+    private Branch branch;
+
+    @BeforeEach
+    void setUp() {
+        branch = branchRepository.save(Branch.builder().code("CACHE_" + suffix).name("캐시 지사").isActive(true).build());
+        secondLevelCacheService.evict(SecondLevelCacheConfig.BRANCH_REGION);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM branches WHERE id = ?", branch.getId());
+        jdbcTemplate.update("DELETE FROM document_daily_stats");
+        jdbcTemplate.update("DELETE FROM stats_watermarks WHERE name = 'document_daily_stats'");
+        secondLevelCacheService.evict(SecondLevelCacheConfig.BRANCH_REGION);
+    }
+
+    @Test
+    @DisplayName("지사는 첫 조회에서 캐시에 담기고 다른 세션의 다음 조회는 캐시 적중")
+    void testBranchLoadedFromCache() {
+        // Given
+        SecondLevelCacheStatistics before = statistics(SecondLevelCacheConfig.BRANCH_REGION);
+
+        // When
+        branchRepository.findById(branch.getId()).orElseThrow();
+        Branch cached = branchRepository.findById(branch.getId()).orElseThrow();
+
+        // Then
+        SecondLevelCacheStatistics after = statistics(SecondLevelCacheConfig.BRANCH_REGION);
+        assertThat(cached.getCode()).isEqualTo("CACHE_" + suffix);
+        assertThat(after.getMisses()).isGreaterThan(before.getMisses());
+        assertThat(after.getPuts()).isGreaterThan(before.getPuts());
+        assertThat(after.getHits()).isGreaterThan(before.getHits());
+        assertThat(after.getHitRatio()).isBetween(0.0, 1.0);
+    }
+
+    @Test
+    @DisplayName("영역을 비우면 참조 데이터 변경 이벤트를 발행하고 다음 조회는 DB에서 다시 읽음")
+    void testEvictRegion() {
+        // Given
+        branchRepository.findById(branch.getId()).orElseThrow();
+        jdbcTemplate.update("UPDATE branches SET name = ? WHERE id = ?", "직접 수정한 지사", branch.getId());
+        assertThat(branchRepository.findById(branch.getId()).orElseThrow().getName()).isEqualTo("캐시 지사");
+        long eventsBefore = referenceEvents(ReferenceDataChangedEvent.DataType.BRANCH);
+
+        // When
+        secondLevelCacheService.evict(SecondLevelCacheConfig.BRANCH_REGION);
+
+        // Then
+        assertThat(branchRepository.findById(branch.getId()).orElseThrow().getName()).isEqualTo("직접 수정한 지사");
+        assertThat(referenceEvents(ReferenceDataChangedEvent.DataType.BRANCH)).isEqualTo(eventsBefore + 1);
+    }
+
+    @Test
+    @DisplayName("일별 통계 집계의 네이티브 갱신 쿼리는 참조 데이터 캐시를 비우지 않음")
+    void testRollupRefreshKeepsBranchCache() {
+        // Given
+        branchRepository.findById(branch.getId()).orElseThrow();
+
+        // When
+        documentStatsRollupService.backfill();
+        documentStatsRollupService.refreshIncremental();
+
+        // Then
+        SecondLevelCacheStatistics before = statistics(SecondLevelCacheConfig.BRANCH_REGION);
+        branchRepository.findById(branch.getId()).orElseThrow();
+        SecondLevelCacheStatistics after = statistics(SecondLevelCacheConfig.BRANCH_REGION);
+        assertThat(after.getHits()).isEqualTo(before.getHits() + 1);
+        assertThat(after.getMisses()).isEqualTo(before.getMisses());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("캐시 API는 모든 영역 지표를 반환하고, 없는 영역은 400, 영역 미지정은 전체 비우기")
+    void testCacheEndpoints() {
+        // When
+        ResponseEntity<BaseResponse<List<SecondLevelCacheStatistics>>> statistics =
+                cacheController.getSecondLevelCacheStatistics();
+        ResponseEntity<BaseResponse<String>> unknown = cacheController.evictSecondLevelCache("reference.unknown");
+        ResponseEntity<BaseResponse<String>> all = cacheController.evictSecondLevelCache(null);
+
+        // Then
+        assertThat(statistics.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(statistics.getBody().getData())
+                .extracting(SecondLevelCacheStatistics::getRegion)
+                .containsExactlyElementsOf(SecondLevelCacheConfig.REGIONS);
+
+        assertThat(unknown.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(unknown.getBody().getMessage()).contains("reference.unknown");
+
+        assertThat(all.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(all.getBody().getData()).isEqualTo("all");
+        assertThat(referenceEvents(ReferenceDataChangedEvent.DataType.ALL)).isEqualTo(1L);
+    }
+
+    // Helper methods
+    private SecondLevelCacheStatistics statistics(String region) {
+        return secondLevelCacheService.getStatistics().stream()
+                .filter(statistics -> statistics.getRegion().equals(region))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private long referenceEvents(ReferenceDataChangedEvent.DataType dataType) {
+        return applicationEvents.stream(ReferenceDataChangedEvent.class)
+                .filter(event -> event.getDataType() == dataType)
+                .count();
+    }
+}
@@ -0,0 +1,223 @@
+package com.brotherhood.approval;
+
+import com.brotherhood.approval.controller.DocumentStatsController;
+import com.brotherhood.approval.dto.BaseResponse;
+import com.brotherhood.approval.dto.stats.StatsCacheStatistics;
+import com.brotherhood.approval.event.DocumentChangedEvent;
+import com.brotherhood.approval.service.StatsCacheService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 통계 응답 캐시 테스트
+ *
+ * 여러 스레드에서 동시에 조회하므로 테스트 트랜잭션을 사용하지 않는다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class StatsCacheTests {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private StatsCacheService statsCacheService;
+
+    @Autowired
+    private DocumentStatsController documentStatsController;
+
+    private final String key = "test_" + UUID.randomUUID().toString().substring(0, 8);
+
+    @BeforeEach
+    void setUp() {
+        statsCacheService.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(statsCacheService, "ttlSeconds", 30L);
+        statsCacheService.clear();
+    }
+
+    @Test
+    @DisplayName("같은 키를 동시에 요청하면 한 번만 계산하고 모두 같은 결과를 받음")
+    void testSingleFlightLoading() throws Exception {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // When
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return statsCacheService.get(key, () -> {
+                        sleep(200);
+                        return loads.incrementAndGet();
+                    });
+                }));
+            }
+            start.countDown();
+
+            // Then
+            for (Future<Integer> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(findStatistics(key).getLoads()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("만료되면 이전 값을 즉시 반환하고 백그라운드에서 다시 계산")
+    void testStaleWhileRevalidate() throws InterruptedException {
+        // Given
+        AtomicInteger version = new AtomicInteger();
+        assertThat(statsCacheService.get(key, version::incrementAndGet)).isEqualTo(1);
+        assertThat(statsCacheService.get(key, version::incrementAndGet)).isEqualTo(1);
+
+        // When
+        statsCacheService.invalidate(key);
+        Integer stale = statsCacheService.get(key, version::incrementAndGet);
+
+        // Then
+        assertThat(stale).isEqualTo(1);
+        Integer refreshed = getUntil(key, version::get, value -> value == 2);
+        assertThat(refreshed).isEqualTo(2);
+
+        StatsCacheStatistics statistics = findStatistics(key);
+        assertThat(statistics.getMisses()).isEqualTo(1L);
+        assertThat(statistics.getStaleHits()).isGreaterThanOrEqualTo(1L);
+        assertThat(statistics.getHits()).isGreaterThanOrEqualTo(1L);
+        assertThat(statistics.getLoads()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("계산 실패는 호출자에게 전달되고 다음 요청에서 다시 계산")
+    void testLoadFailureIsNotCached() {
+        // When & Then
+        assertThatThrownBy(() -> statsCacheService.get(key, () -> {
+            throw new IllegalStateException("집계 실패");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("집계 실패");
+
+        assertThat(statsCacheService.get(key, () -> "복구")).isEqualTo("복구");
+        StatsCacheStatistics statistics = findStatistics(key);
+        assertThat(statistics.getLoadFailures()).isEqualTo(1L);
+        assertThat(statistics.getLoads()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("문서 상태 변경은 문서/대시보드 통계만, 첨부파일 변경은 첨부파일 통계도 만료")
+    void testDocumentChangeInvalidatesMatchingKeys() {
+        // Given - TTL을 길게 두어 만료 이벤트로만 다시 계산되게 한다
+        ReflectionTestUtils.setField(statsCacheService, "ttlSeconds", 3600L);
+        AtomicInteger documentLoads = new AtomicInteger();
+        AtomicInteger attachmentLoads = new AtomicInteger();
+        statsCacheService.get(StatsCacheService.DOCUMENT_STATS, documentLoads::incrementAndGet);
+        statsCacheService.get(StatsCacheService.ATTACHMENT_STATS, attachmentLoads::incrementAndGet);
+
+        // When
+        statsCacheService.onDocumentChanged(
+                DocumentChangedEvent.of(UUID.randomUUID(), DocumentChangedEvent.ChangeType.STATUS_CHANGED));
+        statsCacheService.get(StatsCacheService.ATTACHMENT_STATS, attachmentLoads::incrementAndGet);
+
+        // Then
+        assertThat(findStatistics(StatsCacheService.DOCUMENT_STATS).getStaleHits()).isZero();
+        assertThat(findStatistics(StatsCacheService.ATTACHMENT_STATS).getHits()).isEqualTo(1L);
+        assertThat(statsCacheService.get(StatsCacheService.DOCUMENT_STATS, documentLoads::incrementAndGet))
+                .isEqualTo(1);  // 이전 값 반환 후 백그라운드 재계산
+        assertThat(findStatistics(StatsCacheService.DOCUMENT_STATS).getStaleHits()).isEqualTo(1L);
+
+        // When
+        statsCacheService.onDocumentChanged(
+                DocumentChangedEvent.of(UUID.randomUUID(), DocumentChangedEvent.ChangeType.ATTACHMENT_CHANGED));
+        statsCacheService.get(StatsCacheService.ATTACHMENT_STATS, attachmentLoads::incrementAndGet);
+
+        // Then
+        assertThat(findStatistics(StatsCacheService.ATTACHMENT_STATS).getStaleHits()).isEqualTo(1L);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("통계 캐시 지표 API는 키별 적중/미스/계산 횟수를 반환")
+    void testCacheStatisticsEndpoint() {
+        // Given
+        statsCacheService.get(key, () -> "값");
+        statsCacheService.get(key, () -> "값");
+
+        // When
+        ResponseEntity<BaseResponse<List<StatsCacheStatistics>>> response =
+                documentStatsController.getStatsCacheStatistics();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getData())
+                .filteredOn(statistics -> statistics.getKey().equals(key))
+                .singleElement()
+                .satisfies(statistics -> {
+                    assertThat(statistics.getMisses()).isEqualTo(1L);
+                    assertThat(statistics.getHits()).isEqualTo(1L);
+                    assertThat(statistics.getLoads()).isEqualTo(1L);
+                    assertThat(statistics.getHitRatio()).isEqualTo(0.5);
+                });
+    }
+
+    // Helper methods
+    private StatsCacheStatistics findStatistics(String cacheKey) {
+        return statsCacheService.getStatistics().stream()
+                .filter(statistics -> statistics.getKey().equals(cacheKey))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    /**
+     * 백그라운드 재계산이 반영될 때까지 최대 5초 재조회
+     */
+    private <T> T getUntil(String cacheKey, Supplier<T> loader, Predicate<T> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        T value = statsCacheService.get(cacheKey, loader);
+        while (!condition.test(value) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            value = statsCacheService.get(cacheKey, loader);
+        }
+        return value;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.brotherhood.approval;
+
+import com.brotherhood.approval.dto.user.UserDto;
+import com.brotherhood.approval.entity.Branch;
+import com.brotherhood.approval.entity.Role;
+import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.entity.UserRole;
+import com.brotherhood.approval.repository.BranchRepository;
+import com.brotherhood.approval.repository.RoleRepository;
+import com.brotherhood.approval.repository.UserRepository;
+import com.brotherhood.approval.repository.UserRoleRepository;
+import com.brotherhood.approval.service.UserService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.brotherhood.approval.QueryCountAssertions.assertMaxQueries;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 사용자 목록 역할 일괄 조회 테스트
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class UserListRoleLoadingTests {
+
+    private static final int USERS = 20;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserRoleRepository userRoleRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Branch branch;
+
+    @BeforeEach
+    void setUp() {
+        branch = branchRepository.save(Branch.builder().code("ROLE_LIST").name("역할 지사").isActive(true).build());
+        Role manager = findOrCreateRole("MANAGER");
+        Role admin = findOrCreateRole("ADMIN");
+
+        for (int i = 0; i < USERS; i++) {
+            User user = createUser(String.format("role_list_%02d", i), i % 5 != 4);
+            if (i % 2 == 0) {
+                grant(user, manager);
+            }
+            if (i % 3 == 0) {
+                grant(user, admin);
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("사용자 목록은 페이지와 역할을 고정된 쿼리 수로 조회하고 실제 역할을 반환")
+    void testGetUsersLoadsRolesInBatch() {
+        // When
+        Page<UserDto> page = assertMaxQueries(3,  // 목록 + COUNT + 역할 IN
+                () -> userService.getUsers(PageRequest.of(0, 50, Sort.by("loginId"))));
+
+        // Then
+        List<UserDto> users = page.getContent().stream()
+                .filter(user -> user.getLoginId().startsWith("role_list_"))
+                .toList();
+        assertThat(users).isNotEmpty();
+        assertThat(users).allSatisfy(user -> {
+            int index = Integer.parseInt(user.getLoginId().substring("role_list_".length()));
+            assertThat(user.getRoles()).containsExactlyInAnyOrderElementsOf(expectedRoles(index));
+            assertThat(user.getBranchName()).isEqualTo("역할 지사");
+        });
+    }
+
+    @Test
+    @DisplayName("활성 사용자 목록도 역할을 한 번에 조회")
+    void testGetActiveUsersLoadsRolesInBatch() {
+        // When
+        List<UserDto> activeUsers = assertMaxQueries(2,  // 사용자 + 역할 IN
+                () -> userService.getActiveUsers());
+
+        // Then
+        List<UserDto> users = activeUsers.stream()
+                .filter(user -> user.getLoginId().startsWith("role_list_"))
+                .toList();
+        assertThat(users).hasSize(USERS - USERS / 5);
+        assertThat(users).allSatisfy(user -> {
+            int index = Integer.parseInt(user.getLoginId().substring("role_list_".length()));
+            assertThat(user.getRoles()).containsExactlyInAnyOrderElementsOf(expectedRoles(index));
+        });
+    }
+
+    // Helper methods
+    private static List<String> expectedRoles(int index) {
+        if (index % 2 != 0 && index % 3 != 0) {
+            return List.of("USER");
+        }
+        return index % 2 == 0 && index % 3 == 0 ? List.of("MANAGER", "ADMIN")
+                : index % 2 == 0 ? List.of("MANAGER") : List.of("ADMIN");
+    }
+
+    private Role findOrCreateRole(String name) {
+        return roleRepository.findByName(name)
+                .orElseGet(() -> roleRepository.save(Role.builder().name(name).isActive(true).build()));
+    }
+
+    private User createUser(String loginId, boolean active) {
+        return userRepository.save(User.builder()
+                .name(loginId)
+                .loginId(loginId)
+                .email(loginId + "@brotherhood.com")
+                .passwordHash("hashedpassword")
+                .baptismalName("요한")
+                .branch(branch)
+                .isActive(active)
+                .build());
+    }
+
+    private void grant(User user, Role role) {
+        userRoleRepository.save(UserRole.builder()
+                .user(user)
+                .role(role)
+                .branch(branch)
+                .isActive(true)
+                .grantedAt(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,187 @@
+package com.brotherhood.approval;
+
+import com.brotherhood.approval.dto.user.UserUpdateRequest;
+import com.brotherhood.approval.entity.Branch;
+import com.brotherhood.approval.entity.Role;
+import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.entity.UserRole;
+import com.brotherhood.approval.event.UserChangedEvent;
+import com.brotherhood.approval.repository.BranchRepository;
+import com.brotherhood.approval.repository.RoleRepository;
+import com.brotherhood.approval.repository.UserRepository;
+import com.brotherhood.approval.repository.UserRoleRepository;
+import com.brotherhood.approval.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 사용자 역할 부여/회수 및 지사 이동 테스트
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@RecordApplicationEvents
+class UserRoleGrantTests {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserRoleRepository userRoleRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+    private Branch hqBranch;
+    private Branch childBranch;
+    private Role role;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        hqBranch = branchRepository.save(Branch.builder().code("GRANT_HQ_" + suffix).name("부여 본원").isActive(true).build());
+        childBranch = branchRepository.save(Branch.builder().code("GRANT_CHILD_" + suffix).name("부여 지사").isActive(true).build());
+        role = roleRepository.save(Role.builder()
+                .name("GRANT_" + suffix)
+                .description("부여 테스트 역할")
+                .isActive(true)
+                .build());
+        user = userRepository.save(User.builder()
+                .name("grant_" + suffix)
+                .loginId("grant_" + suffix)
+                .email("grant_" + suffix + "@brotherhood.com")
+                .passwordHash("hashedpassword")
+                .baptismalName("요한")
+                .branch(childBranch)
+                .isActive(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("역할 부여는 소속 지사로 활성 부여를 만들고 ROLES_CHANGED를 한 번만 발행")
+    void testAssignRole() {
+        // When
+        userService.assignRole(user.getId().toString(), role.getId().toString());
+        userService.assignRole(user.getId().toString(), role.getId().toString());
+
+        // Then
+        UserRole grant = findGrant();
+        assertThat(grant.getIsActive()).isTrue();
+        assertThat(grant.getBranch().getId()).isEqualTo(childBranch.getId());
+        assertThat(grant.getGrantedAt()).isNotNull();
+        assertThat(rolesChangedEvents()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("역할 회수는 부여 이력을 남기고 비활성화하며, 다시 부여하면 같은 행을 활성화")
+    void testRemoveAndReassignRole() {
+        // Given
+        userService.assignRole(user.getId().toString(), role.getId().toString());
+        UUID grantId = findGrant().getId();
+
+        // When
+        userService.removeRole(user.getId().toString(), role.getId().toString());
+        userService.removeRole(user.getId().toString(), role.getId().toString());
+
+        // Then
+        assertThat(findGrant().getIsActive()).isFalse();
+        assertThat(rolesChangedEvents()).hasSize(2);
+
+        // When
+        userService.assignRole(user.getId().toString(), role.getId().toString());
+
+        // Then
+        UserRole grant = findGrant();
+        assertThat(grant.getId()).isEqualTo(grantId);
+        assertThat(grant.getIsActive()).isTrue();
+        assertThat(rolesChangedEvents()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("부여되지 않은 역할 회수와 없는 역할 부여는 예외")
+    void testInvalidGrantRequests() {
+        // When & Then
+        assertThatThrownBy(() -> userService.removeRole(user.getId().toString(), role.getId().toString()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("부여된 역할이 없습니다");
+        assertThatThrownBy(() -> userService.assignRole(user.getId().toString(), UUID.randomUUID().toString()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("역할을 찾을 수 없습니다");
+        assertThat(rolesChangedEvents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("지사 이동은 ROLES_CHANGED, 그 외 정보 수정은 UPDATED 발행")
+    void testBranchMovePublishesRolesChanged() {
+        // When
+        userService.updateUser(user.getId().toString(), UserUpdateRequest.builder()
+                .phone("010-1234-5678")
+                .build());
+
+        // Then
+        assertThat(userChangeTypes()).containsExactly(UserChangedEvent.ChangeType.UPDATED);
+
+        // When
+        userService.updateUser(user.getId().toString(), UserUpdateRequest.builder()
+                .branchId(hqBranch.getId().toString())
+                .build());
+
+        // Then
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getBranch().getId())
+                .isEqualTo(hqBranch.getId());
+        assertThat(userChangeTypes())
+                .containsExactly(UserChangedEvent.ChangeType.UPDATED, UserChangedEvent.ChangeType.ROLES_CHANGED);
+
+        // When & Then - 없는 지사로 이동
+        assertThatThrownBy(() -> userService.updateUser(user.getId().toString(), UserUpdateRequest.builder()
+                .branchId(UUID.randomUUID().toString())
+                .build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("존재하지 않는 지사입니다");
+    }
+
+    // Helper methods
+    private UserRole findGrant() {
+        return userRoleRepository.findByUserIdAndRoleId(user.getId(), role.getId()).orElseThrow();
+    }
+
+    private List<UserChangedEvent> rolesChangedEvents() {
+        return applicationEvents.stream(UserChangedEvent.class)
+                .filter(event -> event.getUserId().equals(user.getId())
+                        && event.getChangeType() == UserChangedEvent.ChangeType.ROLES_CHANGED)
+                .toList();
+    }
+
+    private List<UserChangedEvent.ChangeType> userChangeTypes() {
+        return applicationEvents.stream(UserChangedEvent.class)
+                .filter(event -> event.getUserId().equals(user.getId()))
+                .map(UserChangedEvent::getChangeType)
+                .toList();
+    }
+}
@@ -0,0 +1,216 @@
+package com.brotherhood.approval;
+
+import com.brotherhood.approval.dto.user.UserSuggestionDto;
+import com.brotherhood.approval.entity.Branch;
+import com.brotherhood.approval.entity.Role;
+import com.brotherhood.approval.entity.User;
+import com.brotherhood.approval.entity.UserRole;
+import com.brotherhood.approval.event.UserChangedEvent;
+import com.brotherhood.approval.repository.BranchRepository;
+import com.brotherhood.approval.repository.RoleRepository;
+import com.brotherhood.approval.repository.UserRepository;
+import com.brotherhood.approval.repository.UserRoleRepository;
+import com.brotherhood.approval.service.UserSuggestService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static com.brotherhood.approval.QueryCountAssertions.assertMaxQueries;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 사용자 자동완성 색인 테스트
+ *
+ * 조회는 지사 필터로 테스트 데이터만 보도록 좁힌다.
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class UserSuggestTests {
+
+    @Autowired
+    private UserSuggestService userSuggestService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserRoleRepository userRoleRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+    private Branch branch;
+    private Branch otherBranch;
+    private Role role;
+    private User kim;
+    private User lee;
+
+    @BeforeEach
+    void setUp() {
+        branch = branchRepository.save(Branch.builder().code("SUGGEST_" + suffix).name("자동완성 지사").isActive(true).build());
+        otherBranch = branchRepository.save(Branch.builder().code("SUGGEST_OTHER_" + suffix).name("자동완성 다른 지사").isActive(true).build());
+        role = roleRepository.save(Role.builder()
+                .name("SUGGEST_" + suffix)
+                .description("자동완성 테스트 역할")
+                .isActive(true)
+                .build());
+
+        kim = createUser("김철수", "바오로", "kim_" + suffix, "cs.kim." + suffix + "@brotherhood.com", branch);
+        lee = createUser("이영희", "요한", "lee_" + suffix, "yh.lee." + suffix + "@brotherhood.com", branch);
+        grantRole(kim);
+        userRoleRepository.flush();
+
+        userSuggestService.rebuild();
+    }
+
+    @AfterTransaction
+    void rebuildAfterRollback() {
+        // 롤백된 테스트 사용자가 색인에 남지 않도록 다시 구성
+        userSuggestService.rebuild();
+    }
+
+    @Test
+    @DisplayName("한글 이름/세례명 접두어와 이름 초성으로 찾음")
+    void testHangulPrefixAndChoseong() {
+        // When & Then
+        assertThat(names(suggest("김철", null, branch))).containsExactly("김철수");
+        assertThat(names(suggest("바오", null, branch))).containsExactly("김철수");
+        assertThat(names(suggest("ㄱㅊ", null, branch))).containsExactly("김철수");
+        assertThat(names(suggest("ㅇㅇ", null, branch))).containsExactly("이영희");
+        assertThat(suggest("박", null, branch)).isEmpty();
+
+        UserSuggestionDto suggestion = suggest("김", null, branch).get(0);
+        assertThat(suggestion.getDisplayName()).isEqualTo("김철수 (바오로)");
+        assertThat(suggestion.getBranchName()).isEqualTo("자동완성 지사");
+        assertThat(suggestion.getRoles()).containsExactly(role.getName());
+    }
+
+    @Test
+    @DisplayName("로그인 ID와 이메일 접두어는 대소문자 구분 없이 찾음")
+    void testLoginIdAndEmailPrefix() {
+        // When & Then
+        assertThat(names(suggest("KIM_" + suffix, null, branch))).containsExactly("김철수");
+        assertThat(names(suggest("yh.lee." + suffix, null, branch))).containsExactly("이영희");
+        assertThat(suggest("yh.lee." + suffix, null, branch).get(0).getEmail())
+                .isEqualTo("yh.lee." + suffix + "@brotherhood.com");
+    }
+
+    @Test
+    @DisplayName("역할 필터와 지사 필터로 결과를 좁힘")
+    void testRoleAndBranchFilters() {
+        // Given
+        createUser("김철민", "요셉", "kim2_" + suffix, "cm.kim." + suffix + "@brotherhood.com", otherBranch);
+        userSuggestService.rebuild();
+
+        // When & Then
+        assertThat(names(suggest("", role.getName(), branch))).containsExactly("김철수");
+        assertThat(names(suggest("ㄱㅊ", null, branch))).containsExactly("김철수");
+        assertThat(names(suggest("ㄱㅊ", null, otherBranch))).containsExactly("김철민");
+        assertThat(suggest("김철", role.getName(), otherBranch)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조회 건수는 기본 10건, 1~50건 범위로 제한")
+    void testLimitClamp() {
+        // Given
+        for (int i = 0; i < 55; i++) {
+            createUser("최" + i, "요한", "choi" + i + "_" + suffix, "choi" + i + "." + suffix + "@brotherhood.com", branch);
+        }
+        userSuggestService.rebuild();
+
+        // When & Then
+        assertThat(userSuggestService.suggest("최", null, branch.getId().toString(), null)).hasSize(10);
+        assertThat(userSuggestService.suggest("최", null, branch.getId().toString(), 0)).hasSize(1);
+        assertThat(userSuggestService.suggest("최", null, branch.getId().toString(), -5)).hasSize(1);
+        assertThat(userSuggestService.suggest("최", null, branch.getId().toString(), 20)).hasSize(20);
+        assertThat(userSuggestService.suggest("최", null, branch.getId().toString(), 1000)).hasSize(50);
+    }
+
+    @Test
+    @DisplayName("사용자 변경 이벤트는 전체 재구성 없이 해당 사용자만 추가/수정/제거")
+    void testUserChangedEventUpdatesIndex() {
+        // Given
+        int sizeBefore = userSuggestService.size();
+        User park = createUser("박민수", "베드로", "park_" + suffix, "ms.park." + suffix + "@brotherhood.com", branch);
+        userRepository.flush();
+
+        // When - 추가
+        assertMaxQueries(1, () -> publish(park, UserChangedEvent.ChangeType.CREATED));
+
+        // Then
+        assertThat(names(suggest("박민", null, branch))).containsExactly("박민수");
+        assertThat(userSuggestService.size()).isEqualTo(sizeBefore + 1);
+
+        // When - 수정
+        park.setName("박준수");
+        userRepository.saveAndFlush(park);
+        assertMaxQueries(1, () -> publish(park, UserChangedEvent.ChangeType.UPDATED));
+
+        // Then
+        assertThat(suggest("박민", null, branch)).isEmpty();
+        assertThat(names(suggest("ㅂㅈ", null, branch))).containsExactly("박준수");
+        assertThat(names(suggest("김", null, branch))).containsExactly("김철수");
+
+        // When - 비활성화
+        park.setIsActive(false);
+        userRepository.saveAndFlush(park);
+        assertMaxQueries(1, () -> publish(park, UserChangedEvent.ChangeType.STATUS_CHANGED));
+
+        // Then
+        assertThat(suggest("박", null, branch)).isEmpty();
+        assertThat(userSuggestService.size()).isEqualTo(sizeBefore);
+    }
+
+    // Helper methods
+    private List<UserSuggestionDto> suggest(String query, String roleName, Branch filterBranch) {
+        return userSuggestService.suggest(query, roleName, filterBranch.getId().toString(), null);
+    }
+
+    private List<String> names(List<UserSuggestionDto> suggestions) {
+        return suggestions.stream().map(UserSuggestionDto::getName).toList();
+    }
+
+    private void publish(User user, UserChangedEvent.ChangeType changeType) {
+        userSuggestService.onUserChanged(UserChangedEvent.of(user.getId(), changeType));
+    }
+
+    private User createUser(String name, String baptismalName, String loginId, String email, Branch userBranch) {
+        return userRepository.save(User.builder()
+                .name(name)
+                .loginId(loginId)
+                .email(email)
+                .passwordHash("hashedpassword")
+                .baptismalName(baptismalName)
+                .branch(userBranch)
+                .isActive(true)
+                .build());
+    }
+
+    private void grantRole(User user) {
+        userRoleRepository.save(UserRole.builder()
+                .user(user)
+                .role(role)
+                .branch(user.getBranch())
+                .isActive(true)
+                .grantedAt(LocalDateTime.now())
+                .build());
+    }
+}
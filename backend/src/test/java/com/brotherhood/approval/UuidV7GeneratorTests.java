@@ -0,0 +1,119 @@
+package com.brotherhood.approval;
+
+import com.brotherhood.approval.entity.AuditLog;
+import com.brotherhood.approval.entity.id.UuidV7Generator;
+import com.brotherhood.approval.repository.AuditLogRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * UUIDv7 식별자 생성 테스트
+ *
+ * @author Brotherhood Development Team
+ * @version 1.0.0
+ * @since 2024-10-20
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class UuidV7GeneratorTests {
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Test
+    @DisplayName("같은 스레드에서 생성한 UUIDv7은 단조 증가하고 버전/변형 비트가 올바름")
+    void testMonotonicWithinThread() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(UuidV7Generator.nextUuid());
+        }
+
+        // Then
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(compareUnsigned(ids.get(i - 1), ids.get(i))).isNegative();
+        }
+        assertThat(ids).allSatisfy(id -> {
+            assertThat(id.version()).isEqualTo(7);
+            assertThat(id.variant()).isEqualTo(2);
+        });
+        assertThat(UuidV7Generator.timestampOf(ids.get(0))).isGreaterThanOrEqualTo(before);
+        assertThat(new HashSet<>(ids)).hasSize(ids.size());
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 중복 없음")
+    void testUniqueAcrossThreads() throws Exception {
+        // Given
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 50_000; i++) {
+                        ids.add(UuidV7Generator.nextUuid());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertThat(ids).hasSize(8 * 50_000);
+    }
+
+    @Test
+    @DisplayName("엔티티 저장 시 UUIDv7 식별자 할당")
+    void testEntityIdIsUuidV7() {
+        // When
+        AuditLog first = auditLogRepository.save(createAuditLog());
+        AuditLog second = auditLogRepository.save(createAuditLog());
+
+        // Then
+        assertThat(first.getId().version()).isEqualTo(7);
+        assertThat(compareUnsigned(first.getId(), second.getId())).isNegative();
+    }
+
+    // Helper methods
+    private static AuditLog createAuditLog() {
+        return AuditLog.builder()
+                .action("TEST")
+                .resourceType("UUID")
+                .resourceId(UUID.randomUUID())
+                .actionAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}